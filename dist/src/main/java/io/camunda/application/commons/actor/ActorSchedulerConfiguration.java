@@ -8,6 +8,7 @@
 package io.camunda.application.commons.actor;
 
 import io.camunda.application.commons.actor.ActorIdleStrategyConfiguration.IdleStrategySupplier;
+import io.camunda.application.commons.actor.ActorThreadSchedulingConfiguration.ThreadScheduling;
 import io.camunda.zeebe.scheduler.ActorScheduler;
 import io.camunda.zeebe.util.VisibleForTesting;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -23,17 +24,33 @@ public final class ActorSchedulerConfiguration {
   private final IdleStrategySupplier idleStrategySupplier;
   private final ActorClockConfiguration actorClockConfiguration;
   private final MeterRegistry registry;
+  private final ThreadScheduling threadScheduling;
 
-  @Autowired
   public ActorSchedulerConfiguration(
       final SchedulerConfiguration schedulerConfiguration,
       final IdleStrategySupplier idleStrategySupplier,
       final ActorClockConfiguration actorClockConfiguration,
       final MeterRegistry registry) {
+    this(
+        schedulerConfiguration,
+        idleStrategySupplier,
+        actorClockConfiguration,
+        registry,
+        ThreadScheduling.ofDefault());
+  }
+
+  @Autowired
+  public ActorSchedulerConfiguration(
+      final SchedulerConfiguration schedulerConfiguration,
+      final IdleStrategySupplier idleStrategySupplier,
+      final ActorClockConfiguration actorClockConfiguration,
+      final MeterRegistry registry,
+      final ThreadScheduling threadScheduling) {
     this.schedulerConfiguration = schedulerConfiguration;
     this.idleStrategySupplier = idleStrategySupplier;
     this.actorClockConfiguration = actorClockConfiguration;
     this.registry = registry;
+    this.threadScheduling = threadScheduling;
   }
 
   @Bean(destroyMethod = "close")
@@ -44,15 +61,15 @@ public final class ActorSchedulerConfiguration {
     final var prefix = schedulerConfiguration.schedulerPrefix();
     final var nodeId = schedulerConfiguration.nodeId();
 
-    final var scheduler =
+    final var builder =
         ActorScheduler.newActorScheduler()
             .setActorClock(actorClockConfiguration.getClock().orElse(null))
             .setCpuBoundActorThreadCount(cpuThreads)
             .setIoBoundActorThreadCount(ioThreads)
             .setMeterRegistry(metricsEnabled ? registry : null)
             .setSchedulerName(String.format("%s-%s", prefix, nodeId))
-            .setIdleStrategySupplier(idleStrategySupplier)
-            .build();
+            .setIdleStrategySupplier(idleStrategySupplier);
+    final var scheduler = threadScheduling.applyTo(builder).build();
     scheduler.start();
 
     return scheduler;
@@ -0,0 +1,119 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.application.commons.actor;
+
+import io.camunda.application.commons.actor.ActorThreadSchedulingConfiguration.ThreadSchedulingProperties;
+import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
+import io.camunda.zeebe.scheduler.ActorThreadTopology;
+import io.camunda.zeebe.scheduler.ActorThreadTopology.Pinning;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.Nullable;
+
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(ThreadSchedulingProperties.class)
+public final class ActorThreadSchedulingConfiguration {
+  private final ThreadSchedulingProperties properties;
+
+  @Autowired
+  public ActorThreadSchedulingConfiguration(final ThreadSchedulingProperties properties) {
+    this.properties = properties;
+  }
+
+  @Bean
+  public ThreadScheduling threadScheduling() {
+    final var pinning = properties.pinning();
+    final var numaNodes = properties.numaNodes();
+    final ActorThreadTopology topology;
+    if (!numaNodes.isEmpty()) {
+      topology = ActorThreadTopology.parse(pinning, numaNodes);
+    } else if (pinning != Pinning.NONE) {
+      // without a configured topology, treat all CPUs as a single node
+      final var allCpus = "0-" + (Runtime.getRuntime().availableProcessors() - 1);
+      topology = ActorThreadTopology.parse(pinning, List.of(allCpus));
+    } else {
+      topology = null;
+    }
+
+    return new ThreadScheduling(
+        properties.homeThreads(),
+        properties.stealThreshold(),
+        topology,
+        properties.virtualIoThreads());
+  }
+
+  /**
+   * @param homeThreads if true, each actor is scheduled on its own home thread, see {@link
+   *     ActorSchedulerBuilder#setHomeThreadScheduling(boolean)}
+   * @param stealThreshold with home threads, the minimum number of actors queued on a thread before
+   *     idle threads steal from it
+   * @param pinning how to pin the CPU bound actor threads
+   * @param numaNodes the CPU list of each NUMA node, e.g. {@code 0-7,16-23}; if empty, all CPUs are
+   *     treated as a single node
+   * @param virtualIoThreads if true, each I/O bound actor runs on its own virtual thread, see
+   *     {@link ActorSchedulerBuilder#setVirtualIoBoundActorThreads(boolean)}
+   */
+  @ConfigurationProperties(prefix = "zeebe.actor.scheduling")
+  public record ThreadSchedulingProperties(
+      @Nullable Boolean homeThreads,
+      @Nullable Integer stealThreshold,
+      @Nullable Pinning pinning,
+      @Nullable List<String> numaNodes,
+      @Nullable Boolean virtualIoThreads) {
+    @Override
+    public Boolean homeThreads() {
+      return homeThreads != null && homeThreads;
+    }
+
+    @Override
+    public Integer stealThreshold() {
+      return stealThreshold == null
+          ? ActorSchedulerBuilder.DEFAULT_STEAL_THRESHOLD
+          : stealThreshold;
+    }
+
+    @Override
+    public Pinning pinning() {
+      return pinning == null ? Pinning.NONE : pinning;
+    }
+
+    @Override
+    public List<String> numaNodes() {
+      return numaNodes == null ? List.of() : numaNodes;
+    }
+
+    @Override
+    public Boolean virtualIoThreads() {
+      return virtualIoThreads != null && virtualIoThreads;
+    }
+  }
+
+  public record ThreadScheduling(
+      boolean homeThreads,
+      int stealThreshold,
+      @Nullable ActorThreadTopology topology,
+      boolean virtualIoThreads) {
+
+    public ActorSchedulerBuilder applyTo(final ActorSchedulerBuilder builder) {
+      return builder
+          .setHomeThreadScheduling(homeThreads)
+          .setStealThreshold(stealThreshold)
+          .setCpuBoundActorThreadTopology(topology)
+          .setVirtualIoBoundActorThreads(virtualIoThreads);
+    }
+
+    public static ThreadScheduling ofDefault() {
+      return new ThreadScheduling(
+          false, ActorSchedulerBuilder.DEFAULT_STEAL_THRESHOLD, null, false);
+    }
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.shared;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.application.commons.actor.ActorThreadSchedulingConfiguration;
+import io.camunda.application.commons.actor.ActorThreadSchedulingConfiguration.ThreadSchedulingProperties;
+import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
+import io.camunda.zeebe.scheduler.ActorThreadTopology.Pinning;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+final class ThreadSchedulingConfigTest {
+  @Test
+  void shouldConfigureThreadScheduling() {
+    // given
+    final var props =
+        new ThreadSchedulingProperties(true, 4, Pinning.CORE, List.of("0-3", "4-7"), true);
+    final var config = new ActorThreadSchedulingConfiguration(props);
+
+    // when
+    final var threadScheduling = config.threadScheduling();
+
+    // then
+    assertThat(threadScheduling.homeThreads()).isTrue();
+    assertThat(threadScheduling.stealThreshold()).isEqualTo(4);
+    assertThat(threadScheduling.topology()).isNotNull();
+    assertThat(threadScheduling.topology().pinning()).isEqualTo(Pinning.CORE);
+    assertThat(threadScheduling.topology().nodeCount()).isEqualTo(2);
+    assertThat(threadScheduling.virtualIoThreads()).isTrue();
+  }
+
+  @Test
+  void shouldUseSchedulerDefaults() {
+    // given
+    final var props = new ThreadSchedulingProperties(null, null, null, null, null);
+    final var config = new ActorThreadSchedulingConfiguration(props);
+
+    // when
+    final var threadScheduling = config.threadScheduling();
+
+    // then
+    assertThat(threadScheduling.homeThreads()).isFalse();
+    assertThat(threadScheduling.stealThreshold())
+        .isEqualTo(ActorSchedulerBuilder.DEFAULT_STEAL_THRESHOLD);
+    assertThat(threadScheduling.topology()).isNull();
+    assertThat(threadScheduling.virtualIoThreads()).isFalse();
+  }
+
+  @Test
+  void shouldTreatAllCpusAsSingleNodeIfOnlyPinningIsConfigured() {
+    // given
+    final var props = new ThreadSchedulingProperties(null, null, Pinning.NODE, null, null);
+    final var config = new ActorThreadSchedulingConfiguration(props);
+
+    // when
+    final var threadScheduling = config.threadScheduling();
+
+    // then
+    assertThat(threadScheduling.topology()).isNotNull();
+    assertThat(threadScheduling.topology().nodeCount()).isOne();
+  }
+}
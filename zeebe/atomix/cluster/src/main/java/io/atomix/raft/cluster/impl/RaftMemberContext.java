@@ -45,6 +45,8 @@ public final class RaftMemberContext {
   private long heartbeatTime;
   private long responseTime;
   private int inFlightAppendCount;
+  private long stateEpoch;
+  private long appendEpoch;
   private boolean appendSucceeded;
   private long appendTime;
   private boolean configuring;
@@ -72,6 +74,8 @@ public final class RaftMemberContext {
     heartbeatTime = 0;
     responseTime = 0;
     inFlightAppendCount = 0;
+    stateEpoch++;
+    appendEpoch++;
     timeStats.clear();
     configuring = false;
     installing = false;
@@ -185,25 +189,67 @@ public final class RaftMemberContext {
     appendSucceeded(false);
   }
 
-  /** Starts an append request to the member. */
-  public void startAppend() {
+  /**
+   * Starts an append request to the member.
+   *
+   * @return the state epoch in which the request was started, which must be passed when completing
+   *     the request
+   */
+  public long startAppend() {
     inFlightAppendCount++;
     appendTime = System.currentTimeMillis();
+    return stateEpoch;
+  }
+
+  /**
+   * Returns the current append epoch of the member. The epoch changes whenever the next entry to
+   * send to the member is reset, such that responses to append requests which were sent before can
+   * be recognized as stale. This is necessary as multiple append requests may be in flight at the
+   * same time.
+   *
+   * @return The current append epoch of the member.
+   */
+  public long getAppendEpoch() {
+    return appendEpoch;
+  }
+
+  /**
+   * Returns the number of append requests to the member which have not been completed yet.
+   *
+   * @return The number of in-flight append requests.
+   */
+  public int getInFlightAppendCount() {
+    return inFlightAppendCount;
   }
 
-  /** Completes an append request to the member. */
-  public void completeAppend() {
-    inFlightAppendCount--;
+  /**
+   * Completes an append request to the member.
+   *
+   * @param startEpoch The state epoch returned by {@link #startAppend()} for this request.
+   */
+  public void completeAppend(final long startEpoch) {
+    if (isInFlight(startEpoch)) {
+      inFlightAppendCount--;
+    }
   }
 
   /**
    * Completes an append request to the member.
    *
+   * @param startEpoch The state epoch returned by {@link #startAppend()} for this request.
    * @param time The time in milliseconds for the append.
    */
-  public void completeAppend(final long time) {
-    inFlightAppendCount--;
-    timeStats.addValue(time);
+  public void completeAppend(final long startEpoch, final long time) {
+    if (isInFlight(startEpoch)) {
+      inFlightAppendCount--;
+      timeStats.addValue(time);
+    }
+  }
+
+  private boolean isInFlight(final long startEpoch) {
+    // requests started before the member state was reset are not counted as in flight anymore, so
+    // completing them must not affect the requests which were started since
+    return startEpoch == stateEpoch;
   }
 
   /**
@@ -274,6 +320,8 @@ public final class RaftMemberContext {
         .add("matchIndex", matchIndex)
         .add("heartbeatTime", heartbeatTime)
         .add("appending", inFlightAppendCount)
+        .add("stateEpoch", stateEpoch)
+        .add("appendEpoch", appendEpoch)
         .add("appendSucceeded", appendSucceeded)
         .add("appendTime", appendTime)
         .add("configuring", configuring)
@@ -459,6 +507,10 @@ public final class RaftMemberContext {
   }
 
   public void setSnapshotChunkReader(final SnapshotChunkReader snapshotChunkReader) {
+    // close the previous reader, such that it stops reading chunks ahead
+    if (this.snapshotChunkReader != null && this.snapshotChunkReader != snapshotChunkReader) {
+      this.snapshotChunkReader.close();
+    }
     this.snapshotChunkReader = snapshotChunkReader;
   }
 
@@ -480,6 +532,7 @@ public final class RaftMemberContext {
   }
 
   public void reset(final long index) {
+    appendEpoch++;
     final var nextIndex = reader.seek(index - 1);
     if (nextIndex == index - 1) {
       currentEntry = reader.next();
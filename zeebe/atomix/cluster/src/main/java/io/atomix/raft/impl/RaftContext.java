@@ -74,6 +74,7 @@ import io.atomix.utils.concurrent.ThreadContext;
 import io.camunda.zeebe.journal.CheckedJournalException.FlushException;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.ReceivableSnapshotStore;
+import io.camunda.zeebe.snapshots.SnapshotChunkCompression;
 import io.camunda.zeebe.util.CheckedRunnable;
 import io.camunda.zeebe.util.exception.UnrecoverableException;
 import io.camunda.zeebe.util.health.FailureListener;
@@ -135,6 +136,8 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
   private final RaftReplicationMetrics replicationMetrics;
   private final MetaStore meta;
   private final RaftLog raftLog;
+  private final ThreadContext followerFlushContext;
+  private final ThreadContext snapshotPrefetchContext;
   private final ReceivableSnapshotStore persistedSnapshotStore;
   private final LogCompactor logCompactor;
   private volatile State state = State.ACTIVE;
@@ -223,6 +226,17 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
             () ->
                 createThreadContext(
                     "raft-log", partitionId, threadContextFactory, localMemberId.id()));
+    // flushing asynchronously only makes a difference if the log is otherwise flushed directly
+    followerFlushContext =
+        partitionConfig.isAsyncFollowerFlush() && raftLog.flushesDirectly()
+            ? createThreadContext(
+                "raft-follower-flush", partitionId, threadContextFactory, localMemberId.id())
+            : null;
+    snapshotPrefetchContext =
+        partitionConfig.getSnapshotChunkPrefetchWindow() > 0
+            ? createThreadContext(
+                "raft-snapshot-prefetch", partitionId, threadContextFactory, localMemberId.id())
+            : null;
 
     // Open the snapshot store.
     persistedSnapshotStore = storage.getPersistedSnapshotStore();
@@ -379,6 +393,12 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
                 request,
                 () -> role.onAppend(ProtocolVersionHandler.transform(request)),
                 AppendResponse::builder));
+    protocol.registerAppendV3Handler(
+        request ->
+            handleRequestOnContext(
+                request,
+                () -> role.onAppend(ProtocolVersionHandler.transform(request)),
+                AppendResponse::builder));
     protocol.registerPollHandler(
         request ->
             handleRequestOnContext(request, () -> role.onPoll(request), PollResponse::builder));
@@ -650,11 +670,13 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     // If flush operations are synchronous on the Raft thread, then the log is guaranteed to be
     // flushed by before committing. Hence, there is no need to flush them again here. This is an
     // optimization to ensure we are not unnecessarily blocking raft thread to do an i/o.
-    if (raftLog.flushesDirectly()) {
+    // Followers which flush asynchronously may not have flushed everything yet.
+    if (raftLog.flushesDirectly() && followerFlushContext == null) {
       return CompletableFuture.completedFuture(null);
     }
 
-    return CompletableFuture.runAsync(CheckedRunnable.toUnchecked(this::flushLog), threadContext);
+    return CompletableFuture.runAsync(
+        CheckedRunnable.toUnchecked(raftLog::forceFlush), threadContext);
   }
 
   /**
@@ -854,6 +876,14 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     // Unregister protocol listeners.
     unregisterHandlers(protocol);
 
+    if (followerFlushContext != null) {
+      followerFlushContext.close();
+    }
+
+    if (snapshotPrefetchContext != null) {
+      snapshotPrefetchContext.close();
+    }
+
     // Close the log.
     try {
       raftLog.close();
@@ -1153,6 +1183,24 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     return threadContext;
   }
 
+  /**
+   * Returns the context on which followers flush their log asynchronously.
+   *
+   * @return the follower flush context, or null if followers flush their log on the Raft thread
+   */
+  public ThreadContext getFollowerFlushContext() {
+    return followerFlushContext;
+  }
+
+  /**
+   * Returns the context on which the leader reads snapshot chunks ahead while replicating them.
+   *
+   * @return the snapshot prefetch context, or null if snapshot chunks are not read ahead
+   */
+  public ThreadContext getSnapshotPrefetchContext() {
+    return snapshotPrefetchContext;
+  }
+
   /**
    * Returns a boolean indicating whether this server is the current leader.
    *
@@ -1284,6 +1332,18 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     return snapshotChunkSize;
   }
 
+  public SnapshotChunkCompression getSnapshotChunkCompression() {
+    return partitionConfig.getSnapshotChunkCompression();
+  }
+
+  public int getSnapshotChunkPrefetchWindow() {
+    return partitionConfig.getSnapshotChunkPrefetchWindow();
+  }
+
+  public boolean isSnapshotFileReuse() {
+    return partitionConfig.isSnapshotFileReuse();
+  }
+
   public CompletableFuture<Collection<Path>> getTailSegments(final long index) {
     final var fut = new CompletableFuture<Collection<Path>>();
     threadContext.execute(
@@ -114,6 +114,58 @@ public enum LeaderMetricsDoc implements ExtendedMeterDocumentation {
       };
     }
   },
+  /** The number of append requests to a follower which are in flight */
+  IN_FLIGHT_APPENDS {
+    @Override
+    public String getName() {
+      return "atomix.append.entries.in.flight";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.GAUGE;
+    }
+
+    @Override
+    public String getDescription() {
+      return "The number of append requests to a follower which are in flight";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {
+        PartitionKeyNames.PARTITION, RaftKeyNames.FOLLOWER, RaftKeyNames.PARTITION_GROUP
+      };
+    }
+  },
+  /**
+   * The count of rejected append responses from a follower which were ignored, because the follower
+   * was already reset since the request was sent
+   */
+  STALE_APPEND_RESPONSES {
+    @Override
+    public String getName() {
+      return "atomix.append.entries.stale.responses";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "The count of rejected append responses from a follower which were ignored, because"
+          + " the follower was already reset since the request was sent";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {
+        PartitionKeyNames.PARTITION, RaftKeyNames.FOLLOWER, RaftKeyNames.PARTITION_GROUP
+      };
+    }
+  },
   /** The count of entries committed (counting entries, not their size) */
   COMMIT_RATE {
     @Override
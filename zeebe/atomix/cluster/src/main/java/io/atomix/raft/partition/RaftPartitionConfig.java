@@ -17,6 +17,7 @@
 package io.atomix.raft.partition;
 
 import io.atomix.raft.zeebe.EntryValidator;
+import io.camunda.zeebe.snapshots.SnapshotChunkCompression;
 import java.time.Duration;
 
 /** Configurations for a single partition. */
@@ -30,6 +31,11 @@ public class RaftPartitionConfig {
   private static final int DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT = 3;
   private static final Duration DEFAULT_MAX_QUORUM_RESPONSE_TIMEOUT = Duration.ofSeconds(0);
   private static final int DEFAULT_SNAPSHOT_REPLICATION_THRESHOLD = 100;
+  private static final boolean DEFAULT_ASYNC_FOLLOWER_FLUSH = false;
+  private static final SnapshotChunkCompression DEFAULT_SNAPSHOT_CHUNK_COMPRESSION =
+      SnapshotChunkCompression.NONE;
+  private static final int DEFAULT_SNAPSHOT_CHUNK_PREFETCH_WINDOW = 0;
+  private static final boolean DEFAULT_SNAPSHOT_FILE_REUSE = false;
 
   private Duration electionTimeout = DEFAULT_ELECTION_TIMEOUT;
   private Duration heartbeatInterval = DEFAULT_HEARTBEAT_INTERVAL;
@@ -41,6 +47,10 @@ public class RaftPartitionConfig {
   private int minStepDownFailureCount = DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT;
   private Duration maxQuorumResponseTimeout = DEFAULT_MAX_QUORUM_RESPONSE_TIMEOUT;
   private int preferSnapshotReplicationThreshold = DEFAULT_SNAPSHOT_REPLICATION_THRESHOLD;
+  private boolean asyncFollowerFlush = DEFAULT_ASYNC_FOLLOWER_FLUSH;
+  private SnapshotChunkCompression snapshotChunkCompression = DEFAULT_SNAPSHOT_CHUNK_COMPRESSION;
+  private int snapshotChunkPrefetchWindow = DEFAULT_SNAPSHOT_CHUNK_PREFETCH_WINDOW;
+  private boolean snapshotFileReuse = DEFAULT_SNAPSHOT_FILE_REUSE;
   private RaftStorageConfig storageConfig;
   private EntryValidator entryValidator;
   private Duration configurationChangeTimeout;
@@ -193,6 +203,68 @@ public class RaftPartitionConfig {
     this.preferSnapshotReplicationThreshold = preferSnapshotReplicationThreshold;
   }
 
+  public boolean isAsyncFollowerFlush() {
+    return asyncFollowerFlush;
+  }
+
+  /**
+   * If enabled, followers flush appended entries on a separate thread, and keep accepting append
+   * requests in the meantime. An append request is only acknowledged once its entries are flushed,
+   * so this does not weaken the durability guarantees. It has no effect if the log is not flushed
+   * directly, e.g. when flushing is delayed or disabled.
+   *
+   * @param asyncFollowerFlush true to flush asynchronously on followers, false otherwise
+   */
+  public void setAsyncFollowerFlush(final boolean asyncFollowerFlush) {
+    this.asyncFollowerFlush = asyncFollowerFlush;
+  }
+
+  public SnapshotChunkCompression getSnapshotChunkCompression() {
+    return snapshotChunkCompression;
+  }
+
+  /**
+   * Sets the compression applied to the chunks of snapshots replicated by the leader. Chunks whose
+   * size is not reduced by compressing them are still sent uncompressed. Chunks are only compressed
+   * once the receiver confirmed that it can decompress them, so older versions keep receiving
+   * uncompressed chunks during a rolling update.
+   *
+   * @param snapshotChunkCompression the compression of replicated snapshot chunks
+   */
+  public void setSnapshotChunkCompression(final SnapshotChunkCompression snapshotChunkCompression) {
+    this.snapshotChunkCompression = snapshotChunkCompression;
+  }
+
+  public int getSnapshotChunkPrefetchWindow() {
+    return snapshotChunkPrefetchWindow;
+  }
+
+  /**
+   * Sets how many snapshot chunks the leader reads ahead on a separate thread while replicating a
+   * snapshot, such that the next chunk is already read and compressed when the current one is
+   * acknowledged. Prefetching is disabled if the window is 0.
+   *
+   * @param snapshotChunkPrefetchWindow the maximum number of chunks to read ahead
+   */
+  public void setSnapshotChunkPrefetchWindow(final int snapshotChunkPrefetchWindow) {
+    this.snapshotChunkPrefetchWindow = snapshotChunkPrefetchWindow;
+  }
+
+  public boolean isSnapshotFileReuse() {
+    return snapshotFileReuse;
+  }
+
+  /**
+   * If enabled, the leader offers the files of a replicated snapshot to the follower, which reuses
+   * the immutable files it already has in its latest snapshot, e.g. the SST files shared by
+   * consecutive RocksDB checkpoints. The leader then only sends the files which are not reused.
+   *
+   * @param snapshotFileReuse true to reuse snapshot files of followers, false otherwise
+   */
+  public void setSnapshotFileReuse(final boolean snapshotFileReuse) {
+    this.snapshotFileReuse = snapshotFileReuse;
+  }
+
   public RaftStorageConfig getStorageConfig() {
     return storageConfig;
   }
@@ -236,6 +308,14 @@ public class RaftPartitionConfig {
         + maxQuorumResponseTimeout
         + ", preferSnapshotReplicationThreshold="
         + preferSnapshotReplicationThreshold
+        + ", asyncFollowerFlush="
+        + asyncFollowerFlush
+        + ", snapshotChunkCompression="
+        + snapshotChunkCompression
+        + ", snapshotChunkPrefetchWindow="
+        + snapshotChunkPrefetchWindow
+        + ", snapshotFileReuse="
+        + snapshotFileReuse
         + '}';
   }
 }
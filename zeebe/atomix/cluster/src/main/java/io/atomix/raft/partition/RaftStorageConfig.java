@@ -30,12 +30,20 @@ public class RaftStorageConfig {
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
 
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final boolean DEFAULT_PRIMITIVE_JOURNAL_INDEX = false;
+  private static final boolean DEFAULT_PERSIST_SEGMENT_INDEX = false;
+  private static final int DEFAULT_PREPARED_SEGMENTS_COUNT = 1;
+  private static final boolean DEFAULT_RECYCLE_SEGMENTS = false;
 
   private long segmentSize = DEFAULT_MAX_SEGMENT_SIZE;
   private RaftLogFlusher.Factory flusherFactory = DEFAULT_FLUSHER_FACTORY;
   private long freeDiskSpace = DEFAULT_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private boolean primitiveJournalIndex = DEFAULT_PRIMITIVE_JOURNAL_INDEX;
+  private boolean persistSegmentIndex = DEFAULT_PERSIST_SEGMENT_INDEX;
+  private int preparedSegmentsCount = DEFAULT_PREPARED_SEGMENTS_COUNT;
+  private boolean recycleSegments = DEFAULT_RECYCLE_SEGMENTS;
 
   /**
    * Returns the Raft log segment size.
@@ -125,6 +133,73 @@ public class RaftStorageConfig {
     this.preallocateSegmentFiles = preallocateSegmentFiles;
   }
 
+  /**
+   * @return true if the journal index is backed by primitive arrays, false otherwise
+   */
+  public boolean isPrimitiveJournalIndex() {
+    return primitiveJournalIndex;
+  }
+
+  /**
+   * Sets whether the journal index keeps its mappings in sorted primitive arrays instead of
+   * concurrent skip list maps, which reduces its heap footprint for large logs.
+   *
+   * @param primitiveJournalIndex true to use the primitive index, false otherwise
+   */
+  public void setPrimitiveJournalIndex(final boolean primitiveJournalIndex) {
+    this.primitiveJournalIndex = primitiveJournalIndex;
+  }
+
+  /**
+   * @return true if the index of sealed segments is persisted, false otherwise
+   */
+  public boolean isPersistSegmentIndex() {
+    return persistSegmentIndex;
+  }
+
+  /**
+   * Sets whether the index of each sealed segment is persisted to a companion file, which is loaded
+   * on startup instead of reading the segment.
+   *
+   * @param persistSegmentIndex true to persist the index of sealed segments, false otherwise
+   */
+  public void setPersistSegmentIndex(final boolean persistSegmentIndex) {
+    this.persistSegmentIndex = persistSegmentIndex;
+  }
+
+  /**
+   * @return the number of segments prepared ahead of time
+   */
+  public int getPreparedSegmentsCount() {
+    return preparedSegmentsCount;
+  }
+
+  /**
+   * Sets how many segments are prepared in the background ahead of time.
+   *
+   * @param preparedSegmentsCount the number of segments to keep ready, at least 1
+   */
+  public void setPreparedSegmentsCount(final int preparedSegmentsCount) {
+    this.preparedSegmentsCount = preparedSegmentsCount;
+  }
+
+  /**
+   * @return true if the files of compacted segments are reused, false otherwise
+   */
+  public boolean isRecycleSegments() {
+    return recycleSegments;
+  }
+
+  /**
+   * Sets whether the files of compacted segments are reused for new segments instead of being
+   * deleted.
+   *
+   * @param recycleSegments true to reuse the files of compacted segments, false otherwise
+   */
+  public void setRecycleSegments(final boolean recycleSegments) {
+    this.recycleSegments = recycleSegments;
+  }
+
   @Override
   public String toString() {
     return "RaftStorageConfig{"
@@ -138,6 +213,14 @@ public class RaftStorageConfig {
         + journalIndexDensity
         + ", preallocateSegmentFiles="
         + preallocateSegmentFiles
+        + ", primitiveJournalIndex="
+        + primitiveJournalIndex
+        + ", persistSegmentIndex="
+        + persistSegmentIndex
+        + ", preparedSegmentsCount="
+        + preparedSegmentsCount
+        + ", recycleSegments="
+        + recycleSegments
         + '}';
   }
 }
@@ -310,6 +310,10 @@ public class RaftPartitionServer implements HealthMonitorable {
         .withSnapshotStore(persistedSnapshotStore)
         .withJournalIndexDensity(storageConfig.getJournalIndexDensity())
         .withPreallocateSegmentFiles(storageConfig.isPreallocateSegmentFiles())
+        .withPrimitiveJournalIndex(storageConfig.isPrimitiveJournalIndex())
+        .withPersistSegmentIndex(storageConfig.isPersistSegmentIndex())
+        .withPreparedSegmentsCount(storageConfig.getPreparedSegmentsCount())
+        .withSegmentRecycling(storageConfig.isRecycleSegments())
         .build();
   }
 
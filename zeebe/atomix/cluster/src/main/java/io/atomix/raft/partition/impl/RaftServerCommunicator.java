@@ -22,6 +22,7 @@ import io.atomix.cluster.messaging.ClusterCommunicationService;
 import io.atomix.raft.metrics.RaftRequestMetrics;
 import io.atomix.raft.protocol.AppendRequest;
 import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.BufferedAppendRequest;
 import io.atomix.raft.protocol.ConfigureRequest;
 import io.atomix.raft.protocol.ConfigureResponse;
 import io.atomix.raft.protocol.ForceConfigureRequest;
@@ -34,6 +35,8 @@ import io.atomix.raft.protocol.LeaveRequest;
 import io.atomix.raft.protocol.LeaveResponse;
 import io.atomix.raft.protocol.PollRequest;
 import io.atomix.raft.protocol.PollResponse;
+import io.atomix.raft.protocol.ProtocolVersionHandler;
+import io.atomix.raft.protocol.RaftAppendSBESerializer;
 import io.atomix.raft.protocol.RaftMessage;
 import io.atomix.raft.protocol.RaftServerProtocol;
 import io.atomix.raft.protocol.ReconfigureRequest;
@@ -46,14 +49,26 @@ import io.atomix.raft.protocol.VoteResponse;
 import io.atomix.utils.serializer.Serializer;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /** Raft server protocol that uses a {@link ClusterCommunicationService}. */
 public class RaftServerCommunicator implements RaftServerProtocol {
 
+  /**
+   * How long to send append requests in the previous format to a member which didn't handle the SBE
+   * format, before trying it again. Members are expected to be upgraded within that time during a
+   * rolling update.
+   */
+  private static final Duration SBE_APPEND_RETRY_INTERVAL = Duration.ofMinutes(1);
+
   private final RaftMessageContext context;
   private final Serializer serializer;
+  private final RaftAppendSBESerializer appendSerializer = new RaftAppendSBESerializer();
+  // member => the time in millis until which it is assumed to not handle SBE append requests
+  private final Map<MemberId, Long> sbeAppendUnsupportedUntil = new ConcurrentHashMap<>();
   private final ClusterCommunicationService clusterCommunicator;
   private final RaftRequestMetrics metrics;
   private final Duration requestTimeout;
@@ -136,10 +151,39 @@ public class RaftServerCommunicator implements RaftServerProtocol {
     return sendAndReceive(context.appendV1subject, request, memberId);
   }
 
+  /**
+   * Sends the request in the SBE format, unless the member didn't handle this format before. If the
+   * member has no handler for it, e.g. because it runs an older version during a rolling update,
+   * the request is sent again in the previous format.
+   */
   @Override
   public CompletableFuture<AppendResponse> append(
       final MemberId memberId, final VersionedAppendRequest request) {
-    return sendAndReceive(context.appendV2subject, request, memberId);
+    final Long unsupportedUntil = sbeAppendUnsupportedUntil.get(memberId);
+    if (unsupportedUntil != null) {
+      if (System.currentTimeMillis() < unsupportedUntil) {
+        return sendAndReceive(context.appendV2subject, request, memberId);
+      }
+      sbeAppendUnsupportedUntil.remove(memberId);
+    }
+
+    return this.<VersionedAppendRequest, AppendResponse>sendAndReceive(
+            context.appendV3subject,
+            request,
+            memberId,
+            requestTimeout,
+            appendSerializer::encodeAppendRequest,
+            appendSerializer::decodeAppendResponse)
+        .exceptionallyCompose(
+            error -> {
+              if (!ProtocolVersionHandler.isUnsupportedVersion(error)) {
+                return CompletableFuture.failedFuture(error);
+              }
+
+              sbeAppendUnsupportedUntil.put(
+                  memberId, System.currentTimeMillis() + SBE_APPEND_RETRY_INTERVAL.toMillis());
+              return sendAndReceive(context.appendV2subject, request, memberId);
+            });
   }
 
   @Override
@@ -297,10 +341,21 @@ public class RaftServerCommunicator implements RaftServerProtocol {
         serializer::encode);
   }
 
+  @Override
+  public void registerAppendV3Handler(
+      final Function<BufferedAppendRequest, CompletableFuture<AppendResponse>> handler) {
+    clusterCommunicator.replyTo(
+        context.appendV3subject,
+        appendSerializer::decodeAppendRequest,
+        handler.<BufferedAppendRequest>compose(this::recordReceivedMetrics),
+        appendSerializer::encodeAppendResponse);
+  }
+
   @Override
   public void unregisterAppendHandler() {
     clusterCommunicator.unsubscribe(context.appendV1subject);
     clusterCommunicator.unsubscribe(context.appendV2subject);
+    clusterCommunicator.unsubscribe(context.appendV3subject);
   }
 
   private <T, U> CompletableFuture<U> sendAndReceive(
@@ -310,9 +365,19 @@ public class RaftServerCommunicator implements RaftServerProtocol {
 
   private <T, U> CompletableFuture<U> sendAndReceive(
       final String subject, final T request, final MemberId memberId, final Duration timeout) {
+    return sendAndReceive(
+        subject, request, memberId, timeout, serializer::encode, serializer::decode);
+  }
+
+  private <T, U> CompletableFuture<U> sendAndReceive(
+      final String subject,
+      final T request,
+      final MemberId memberId,
+      final Duration timeout,
+      final Function<T, byte[]> encoder,
+      final Function<byte[], U> decoder) {
     metrics.sendMessage(memberId.id(), request.getClass().getSimpleName());
-    return clusterCommunicator.send(
-        subject, request, serializer::encode, serializer::decode, memberId, timeout);
+    return clusterCommunicator.send(subject, request, encoder, decoder, memberId, timeout);
   }
 
   private <T extends RaftMessage> T recordReceivedMetrics(final T m) {
@@ -0,0 +1,83 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.protocol;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+
+import io.atomix.cluster.MemberId;
+import java.util.List;
+
+/**
+ * An append request as received in the SBE encoded format, see {@link RaftAppendSBESerializer}.
+ * Unlike {@link VersionedAppendRequest}, its entries are not copied out of the received message.
+ */
+public final class BufferedAppendRequest extends AbstractRaftRequest {
+
+  private final long term;
+  private final String leader;
+  private final long prevLogIndex;
+  private final long prevLogTerm;
+  private final long commitIndex;
+  private final List<BufferedJournalRecord> entries;
+
+  public BufferedAppendRequest(
+      final long term,
+      final String leader,
+      final long prevLogIndex,
+      final long prevLogTerm,
+      final long commitIndex,
+      final List<BufferedJournalRecord> entries) {
+    this.term = term;
+    this.leader = leader;
+    this.prevLogIndex = prevLogIndex;
+    this.prevLogTerm = prevLogTerm;
+    this.commitIndex = commitIndex;
+    this.entries = entries;
+  }
+
+  public long term() {
+    return term;
+  }
+
+  public MemberId leader() {
+    return MemberId.from(leader);
+  }
+
+  public long prevLogIndex() {
+    return prevLogIndex;
+  }
+
+  public long prevLogTerm() {
+    return prevLogTerm;
+  }
+
+  public long commitIndex() {
+    return commitIndex;
+  }
+
+  public List<BufferedJournalRecord> entries() {
+    return entries;
+  }
+
+  @Override
+  public MemberId from() {
+    return leader();
+  }
+
+  @Override
+  public String toString() {
+    return toStringHelper(this)
+        .add("term", term)
+        .add("leader", leader)
+        .add("prevLogIndex", prevLogIndex)
+        .add("prevLogTerm", prevLogTerm)
+        .add("entries", entries.size())
+        .add("commitIndex", commitIndex)
+        .toString();
+  }
+}
@@ -0,0 +1,19 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.protocol;
+
+import org.agrona.DirectBuffer;
+
+/**
+ * Like {@link ReplicatableJournalRecord}, but the serialized journal record is a view into the
+ * buffer of the received message, such that it can be appended to the journal without copying it
+ * first.
+ */
+public record BufferedJournalRecord(
+    long term, long index, long checksum, DirectBuffer serializedJournalRecord)
+    implements ReplicatableRaftRecord {}
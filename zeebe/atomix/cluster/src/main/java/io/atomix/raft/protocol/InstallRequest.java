@@ -24,6 +24,8 @@ import io.atomix.cluster.MemberId;
 import io.atomix.utils.misc.StringUtils;
 import io.camunda.zeebe.snapshots.impl.SnapshotChunkId;
 import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -58,6 +60,8 @@ public class InstallRequest extends AbstractRaftRequest {
   private final boolean initial;
   // true if this is the last chunk
   private final boolean complete;
+  // the names and checksums of the snapshot files which may be reused (or null if none)
+  private final Map<String, Long> snapshotFiles;
 
   public InstallRequest(
       final long currentTerm,
@@ -69,7 +73,8 @@ public class InstallRequest extends AbstractRaftRequest {
       final ByteBuffer nextChunkId,
       final ByteBuffer data,
       final boolean initial,
-      final boolean complete) {
+      final boolean complete,
+      final Map<String, Long> snapshotFiles) {
     this.currentTerm = currentTerm;
     this.leader = leader;
     this.index = index;
@@ -80,6 +85,7 @@ public class InstallRequest extends AbstractRaftRequest {
     this.initial = initial;
     this.complete = complete;
     this.term = term;
+    this.snapshotFiles = snapshotFiles;
   }
 
   /**
@@ -170,10 +176,31 @@ public class InstallRequest extends AbstractRaftRequest {
     return complete;
   }
 
+  /**
+   * Returns the names and checksums of the snapshot files, which the receiver may reuse from its
+   * own snapshots instead of receiving them. Only sent with the first chunk of a snapshot.
+   *
+   * @return the snapshot files which may be reused, or an empty map if none
+   */
+  public Map<String, Long> snapshotFiles() {
+    // the field is missing in requests of older versions
+    return snapshotFiles == null ? Map.of() : snapshotFiles;
+  }
+
   @Override
   public int hashCode() {
     return Objects.hash(
-        currentTerm, leader, index, term, version, chunkId, nextChunkId, data, initial, complete);
+        currentTerm,
+        leader,
+        index,
+        term,
+        version,
+        chunkId,
+        nextChunkId,
+        data,
+        initial,
+        complete,
+        snapshotFiles());
   }
 
   @Override
@@ -194,7 +221,8 @@ public class InstallRequest extends AbstractRaftRequest {
         && Objects.equals(leader, that.leader)
         && Objects.equals(chunkId, that.chunkId)
         && Objects.equals(nextChunkId, that.nextChunkId)
-        && Objects.equals(data, that.data);
+        && Objects.equals(data, that.data)
+        && Objects.equals(snapshotFiles(), that.snapshotFiles());
   }
 
   @Override
@@ -212,6 +240,7 @@ public class InstallRequest extends AbstractRaftRequest {
         .add("data", StringUtils.printShortBuffer(data))
         .add("initial", initial)
         .add("complete", complete)
+        .add("snapshotFiles", snapshotFiles().size())
         .toString();
   }
 
@@ -233,6 +262,7 @@ public class InstallRequest extends AbstractRaftRequest {
     private boolean complete;
     private boolean initial;
     private long term;
+    private Map<String, Long> snapshotFiles;
 
     /**
      * Sets the request current term.
@@ -346,6 +376,19 @@ public class InstallRequest extends AbstractRaftRequest {
       return this;
     }
 
+    /**
+     * Sets the names and checksums of the snapshot files which the receiver may reuse.
+     *
+     * @param snapshotFiles the snapshot files which may be reused
+     * @return the request builder
+     */
+    public Builder withSnapshotFiles(final Map<String, Long> snapshotFiles) {
+      checkNotNull(snapshotFiles, "snapshotFiles cannot be null");
+      // copied, as only some collection types are registered for serialization
+      this.snapshotFiles = snapshotFiles.isEmpty() ? null : new HashMap<>(snapshotFiles);
+      return this;
+    }
+
     /**
      * @throws IllegalStateException if member is null
      */
@@ -353,7 +396,17 @@ public class InstallRequest extends AbstractRaftRequest {
     public InstallRequest build() {
       validate();
       return new InstallRequest(
-          currentTerm, leader, index, term, version, chunkId, nextChunkId, data, initial, complete);
+          currentTerm,
+          leader,
+          index,
+          term,
+          version,
+          chunkId,
+          nextChunkId,
+          data,
+          initial,
+          complete,
+          snapshotFiles);
     }
 
     @Override
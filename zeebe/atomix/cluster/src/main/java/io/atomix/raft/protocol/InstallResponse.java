@@ -20,6 +20,8 @@ import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import io.atomix.raft.RaftError;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * Snapshot installation response.
@@ -31,22 +33,56 @@ import io.atomix.raft.RaftError;
 public class InstallResponse extends AbstractRaftResponse {
 
   protected int preferredChunkSize;
+  protected Set<String> reusedFiles;
+  protected boolean chunkCompressionSupported;
 
-  public InstallResponse(final Status status, final RaftError error, final int preferredChunkSize) {
+  public InstallResponse(
+      final Status status,
+      final RaftError error,
+      final int preferredChunkSize,
+      final Set<String> reusedFiles,
+      final boolean chunkCompressionSupported) {
     super(status, error);
     this.preferredChunkSize = preferredChunkSize;
+    this.reusedFiles = reusedFiles;
+    this.chunkCompressionSupported = chunkCompressionSupported;
   }
 
   public int preferredChunkSize() {
     return preferredChunkSize;
   }
 
+  /**
+   * Returns the names of the snapshot files which the receiver reuses from its own snapshots, such
+   * that they don't need to be sent.
+   *
+   * @return the reused snapshot files, or an empty set if none
+   */
+  public Set<String> reusedFiles() {
+    // the field is missing in responses of older versions
+    return reusedFiles == null ? Set.of() : reusedFiles;
+  }
+
+  /**
+   * Returns whether the receiver can decompress snapshot chunks. Older versions ignore the
+   * compression of a chunk, and would then fail to verify its checksum, so chunks must only be
+   * compressed if this is set.
+   *
+   * @return true if the receiver supports compressed snapshot chunks, false otherwise
+   */
+  public boolean chunkCompressionSupported() {
+    // the field is missing in responses of older versions, in which case it is false
+    return chunkCompressionSupported;
+  }
+
   @Override
   public String toString() {
     return toStringHelper(this)
         .add("status", status)
         .add("error", error)
         .add("preferredChunkSize", preferredChunkSize)
+        .add("reusedFiles", reusedFiles().size())
+        .add("chunkCompressionSupported", chunkCompressionSupported)
         .toString();
   }
 
@@ -62,17 +98,31 @@ public class InstallResponse extends AbstractRaftResponse {
   /** Install response builder. */
   public static class Builder extends AbstractRaftResponse.Builder<Builder, InstallResponse> {
     protected int preferredChunkSize;
+    protected Set<String> reusedFiles;
+    protected boolean chunkCompressionSupported;
 
     @Override
     public InstallResponse build() {
       validate();
       checkArgument(preferredChunkSize >= 0, "preferred chunk size must be positive");
-      return new InstallResponse(status, error, preferredChunkSize);
+      return new InstallResponse(
+          status, error, preferredChunkSize, reusedFiles, chunkCompressionSupported);
     }
 
     public Builder withPreferredChunkSize(final int preferredChunkSize) {
       this.preferredChunkSize = preferredChunkSize;
       return this;
     }
+
+    public Builder withReusedFiles(final Set<String> reusedFiles) {
+      // copied, as only some collection types are registered for serialization
+      this.reusedFiles = reusedFiles.isEmpty() ? null : new HashSet<>(reusedFiles);
+      return this;
+    }
+
+    public Builder withChunkCompressionSupported(final boolean chunkCompressionSupported) {
+      this.chunkCompressionSupported = chunkCompressionSupported;
+      return this;
+    }
   }
 }
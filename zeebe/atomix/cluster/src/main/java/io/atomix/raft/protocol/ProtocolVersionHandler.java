@@ -7,6 +7,9 @@
  */
 package io.atomix.raft.protocol;
 
+import io.atomix.cluster.messaging.MessagingException.NoRemoteHandler;
+import java.util.concurrent.CompletionException;
+
 public final class ProtocolVersionHandler {
 
   private ProtocolVersionHandler() {
@@ -32,4 +35,24 @@ public final class ProtocolVersionHandler {
         request.commitIndex(),
         request.entries());
   }
+
+  public static InternalAppendRequest transform(final BufferedAppendRequest request) {
+    return new InternalAppendRequest(
+        request.term(),
+        request.leader(),
+        request.prevLogIndex(),
+        request.prevLogTerm(),
+        request.commitIndex(),
+        request.entries());
+  }
+
+  /**
+   * Returns true if the given error indicates that the receiver has no handler for the version of a
+   * request, e.g. because it runs an older version during a rolling update. The request can then be
+   * sent again in a previous version.
+   */
+  public static boolean isUnsupportedVersion(final Throwable error) {
+    final Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+    return cause instanceof NoRemoteHandler;
+  }
 }
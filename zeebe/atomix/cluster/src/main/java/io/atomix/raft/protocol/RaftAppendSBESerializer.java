@@ -0,0 +1,180 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.protocol;
+
+import io.atomix.raft.RaftError;
+import io.atomix.raft.protocol.AppendRequestDecoder.EntriesDecoder;
+import io.atomix.raft.protocol.AppendRequestEncoder.EntriesEncoder;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Serializes append requests and responses in the SBE format defined by {@code
+ * raft-protocol-schema.xml}, as an alternative to the generic serializer of {@link
+ * io.atomix.raft.partition.impl.RaftNamespaces}.
+ *
+ * <p>The serialized journal records of an append request are written into the message as they are,
+ * and decoded as views into the received message. This way, a follower can append them to its
+ * journal without copying each of them first.
+ *
+ * <p>The serializer keeps no state, and can thus be used concurrently.
+ */
+public final class RaftAppendSBESerializer {
+
+  public byte[] encodeAppendRequest(final VersionedAppendRequest request) {
+    final byte[] leader = request.leader().id().getBytes(StandardCharsets.UTF_8);
+    final List<ReplicatableJournalRecord> entries = request.entries();
+
+    int length =
+        MessageHeaderEncoder.ENCODED_LENGTH
+            + AppendRequestEncoder.BLOCK_LENGTH
+            + EntriesEncoder.sbeHeaderSize()
+            + AppendRequestEncoder.leaderHeaderLength()
+            + leader.length;
+    for (final ReplicatableJournalRecord entry : entries) {
+      length +=
+          EntriesEncoder.sbeBlockLength()
+              + EntriesEncoder.serializedJournalRecordHeaderLength()
+              + entry.serializedJournalRecord().length;
+    }
+
+    final byte[] bytes = new byte[length];
+    final var encoder =
+        new AppendRequestEncoder()
+            .wrapAndApplyHeader(new UnsafeBuffer(bytes), 0, new MessageHeaderEncoder())
+            .term(request.term())
+            .prevLogIndex(request.prevLogIndex())
+            .prevLogTerm(request.prevLogTerm())
+            .commitIndex(request.commitIndex());
+
+    final var entriesEncoder = encoder.entriesCount(entries.size());
+    for (final ReplicatableJournalRecord entry : entries) {
+      final byte[] serializedJournalRecord = entry.serializedJournalRecord();
+      entriesEncoder
+          .next()
+          .term(entry.term())
+          .index(entry.index())
+          .checksum(entry.checksum())
+          .putSerializedJournalRecord(serializedJournalRecord, 0, serializedJournalRecord.length);
+    }
+    encoder.putLeader(leader, 0, leader.length);
+
+    return bytes;
+  }
+
+  /**
+   * Decodes an append request. The entries of the returned request are views into the given bytes,
+   * which must thus not be modified as long as the request is used.
+   */
+  public BufferedAppendRequest decodeAppendRequest(final byte[] bytes) {
+    final var buffer = new UnsafeBuffer(bytes);
+    final var headerDecoder = new MessageHeaderDecoder().wrap(buffer, 0);
+    checkTemplate(headerDecoder, AppendRequestDecoder.TEMPLATE_ID);
+
+    final var decoder = new AppendRequestDecoder().wrapAndApplyHeader(buffer, 0, headerDecoder);
+    final long term = decoder.term();
+    final long prevLogIndex = decoder.prevLogIndex();
+    final long prevLogTerm = decoder.prevLogTerm();
+    final long commitIndex = decoder.commitIndex();
+
+    final EntriesDecoder entriesDecoder = decoder.entries();
+    final List<BufferedJournalRecord> entries = new ArrayList<>(entriesDecoder.count());
+    for (final EntriesDecoder entry : entriesDecoder) {
+      final var serializedJournalRecord = new UnsafeBuffer();
+      final long entryTerm = entry.term();
+      final long entryIndex = entry.index();
+      final long checksum = entry.checksum();
+      entry.wrapSerializedJournalRecord(serializedJournalRecord);
+      entries.add(
+          new BufferedJournalRecord(entryTerm, entryIndex, checksum, serializedJournalRecord));
+    }
+
+    return new BufferedAppendRequest(
+        term, decoder.leader(), prevLogIndex, prevLogTerm, commitIndex, entries);
+  }
+
+  public byte[] encodeAppendResponse(final AppendResponse response) {
+    final RaftError error = response.error();
+    final byte[] errorType =
+        error != null ? error.type().name().getBytes(StandardCharsets.UTF_8) : new byte[0];
+    final byte[] errorMessage =
+        error != null && error.message() != null
+            ? error.message().getBytes(StandardCharsets.UTF_8)
+            : new byte[0];
+
+    final byte[] bytes =
+        new byte
+            [MessageHeaderEncoder.ENCODED_LENGTH
+                + AppendResponseEncoder.BLOCK_LENGTH
+                + AppendResponseEncoder.errorTypeHeaderLength()
+                + errorType.length
+                + AppendResponseEncoder.errorMessageHeaderLength()
+                + errorMessage.length];
+
+    new AppendResponseEncoder()
+        .wrapAndApplyHeader(new UnsafeBuffer(bytes), 0, new MessageHeaderEncoder())
+        .status(response.status() == Status.OK ? ResponseStatus.OK : ResponseStatus.ERROR)
+        .term(response.term())
+        .succeeded(response.succeeded() ? BooleanType.TRUE : BooleanType.FALSE)
+        .lastLogIndex(response.lastLogIndex())
+        .lastSnapshotIndex(response.lastSnapshotIndex())
+        .configurationIndex(response.configurationIndex())
+        .putErrorType(errorType, 0, errorType.length)
+        .putErrorMessage(errorMessage, 0, errorMessage.length);
+
+    return bytes;
+  }
+
+  public AppendResponse decodeAppendResponse(final byte[] bytes) {
+    final var buffer = new UnsafeBuffer(bytes);
+    final var headerDecoder = new MessageHeaderDecoder().wrap(buffer, 0);
+    checkTemplate(headerDecoder, AppendResponseDecoder.TEMPLATE_ID);
+
+    final var decoder = new AppendResponseDecoder().wrapAndApplyHeader(buffer, 0, headerDecoder);
+    final var status = decoder.status() == ResponseStatus.OK ? Status.OK : Status.ERROR;
+    final var builder =
+        AppendResponse.builder()
+            .withStatus(status)
+            .withSucceeded(decoder.succeeded() == BooleanType.TRUE)
+            .withConfigurationIndex(decoder.configurationIndex());
+
+    // the builder rejects the defaults of error responses, so only set what was actually set
+    if (decoder.term() > 0) {
+      builder.withTerm(decoder.term());
+    }
+    builder.withLastLogIndex(decoder.lastLogIndex());
+    builder.withLastSnapshotIndex(decoder.lastSnapshotIndex());
+
+    final String errorType = decoder.errorType();
+    final String errorMessage = decoder.errorMessage();
+    if (!errorType.isEmpty()) {
+      builder.withError(
+          new RaftError(
+              RaftError.Type.valueOf(errorType), errorMessage.isEmpty() ? null : errorMessage));
+    }
+
+    return builder.build();
+  }
+
+  private static void checkTemplate(
+      final MessageHeaderDecoder headerDecoder, final int templateId) {
+    if (headerDecoder.schemaId() != AppendRequestDecoder.SCHEMA_ID
+        || headerDecoder.templateId() != templateId) {
+      throw new IllegalArgumentException(
+          "Expected a message with schema id %d and template id %d, but got schema id %d and template id %d"
+              .formatted(
+                  AppendRequestDecoder.SCHEMA_ID,
+                  templateId,
+                  headerDecoder.schemaId(),
+                  headerDecoder.templateId()));
+    }
+  }
+}
@@ -114,6 +114,15 @@ public interface RaftServerProtocol {
    */
   CompletableFuture<AppendResponse> append(MemberId memberId, AppendRequest request);
 
+  /**
+   * Sends an append request to the given node. Implementations may choose the wire format of the
+   * request, e.g. depending on what the node supports, as long as the node's handlers receive an
+   * equivalent request.
+   *
+   * @param memberId the node to which to send the request
+   * @param request the request to send
+   * @return a future to be completed with the response
+   */
   CompletableFuture<AppendResponse> append(MemberId memberId, VersionedAppendRequest request);
 
   /**
@@ -202,6 +211,14 @@ public interface RaftServerProtocol {
   void registerAppendV2Handler(
       Function<VersionedAppendRequest, CompletableFuture<AppendResponse>> handler);
 
+  /**
+   * Registers a callback for append requests which are received in the SBE encoded format.
+   *
+   * @param handler the append request handler to register
+   */
+  void registerAppendV3Handler(
+      Function<BufferedAppendRequest, CompletableFuture<AppendResponse>> handler);
+
   /** Unregisters the append request handler. */
   void unregisterAppendHandler();
 }
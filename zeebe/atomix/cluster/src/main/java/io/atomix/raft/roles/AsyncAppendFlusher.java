@@ -0,0 +1,145 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.roles;
+
+import io.atomix.raft.impl.RaftContext;
+import io.atomix.utils.concurrent.ThreadContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Flushes the log of a follower on a separate thread, such that the Raft thread can keep appending
+ * entries while the previously appended ones are flushed.
+ *
+ * <p>Callers register a callback for an index, which is called once every entry up to this index is
+ * flushed. All callbacks which are registered while a flush is in progress are covered by the next
+ * flush, so a single flush typically covers the entries of several append requests.
+ *
+ * <p>The flushed index is bounded by the last flushed index of the log, which is lowered whenever
+ * the log is truncated. Entries which are appended again after a truncation are thus only
+ * considered flushed once they were actually flushed.
+ *
+ * <p>NOTE: except for the flush itself, everything runs on the Raft thread.
+ */
+final class AsyncAppendFlusher {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(AsyncAppendFlusher.class);
+
+  private final RaftContext raft;
+  private final ThreadContext flushContext;
+  private final List<PendingFlush> pendingFlushes = new ArrayList<>();
+  private long flushedIndex;
+  private boolean flushing;
+  private boolean closed;
+
+  AsyncAppendFlusher(final RaftContext raft, final ThreadContext flushContext) {
+    this.raft = raft;
+    this.flushContext = flushContext;
+  }
+
+  /**
+   * Calls {@code onFlushed} once all entries up to the given index are flushed. If they are already
+   * flushed, it is called immediately.
+   *
+   * @param index the index up to which the entries must be flushed
+   * @param onFlushed called once the entries are flushed
+   * @param onFlushFailed called if the entries could not be flushed
+   */
+  void runWhenFlushed(
+      final long index, final Runnable onFlushed, final Consumer<Throwable> onFlushFailed) {
+    raft.checkThread();
+
+    if (closed) {
+      onFlushFailed.accept(new IllegalStateException("Flusher is already closed"));
+      return;
+    }
+
+    if (index <= getFlushedIndex()) {
+      onFlushed.run();
+      return;
+    }
+
+    pendingFlushes.add(new PendingFlush(index, onFlushed, onFlushFailed));
+    if (!flushing) {
+      flush();
+    }
+  }
+
+  /** Fails all pending callbacks, and ignores any flush which is still in progress. */
+  void close() {
+    closed = true;
+    failPendingFlushes(new IllegalStateException("Flusher was closed before the flush completed"));
+  }
+
+  private long getFlushedIndex() {
+    return Math.min(flushedIndex, raft.getLog().getLastFlushedIndex());
+  }
+
+  private void flush() {
+    flushing = true;
+
+    // everything up to here is completely written, while entries appended during the flush may not
+    final long flushIndex = raft.getLog().getLastIndex();
+    flushContext.execute(
+        () -> {
+          Throwable error = null;
+          try {
+            raft.getLog().forceFlush();
+          } catch (final Exception e) {
+            error = e;
+          }
+
+          final var flushError = error;
+          raft.getThreadContext().execute(() -> onFlushCompleted(flushIndex, flushError));
+        });
+  }
+
+  private void onFlushCompleted(final long flushIndex, final Throwable error) {
+    flushing = false;
+    if (closed) {
+      return;
+    }
+
+    if (error != null) {
+      LOGGER.warn(
+          "Failed to flush appended entries up to index {}, cannot acknowledge them",
+          flushIndex,
+          error);
+      failPendingFlushes(error);
+      return;
+    }
+
+    flushedIndex = Math.max(flushedIndex, flushIndex);
+    final long lastFlushedIndex = getFlushedIndex();
+    final List<PendingFlush> completedFlushes = new ArrayList<>();
+    final var iterator = pendingFlushes.iterator();
+    while (iterator.hasNext()) {
+      final var pending = iterator.next();
+      if (pending.index() <= lastFlushedIndex) {
+        iterator.remove();
+        completedFlushes.add(pending);
+      }
+    }
+    completedFlushes.forEach(pending -> pending.onFlushed().run());
+
+    if (!pendingFlushes.isEmpty() && !flushing && !closed) {
+      flush();
+    }
+  }
+
+  private void failPendingFlushes(final Throwable error) {
+    final var failedFlushes = List.copyOf(pendingFlushes);
+    pendingFlushes.clear();
+    failedFlushes.forEach(pending -> pending.onFlushFailed().accept(error));
+  }
+
+  private record PendingFlush(long index, Runnable onFlushed, Consumer<Throwable> onFlushFailed) {}
+}
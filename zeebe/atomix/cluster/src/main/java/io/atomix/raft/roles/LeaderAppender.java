@@ -48,6 +48,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.TreeMap;
@@ -202,9 +203,11 @@ final class LeaderAppender {
     }
 
     // Start the append to the member.
-    member.startAppend();
+    final long startEpoch = member.startAppend();
+    observeInFlightAppends(member);
 
     final long timestamp = System.currentTimeMillis();
+    final long appendEpoch = member.getAppendEpoch();
 
     LOGGER.trace("Sending {} to {}", request, member.getMember().memberId());
     raft.getProtocol()
@@ -216,14 +219,15 @@ final class LeaderAppender {
                 final long appendLatency = System.currentTimeMillis() - timestamp;
                 metrics.appendComplete(appendLatency, member.getMember().memberId().id());
                 if (!request.entries().isEmpty()) {
-                  member.completeAppend(appendLatency);
+                  member.completeAppend(startEpoch, appendLatency);
                 } else {
-                  member.completeAppend();
+                  member.completeAppend(startEpoch);
                 }
+                observeInFlightAppends(member);
 
                 if (error == null) {
                   LOGGER.trace("Received {} from {}", response, member.getMember().memberId());
-                  handleAppendResponse(member, request, response, timestamp);
+                  handleAppendResponse(member, request, response, timestamp, appendEpoch);
                 } else {
                   handleAppendResponseFailure(member, request, error);
                 }
@@ -262,8 +266,12 @@ final class LeaderAppender {
 
   /** Updates the match index when a response is received. */
   private void updateMatchIndex(final RaftMemberContext member, final AppendResponse response) {
-    // If the replica returned a valid match index then update the existing match index.
-    member.setMatchIndex(response.lastLogIndex());
+    // If the replica returned a valid match index then update the existing match index. As multiple
+    // requests may be in flight, the responses can be handled out of order, so only ever increase
+    // the match index here.
+    if (response.lastLogIndex() > member.getMatchIndex()) {
+      member.setMatchIndex(response.lastLogIndex());
+    }
     observeRemainingMemberEntries(member);
   }
 
@@ -276,6 +284,11 @@ final class LeaderAppender {
     }
   }
 
+  private void observeInFlightAppends(final RaftMemberContext member) {
+    metrics.observeInFlightAppends(
+        member.getMember().memberId().id(), member.getInFlightAppendCount());
+  }
+
   private void observeRemainingMemberEntries(final RaftMemberContext member) {
     metrics.observeRemainingEntries(
         member.getMember().memberId().id(), raft.getLog().getLastIndex() - member.getMatchIndex());
@@ -380,7 +393,12 @@ final class LeaderAppender {
       final RaftMemberContext member, final PersistedSnapshot persistedSnapshot) {
     if (member.getNextSnapshotIndex() != persistedSnapshot.getIndex()) {
       try {
+        // chunks are only compressed once the receiver confirmed it can decompress them
         final SnapshotChunkReader snapshotChunkReader = persistedSnapshot.newChunkReader();
+        if (raft.getSnapshotPrefetchContext() != null) {
+          snapshotChunkReader.enablePrefetch(
+              raft.getSnapshotPrefetchContext(), raft.getSnapshotChunkPrefetchWindow());
+        }
         member.setSnapshotChunkReader(snapshotChunkReader);
       } catch (final UncheckedIOException e) {
         LOGGER.warn(
@@ -410,6 +428,7 @@ final class LeaderAppender {
       if (!reader.hasNext()) {
         return Optional.empty();
       }
+      final boolean initial = member.getNextSnapshotChunk() == null;
       final ByteBuffer currentChunkId = reader.nextId();
       final SnapshotChunk chunk = reader.next();
 
@@ -426,9 +445,13 @@ final class LeaderAppender {
               .withVersion(persistedSnapshot.version())
               .withData(new SnapshotChunkImpl(chunk).toByteBuffer())
               .withChunkId(currentChunkId)
-              .withInitial(member.getNextSnapshotChunk() == null)
+              .withInitial(initial)
               .withComplete(!reader.hasNext())
               .withNextChunkId(reader.nextId())
+              .withSnapshotFiles(
+                  initial && raft.isSnapshotFileReuse()
+                      ? persistedSnapshot.getChecksums().getChecksums()
+                      : Map.of())
               .build();
       return Optional.of(request);
     } catch (final UncheckedIOException e) {
@@ -502,6 +525,16 @@ final class LeaderAppender {
     if (response.preferredChunkSize() > 0) {
       member.getSnapshotChunkReader().setMaximumChunkSize(response.preferredChunkSize());
     }
+    // Older versions ignore the compression of chunks, and would fail to verify their checksums.
+    if (response.chunkCompressionSupported()) {
+      member.getSnapshotChunkReader().setCompression(raft.getSnapshotChunkCompression());
+    }
+    // The follower reuses these files from its own snapshot, so there is no need to send them.
+    if (request.isInitial()
+        && member.getNextSnapshotIndex() == request.index()
+        && !response.reusedFiles().isEmpty()) {
+      member.getSnapshotChunkReader().skipFiles(response.reusedFiles());
+    }
     // If the install request was completed successfully, set the member's snapshotIndex and reset
     // the next snapshot index/offset.
     if (request.complete()) {
@@ -674,9 +707,10 @@ final class LeaderAppender {
       final RaftMemberContext member,
       final VersionedAppendRequest request,
       final AppendResponse response,
-      final long timestamp) {
+      final long timestamp,
+      final long appendEpoch) {
     if (response.status() == RaftResponse.Status.OK) {
-      handleAppendResponseOk(member, request, response);
+      handleAppendResponseOk(member, request, response, appendEpoch);
     } else {
       handleAppendResponseError(member, request, response);
     }
@@ -686,7 +720,8 @@ final class LeaderAppender {
   private void handleAppendResponseOk(
       final RaftMemberContext member,
       final VersionedAppendRequest request,
-      final AppendResponse response) {
+      final AppendResponse response,
+      final long appendEpoch) {
     // Reset the member failure count and update the member's availability status if necessary.
     succeedAttempt(member);
 
@@ -723,7 +758,20 @@ final class LeaderAppender {
     // log. This helps
     // us converge on the matchIndex faster than by simply decrementing nextIndex one index at a
     // time.
-    else {
+    // If the member was already reset since the request was sent, the rejection is only a
+    // consequence of a request which was rejected before, e.g. when multiple requests were in
+    // flight. Resetting the member again would just send the same entries again.
+    else if (appendEpoch != member.getAppendEpoch()) {
+      metrics.observeStaleAppendResponse(member.getMember().memberId().id());
+      LOGGER.trace(
+          "Ignoring rejected {} from {}, as it was reset since the request was sent",
+          response,
+          member.getMember().memberId());
+
+      if (hasMoreEntries(member)) {
+        appendEntries(member);
+      }
+    } else {
       member.appendFailed();
       resetMatchIndex(member, response);
       resetNextIndex(member, response);
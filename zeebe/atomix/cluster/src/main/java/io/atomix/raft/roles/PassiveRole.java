@@ -22,6 +22,7 @@ import io.atomix.raft.RaftServer;
 import io.atomix.raft.impl.RaftContext;
 import io.atomix.raft.metrics.SnapshotReplicationMetrics;
 import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.BufferedJournalRecord;
 import io.atomix.raft.protocol.ForceConfigureRequest;
 import io.atomix.raft.protocol.ForceConfigureResponse;
 import io.atomix.raft.protocol.InstallRequest;
@@ -61,7 +62,9 @@ import io.camunda.zeebe.util.logging.ThrottledLogger;
 import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -75,12 +78,18 @@ public class PassiveRole extends InactiveRole {
   private ReceivedSnapshot pendingSnapshot;
   private ByteBuffer nextPendingSnapshotChunkId;
   private ByteBuffer previouslyReceivedSnapshotChunkId;
+  private Set<String> reusedSnapshotFiles = Set.of();
   private final int snapshotChunkSize;
+  private final AsyncAppendFlusher appendFlusher;
 
   public PassiveRole(final RaftContext context) {
     super(context);
 
     snapshotChunkSize = context.getSnapshotChunkSize();
+    appendFlusher =
+        context.getFollowerFlushContext() != null
+            ? new AsyncAppendFlusher(context, context.getFollowerFlushContext())
+            : null;
     snapshotReplicationMetrics =
         new SnapshotReplicationMetrics(context.getName(), context.getMeterRegistry());
     snapshotReplicationMetrics.setCount(0);
@@ -96,6 +105,9 @@ public class PassiveRole extends InactiveRole {
   @Override
   public CompletableFuture<Void> stop() {
     abortPendingSnapshots();
+    if (appendFlusher != null) {
+      appendFlusher.close();
+    }
 
     // as a safeguard, we clean up any orphaned pending snapshots
     try {
@@ -259,6 +271,7 @@ public class PassiveRole extends InactiveRole {
       pendingSnapshotStartTimestamp = 0L;
       setNextExpected(null);
       previouslyReceivedSnapshotChunkId = null;
+      reusedSnapshotFiles = Set.of();
       snapshotReplicationMetrics.decrementCount();
       snapshotReplicationMetrics.observeDuration(elapsed);
       raft.updateCurrentSnapshot();
@@ -266,14 +279,12 @@ public class PassiveRole extends InactiveRole {
     } else {
       setNextExpected(request.nextChunkId());
       previouslyReceivedSnapshotChunkId = request.chunkId();
+      if (request.isInitial() && !request.snapshotFiles().isEmpty()) {
+        return reuseSnapshotFiles(request.snapshotFiles());
+      }
     }
 
-    return CompletableFuture.completedFuture(
-        logResponse(
-            InstallResponse.builder()
-                .withStatus(RaftResponse.Status.OK)
-                .withPreferredChunkSize(snapshotChunkSize)
-                .build()));
+    return CompletableFuture.completedFuture(logResponse(acceptedInstallResponse()));
   }
 
   @Override
@@ -432,12 +443,7 @@ public class PassiveRole extends InactiveRole {
   private Either<InstallResponse, Void> preProcessInstallRequest(final InstallRequest request) {
     if (Objects.equals(request.chunkId(), previouslyReceivedSnapshotChunkId)) {
       // Duplicate request for the same chunk that was previously processed
-      return Either.left(
-          logResponse(
-              InstallResponse.builder()
-                  .withStatus(Status.OK)
-                  .withPreferredChunkSize(snapshotChunkSize)
-                  .build()));
+      return Either.left(logResponse(acceptedInstallResponse()));
     }
 
     // if null assume it is first chunk of file
@@ -543,6 +549,61 @@ public class PassiveRole extends InactiveRole {
     raft.notifySnapshotReplicationCompleted();
   }
 
+  private InstallResponse acceptedInstallResponse() {
+    return InstallResponse.builder()
+        .withStatus(Status.OK)
+        .withPreferredChunkSize(snapshotChunkSize)
+        .withReusedFiles(reusedSnapshotFiles)
+        .withChunkCompressionSupported(true)
+        .build();
+  }
+
+  private CompletableFuture<InstallResponse> reuseSnapshotFiles(
+      final Map<String, Long> snapshotFiles) {
+    // the raft thread doesn't wait for the snapshot store to reuse the files; the request is only
+    // answered once they are reused, since the leader skips them afterwards
+    final var snapshot = pendingSnapshot;
+    final var responseFuture = new CompletableFuture<InstallResponse>();
+    snapshot
+        .reuseFiles(snapshotFiles)
+        .onComplete(
+            (reusedFiles, error) -> {
+              if (pendingSnapshot != snapshot) {
+                responseFuture.complete(
+                    logResponse(
+                        InstallResponse.builder()
+                            .withStatus(Status.ERROR)
+                            .withError(
+                                Type.ILLEGAL_MEMBER_STATE,
+                                "Pending snapshot was rolled back while reusing files")
+                            .build()));
+                return;
+              }
+
+              if (error != null) {
+                log.warn(
+                    "Failed to reuse files of local snapshots for snapshot {}, will receive all"
+                        + " files instead",
+                    snapshot,
+                    error);
+              } else if (!reusedFiles.isEmpty()) {
+                log.debug(
+                    "Reusing {} of {} files of snapshot {}",
+                    reusedFiles.size(),
+                    snapshotFiles.size(),
+                    snapshot);
+                reusedSnapshotFiles = reusedFiles;
+                // the leader skips the chunks of the reused files, so the next chunk can be of any
+                // later file
+                setNextExpected(null);
+              }
+
+              responseFuture.complete(logResponse(acceptedInstallResponse()));
+            },
+            raft.getThreadContext());
+    return responseFuture;
+  }
+
   private void setNextExpected(final ByteBuffer nextChunkId) {
     nextPendingSnapshotChunkId = nextChunkId;
   }
@@ -551,6 +612,7 @@ public class PassiveRole extends InactiveRole {
     if (pendingSnapshot != null) {
       setNextExpected(null);
       previouslyReceivedSnapshotChunkId = null;
+      reusedSnapshotFiles = Set.of();
       log.info("Rolling back snapshot {}", pendingSnapshot);
       try {
         pendingSnapshot.abort();
@@ -768,6 +830,11 @@ public class PassiveRole extends InactiveRole {
       log.trace("Committed entries up to index {}", commitIndex);
     }
 
+    if (appendFlusher != null) {
+      succeedAppendWhenFlushed(request, lastLogIndex, future);
+      return;
+    }
+
     try {
       //     Make sure all entries are flushed before ack to ensure we have persisted what we
       //     acknowledge
@@ -785,6 +852,30 @@ public class PassiveRole extends InactiveRole {
     succeedAppend(lastLogIndex, future);
   }
 
+  /**
+   * Acknowledges the entries up to the given index once they are flushed, without waiting for the
+   * flush on the Raft thread. This applies to heartbeats as well, since the entries they
+   * acknowledge may still be flushed for a previous request.
+   */
+  private void succeedAppendWhenFlushed(
+      final InternalAppendRequest request,
+      final long lastLogIndex,
+      final CompletableFuture<AppendResponse> future) {
+    final long term = raft.getTerm();
+    appendFlusher.runWhenFlushed(
+        lastLogIndex,
+        () -> {
+          // if the term changed in the meantime, the entries may have been truncated since, so we
+          // cannot acknowledge them anymore; the leader will retry the append operation
+          if (raft.getTerm() == term) {
+            succeedAppend(lastLogIndex, future);
+          } else {
+            failAppend(request.prevLogIndex(), future);
+          }
+        },
+        error -> failAppend(request.prevLogIndex(), future));
+  }
+
   private void flush(final long lastFlushedIndex, final long previousEntryIndex)
       throws FlushException {
     if (lastFlushedIndex > previousEntryIndex) {
@@ -898,9 +989,11 @@ public class PassiveRole extends InactiveRole {
         indexed = raft.getLog().append(raftRecord);
       } else if (entry instanceof final ReplicatableJournalRecord serializedJournalRecord) {
         indexed = raft.getLog().append(serializedJournalRecord);
+      } else if (entry instanceof final BufferedJournalRecord bufferedJournalRecord) {
+        indexed = raft.getLog().append(bufferedJournalRecord);
       } else {
         throw new IllegalStateException(
-            "Expected to append PersistedRaftRecord or ReplicatableJournalRecord, but found record of type %s"
+            "Expected to append PersistedRaftRecord, ReplicatableJournalRecord or BufferedJournalRecord, but found record of type %s"
                 .formatted(entry.getClass()));
       }
 
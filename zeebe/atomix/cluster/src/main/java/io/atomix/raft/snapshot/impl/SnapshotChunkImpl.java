@@ -18,6 +18,7 @@ package io.atomix.raft.snapshot.impl;
 
 import io.atomix.raft.snapshot.SbeBufferWriterReader;
 import io.camunda.zeebe.snapshots.SnapshotChunk;
+import io.camunda.zeebe.snapshots.SnapshotChunkCompression;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
@@ -36,6 +37,7 @@ public final class SnapshotChunkImpl
   private long checksum;
   private long fileBlockPosition;
   private long totalFileSize;
+  private SnapshotChunkCompression compression = SnapshotChunkCompression.NONE;
 
   public SnapshotChunkImpl() {}
 
@@ -47,6 +49,7 @@ public final class SnapshotChunkImpl
     content.wrap(chunk.getContent());
     fileBlockPosition = chunk.getFileBlockPosition();
     totalFileSize = chunk.getTotalFileSize();
+    compression = chunk.getCompression();
   }
 
   @Override
@@ -68,6 +71,8 @@ public final class SnapshotChunkImpl
     fileBlockPosition = SnapshotChunkDecoder.fileBlockPositionNullValue();
     totalFileSize = SnapshotChunkDecoder.totalFileSizeNullValue();
 
+    compression = SnapshotChunkCompression.NONE;
+
     snapshotId = "";
     chunkName = "";
     content.wrap(0, 0);
@@ -94,6 +99,7 @@ public final class SnapshotChunkImpl
         .totalCount(totalCount)
         .fileBlockPosition(fileBlockPosition)
         .totalFileSize(totalFileSize)
+        .compression(encodeCompression(compression))
         .snapshotId(snapshotId)
         .chunkName(chunkName)
         .checksum(checksum)
@@ -108,6 +114,7 @@ public final class SnapshotChunkImpl
     totalCount = decoder.totalCount();
     fileBlockPosition = decoder.fileBlockPosition();
     totalFileSize = decoder.totalFileSize();
+    compression = decodeCompression(decoder.compression());
     snapshotId = decoder.snapshotId();
     chunkName = decoder.chunkName();
     checksum = decoder.checksum();
@@ -117,6 +124,12 @@ public final class SnapshotChunkImpl
     }
   }
 
+  @Override
+  public boolean tryWrap(final DirectBuffer buffer, final int offset, final int length) {
+    // a chunk whose content cannot be decompressed cannot be applied
+    return super.tryWrap(buffer, offset, length) && compression != null;
+  }
+
   @Override
   public String getSnapshotId() {
     return snapshotId;
@@ -142,6 +155,11 @@ public final class SnapshotChunkImpl
     return BufferUtil.bufferAsArray(content);
   }
 
+  @Override
+  public SnapshotChunkCompression getCompression() {
+    return compression;
+  }
+
   @Override
   public long getFileBlockPosition() {
     // backwards compatability
@@ -162,6 +180,25 @@ public final class SnapshotChunkImpl
     return totalFileSize;
   }
 
+  private static ChunkCompression encodeCompression(final SnapshotChunkCompression compression) {
+    return switch (compression) {
+      case NONE -> ChunkCompression.NONE;
+      case ZSTD -> ChunkCompression.ZSTD;
+    };
+  }
+
+  /**
+   * @return the decoded compression, or null if the compression is unknown to this version
+   */
+  private static SnapshotChunkCompression decodeCompression(final ChunkCompression compression) {
+    // chunks sent by older versions have no compression
+    return switch (compression) {
+      case ZSTD -> SnapshotChunkCompression.ZSTD;
+      case NONE, NULL_VAL -> SnapshotChunkCompression.NONE;
+      case SBE_UNKNOWN -> null;
+    };
+  }
+
   @Override
   public String toString() {
     return "SnapshotChunkImpl{"
@@ -178,6 +215,8 @@ public final class SnapshotChunkImpl
         + fileBlockPosition
         + ", totalFileSize="
         + totalFileSize
+        + ", compression="
+        + compression
         + "} "
         + super.toString();
   }
@@ -65,6 +65,10 @@ public final class RaftStorage {
   private final ReceivableSnapshotStore persistedSnapshotStore;
   private final int journalIndexDensity;
   private final boolean preallocateSegmentFiles;
+  private final boolean primitiveJournalIndex;
+  private final boolean persistSegmentIndex;
+  private final int preparedSegmentsCount;
+  private final boolean recycleSegments;
   private final MeterRegistry meterRegistry;
   private final RaftLogFlusher.Factory flusherFactory;
 
@@ -78,6 +82,10 @@ public final class RaftStorage {
       final ReceivableSnapshotStore persistedSnapshotStore,
       final int journalIndexDensity,
       final boolean preallocateSegmentFiles,
+      final boolean primitiveJournalIndex,
+      final boolean persistSegmentIndex,
+      final int preparedSegmentsCount,
+      final boolean recycleSegments,
       final MeterRegistry meterRegistry) {
     this.prefix = prefix;
     this.partitionId = partitionId;
@@ -88,6 +96,10 @@ public final class RaftStorage {
     this.persistedSnapshotStore = persistedSnapshotStore;
     this.journalIndexDensity = journalIndexDensity;
     this.preallocateSegmentFiles = preallocateSegmentFiles;
+    this.primitiveJournalIndex = primitiveJournalIndex;
+    this.persistSegmentIndex = persistSegmentIndex;
+    this.preparedSegmentsCount = preparedSegmentsCount;
+    this.recycleSegments = recycleSegments;
     this.meterRegistry = meterRegistry;
 
     try {
@@ -197,6 +209,10 @@ public final class RaftStorage {
         .withFreeDiskSpace(freeDiskSpace)
         .withJournalIndexDensity(journalIndexDensity)
         .withPreallocateSegmentFiles(preallocateSegmentFiles)
+        .withPrimitiveJournalIndex(primitiveJournalIndex)
+        .withPersistSegmentIndex(persistSegmentIndex)
+        .withPreparedSegmentsCount(preparedSegmentsCount)
+        .withSegmentRecycling(recycleSegments)
         .withMetaStore(metaStore)
         .withFlusher(flusherFactory.createFlusher(threadFactory))
         .build();
@@ -253,6 +269,10 @@ public final class RaftStorage {
         RaftLogFlusher.Factory::direct;
     private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
     private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+    private static final boolean DEFAULT_PRIMITIVE_JOURNAL_INDEX = false;
+    private static final boolean DEFAULT_PERSIST_SEGMENT_INDEX = false;
+    private static final int DEFAULT_PREPARED_SEGMENTS_COUNT = 1;
+    private static final boolean DEFAULT_RECYCLE_SEGMENTS = false;
 
     // impossible value to make it clear it's unset and there's an error
     private static final int DEFAULT_PARTITION_ID = -1;
@@ -265,6 +285,10 @@ public final class RaftStorage {
     private ReceivableSnapshotStore persistedSnapshotStore;
     private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
     private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+    private boolean primitiveJournalIndex = DEFAULT_PRIMITIVE_JOURNAL_INDEX;
+    private boolean persistSegmentIndex = DEFAULT_PERSIST_SEGMENT_INDEX;
+    private int preparedSegmentsCount = DEFAULT_PREPARED_SEGMENTS_COUNT;
+    private boolean recycleSegments = DEFAULT_RECYCLE_SEGMENTS;
     private int partitionId = DEFAULT_PARTITION_ID;
     private final MeterRegistry meterRegistry;
 
@@ -372,6 +396,53 @@ public final class RaftStorage {
       return this;
     }
 
+    /**
+     * Sets whether the journal index keeps its mappings in sorted primitive arrays instead of
+     * concurrent skip list maps, which reduces its heap footprint for large logs.
+     *
+     * @param primitiveJournalIndex true to use the primitive index, false otherwise
+     * @return this builder for chaining
+     */
+    public Builder withPrimitiveJournalIndex(final boolean primitiveJournalIndex) {
+      this.primitiveJournalIndex = primitiveJournalIndex;
+      return this;
+    }
+
+    /**
+     * Sets whether the index of each sealed segment is persisted to a companion file, which is
+     * loaded on startup instead of reading the segment.
+     *
+     * @param persistSegmentIndex true to persist the index of sealed segments, false otherwise
+     * @return this builder for chaining
+     */
+    public Builder withPersistSegmentIndex(final boolean persistSegmentIndex) {
+      this.persistSegmentIndex = persistSegmentIndex;
+      return this;
+    }
+
+    /**
+     * Sets how many segments are prepared in the background ahead of time.
+     *
+     * @param preparedSegmentsCount the number of segments to keep ready, at least 1
+     * @return this builder for chaining
+     */
+    public Builder withPreparedSegmentsCount(final int preparedSegmentsCount) {
+      this.preparedSegmentsCount = preparedSegmentsCount;
+      return this;
+    }
+
+    /**
+     * Sets whether the files of compacted segments are reused for new segments instead of being
+     * deleted.
+     *
+     * @param recycleSegments true to reuse the files of compacted segments, false otherwise
+     * @return this builder for chaining
+     */
+    public Builder withSegmentRecycling(final boolean recycleSegments) {
+      this.recycleSegments = recycleSegments;
+      return this;
+    }
+
     /**
      * The ID of the partition on which this storage resides.
      *
@@ -400,6 +471,10 @@ public final class RaftStorage {
           persistedSnapshotStore,
           journalIndexDensity,
           preallocateSegmentFiles,
+          primitiveJournalIndex,
+          persistSegmentIndex,
+          preparedSegmentsCount,
+          recycleSegments,
           meterRegistry);
     }
   }
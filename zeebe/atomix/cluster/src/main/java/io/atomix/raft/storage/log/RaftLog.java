@@ -18,6 +18,7 @@ package io.atomix.raft.storage.log;
 
 import static io.camunda.zeebe.journal.file.SegmentedJournal.ASQN_IGNORE;
 
+import io.atomix.raft.protocol.BufferedJournalRecord;
 import io.atomix.raft.protocol.PersistedRaftRecord;
 import io.atomix.raft.protocol.ReplicatableJournalRecord;
 import io.atomix.raft.storage.log.RaftLogFlusher.Factory;
@@ -170,6 +171,14 @@ public final class RaftLog implements Closeable {
     return lastAppendedEntry;
   }
 
+  public IndexedRaftLogEntry append(final BufferedJournalRecord entry) {
+    final var writtenRecord = journal.append(entry.checksum(), entry.serializedJournalRecord());
+
+    final RaftLogEntry raftEntry = serializer.readRaftLogEntry(writtenRecord.data());
+    lastAppendedEntry = new IndexedRaftLogEntryImpl(entry.term(), raftEntry.entry(), writtenRecord);
+    return lastAppendedEntry;
+  }
+
   public void reset(final long index) {
     if (index < commitIndex) {
       throw new IllegalStateException(
@@ -222,6 +231,16 @@ public final class RaftLog implements Closeable {
     Factory.DIRECT.flush(journal);
   }
 
+  /**
+   * Returns the index of the last entry which is known to be flushed to disk. Truncating the log
+   * may lower it.
+   *
+   * @return the last flushed index
+   */
+  public long getLastFlushedIndex() {
+    return journal.getLastFlushedIndex();
+  }
+
   @Override
   public void close() {
     CloseHelper.closeAll(
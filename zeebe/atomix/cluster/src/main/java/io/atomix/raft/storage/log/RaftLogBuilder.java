@@ -129,6 +129,53 @@ public class RaftLogBuilder implements io.atomix.utils.Builder<RaftLog> {
     return this;
   }
 
+  /**
+   * Sets whether the journal index keeps its mappings in sorted primitive arrays instead of
+   * concurrent skip list maps, which reduces its heap footprint for large logs.
+   *
+   * @param primitiveJournalIndex true to use the primitive index, false otherwise
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withPrimitiveJournalIndex(final boolean primitiveJournalIndex) {
+    journalBuilder.withPrimitiveJournalIndex(primitiveJournalIndex);
+    return this;
+  }
+
+  /**
+   * Sets whether the index of each sealed segment is persisted to a companion file, which is loaded
+   * on startup instead of reading the segment.
+   *
+   * @param persistSegmentIndex true to persist the index of sealed segments, false otherwise
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withPersistSegmentIndex(final boolean persistSegmentIndex) {
+    journalBuilder.withPersistSegmentIndex(persistSegmentIndex);
+    return this;
+  }
+
+  /**
+   * Sets how many segments are prepared in the background ahead of time.
+   *
+   * @param preparedSegmentsCount the number of segments to keep ready, at least 1
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withPreparedSegmentsCount(final int preparedSegmentsCount) {
+    journalBuilder.withPreparedSegmentsCount(preparedSegmentsCount);
+    return this;
+  }
+
+  /**
+   * Sets whether the files of compacted segments are reused for new segments instead of being
+   * deleted.
+   *
+   * @param recycleSegments true to reuse the files of compacted segments, false otherwise
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withSegmentRecycling(final boolean recycleSegments) {
+    journalBuilder.withSegmentRecycling(recycleSegments);
+    return this;
+  }
+
   /**
    * The ID of the partition on which this log resides.
    *
@@ -0,0 +1,111 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.cluster.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.cluster.RaftMember.Type;
+import io.atomix.raft.storage.log.RaftLog;
+import io.atomix.raft.storage.log.RaftLogReader;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class RaftMemberContextTest {
+
+  private final RaftLog log = mock(RaftLog.class);
+  private final RaftLogReader reader = mock(RaftLogReader.class);
+  private RaftMemberContext member;
+
+  @BeforeEach
+  void setUp() {
+    when(log.openUncommittedReader()).thenReturn(reader);
+    member =
+        new RaftMemberContext(
+            new DefaultRaftMember(new MemberId("2"), Type.ACTIVE, Instant.now()),
+            mock(RaftClusterContext.class),
+            2);
+    member.openReplicationContext(log);
+  }
+
+  @Test
+  void shouldChangeAppendEpochOnReset() {
+    // given
+    final long appendEpoch = member.getAppendEpoch();
+
+    // when
+    member.reset(5);
+
+    // then
+    assertThat(member.getAppendEpoch()).isNotEqualTo(appendEpoch);
+  }
+
+  @Test
+  void shouldChangeAppendEpochOnResetState() {
+    // given
+    final long appendEpoch = member.getAppendEpoch();
+
+    // when
+    member.resetState(log);
+
+    // then
+    assertThat(member.getAppendEpoch()).isNotEqualTo(appendEpoch);
+  }
+
+  @Test
+  void shouldCountInFlightAppends() {
+    // when
+    final long startEpoch = member.startAppend();
+    member.startAppend();
+    member.completeAppend(startEpoch, 10);
+
+    // then
+    assertThat(member.getInFlightAppendCount()).isOne();
+    assertThat(member.canHeartbeat()).isFalse();
+  }
+
+  @Test
+  void shouldNotCountAppendsCompletedAfterResetState() {
+    // given
+    final long startEpoch = member.startAppend();
+    member.startAppend();
+    member.resetState(log);
+
+    // when
+    member.completeAppend(startEpoch, 10);
+    member.completeAppend(startEpoch);
+
+    // then
+    assertThat(member.getInFlightAppendCount()).isZero();
+    assertThat(member.canHeartbeat()).isTrue();
+  }
+
+  @Test
+  void shouldKeepCountingAppendsStartedAfterResetState() {
+    // given
+    final long staleEpoch = member.startAppend();
+    member.resetState(log);
+    final long startEpoch = member.startAppend();
+
+    // when
+    member.completeAppend(staleEpoch, 10);
+
+    // then
+    assertThat(member.getInFlightAppendCount()).isOne();
+    assertThat(member.canHeartbeat()).isFalse();
+
+    // when
+    member.completeAppend(startEpoch, 10);
+
+    // then
+    assertThat(member.getInFlightAppendCount()).isZero();
+  }
+}
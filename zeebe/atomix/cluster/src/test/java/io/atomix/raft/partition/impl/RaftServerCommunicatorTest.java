@@ -0,0 +1,131 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.partition.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.atomix.cluster.messaging.MessagingException.NoRemoteHandler;
+import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.utils.serializer.Serializer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.verification.VerificationMode;
+
+final class RaftServerCommunicatorTest {
+
+  private static final MemberId MEMBER = MemberId.from("1");
+  private static final RaftMessageContext CONTEXT = new RaftMessageContext("partition");
+
+  private final ClusterCommunicationService clusterCommunicator =
+      mock(ClusterCommunicationService.class);
+  private final AppendResponse response =
+      AppendResponse.builder()
+          .withStatus(Status.OK)
+          .withTerm(1)
+          .withSucceeded(true)
+          .withLastLogIndex(0)
+          .withLastSnapshotIndex(0)
+          .build();
+  private final VersionedAppendRequest request =
+      VersionedAppendRequest.builder()
+          .withTerm(1)
+          .withLeader(MemberId.from("0"))
+          .withPrevLogIndex(0)
+          .withPrevLogTerm(0)
+          .withCommitIndex(0)
+          .withEntries(List.of())
+          .build();
+
+  private RaftServerCommunicator communicator;
+
+  @BeforeEach
+  void setUp() {
+    communicator =
+        new RaftServerCommunicator(
+            "partition",
+            Serializer.using(RaftNamespaces.RAFT_PROTOCOL),
+            clusterCommunicator,
+            Duration.ofSeconds(5),
+            Duration.ofSeconds(5),
+            Duration.ofSeconds(5),
+            new SimpleMeterRegistry());
+  }
+
+  @Test
+  void shouldSendAppendRequestInSbeFormat() {
+    // given
+    givenResponse(CONTEXT.appendV3subject, CompletableFuture.completedFuture(response));
+
+    // when
+    final var result = communicator.append(MEMBER, request);
+
+    // then
+    assertThat(result).isCompletedWithValue(response);
+    verifySent(CONTEXT.appendV2subject, never());
+  }
+
+  @Test
+  void shouldFallBackToPreviousVersionIfSbeFormatIsNotHandled() {
+    // given
+    givenResponse(
+        CONTEXT.appendV3subject,
+        CompletableFuture.failedFuture(
+            new CompletionException(new NoRemoteHandler(CONTEXT.appendV3subject))));
+    givenResponse(CONTEXT.appendV2subject, CompletableFuture.completedFuture(response));
+
+    // when
+    final var firstResult = communicator.append(MEMBER, request);
+    final var secondResult = communicator.append(MEMBER, request);
+
+    // then
+    assertThat(firstResult).isCompletedWithValue(response);
+    assertThat(secondResult).isCompletedWithValue(response);
+    verifySent(CONTEXT.appendV3subject, times(1));
+    verifySent(CONTEXT.appendV2subject, times(2));
+  }
+
+  @Test
+  void shouldNotFallBackOnOtherErrors() {
+    // given
+    givenResponse(
+        CONTEXT.appendV3subject, CompletableFuture.failedFuture(new IllegalStateException()));
+
+    // when
+    final var result = communicator.append(MEMBER, request);
+
+    // then
+    assertThat(result).isCompletedExceptionally();
+    verifySent(CONTEXT.appendV2subject, never());
+  }
+
+  private void givenResponse(final String subject, final CompletableFuture<Object> response) {
+    when(clusterCommunicator.send(eq(subject), any(), any(), any(), eq(MEMBER), any()))
+        .thenReturn(response);
+  }
+
+  private void verifySent(
+      final String subject, final VerificationMode mode) {
+    verify(clusterCommunicator, mode).send(eq(subject), any(), any(), any(), eq(MEMBER), any());
+  }
+}
@@ -407,6 +407,10 @@ public class ControllableRaftServerProtocol implements RaftServerProtocol {
     appendHandler = handler;
   }
 
+  @Override
+  public void registerAppendV3Handler(
+      final Function<BufferedAppendRequest, CompletableFuture<AppendResponse>> handler) {}
+
   @Override
   public void unregisterAppendHandler() {
     appendHandler = null;
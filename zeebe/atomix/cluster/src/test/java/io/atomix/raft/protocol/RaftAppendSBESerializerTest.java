@@ -0,0 +1,131 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.protocol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftError;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+final class RaftAppendSBESerializerTest {
+
+  private final RaftAppendSBESerializer serializer = new RaftAppendSBESerializer();
+
+  @Test
+  void shouldEncodeAndDecodeAppendRequest() {
+    // given
+    final var firstEntry = new ReplicatableJournalRecord(3, 11, 123, "first".getBytes());
+    final var secondEntry = new ReplicatableJournalRecord(4, 12, -456, "second".getBytes());
+    final var request =
+        VersionedAppendRequest.builder()
+            .withTerm(4)
+            .withLeader(MemberId.from("leader"))
+            .withPrevLogIndex(10)
+            .withPrevLogTerm(3)
+            .withCommitIndex(9)
+            .withEntries(List.of(firstEntry, secondEntry))
+            .build();
+
+    // when
+    final var decoded = serializer.decodeAppendRequest(serializer.encodeAppendRequest(request));
+
+    // then
+    assertThat(decoded.term()).isEqualTo(4);
+    assertThat(decoded.leader()).isEqualTo(MemberId.from("leader"));
+    assertThat(decoded.prevLogIndex()).isEqualTo(10);
+    assertThat(decoded.prevLogTerm()).isEqualTo(3);
+    assertThat(decoded.commitIndex()).isEqualTo(9);
+    assertThat(decoded.entries())
+        .extracting(
+            BufferedJournalRecord::term,
+            BufferedJournalRecord::index,
+            BufferedJournalRecord::checksum,
+            entry -> BufferUtil.bufferAsString(entry.serializedJournalRecord()))
+        .containsExactly(tuple(3L, 11L, 123L, "first"), tuple(4L, 12L, -456L, "second"));
+  }
+
+  @Test
+  void shouldEncodeAndDecodeEmptyAppendRequest() {
+    // given
+    final var request =
+        VersionedAppendRequest.builder()
+            .withTerm(4)
+            .withLeader(MemberId.from("leader"))
+            .withPrevLogIndex(10)
+            .withPrevLogTerm(3)
+            .withCommitIndex(9)
+            .withEntries(List.of())
+            .build();
+
+    // when
+    final var decoded = serializer.decodeAppendRequest(serializer.encodeAppendRequest(request));
+
+    // then
+    assertThat(decoded.entries()).isEmpty();
+    assertThat(decoded.leader()).isEqualTo(MemberId.from("leader"));
+  }
+
+  @Test
+  void shouldEncodeAndDecodeAppendResponse() {
+    // given
+    final var response =
+        AppendResponse.builder()
+            .withStatus(Status.OK)
+            .withTerm(4)
+            .withSucceeded(true)
+            .withLastLogIndex(12)
+            .withLastSnapshotIndex(5)
+            .withConfigurationIndex(2)
+            .build();
+
+    // when
+    final var decoded = serializer.decodeAppendResponse(serializer.encodeAppendResponse(response));
+
+    // then
+    assertThat(decoded).isEqualTo(response);
+  }
+
+  @Test
+  void shouldEncodeAndDecodeErrorAppendResponse() {
+    // given
+    final var response =
+        AppendResponse.builder()
+            .withStatus(Status.ERROR)
+            .withError(new RaftError(RaftError.Type.ILLEGAL_MEMBER_STATE, "not a follower"))
+            .build();
+
+    // when
+    final var decoded = serializer.decodeAppendResponse(serializer.encodeAppendResponse(response));
+
+    // then
+    assertThat(decoded.status()).isEqualTo(Status.ERROR);
+    assertThat(decoded.error().type()).isEqualTo(RaftError.Type.ILLEGAL_MEMBER_STATE);
+    assertThat(decoded.error().message()).isEqualTo("not a follower");
+  }
+
+  @Test
+  void shouldRejectOtherMessage() {
+    // given
+    final var response =
+        AppendResponse.builder()
+            .withStatus(Status.ERROR)
+            .withError(new RaftError(RaftError.Type.PROTOCOL_ERROR, null))
+            .build();
+    final var bytes = serializer.encodeAppendResponse(response);
+
+    // when - then
+    assertThatThrownBy(() -> serializer.decodeAppendRequest(bytes))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -289,6 +289,12 @@ public class TestRaftServerProtocol implements RaftServerProtocol {
     appendHandler = handler;
   }
 
+  @Override
+  public void registerAppendV3Handler(
+      final Function<BufferedAppendRequest, CompletableFuture<AppendResponse>> handler) {
+    // Ignore as requests are passed as objects in tests, so the wire format does not matter
+  }
+
   @Override
   public void unregisterAppendHandler() {
     appendHandler = null;
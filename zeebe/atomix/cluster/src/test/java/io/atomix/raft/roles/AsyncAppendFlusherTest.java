@@ -0,0 +1,163 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.roles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.atomix.raft.impl.RaftContext;
+import io.atomix.raft.storage.log.RaftLog;
+import io.atomix.utils.concurrent.ThreadContext;
+import io.camunda.zeebe.journal.CheckedJournalException.FlushException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class AsyncAppendFlusherTest {
+
+  private final RaftContext raft = mock(RaftContext.class);
+  private final RaftLog log = mock(RaftLog.class);
+  private final ThreadContext flushContext = mock(ThreadContext.class);
+  private final List<Runnable> flushTasks = new ArrayList<>();
+  private final List<Long> flushedIndexes = new ArrayList<>();
+  private final AtomicReference<Throwable> flushError = new AtomicReference<>();
+  private long lastIndex;
+  private long lastFlushedIndex;
+  private AsyncAppendFlusher flusher;
+
+  @BeforeEach
+  void setUp() throws FlushException {
+    final var raftThread = mock(ThreadContext.class);
+    doAnswer(invocation -> runTask(invocation.getArgument(0))).when(raftThread).execute(any());
+    doAnswer(invocation -> flushTasks.add(invocation.getArgument(0)))
+        .when(flushContext)
+        .execute(any());
+    when(raft.getThreadContext()).thenReturn(raftThread);
+    when(raft.getLog()).thenReturn(log);
+    when(log.getLastIndex()).thenAnswer(invocation -> lastIndex);
+    when(log.getLastFlushedIndex()).thenAnswer(invocation -> lastFlushedIndex);
+    doAnswer(invocation -> lastFlushedIndex = lastIndex).when(log).forceFlush();
+
+    flusher = new AsyncAppendFlusher(raft, flushContext);
+  }
+
+  @Test
+  void shouldRunAfterFlush() {
+    // given
+    lastIndex = 5;
+
+    // when
+    runWhenFlushed(5);
+
+    // then
+    assertThat(flushedIndexes).isEmpty();
+    runFlushTasks();
+    assertThat(flushedIndexes).containsExactly(5L);
+  }
+
+  @Test
+  void shouldRunImmediatelyIfAlreadyFlushed() {
+    // given
+    lastIndex = 5;
+    runWhenFlushed(5);
+    runFlushTasks();
+
+    // when
+    runWhenFlushed(3);
+
+    // then
+    assertThat(flushedIndexes).containsExactly(5L, 3L);
+    assertThat(flushTasks).isEmpty();
+  }
+
+  @Test
+  void shouldCoverAppendsDuringFlushWithNextFlush() {
+    // given
+    lastIndex = 5;
+    runWhenFlushed(5);
+
+    // when
+    lastIndex = 8;
+    runWhenFlushed(8);
+
+    // then
+    assertThat(flushTasks).hasSize(1);
+    runFlushTasks();
+    assertThat(flushedIndexes).containsExactly(5L, 8L);
+  }
+
+  @Test
+  void shouldNotConsiderTruncatedEntriesAsFlushed() {
+    // given
+    lastIndex = 10;
+    runWhenFlushed(10);
+    runFlushTasks();
+
+    // when - truncated after index 6 and appended again
+    lastFlushedIndex = 6;
+    runWhenFlushed(8);
+
+    // then
+    assertThat(flushedIndexes).containsExactly(10L);
+    runFlushTasks();
+    assertThat(flushedIndexes).containsExactly(10L, 8L);
+  }
+
+  @Test
+  void shouldFailIfFlushFails() throws FlushException {
+    // given
+    final var error = new FlushException(new IOException("expected"));
+    doThrow(error).when(log).forceFlush();
+    lastIndex = 5;
+
+    // when
+    runWhenFlushed(5);
+    runFlushTasks();
+
+    // then
+    assertThat(flushedIndexes).isEmpty();
+    assertThat(flushError).hasValue(error);
+  }
+
+  @Test
+  void shouldFailPendingOnClose() {
+    // given
+    lastIndex = 5;
+    runWhenFlushed(5);
+
+    // when
+    flusher.close();
+    runFlushTasks();
+
+    // then
+    assertThat(flushedIndexes).isEmpty();
+    assertThat(flushError.get()).isInstanceOf(IllegalStateException.class);
+  }
+
+  private void runWhenFlushed(final long index) {
+    flusher.runWhenFlushed(index, () -> flushedIndexes.add(index), flushError::set);
+  }
+
+  private void runFlushTasks() {
+    while (!flushTasks.isEmpty()) {
+      flushTasks.removeFirst().run();
+    }
+  }
+
+  private Void runTask(final Runnable task) {
+    task.run();
+    return null;
+  }
+}
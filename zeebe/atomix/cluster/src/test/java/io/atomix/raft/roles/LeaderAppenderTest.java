@@ -0,0 +1,337 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.roles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.cluster.RaftMember;
+import io.atomix.raft.cluster.RaftMember.Type;
+import io.atomix.raft.cluster.impl.DefaultRaftMember;
+import io.atomix.raft.cluster.impl.RaftClusterContext;
+import io.atomix.raft.cluster.impl.RaftMemberContext;
+import io.atomix.raft.impl.RaftContext;
+import io.atomix.raft.metrics.LeaderMetricsDoc;
+import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.raft.protocol.InstallResponse;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.raft.snapshot.impl.SnapshotChunkImpl;
+import io.atomix.raft.storage.log.RaftLog;
+import io.atomix.raft.storage.log.entry.RaftLogEntry;
+import io.atomix.raft.storage.log.entry.SerializedApplicationEntry;
+import io.atomix.raft.storage.system.Configuration;
+import io.atomix.utils.concurrent.ThreadContext;
+import io.camunda.zeebe.journal.JournalMetaStore.InMemory;
+import io.camunda.zeebe.snapshots.PersistedSnapshot;
+import io.camunda.zeebe.snapshots.SnapshotChunk;
+import io.camunda.zeebe.snapshots.SnapshotChunkCompression;
+import io.camunda.zeebe.snapshots.impl.FileBasedSnapshotChunkReader;
+import io.camunda.zeebe.snapshots.impl.SnapshotMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.AutoClose;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class LeaderAppenderTest {
+  private static final long TERM = 1;
+  private static final MemberId LEADER = MemberId.from("1");
+  private static final MemberId FOLLOWER = MemberId.from("2");
+
+  @AutoClose private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final RaftContext raft = mock(RaftContext.class, RETURNS_DEEP_STUBS);
+  private final List<PendingAppend> appends = new ArrayList<>();
+
+  private @TempDir Path directory;
+  private RaftLog log;
+  private RaftMemberContext follower;
+  private LeaderAppender appender;
+
+  @BeforeEach
+  void setUp() {
+    log =
+        RaftLog.builder(meterRegistry)
+            .withDirectory(directory.resolve("log").toFile())
+            .withName("test")
+            .withMetaStore(new InMemory())
+            .build();
+    appendEntries(3);
+
+    // handle responses directly on the completing thread, i.e. in the test
+    final var threadContext = mock(ThreadContext.class);
+    doAnswer(
+            i -> {
+              i.<Runnable>getArgument(0).run();
+              return null;
+            })
+        .when(threadContext)
+        .execute(any());
+
+    when(raft.getName()).thenReturn("leader");
+    when(raft.getMeterRegistry()).thenReturn(meterRegistry);
+    when(raft.getThreadContext()).thenReturn(threadContext);
+    when(raft.getLog()).thenReturn(log);
+    when(raft.getTerm()).thenReturn(TERM);
+    when(raft.getLeader()).thenReturn(new DefaultRaftMember(LEADER, Type.ACTIVE, Instant.now()));
+    when(raft.getCurrentSnapshot()).thenReturn(null);
+    when(raft.getElectionTimeout()).thenReturn(Duration.ofSeconds(10));
+    when(raft.getMaxQuorumResponseTimeout()).thenReturn(Duration.ZERO);
+    // send a single entry per request, and pipeline up to two requests per follower
+    when(raft.getMaxAppendBatchSize()).thenReturn(1);
+    when(raft.getMaxAppendsPerFollower()).thenReturn(2);
+    when(raft.getProtocol().append(any(MemberId.class), any(VersionedAppendRequest.class)))
+        .thenAnswer(
+            i -> {
+              final var append = new PendingAppend(i.getArgument(1), new CompletableFuture<>());
+              appends.add(append);
+              return append.response();
+            });
+
+    final var cluster = new RaftClusterContext(LEADER, raft);
+    when(raft.getCluster()).thenReturn(cluster);
+    cluster.configure(
+        new Configuration(
+            1,
+            TERM,
+            System.currentTimeMillis(),
+            List.<RaftMember>of(
+                new DefaultRaftMember(LEADER, Type.ACTIVE, Instant.now()),
+                new DefaultRaftMember(FOLLOWER, Type.ACTIVE, Instant.now()))));
+    follower = cluster.getReplicationTargets().iterator().next();
+    follower.openReplicationContext(log);
+    follower.setConfigTerm(TERM);
+    follower.setConfigIndex(1);
+
+    appender = new LeaderAppender(new LeaderRole(raft));
+  }
+
+  @AfterEach
+  void tearDown() {
+    appender.close();
+    log.close();
+  }
+
+  @Test
+  void shouldNotDecreaseMatchIndexOnOutOfOrderSuccessResponses() {
+    // given
+    pipelineAppends();
+
+    // when - the response to the later request is handled first
+    appendAfter(5).succeed();
+    appendAfter(4).succeed();
+
+    // then
+    assertThat(follower.getMatchIndex()).isEqualTo(6);
+    assertThat(follower.getInFlightAppendCount()).isEqualTo(pendingAppendsSince(0));
+  }
+
+  @Test
+  void shouldIgnoreStaleRejection() {
+    // given - the follower rejects the first of two pipelined requests, resetting its next index
+    pipelineAppends();
+    appendAfter(4).reject(4);
+    final long appendEpoch = follower.getAppendEpoch();
+    final int sentAppends = appends.size();
+
+    // when - the second request is rejected as a consequence of the first rejection
+    appendAfter(5).reject(4);
+
+    // then - the member is not reset again, and the rejected entries are sent only once more
+    assertThat(follower.getAppendEpoch()).isEqualTo(appendEpoch);
+    assertThat(follower.getMatchIndex()).isEqualTo(4);
+    assertThat(appends).hasSize(sentAppends + 1);
+    assertThat(appends.getLast().request().prevLogIndex()).isEqualTo(4);
+    assertThat(
+            meterRegistry.get(LeaderMetricsDoc.STALE_APPEND_RESPONSES.getName()).counter().count())
+        .isOne();
+  }
+
+  @Test
+  void shouldKeepInFlightCountConsistentWhenResetWithAppendsInFlight() {
+    // given
+    pipelineAppends();
+    follower.resetState(log);
+    final int appendsBeforeReset = appends.size();
+    appender.appendEntries();
+    final var heartbeat = appends.getLast();
+
+    // when - the requests sent before the reset complete after the new one was sent
+    appendAfter(4).succeed();
+    appendAfter(5).succeed();
+
+    // then
+    assertThat(follower.getInFlightAppendCount()).isOne();
+    assertThat(follower.canHeartbeat()).isFalse();
+
+    // when
+    heartbeat.succeed();
+
+    // then - only requests sent after the reset are counted
+    final int pendingAppends = pendingAppendsSince(appendsBeforeReset);
+    assertThat(follower.getInFlightAppendCount()).isEqualTo(pendingAppends);
+    assertThat(follower.canHeartbeat()).isEqualTo(pendingAppends == 0);
+  }
+
+  @Test
+  void shouldNotCompressSnapshotChunksForReceiverWithoutCompressionSupport() throws IOException {
+    // when - an older receiver ignores the compression of chunks, and doesn't confirm it
+    final var chunks = replicateSnapshot(false);
+
+    // then
+    assertThat(chunks)
+        .extracting(SnapshotChunk::getCompression)
+        .containsExactly(
+            SnapshotChunkCompression.NONE,
+            SnapshotChunkCompression.NONE,
+            SnapshotChunkCompression.NONE);
+  }
+
+  @Test
+  void shouldCompressSnapshotChunksOnceReceiverSupportsCompression() throws IOException {
+    // when
+    final var chunks = replicateSnapshot(true);
+
+    // then - the first chunk is sent before the receiver confirmed it
+    assertThat(chunks)
+        .extracting(SnapshotChunk::getCompression)
+        .containsExactly(
+            SnapshotChunkCompression.NONE,
+            SnapshotChunkCompression.ZSTD,
+            SnapshotChunkCompression.ZSTD);
+  }
+
+  /**
+   * Replicates a snapshot of three compressible files to the follower, configured to compress
+   * chunks, and returns the chunks the follower received.
+   */
+  private List<SnapshotChunk> replicateSnapshot(final boolean chunkCompressionSupported)
+      throws IOException {
+    final var snapshotDirectory = Files.createDirectory(directory.resolve("snapshot"));
+    for (final var fileName : List.of("file1", "file2", "file3")) {
+      Files.write(snapshotDirectory.resolve(fileName), new byte[4096]);
+    }
+
+    final var snapshot = mock(PersistedSnapshot.class);
+    when(snapshot.getIndex()).thenReturn(10L);
+    when(snapshot.getTerm()).thenReturn(TERM);
+    when(snapshot.version()).thenReturn(1);
+    when(snapshot.getId()).thenReturn("10-1-10-10");
+    when(snapshot.newChunkReader())
+        .thenAnswer(
+            i ->
+                new FileBasedSnapshotChunkReader(
+                    snapshotDirectory, new SnapshotMetrics(meterRegistry)));
+    when(raft.getCurrentSnapshot()).thenReturn(snapshot);
+    when(raft.getSnapshotChunkCompression()).thenReturn(SnapshotChunkCompression.ZSTD);
+    when(raft.getSnapshotPrefetchContext()).thenReturn(null);
+
+    final List<SnapshotChunk> chunks = new ArrayList<>();
+    when(raft.getProtocol().install(any(MemberId.class), any(InstallRequest.class)))
+        .thenAnswer(
+            i -> {
+              final var chunk = new SnapshotChunkImpl();
+              chunk.wrap(new UnsafeBuffer(i.<InstallRequest>getArgument(1).data()));
+              chunks.add(chunk);
+              return CompletableFuture.completedFuture(
+                  InstallResponse.builder()
+                      .withStatus(Status.OK)
+                      .withChunkCompressionSupported(chunkCompressionSupported)
+                      .build());
+            });
+
+    appender.appendEntries();
+    return chunks;
+  }
+
+  /**
+   * Appends entries 4 to 6 and replicates them, such that the first request succeeded and the
+   * requests for entries 5 and 6 are in flight at the same time.
+   */
+  private void pipelineAppends() {
+    appendEntries(3);
+    appender.appendEntries();
+    appendAfter(3).succeed();
+
+    // pipelined requests are spaced by the mean append latency, so the last one may not be sent yet
+    while (follower.getInFlightAppendCount() < 2) {
+      appender.appendEntries();
+    }
+    assertThat(appends).hasSize(3);
+    assertThat(follower.getInFlightAppendCount()).isEqualTo(2);
+  }
+
+  /**
+   * Returns the number of requests which were not completed yet. Pending heartbeat futures may
+   * cause the appender to send further heartbeats when handling responses, so these are counted as
+   * well.
+   */
+  private int pendingAppendsSince(final int firstAppend) {
+    return (int)
+        appends.subList(firstAppend, appends.size()).stream()
+            .filter(append -> !append.response().isDone())
+            .count();
+  }
+
+  private PendingAppend appendAfter(final long prevLogIndex) {
+    return appends.stream()
+        .filter(append -> !append.response().isDone())
+        .filter(append -> append.request().prevLogIndex() == prevLogIndex)
+        .findFirst()
+        .orElseThrow();
+  }
+
+  private void appendEntries(final int count) {
+    for (int i = 0; i < count; i++) {
+      final var position = log.getLastIndex() + 1;
+      final var entry =
+          new SerializedApplicationEntry(position, position, ByteBuffer.allocate(Long.BYTES));
+      log.append(new RaftLogEntry(TERM, entry));
+    }
+  }
+
+  private record PendingAppend(
+      VersionedAppendRequest request, CompletableFuture<AppendResponse> response) {
+
+    private void succeed() {
+      complete(true, request.prevLogIndex() + request.entries().size());
+    }
+
+    private void reject(final long lastLogIndex) {
+      complete(false, lastLogIndex);
+    }
+
+    private void complete(final boolean succeeded, final long lastLogIndex) {
+      response.complete(
+          AppendResponse.builder()
+              .withStatus(Status.OK)
+              .withTerm(TERM)
+              .withSucceeded(succeeded)
+              .withLastLogIndex(lastLogIndex)
+              .build());
+    }
+  }
+}
@@ -17,6 +17,7 @@ package io.atomix.raft.roles;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -24,27 +25,42 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.atomix.cluster.MemberId;
+import io.atomix.raft.cluster.impl.RaftClusterContext;
 import io.atomix.raft.impl.RaftContext;
 import io.atomix.raft.metrics.RaftReplicationMetrics;
 import io.atomix.raft.protocol.AppendRequest;
 import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.raft.protocol.InstallResponse;
 import io.atomix.raft.protocol.PersistedRaftRecord;
 import io.atomix.raft.protocol.ProtocolVersionHandler;
+import io.atomix.raft.protocol.RaftResponse.Status;
 import io.atomix.raft.protocol.ReplicatableJournalRecord;
 import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.raft.snapshot.impl.SnapshotChunkImpl;
 import io.atomix.raft.storage.RaftStorage;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.atomix.raft.storage.log.RaftLog;
+import io.atomix.utils.concurrent.ThreadContext;
 import io.camunda.zeebe.journal.CheckedJournalException;
 import io.camunda.zeebe.journal.JournalException;
 import io.camunda.zeebe.journal.JournalException.InvalidChecksum;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.ReceivableSnapshotStore;
+import io.camunda.zeebe.snapshots.ReceivedSnapshot;
+import io.camunda.zeebe.snapshots.SnapshotChunk;
+import io.camunda.zeebe.snapshots.SnapshotChunkCompression;
+import io.camunda.zeebe.snapshots.SnapshotId;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import org.junit.Before;
 import org.junit.Rule;
@@ -54,10 +70,13 @@ import org.junit.rules.Timeout;
 
 public class PassiveRoleTest {
 
+  private static final String SNAPSHOT_ID = "2-1-2-2";
+
   @Rule public Timeout timeout = new Timeout(30, TimeUnit.SECONDS);
   private RaftLog log;
   private PassiveRole role;
   private RaftContext ctx;
+  private ReceivedSnapshot receivedSnapshot;
   @AutoClose private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
 
   @Before
@@ -74,6 +93,13 @@ public class PassiveRoleTest {
 
     final ReceivableSnapshotStore store = mock(ReceivableSnapshotStore.class);
     when(store.getLatestSnapshot()).thenReturn(Optional.of(snapshot));
+    receivedSnapshot = mock(ReceivedSnapshot.class);
+    when(receivedSnapshot.apply(any())).thenReturn(CompletableActorFuture.completed(null));
+    final SnapshotId snapshotId = mock(SnapshotId.class);
+    when(snapshotId.getSnapshotIdAsString()).thenReturn(SNAPSHOT_ID);
+    when(receivedSnapshot.snapshotId()).thenReturn(snapshotId);
+    when(store.newReceivedSnapshot(any()))
+        .thenAnswer(invocation -> CompletableActorFuture.completed(receivedSnapshot));
 
     final RaftStorage storage = mock(RaftStorage.class);
     when(ctx.getStorage()).thenReturn(storage);
@@ -83,6 +109,17 @@ public class PassiveRoleTest {
     when(ctx.getReplicationMetrics()).thenReturn(mock(RaftReplicationMetrics.class));
     when(ctx.getMeterRegistry()).thenReturn(meterRegistry);
     when(ctx.getName()).thenReturn("partition-1");
+    when(ctx.getCluster()).thenReturn(mock(RaftClusterContext.class));
+
+    final ThreadContext threadContext = mock(ThreadContext.class);
+    doAnswer(
+            invocation -> {
+              invocation.<Runnable>getArgument(0).run();
+              return null;
+            })
+        .when(threadContext)
+        .execute(any());
+    when(ctx.getThreadContext()).thenReturn(threadContext);
 
     role = new PassiveRole(ctx);
   }
@@ -258,4 +295,136 @@ public class PassiveRoleTest {
     // then
     assertThat(result.succeeded()).isFalse();
   }
+
+  @Test
+  public void shouldRespondWithReusedSnapshotFiles() {
+    // given
+    final var snapshotFiles = Map.of("000002.sst", 2L, "000003.sst", 3L);
+    when(receivedSnapshot.reuseFiles(snapshotFiles))
+        .thenReturn(CompletableActorFuture.completed(Set.of("000002.sst")));
+
+    // when
+    final InstallResponse response =
+        role.onInstall(installRequest("000001.sst", "000002.sst", true, snapshotFiles)).join();
+
+    // then
+    assertThat(response.status()).isEqualTo(Status.OK);
+    assertThat(response.reusedFiles()).containsExactly("000002.sst");
+  }
+
+  @Test
+  public void shouldAcceptChunkAfterReusedSnapshotFiles() {
+    // given
+    final var snapshotFiles = Map.of("000002.sst", 2L, "000003.sst", 3L);
+    when(receivedSnapshot.reuseFiles(snapshotFiles))
+        .thenReturn(CompletableActorFuture.completed(Set.of("000002.sst")));
+    role.onInstall(installRequest("000001.sst", "000002.sst", true, snapshotFiles)).join();
+
+    // when
+    final InstallResponse response =
+        role.onInstall(installRequest("000003.sst", "CURRENT", false, Map.of())).join();
+
+    // then
+    assertThat(response.status()).isEqualTo(Status.OK);
+    verify(receivedSnapshot, times(2)).apply(any());
+  }
+
+  @Test
+  public void shouldRespondOnceSnapshotFilesAreReused() {
+    // given
+    final var snapshotFiles = Map.of("000002.sst", 2L, "000003.sst", 3L);
+    final var reusedFiles = new CompletableActorFuture<Set<String>>();
+    when(receivedSnapshot.reuseFiles(snapshotFiles)).thenReturn(reusedFiles);
+
+    // when
+    final var response =
+        role.onInstall(installRequest("000001.sst", "000002.sst", true, snapshotFiles));
+
+    // then
+    assertThat(response).isNotDone();
+    reusedFiles.complete(Set.of("000002.sst"));
+    assertThat(response.join().status()).isEqualTo(Status.OK);
+    assertThat(response.join().reusedFiles()).containsExactly("000002.sst");
+  }
+
+  @Test
+  public void shouldFailIfSnapshotIsRolledBackWhileReusingFiles() {
+    // given
+    final var snapshotFiles = Map.of("000002.sst", 2L, "000003.sst", 3L);
+    final var reusedFiles = new CompletableActorFuture<Set<String>>();
+    when(receivedSnapshot.reuseFiles(snapshotFiles)).thenReturn(reusedFiles);
+    when(receivedSnapshot.abort()).thenReturn(CompletableActorFuture.completed(null));
+    final var response =
+        role.onInstall(installRequest("000001.sst", "000002.sst", true, snapshotFiles));
+
+    // when
+    role.onInstall(installRequest("000003.sst", "CURRENT", false, Map.of())).join();
+    reusedFiles.complete(Set.of("000002.sst"));
+
+    // then
+    assertThat(response.join().status()).isEqualTo(Status.ERROR);
+    assertThat(response.join().reusedFiles()).isEmpty();
+  }
+
+  @Test
+  public void shouldExpectNextChunkIfReusingSnapshotFilesFails() {
+    // given
+    final var snapshotFiles = Map.of("000002.sst", 2L, "000003.sst", 3L);
+    when(receivedSnapshot.reuseFiles(snapshotFiles))
+        .thenReturn(
+            CompletableActorFuture.completedExceptionally(new RuntimeException("expected")));
+    role.onInstall(installRequest("000001.sst", "000002.sst", true, snapshotFiles)).join();
+
+    // when
+    final InstallResponse response =
+        role.onInstall(installRequest("000003.sst", "CURRENT", false, Map.of())).join();
+
+    // then
+    assertThat(response.status()).isEqualTo(Status.ERROR);
+    verify(receivedSnapshot).apply(any());
+  }
+
+  @Test
+  public void shouldNotReuseSnapshotFilesIfNoneAreOffered() {
+    // when
+    final InstallResponse response =
+        role.onInstall(installRequest("000001.sst", "000002.sst", true, Map.of())).join();
+
+    // then
+    assertThat(response.status()).isEqualTo(Status.OK);
+    assertThat(response.reusedFiles()).isEmpty();
+    verify(receivedSnapshot, never()).reuseFiles(any());
+  }
+
+  private InstallRequest installRequest(
+      final String chunkName,
+      final String nextChunkName,
+      final boolean initial,
+      final Map<String, Long> snapshotFiles) {
+    final var chunk = mock(SnapshotChunk.class);
+    when(chunk.getSnapshotId()).thenReturn(SNAPSHOT_ID);
+    when(chunk.getChunkName()).thenReturn(chunkName);
+    when(chunk.getTotalCount()).thenReturn(4);
+    when(chunk.getContent()).thenReturn(new byte[1]);
+    when(chunk.getTotalFileSize()).thenReturn(1L);
+    when(chunk.getCompression()).thenReturn(SnapshotChunkCompression.NONE);
+
+    return InstallRequest.builder()
+        .withCurrentTerm(1)
+        .withLeader(MemberId.anonymous())
+        .withIndex(2)
+        .withTerm(1)
+        .withVersion(1)
+        .withData(new SnapshotChunkImpl(chunk).toByteBuffer())
+        .withChunkId(chunkId(chunkName))
+        .withNextChunkId(chunkId(nextChunkName))
+        .withInitial(initial)
+        .withComplete(false)
+        .withSnapshotFiles(snapshotFiles)
+        .build();
+  }
+
+  private ByteBuffer chunkId(final String fileName) {
+    return ByteBuffer.wrap((fileName + "__0").getBytes(StandardCharsets.US_ASCII));
+  }
 }
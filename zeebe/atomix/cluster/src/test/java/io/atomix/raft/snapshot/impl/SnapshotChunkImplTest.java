@@ -0,0 +1,107 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.snapshot.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.protocol.record.MessageHeaderEncoder;
+import io.camunda.zeebe.snapshots.SnapshotChunk;
+import io.camunda.zeebe.snapshots.SnapshotChunkCompression;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+
+final class SnapshotChunkImplTest {
+
+  @Test
+  void shouldEncodeCompression() {
+    // given
+    final var chunk = new SnapshotChunkImpl(new TestChunk(SnapshotChunkCompression.ZSTD));
+
+    // when
+    final var decoded = new SnapshotChunkImpl();
+    final var wrapped = decoded.tryWrap(new UnsafeBuffer(chunk.toBytes()));
+
+    // then
+    assertThat(wrapped).isTrue();
+    assertThat(decoded.getCompression()).isEqualTo(SnapshotChunkCompression.ZSTD);
+    assertThat(decoded.getContent()).isEqualTo(chunk.getContent());
+    assertThat(decoded.getChecksum()).isEqualTo(chunk.getChecksum());
+  }
+
+  @Test
+  void shouldDecodeChunkWithoutCompressionAsUncompressed() {
+    // given
+    final var buffer =
+        new UnsafeBuffer(
+            new SnapshotChunkImpl(new TestChunk(SnapshotChunkCompression.ZSTD)).toBytes());
+
+    // when - encoded by a version which does not know about compression
+    new MessageHeaderEncoder().wrap(buffer, 0).version(3);
+    final var decoded = new SnapshotChunkImpl();
+    final var wrapped = decoded.tryWrap(buffer);
+
+    // then
+    assertThat(wrapped).isTrue();
+    assertThat(decoded.getCompression()).isEqualTo(SnapshotChunkCompression.NONE);
+  }
+
+  @Test
+  void shouldNotWrapChunkWithUnknownCompression() {
+    // given
+    final var buffer =
+        new UnsafeBuffer(
+            new SnapshotChunkImpl(new TestChunk(SnapshotChunkCompression.NONE)).toBytes());
+
+    // when
+    buffer.putByte(
+        MessageHeaderEncoder.ENCODED_LENGTH + SnapshotChunkEncoder.compressionEncodingOffset(),
+        (byte) 42);
+    final var wrapped = new SnapshotChunkImpl().tryWrap(buffer);
+
+    // then
+    assertThat(wrapped).isFalse();
+  }
+
+  private record TestChunk(SnapshotChunkCompression getCompression) implements SnapshotChunk {
+
+    @Override
+    public String getSnapshotId() {
+      return "1-1-1-1";
+    }
+
+    @Override
+    public int getTotalCount() {
+      return 1;
+    }
+
+    @Override
+    public String getChunkName() {
+      return "file";
+    }
+
+    @Override
+    public long getChecksum() {
+      return 123L;
+    }
+
+    @Override
+    public byte[] getContent() {
+      return new byte[] {1, 2, 3};
+    }
+
+    @Override
+    public long getFileBlockPosition() {
+      return 0;
+    }
+
+    @Override
+    public long getTotalFileSize() {
+      return 3;
+    }
+  }
+}
@@ -83,6 +83,13 @@ public final class RaftPartitionFactory {
     storageConfig.setJournalIndexDensity(brokerCfg.getData().getLogIndexDensity());
     storageConfig.setPreallocateSegmentFiles(
         brokerCfg.getExperimental().getRaft().isPreallocateSegmentFiles());
+    storageConfig.setPrimitiveJournalIndex(
+        brokerCfg.getExperimental().getRaft().isPrimitiveJournalIndex());
+    storageConfig.setPersistSegmentIndex(
+        brokerCfg.getExperimental().getRaft().isPersistSegmentIndex());
+    storageConfig.setPreparedSegmentsCount(
+        brokerCfg.getExperimental().getRaft().getPreparedSegmentsCount());
+    storageConfig.setRecycleSegments(brokerCfg.getExperimental().getRaft().isRecycleSegments());
 
     partitionConfig.setStorageConfig(storageConfig);
     partitionConfig.setEntryValidator(new ZeebeEntryValidator());
@@ -107,6 +114,14 @@ public final class RaftPartitionFactory {
         brokerCfg.getExperimental().getRaft().getMinStepDownFailureCount());
     partitionConfig.setPreferSnapshotReplicationThreshold(
         brokerCfg.getExperimental().getRaft().getPreferSnapshotReplicationThreshold());
+    partitionConfig.setAsyncFollowerFlush(
+        brokerCfg.getExperimental().getRaft().isAsyncFollowerFlush());
+    partitionConfig.setSnapshotChunkCompression(
+        brokerCfg.getExperimental().getRaft().getSnapshotChunkCompression());
+    partitionConfig.setSnapshotChunkPrefetchWindow(
+        brokerCfg.getExperimental().getRaft().getSnapshotChunkPrefetchWindow());
+    partitionConfig.setSnapshotFileReuse(
+        brokerCfg.getExperimental().getRaft().isSnapshotFileReuse());
 
     return new RaftPartition(
         partitionMetadata, partitionConfig, partitionDirectory.toFile(), partitionMeterRegistry);
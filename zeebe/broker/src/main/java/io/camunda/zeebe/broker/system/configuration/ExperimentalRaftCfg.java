@@ -9,6 +9,7 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import static io.camunda.zeebe.broker.system.configuration.ClusterCfg.DEFAULT_ELECTION_TIMEOUT;
 
+import io.camunda.zeebe.snapshots.SnapshotChunkCompression;
 import java.time.Duration;
 import org.springframework.util.unit.DataSize;
 
@@ -24,6 +25,15 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   private static final int DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT = 3;
   private static final int DEFAULT_PREFER_SNAPSHOT_REPLICATION_THRESHOLD = 100;
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final boolean DEFAULT_PRIMITIVE_JOURNAL_INDEX = false;
+  private static final boolean DEFAULT_PERSIST_SEGMENT_INDEX = false;
+  private static final int DEFAULT_PREPARED_SEGMENTS_COUNT = 1;
+  private static final boolean DEFAULT_RECYCLE_SEGMENTS = false;
+  private static final boolean DEFAULT_ASYNC_FOLLOWER_FLUSH = false;
+  private static final SnapshotChunkCompression DEFAULT_SNAPSHOT_CHUNK_COMPRESSION =
+      SnapshotChunkCompression.NONE;
+  private static final int DEFAULT_SNAPSHOT_CHUNK_PREFETCH_WINDOW = 0;
+  private static final boolean DEFAULT_SNAPSHOT_FILE_REUSE = false;
   private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
   private Duration snapshotRequestTimeout = DEFAULT_SNAPSHOT_REQUEST_TIMEOUT;
   private DataSize snapshotChunkSize = DEFAULT_SNAPSHOT_CHUNK_SIZE;
@@ -33,6 +43,14 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   private int preferSnapshotReplicationThreshold = DEFAULT_PREFER_SNAPSHOT_REPLICATION_THRESHOLD;
 
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private boolean primitiveJournalIndex = DEFAULT_PRIMITIVE_JOURNAL_INDEX;
+  private boolean persistSegmentIndex = DEFAULT_PERSIST_SEGMENT_INDEX;
+  private int preparedSegmentsCount = DEFAULT_PREPARED_SEGMENTS_COUNT;
+  private boolean recycleSegments = DEFAULT_RECYCLE_SEGMENTS;
+  private boolean asyncFollowerFlush = DEFAULT_ASYNC_FOLLOWER_FLUSH;
+  private SnapshotChunkCompression snapshotChunkCompression = DEFAULT_SNAPSHOT_CHUNK_COMPRESSION;
+  private int snapshotChunkPrefetchWindow = DEFAULT_SNAPSHOT_CHUNK_PREFETCH_WINDOW;
+  private boolean snapshotFileReuse = DEFAULT_SNAPSHOT_FILE_REUSE;
 
   public Duration getRequestTimeout() {
     return requestTimeout;
@@ -97,4 +115,68 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   public void setPreallocateSegmentFiles(final boolean preallocateSegmentFiles) {
     this.preallocateSegmentFiles = preallocateSegmentFiles;
   }
+
+  public boolean isPrimitiveJournalIndex() {
+    return primitiveJournalIndex;
+  }
+
+  public void setPrimitiveJournalIndex(final boolean primitiveJournalIndex) {
+    this.primitiveJournalIndex = primitiveJournalIndex;
+  }
+
+  public boolean isPersistSegmentIndex() {
+    return persistSegmentIndex;
+  }
+
+  public void setPersistSegmentIndex(final boolean persistSegmentIndex) {
+    this.persistSegmentIndex = persistSegmentIndex;
+  }
+
+  public int getPreparedSegmentsCount() {
+    return preparedSegmentsCount;
+  }
+
+  public void setPreparedSegmentsCount(final int preparedSegmentsCount) {
+    this.preparedSegmentsCount = preparedSegmentsCount;
+  }
+
+  public boolean isRecycleSegments() {
+    return recycleSegments;
+  }
+
+  public void setRecycleSegments(final boolean recycleSegments) {
+    this.recycleSegments = recycleSegments;
+  }
+
+  public boolean isAsyncFollowerFlush() {
+    return asyncFollowerFlush;
+  }
+
+  public void setAsyncFollowerFlush(final boolean asyncFollowerFlush) {
+    this.asyncFollowerFlush = asyncFollowerFlush;
+  }
+
+  public SnapshotChunkCompression getSnapshotChunkCompression() {
+    return snapshotChunkCompression;
+  }
+
+  public void setSnapshotChunkCompression(final SnapshotChunkCompression snapshotChunkCompression) {
+    this.snapshotChunkCompression = snapshotChunkCompression;
+  }
+
+  public int getSnapshotChunkPrefetchWindow() {
+    return snapshotChunkPrefetchWindow;
+  }
+
+  public void setSnapshotChunkPrefetchWindow(final int snapshotChunkPrefetchWindow) {
+    this.snapshotChunkPrefetchWindow = snapshotChunkPrefetchWindow;
+  }
+
+  public boolean isSnapshotFileReuse() {
+    return snapshotFileReuse;
+  }
+
+  public void setSnapshotFileReuse(final boolean snapshotFileReuse) {
+    this.snapshotFileReuse = snapshotFileReuse;
+  }
 }
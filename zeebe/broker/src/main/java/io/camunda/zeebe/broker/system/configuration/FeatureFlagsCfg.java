@@ -39,6 +39,7 @@ public final class FeatureFlagsCfg {
       DEFAULT_SETTINGS.enableStraightThroughProcessingLoopDetector();
   private boolean enablePartitionScaling = DEFAULT_SETTINGS.enablePartitionScaling();
   private boolean enableIdentitySetup = DEFAULT_SETTINGS.enableIdentitySetup();
+  private boolean enableTimerWheel = DEFAULT_SETTINGS.enableTimerWheel();
 
   public boolean isEnableYieldingDueDateChecker() {
     return enableYieldingDueDateChecker;
@@ -97,6 +98,14 @@ public final class FeatureFlagsCfg {
     this.enableIdentitySetup = enableIdentitySetup;
   }
 
+  public boolean isEnableTimerWheel() {
+    return enableTimerWheel;
+  }
+
+  public void setEnableTimerWheel(final boolean enableTimerWheel) {
+    this.enableTimerWheel = enableTimerWheel;
+  }
+
   public FeatureFlags toFeatureFlags() {
     return new FeatureFlags(
         enableYieldingDueDateChecker,
@@ -105,7 +114,8 @@ public final class FeatureFlagsCfg {
         enableTimerDueDateCheckerAsync,
         enableStraightThroughProcessingLoopDetector,
         enablePartitionScaling,
-        enableIdentitySetup
+        enableIdentitySetup,
+        enableTimerWheel
         /*, enableFoo*/ );
   }
 
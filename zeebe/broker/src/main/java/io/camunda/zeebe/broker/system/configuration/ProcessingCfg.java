@@ -9,11 +9,22 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import java.time.Duration;
 import java.util.Set;
+import org.springframework.util.unit.DataSize;
 
 public final class ProcessingCfg implements ConfigurationEntry {
 
   private static final int DEFAULT_PROCESSING_BATCH_LIMIT = 100;
+  private static final int DEFAULT_REPLAY_BATCH_SIZE = 1;
+  private static final int DEFAULT_MAX_COMMANDS_IN_COMMIT = 32;
+  private static final DataSize DEFAULT_MAX_COMMIT_SIZE = DataSize.ofMegabytes(4);
+  private static final Duration DEFAULT_MAX_COMMIT_DELAY = Duration.ofMillis(10);
   private Integer maxCommandsInBatch = DEFAULT_PROCESSING_BATCH_LIMIT;
+  private int replayBatchSize = DEFAULT_REPLAY_BATCH_SIZE;
+  private boolean enablePipelinedReplay = false;
+  private boolean enablePipelinedProcessing = false;
+  private int maxCommandsInCommit = DEFAULT_MAX_COMMANDS_IN_COMMIT;
+  private DataSize maxCommitSize = DEFAULT_MAX_COMMIT_SIZE;
+  private Duration maxCommitDelay = DEFAULT_MAX_COMMIT_DELAY;
   private boolean enableAsyncScheduledTasks = true;
   private Duration scheduledTaskCheckInterval = Duration.ofSeconds(1);
   private Set<Long> skipPositions;
@@ -24,6 +35,22 @@ public final class ProcessingCfg implements ConfigurationEntry {
       throw new IllegalArgumentException(
           "maxCommandsInBatch must be >= 1 but was %s".formatted(maxCommandsInBatch));
     }
+    if (replayBatchSize < 1) {
+      throw new IllegalArgumentException(
+          "replayBatchSize must be >= 1 but was %s".formatted(replayBatchSize));
+    }
+    if (maxCommandsInCommit < 1) {
+      throw new IllegalArgumentException(
+          "maxCommandsInCommit must be >= 1 but was %s".formatted(maxCommandsInCommit));
+    }
+    if (maxCommitSize.toBytes() < 1) {
+      throw new IllegalArgumentException(
+          "maxCommitSize must be positive but was %s".formatted(maxCommitSize));
+    }
+    if (!maxCommitDelay.isPositive()) {
+      throw new IllegalArgumentException(
+          "maxCommitDelay must be positive but was %s".formatted(maxCommitDelay));
+    }
     if (!scheduledTaskCheckInterval.isPositive()) {
       throw new IllegalArgumentException(
           "scheduledTaskCheckInterval must be positive but was %s"
@@ -39,6 +66,54 @@ public final class ProcessingCfg implements ConfigurationEntry {
     this.maxCommandsInBatch = maxCommandsInBatch;
   }
 
+  public int getReplayBatchSize() {
+    return replayBatchSize;
+  }
+
+  public void setReplayBatchSize(final int replayBatchSize) {
+    this.replayBatchSize = replayBatchSize;
+  }
+
+  public boolean isEnablePipelinedReplay() {
+    return enablePipelinedReplay;
+  }
+
+  public void setEnablePipelinedReplay(final boolean enablePipelinedReplay) {
+    this.enablePipelinedReplay = enablePipelinedReplay;
+  }
+
+  public boolean isEnablePipelinedProcessing() {
+    return enablePipelinedProcessing;
+  }
+
+  public void setEnablePipelinedProcessing(final boolean enablePipelinedProcessing) {
+    this.enablePipelinedProcessing = enablePipelinedProcessing;
+  }
+
+  public int getMaxCommandsInCommit() {
+    return maxCommandsInCommit;
+  }
+
+  public void setMaxCommandsInCommit(final int maxCommandsInCommit) {
+    this.maxCommandsInCommit = maxCommandsInCommit;
+  }
+
+  public DataSize getMaxCommitSize() {
+    return maxCommitSize;
+  }
+
+  public void setMaxCommitSize(final DataSize maxCommitSize) {
+    this.maxCommitSize = maxCommitSize;
+  }
+
+  public Duration getMaxCommitDelay() {
+    return maxCommitDelay;
+  }
+
+  public void setMaxCommitDelay(final Duration maxCommitDelay) {
+    this.maxCommitDelay = maxCommitDelay;
+  }
+
   public boolean isEnableAsyncScheduledTasks() {
     return enableAsyncScheduledTasks;
   }
@@ -60,6 +135,18 @@ public final class ProcessingCfg implements ConfigurationEntry {
     return "ProcessingCfg{"
         + "maxCommandsInBatch="
         + maxCommandsInBatch
+        + ", replayBatchSize="
+        + replayBatchSize
+        + ", enablePipelinedReplay="
+        + enablePipelinedReplay
+        + ", enablePipelinedProcessing="
+        + enablePipelinedProcessing
+        + ", maxCommandsInCommit="
+        + maxCommandsInCommit
+        + ", maxCommitSize="
+        + maxCommitSize
+        + ", maxCommitDelay="
+        + maxCommitDelay
         + ", enableAsyncScheduledTasks="
         + enableAsyncScheduledTasks
         + ", scheduledTaskCheckInterval="
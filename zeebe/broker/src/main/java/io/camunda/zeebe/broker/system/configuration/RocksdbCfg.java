@@ -8,7 +8,13 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.DedicatedColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.DedicatedColumnFamily.AccessPattern;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
@@ -17,6 +23,22 @@ import org.springframework.util.unit.DataSize;
 
 public final class RocksdbCfg implements ConfigurationEntry {
 
+  /**
+   * The column families which are dedicated by default when enabling dedicated column families.
+   * These are the ones which are written and read the most, and with the most different shapes.
+   */
+  public static final Map<ZbColumnFamilies, AccessPattern> DEFAULT_DEDICATED_COLUMN_FAMILIES =
+      Map.of(
+          ZbColumnFamilies.JOBS, AccessPattern.POINT_LOOKUP,
+          ZbColumnFamilies.JOB_ACTIVATABLE, AccessPattern.RANGE_SCAN,
+          ZbColumnFamilies.TIMERS, AccessPattern.POINT_LOOKUP,
+          ZbColumnFamilies.TIMER_DUE_DATES, AccessPattern.RANGE_SCAN,
+          ZbColumnFamilies.VARIABLES, AccessPattern.POINT_LOOKUP,
+          ZbColumnFamilies.ELEMENT_INSTANCE_KEY, AccessPattern.POINT_LOOKUP,
+          ZbColumnFamilies.ELEMENT_INSTANCE_PARENT_CHILD, AccessPattern.RANGE_SCAN,
+          ZbColumnFamilies.MESSAGE_SUBSCRIPTION_BY_KEY, AccessPattern.POINT_LOOKUP,
+          ZbColumnFamilies.MESSAGE_SUBSCRIPTION_BY_CORRELATION_KEY_HASH, AccessPattern.RANGE_SCAN);
+
   private Properties columnFamilyOptions;
   private boolean enableStatistics = RocksDbConfiguration.DEFAULT_STATISTICS_ENABLED;
   private AccessMetricsConfiguration.Kind accessMetrics = AccessMetricsConfiguration.Kind.NONE;
@@ -28,6 +50,10 @@ public final class RocksdbCfg implements ConfigurationEntry {
   private int ioRateBytesPerSecond = RocksDbConfiguration.DEFAULT_IO_RATE_BYTES_PER_SECOND;
   private boolean disableWal = RocksDbConfiguration.DEFAULT_WAL_DISABLED;
   private boolean enableSstPartitioning = RocksDbConfiguration.DEFAULT_SST_PARTITIONING_ENABLED;
+  private boolean enableDedicatedColumnFamilies = false;
+  private Map<ZbColumnFamilies, AccessPattern> dedicatedColumnFamilies =
+      new EnumMap<>(ZbColumnFamilies.class);
+  private int transactionReadCacheSize = RocksDbConfiguration.DEFAULT_TRANSACTION_READ_CACHE_SIZE;
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -121,6 +147,31 @@ public final class RocksdbCfg implements ConfigurationEntry {
     this.enableSstPartitioning = enableSstPartitioning;
   }
 
+  public boolean isEnableDedicatedColumnFamilies() {
+    return enableDedicatedColumnFamilies;
+  }
+
+  public void setEnableDedicatedColumnFamilies(final boolean enableDedicatedColumnFamilies) {
+    this.enableDedicatedColumnFamilies = enableDedicatedColumnFamilies;
+  }
+
+  public Map<ZbColumnFamilies, AccessPattern> getDedicatedColumnFamilies() {
+    return dedicatedColumnFamilies;
+  }
+
+  public void setDedicatedColumnFamilies(
+      final Map<ZbColumnFamilies, AccessPattern> dedicatedColumnFamilies) {
+    this.dedicatedColumnFamilies = dedicatedColumnFamilies;
+  }
+
+  public int getTransactionReadCacheSize() {
+    return transactionReadCacheSize;
+  }
+
+  public void setTransactionReadCacheSize(final int transactionReadCacheSize) {
+    this.transactionReadCacheSize = transactionReadCacheSize;
+  }
+
   public AccessMetricsConfiguration.Kind getAccessMetrics() {
     return accessMetrics;
   }
@@ -139,7 +190,23 @@ public final class RocksdbCfg implements ConfigurationEntry {
         .setStatisticsEnabled(enableStatistics)
         .setIoRateBytesPerSecond(ioRateBytesPerSecond)
         .setWalDisabled(disableWal)
-        .setSstPartitioningEnabled(enableSstPartitioning);
+        .setSstPartitioningEnabled(enableSstPartitioning)
+        .setDedicatedColumnFamilies(createDedicatedColumnFamilies())
+        .setTransactionReadCacheSize(transactionReadCacheSize);
+  }
+
+  private List<DedicatedColumnFamily> createDedicatedColumnFamilies() {
+    if (!enableDedicatedColumnFamilies) {
+      return List.of();
+    }
+
+    final var columnFamilies =
+        dedicatedColumnFamilies.isEmpty()
+            ? DEFAULT_DEDICATED_COLUMN_FAMILIES
+            : dedicatedColumnFamilies;
+    return columnFamilies.entrySet().stream()
+        .map(entry -> DedicatedColumnFamily.of(entry.getKey(), entry.getValue()))
+        .toList();
   }
 
   @Override
@@ -165,6 +232,12 @@ public final class RocksdbCfg implements ConfigurationEntry {
         + disableWal
         + ", enableSstPartitioning="
         + enableSstPartitioning
+        + ", enableDedicatedColumnFamilies="
+        + enableDedicatedColumnFamilies
+        + ", dedicatedColumnFamilies="
+        + dedicatedColumnFamilies
+        + ", transactionReadCacheSize="
+        + transactionReadCacheSize
         + '}';
   }
 
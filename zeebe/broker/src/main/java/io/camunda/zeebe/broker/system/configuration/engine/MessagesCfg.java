@@ -15,6 +15,8 @@ public final class MessagesCfg implements ConfigurationEntry {
 
   private int ttlCheckerBatchLimit = EngineConfiguration.DEFAULT_MESSAGES_TTL_CHECKER_BATCH_LIMIT;
   private Duration ttlCheckerInterval = EngineConfiguration.DEFAULT_MESSAGES_TTL_CHECKER_INTERVAL;
+  private boolean ttlCheckerBulkExpiry =
+      EngineConfiguration.DEFAULT_MESSAGES_TTL_CHECKER_BULK_EXPIRY;
 
   public int getTtlCheckerBatchLimit() {
     return ttlCheckerBatchLimit;
@@ -32,6 +34,14 @@ public final class MessagesCfg implements ConfigurationEntry {
     this.ttlCheckerInterval = ttlCheckerInterval;
   }
 
+  public boolean isTtlCheckerBulkExpiry() {
+    return ttlCheckerBulkExpiry;
+  }
+
+  public void setTtlCheckerBulkExpiry(final boolean ttlCheckerBulkExpiry) {
+    this.ttlCheckerBulkExpiry = ttlCheckerBulkExpiry;
+  }
+
   @Override
   public String toString() {
     return "MessagesCfg{"
@@ -39,6 +49,8 @@ public final class MessagesCfg implements ConfigurationEntry {
         + ttlCheckerBatchLimit
         + ", ttlCheckerInterval="
         + ttlCheckerInterval
+        + ", ttlCheckerBulkExpiry="
+        + ttlCheckerBulkExpiry
         + '}';
   }
 }
@@ -159,6 +159,13 @@ public final class StreamProcessorTransitionStep implements PartitionTransitionS
         .nodeId(context.getNodeId())
         .commandResponseWriter(context.getCommandApiService().newCommandResponseWriter())
         .maxCommandsInBatch(context.getBrokerCfg().getProcessing().getMaxCommandsInBatch())
+        .replayBatchSize(context.getBrokerCfg().getProcessing().getReplayBatchSize())
+        .enablePipelinedReplay(context.getBrokerCfg().getProcessing().isEnablePipelinedReplay())
+        .enablePipelinedProcessing(
+            context.getBrokerCfg().getProcessing().isEnablePipelinedProcessing())
+        .maxCommandsInCommit(context.getBrokerCfg().getProcessing().getMaxCommandsInCommit())
+        .maxCommitSize(context.getBrokerCfg().getProcessing().getMaxCommitSize().toBytes())
+        .maxCommitDelay(context.getBrokerCfg().getProcessing().getMaxCommitDelay())
         .setEnableAsyncScheduledTasks(
             context.getBrokerCfg().getProcessing().isEnableAsyncScheduledTasks())
         .setScheduledTaskCheckInterval(
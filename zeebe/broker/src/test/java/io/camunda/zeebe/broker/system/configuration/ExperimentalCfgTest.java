@@ -9,6 +9,7 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.snapshots.SnapshotChunkCompression;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
@@ -182,6 +183,190 @@ final class ExperimentalCfgTest {
     assertThat(raftCfg.isPreallocateSegmentFiles()).isTrue();
   }
 
+  @Test
+  void shouldSetPrimitiveJournalIndexFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.primitiveJournalIndex", "false");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.isPrimitiveJournalIndex()).isFalse();
+  }
+
+  @Test
+  void shouldSetPrimitiveJournalIndexFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.isPrimitiveJournalIndex()).isTrue();
+  }
+
+  @Test
+  void shouldSetPersistSegmentIndexFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.persistSegmentIndex", "false");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.isPersistSegmentIndex()).isFalse();
+  }
+
+  @Test
+  void shouldSetPersistSegmentIndexFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.isPersistSegmentIndex()).isTrue();
+  }
+
+  @Test
+  void shouldSetPreparedSegmentsCountFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.preparedSegmentsCount", "4");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.getPreparedSegmentsCount()).isEqualTo(4);
+  }
+
+  @Test
+  void shouldSetPreparedSegmentsCountFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.getPreparedSegmentsCount()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldSetRecycleSegmentsFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.recycleSegments", "false");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.isRecycleSegments()).isFalse();
+  }
+
+  @Test
+  void shouldSetRecycleSegmentsFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.isRecycleSegments()).isTrue();
+  }
+
+  @Test
+  void shouldSetAsyncFollowerFlushFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.asyncFollowerFlush", "false");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.isAsyncFollowerFlush()).isFalse();
+  }
+
+  @Test
+  void shouldSetAsyncFollowerFlushFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.isAsyncFollowerFlush()).isTrue();
+  }
+
+  @Test
+  void shouldSetSnapshotChunkCompressionFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.snapshotChunkCompression", "none");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.getSnapshotChunkCompression()).isEqualTo(SnapshotChunkCompression.NONE);
+  }
+
+  @Test
+  void shouldSetSnapshotChunkCompressionFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.getSnapshotChunkCompression()).isEqualTo(SnapshotChunkCompression.ZSTD);
+  }
+
+  @Test
+  void shouldSetSnapshotChunkPrefetchWindowFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.snapshotChunkPrefetchWindow", "2");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.getSnapshotChunkPrefetchWindow()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldSetSnapshotChunkPrefetchWindowFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.getSnapshotChunkPrefetchWindow()).isEqualTo(4);
+  }
+
+  @Test
+  void shouldSetSnapshotFileReuseFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.snapshotFileReuse", "false");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.isSnapshotFileReuse()).isFalse();
+  }
+
+  @Test
+  void shouldSetSnapshotFileReuseFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.isSnapshotFileReuse()).isTrue();
+  }
+
   @Test
   void shouldHaveDefaultVersionCheckRestriction() {
     // given
@@ -195,4 +195,37 @@ final class FeatureFlagsCfgTest {
     // then
     assertThat(featureFlagsCfg.isEnablePartitionScaling()).isFalse();
   }
+
+  @Test
+  void shouldDisableTimerWheelByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var featureFlagsCfg = cfg.getExperimental().getFeatures();
+
+    // then
+    assertThat(featureFlagsCfg.isEnableTimerWheel()).isFalse();
+  }
+
+  @Test
+  void shouldSetEnableTimerWheelFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("feature-flags-cfg", environment);
+    final var featureFlagsCfg = cfg.getExperimental().getFeatures();
+
+    // then
+    assertThat(featureFlagsCfg.isEnableTimerWheel()).isTrue();
+  }
+
+  @Test
+  void shouldSetEnableTimerWheelFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.features.enableTimerWheel", "false");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("feature-flags-cfg", environment);
+    final var featureFlagsCfg = cfg.getExperimental().getFeatures();
+
+    // then
+    assertThat(featureFlagsCfg.isEnableTimerWheel()).isFalse();
+  }
 }
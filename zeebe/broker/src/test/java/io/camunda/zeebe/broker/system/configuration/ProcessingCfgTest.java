@@ -10,9 +10,12 @@ package io.camunda.zeebe.broker.system.configuration;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.time.Duration;
 import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
 
 final class ProcessingCfgTest {
 
@@ -68,6 +71,90 @@ final class ProcessingCfgTest {
     assertThat(limit).isEqualTo(75);
   }
 
+  @Test
+  void shouldReplayOneBatchPerTransactionByDefault() {
+    // given
+    final var cfg = new ProcessingCfg();
+
+    // then
+    assertThat(cfg.getReplayBatchSize()).isEqualTo(1);
+    assertThat(cfg.isEnablePipelinedReplay()).isFalse();
+  }
+
+  @Test
+  void shouldSetReplaySettingsFromEnvironment() {
+    // given
+    final var environment =
+        Map.of(
+            "zeebe.broker.processing.replayBatchSize", "500",
+            "zeebe.broker.processing.enablePipelinedReplay", "true");
+    final var cfg = TestConfigReader.readConfig("processing-cfg", environment).getProcessing();
+
+    // then
+    assertThat(cfg.getReplayBatchSize()).isEqualTo(500);
+    assertThat(cfg.isEnablePipelinedReplay()).isTrue();
+  }
+
+  @Test
+  void shouldNotPipelineProcessingByDefault() {
+    // given
+    final var cfg = new ProcessingCfg();
+
+    // then
+    assertThat(cfg.isEnablePipelinedProcessing()).isFalse();
+  }
+
+  @Test
+  void shouldEnablePipelinedProcessingFromEnvironment() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.enablePipelinedProcessing", "true");
+    final var cfg = TestConfigReader.readConfig("processing-cfg", environment).getProcessing();
+
+    // then
+    assertThat(cfg.isEnablePipelinedProcessing()).isTrue();
+  }
+
+  @Test
+  void shouldSetCommitBoundsFromEnvironment() {
+    // given
+    final var environment =
+        Map.of(
+            "zeebe.broker.processing.maxCommandsInCommit", "64",
+            "zeebe.broker.processing.maxCommitSize", "8MB",
+            "zeebe.broker.processing.maxCommitDelay", "5ms");
+    final var cfg = TestConfigReader.readConfig("processing-cfg", environment).getProcessing();
+
+    // then
+    assertThat(cfg.getMaxCommandsInCommit()).isEqualTo(64);
+    assertThat(cfg.getMaxCommitSize()).isEqualTo(DataSize.ofMegabytes(8));
+    assertThat(cfg.getMaxCommitDelay()).isEqualTo(Duration.ofMillis(5));
+  }
+
+  @Test
+  void shouldRejectInvalidMaxCommandsInCommit() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.maxCommandsInCommit", "0");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("processing-cfg", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("maxCommandsInCommit must be >= 1");
+  }
+
+  @Test
+  void shouldRejectInvalidReplayBatchSize() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.replayBatchSize", "0");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("processing-cfg", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("replayBatchSize must be >= 1");
+  }
+
   @Test
   void shouldRejectInvalidMaxCommandsInBatch() {
     // given
@@ -9,6 +9,9 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.db.impl.rocksdb.DedicatedColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.DedicatedColumnFamily.AccessPattern;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.Test;
@@ -285,4 +288,74 @@ public final class RocksdbCfgTest {
     // then
     assertThat(rocksdb.isDisableWal()).isTrue();
   }
+
+  @Test
+  public void shouldNotDedicateColumnFamiliesByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var rocksDbConfiguration =
+        cfg.getExperimental().getRocksdb().createRocksDbConfiguration();
+
+    // then
+    assertThat(rocksDbConfiguration.getDedicatedColumnFamilies()).isEmpty();
+  }
+
+  @Test
+  public void shouldDedicateDefaultColumnFamiliesWhenEnabled() {
+    // given
+    environment.put("zeebe.broker.experimental.rocksdb.enableDedicatedColumnFamilies", "true");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var rocksDbConfiguration =
+        cfg.getExperimental().getRocksdb().createRocksDbConfiguration();
+
+    // then
+    assertThat(rocksDbConfiguration.getDedicatedColumnFamilies())
+        .hasSize(RocksdbCfg.DEFAULT_DEDICATED_COLUMN_FAMILIES.size())
+        .contains(DedicatedColumnFamily.of(ZbColumnFamilies.JOBS, AccessPattern.POINT_LOOKUP));
+  }
+
+  @Test
+  public void shouldDedicateConfiguredColumnFamilies() {
+    // given
+    environment.put("zeebe.broker.experimental.rocksdb.enableDedicatedColumnFamilies", "true");
+    environment.put(
+        "zeebe.broker.experimental.rocksdb.dedicatedColumnFamilies.TIMER_DUE_DATES", "RANGE_SCAN");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var rocksDbConfiguration =
+        cfg.getExperimental().getRocksdb().createRocksDbConfiguration();
+
+    // then
+    assertThat(rocksDbConfiguration.getDedicatedColumnFamilies())
+        .containsExactly(
+            DedicatedColumnFamily.of(ZbColumnFamilies.TIMER_DUE_DATES, AccessPattern.RANGE_SCAN));
+  }
+
+  @Test
+  public void shouldDisableTransactionReadCacheByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var rocksDbConfiguration =
+        cfg.getExperimental().getRocksdb().createRocksDbConfiguration();
+
+    // then
+    assertThat(rocksDbConfiguration.getTransactionReadCacheSize()).isZero();
+  }
+
+  @Test
+  public void shouldSetTransactionReadCacheSizeFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.rocksdb.transactionReadCacheSize", "256");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var rocksDbConfiguration =
+        cfg.getExperimental().getRocksdb().createRocksDbConfiguration();
+
+    // then
+    assertThat(rocksDbConfiguration.getTransactionReadCacheSize()).isEqualTo(256);
+  }
 }
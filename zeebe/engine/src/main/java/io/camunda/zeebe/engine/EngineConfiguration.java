@@ -13,6 +13,7 @@ public final class EngineConfiguration {
 
   public static final int DEFAULT_MESSAGES_TTL_CHECKER_BATCH_LIMIT = Integer.MAX_VALUE;
   public static final Duration DEFAULT_MESSAGES_TTL_CHECKER_INTERVAL = Duration.ofMinutes(1);
+  public static final boolean DEFAULT_MESSAGES_TTL_CHECKER_BULK_EXPIRY = false;
 
   public static final int DEFAULT_MAX_ERROR_MESSAGE_SIZE = 10000;
 
@@ -23,6 +24,7 @@ public final class EngineConfiguration {
   public static final int DEFAULT_DRG_CACHE_CAPACITY = 1000;
   public static final int DEFAULT_FORM_CACHE_CAPACITY = 1000;
   public static final int DEFAULT_PROCESS_CACHE_CAPACITY = 1000;
+  public static final int DEFAULT_ELEMENT_INSTANCE_CACHE_CAPACITY = 1000;
   public static final Duration DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL = Duration.ofSeconds(1);
   public static final int DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT = Integer.MAX_VALUE;
   public static final int DEFAULT_VALIDATORS_RESULTS_OUTPUT_MAX_SIZE = 12 * 1024;
@@ -32,10 +34,12 @@ public final class EngineConfiguration {
 
   private int messagesTtlCheckerBatchLimit = DEFAULT_MESSAGES_TTL_CHECKER_BATCH_LIMIT;
   private Duration messagesTtlCheckerInterval = DEFAULT_MESSAGES_TTL_CHECKER_INTERVAL;
+  private boolean messagesTtlCheckerBulkExpiry = DEFAULT_MESSAGES_TTL_CHECKER_BULK_EXPIRY;
   private int drgCacheCapacity = DEFAULT_DRG_CACHE_CAPACITY;
   private int formCacheCapacity = DEFAULT_FORM_CACHE_CAPACITY;
   private int resourceCacheCapacity = DEFAULT_FORM_CACHE_CAPACITY;
   private int processCacheCapacity = DEFAULT_FORM_CACHE_CAPACITY;
+  private int elementInstanceCacheCapacity = DEFAULT_ELEMENT_INSTANCE_CACHE_CAPACITY;
 
   private Duration jobsTimeoutCheckerPollingInterval = DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL;
   private int jobsTimeoutCheckerBatchLimit = DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT;
@@ -66,6 +70,16 @@ public final class EngineConfiguration {
     return this;
   }
 
+  public boolean isMessagesTtlCheckerBulkExpiry() {
+    return messagesTtlCheckerBulkExpiry;
+  }
+
+  public EngineConfiguration setMessagesTtlCheckerBulkExpiry(
+      final boolean messagesTtlCheckerBulkExpiry) {
+    this.messagesTtlCheckerBulkExpiry = messagesTtlCheckerBulkExpiry;
+    return this;
+  }
+
   public int getDrgCacheCapacity() {
     return drgCacheCapacity;
   }
@@ -102,6 +116,16 @@ public final class EngineConfiguration {
     return this;
   }
 
+  public int getElementInstanceCacheCapacity() {
+    return elementInstanceCacheCapacity;
+  }
+
+  public EngineConfiguration setElementInstanceCacheCapacity(
+      final int elementInstanceCacheCapacity) {
+    this.elementInstanceCacheCapacity = elementInstanceCacheCapacity;
+    return this;
+  }
+
   public Duration getJobsTimeoutCheckerPollingInterval() {
     return jobsTimeoutCheckerPollingInterval;
   }
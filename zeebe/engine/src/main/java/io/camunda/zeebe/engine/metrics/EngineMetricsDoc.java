@@ -8,9 +8,12 @@
 package io.camunda.zeebe.engine.metrics;
 
 import io.camunda.zeebe.util.micrometer.ExtendedMeterDocumentation;
+import io.camunda.zeebe.util.micrometer.MicrometerUtil;
 import io.camunda.zeebe.util.micrometer.MicrometerUtil.PartitionKeyNames;
 import io.micrometer.common.docs.KeyName;
 import io.micrometer.core.instrument.Meter.Type;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
 
 /** {@link EngineMetricsDoc} documents all workflow engine specific metrics. */
 @SuppressWarnings("NullableProblems")
@@ -187,6 +190,58 @@ public enum EngineMetricsDoc implements ExtendedMeterDocumentation {
     }
   },
 
+  /** Number of expired messages */
+  EXPIRED_MESSAGES {
+    @Override
+    public String getDescription() {
+      return "Number of messages expired after their time to live; its rate is the number of"
+          + " messages expired per second";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.messages.expired.total";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  },
+
+  /** Number of element instance lookups served by or missing in the element instance cache */
+  ELEMENT_INSTANCE_CACHE_LOOKUPS {
+    @Override
+    public String getDescription() {
+      return "Number of element instance lookups, by whether the decoded instance was cached";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.element.instance.cache.lookups.total";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {EngineKeyNames.CACHE_RESULT};
+    }
+
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  },
+
   /** Number of incident events */
   INCIDENT_EVENTS {
     @Override
@@ -260,6 +315,60 @@ public enum EngineMetricsDoc implements ExtendedMeterDocumentation {
       return new KeyName[] {EngineKeyNames.JOB_ACTION};
     }
 
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  },
+
+  /** Time between the due date of a timer and the moment its trigger command was written */
+  TIMER_TRIGGER_LAG {
+    private static final Duration[] BUCKETS =
+        MicrometerUtil.exponentialBucketDuration(10, 2, 14, ChronoUnit.MILLIS);
+
+    @Override
+    public String getDescription() {
+      return "Time between the due date of a timer and the moment its trigger command was written";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.timer.trigger.lag";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.TIMER;
+    }
+
+    @Override
+    public Duration[] getTimerSLOs() {
+      return BUCKETS;
+    }
+
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  },
+
+  /** Current number of timers held in the in-memory timer wheel */
+  TIMER_WHEEL_SIZE {
+    @Override
+    public String getDescription() {
+      return "Current number of timers held in the in-memory timer wheel";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.timer.wheel.size";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.GAUGE;
+    }
+
     @Override
     public KeyName[] getAdditionalKeyNames() {
       return PartitionKeyNames.values();
@@ -330,6 +439,14 @@ public enum EngineMetricsDoc implements ExtendedMeterDocumentation {
       }
     },
 
+    /** Whether a cache lookup was a hit or a miss; see {@link CacheResult} for possible values. */
+    CACHE_RESULT {
+      @Override
+      public String asString() {
+        return "result";
+      }
+    },
+
     /** The type of the job that triggered the job event */
     JOB_TYPE {
       @Override
@@ -402,6 +519,16 @@ public enum EngineMetricsDoc implements ExtendedMeterDocumentation {
     }
   }
 
+  public enum CacheResult {
+    HIT,
+    MISS;
+
+    @Override
+    public String toString() {
+      return name().toLowerCase();
+    }
+  }
+
   public enum JobAction {
     CREATED("created"),
     ACTIVATED("activated"),
@@ -0,0 +1,28 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import static io.camunda.zeebe.engine.metrics.EngineMetricsDoc.EXPIRED_MESSAGES;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+public final class MessageExpiryMetrics {
+  private final Counter expiredMessages;
+
+  public MessageExpiryMetrics(final MeterRegistry meterRegistry) {
+    expiredMessages =
+        Counter.builder(EXPIRED_MESSAGES.getName())
+            .description(EXPIRED_MESSAGES.getDescription())
+            .register(meterRegistry);
+  }
+
+  public void messagesExpired(final int count) {
+    expiredMessages.increment(count);
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import static io.camunda.zeebe.engine.metrics.EngineMetricsDoc.TIMER_TRIGGER_LAG;
+import static io.camunda.zeebe.engine.metrics.EngineMetricsDoc.TIMER_WHEEL_SIZE;
+
+import io.camunda.zeebe.util.micrometer.MicrometerUtil;
+import io.camunda.zeebe.util.micrometer.StatefulGauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+
+public final class TimerMetrics {
+  private final Timer triggerLag;
+  private final StatefulGauge wheelSize;
+
+  public TimerMetrics(final MeterRegistry meterRegistry) {
+    triggerLag = MicrometerUtil.buildTimer(TIMER_TRIGGER_LAG).register(meterRegistry);
+    wheelSize =
+        StatefulGauge.builder(TIMER_WHEEL_SIZE.getName())
+            .description(TIMER_WHEEL_SIZE.getDescription())
+            .register(meterRegistry);
+  }
+
+  /**
+   * Records how late a timer was triggered, i.e. the time between its due date and the moment its
+   * trigger command was written.
+   */
+  public void timerTriggered(final long dueDate, final long now) {
+    triggerLag.record(Math.max(0, now - dueDate), TimeUnit.MILLISECONDS);
+  }
+
+  public void setWheelSize(final int size) {
+    wheelSize.set(size);
+  }
+}
@@ -72,6 +72,7 @@ import io.camunda.zeebe.protocol.record.intent.UserTaskIntent;
 import io.camunda.zeebe.stream.api.InterPartitionCommandSender;
 import io.camunda.zeebe.stream.api.state.KeyGenerator;
 import io.camunda.zeebe.util.FeatureFlags;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.InstantSource;
 import java.util.function.Supplier;
 
@@ -106,7 +107,10 @@ public final class EngineProcessors {
 
     final DueDateTimerChecker timerChecker =
         new DueDateTimerChecker(
-            scheduledTaskStateFactory.get().getTimerState(), featureFlags, clock);
+            scheduledTaskStateFactory.get().getTimerState(),
+            featureFlags,
+            clock,
+            typedRecordProcessorContext.getMeterRegistry());
 
     final var jobMetrics = new JobProcessingMetrics(typedRecordProcessorContext.getMeterRegistry());
     final var processEngineMetrics =
@@ -169,7 +173,8 @@ public final class EngineProcessors {
         featureFlags,
         commandDistributionBehavior,
         clock,
-        authCheckBehavior);
+        authCheckBehavior,
+        typedRecordProcessorContext.getMeterRegistry());
 
     final TypedRecordProcessor<ProcessInstanceRecord> bpmnStreamProcessor =
         addProcessProcessors(
@@ -474,7 +479,8 @@ public final class EngineProcessors {
       final FeatureFlags featureFlags,
       final CommandDistributionBehavior commandDistributionBehavior,
       final InstantSource clock,
-      final AuthorizationCheckBehavior authCheckBehavior) {
+      final AuthorizationCheckBehavior authCheckBehavior,
+      final MeterRegistry meterRegistry) {
     MessageEventProcessors.addMessageProcessors(
         bpmnBehaviors,
         typedRecordProcessors,
@@ -486,7 +492,8 @@ public final class EngineProcessors {
         featureFlags,
         commandDistributionBehavior,
         clock,
-        authCheckBehavior);
+        authCheckBehavior,
+        meterRegistry);
   }
 
   private static void addDecisionProcessors(
@@ -37,6 +37,7 @@ import org.agrona.DirectBuffer;
 import org.agrona.collections.MutableInteger;
 import org.agrona.collections.MutableReference;
 import org.agrona.collections.ObjectHashSet;
+import org.agrona.concurrent.UnsafeBuffer;
 
 /**
  * Collects jobs to be activated as part of a {@link JobBatchRecord}. Activate-able jobs are read
@@ -44,6 +45,15 @@ import org.agrona.collections.ObjectHashSet;
  * and added to the given batch record.
  */
 final class JobBatchCollector {
+  /** The maximum length of a job key in the batch record, i.e. a MessagePack encoded int64. */
+  private static final int MAX_JOB_KEY_LENGTH = Long.BYTES + 1;
+
+  /**
+   * The maximum growth of the headers of the jobs and job keys arrays, as MessagePack array headers
+   * grow from 1 to at most 5 bytes with the number of elements.
+   */
+  private static final int MAX_ARRAY_HEADERS_GROWTH = 2 * Integer.BYTES;
+
   private final ObjectHashSet<DirectBuffer> variableNames = new ObjectHashSet<>();
 
   private final JobState jobState;
@@ -87,6 +97,8 @@ final class JobBatchCollector {
     final Collection<DirectBuffer> requestedVariables = collectVariableNames(value);
     final var maxActivatedCount = value.getMaxJobsToActivate();
     final var activatedCount = new MutableInteger(0);
+    // keep track of the record's length as jobs are added, instead of recomputing it for every job
+    final var recordLength = new MutableInteger(record.getLength());
     final var unwritableJob = new MutableReference<TooLargeJob>();
     final var tenantIds =
         value.getTenantIds().isEmpty()
@@ -100,6 +112,7 @@ final class JobBatchCollector {
                 AuthorizationResourceType.PROCESS_DEFINITION,
                 PermissionType.UPDATE_PROCESS_INSTANCE));
 
+    jobVariablesCollector.clearMemoizedVariables();
     jobState.forEachActivatableJobs(
         value.getTypeBuffer(),
         tenantIds,
@@ -113,19 +126,23 @@ final class JobBatchCollector {
           // adding it to the batch
           final var deadline = record.getTimestamp() + value.getTimeout();
           jobRecord.setDeadline(deadline).setWorker(value.getWorkerBuffer());
-          jobVariablesCollector.setJobVariables(requestedVariables, jobRecord);
+          jobVariablesCollector.setJobVariablesMemoized(requestedVariables, jobRecord);
 
           // the expected length is based on the current record's length plus the length of the job
           // record we would add to the batch, the number of bytes taken by the additional job key,
           // as well as an 8 KB buffer.
           final var jobRecordLength = jobRecord.getLength();
           final var expectedEventLength =
-              record.getLength()
+              recordLength.value
                   + jobRecordLength
                   + EngineConfiguration.BATCH_SIZE_CALCULATION_BUFFER;
           if (activatedCount.value <= maxActivatedCount
               && canWriteEventOfLength.test(expectedEventLength)) {
-            appendJobToBatch(jobIterator, jobKeyIterator, key, jobRecord);
+            appendJobToBatch(jobIterator, jobKeyIterator, key, jobRecord, jobRecordLength);
+            recordLength.addAndGet(
+                jobRecordLength
+                    + MAX_JOB_KEY_LENGTH
+                    + (activatedCount.value == 0 ? MAX_ARRAY_HEADERS_GROWTH : 0));
             activatedCount.increment();
 
             // track the count of activated jobs by their JobKind
@@ -145,6 +162,7 @@ final class JobBatchCollector {
           return activatedCount.value < maxActivatedCount;
         });
 
+    jobVariablesCollector.clearMemoizedVariables();
     if (unwritableJob.ref != null) {
       return Either.left(unwritableJob.ref);
     }
@@ -162,9 +180,14 @@ final class JobBatchCollector {
       final ValueArray<JobRecord> jobIterator,
       final ValueArray<LongValue> jobKeyIterator,
       final long key,
-      final JobRecord jobRecord) {
+      final JobRecord jobRecord,
+      final int jobRecordLength) {
     jobKeyIterator.add().setValue(key);
-    jobIterator.add().copyFrom(jobRecord);
+
+    // serialize the job only once, reusing the length we already computed for the size estimate
+    final var jobBuffer = new UnsafeBuffer(new byte[jobRecordLength]);
+    jobRecord.write(jobBuffer, 0);
+    jobIterator.add().wrap(jobBuffer, 0, jobRecordLength);
   }
 
   private Collection<DirectBuffer> collectVariableNames(final JobBatchRecord batchRecord) {
@@ -19,12 +19,14 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.stream.Collectors;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.Long2ObjectHashMap;
 
 public class JobVariablesCollector {
 
   private final VariableState variableState;
   private final UserTaskState userTaskState;
   private final ElementInstanceState elementInstanceState;
+  private final Long2ObjectHashMap<DirectBuffer> memoizedVariables = new Long2ObjectHashMap<>();
 
   public JobVariablesCollector(final ProcessingState processingState) {
     variableState = processingState.getVariableState();
@@ -34,15 +36,39 @@ public class JobVariablesCollector {
 
   public void setJobVariables(
       final Collection<DirectBuffer> requestedVariables, final JobRecord jobRecord) {
+    setJobVariables(requestedVariables, jobRecord, false);
+  }
+
+  /**
+   * Like {@link #setJobVariables(Collection, JobRecord)}, but memoizes the variables resolved for
+   * the ancestor scopes of the job. Jobs which share these scopes, e.g. the jobs of the same
+   * process instance or multi-instance body, then don't need to walk the scope hierarchy again.
+   *
+   * <p>The memoized variables are only valid as long as neither the state nor the requested
+   * variables change, i.e. for the jobs of a single batch. Use {@link #clearMemoizedVariables()} to
+   * reset them before the next batch.
+   */
+  public void setJobVariablesMemoized(
+      final Collection<DirectBuffer> requestedVariables, final JobRecord jobRecord) {
+    setJobVariables(requestedVariables, jobRecord, true);
+  }
+
+  public void clearMemoizedVariables() {
+    memoizedVariables.clear();
+  }
+
+  private void setJobVariables(
+      final Collection<DirectBuffer> requestedVariables,
+      final JobRecord jobRecord,
+      final boolean memoize) {
     final long elementInstanceKey = jobRecord.getElementInstanceKey();
     final DirectBuffer processVariables;
     if (elementInstanceKey < 0) {
       processVariables = DocumentValue.EMPTY_DOCUMENT;
-    } else if (requestedVariables.isEmpty()) {
-      processVariables = variableState.getVariablesAsDocument(elementInstanceKey);
+    } else if (memoize) {
+      processVariables = getMemoizedVariables(requestedVariables, elementInstanceKey);
     } else {
-      processVariables =
-          variableState.getVariablesAsDocument(elementInstanceKey, requestedVariables);
+      processVariables = getVariables(requestedVariables, elementInstanceKey);
     }
 
     final DirectBuffer jobVariables =
@@ -62,6 +88,41 @@ public class JobVariablesCollector {
     jobRecord.setVariables(jobVariables);
   }
 
+  private DirectBuffer getVariables(
+      final Collection<DirectBuffer> requestedVariables, final long scopeKey) {
+    if (requestedVariables.isEmpty()) {
+      return variableState.getVariablesAsDocument(scopeKey);
+    }
+    return variableState.getVariablesAsDocument(scopeKey, requestedVariables);
+  }
+
+  private DirectBuffer getMemoizedVariables(
+      final Collection<DirectBuffer> requestedVariables, final long elementInstanceKey) {
+    // skip the scopes without variables, they resolve to the same variables as their parent
+    long scopeKey = elementInstanceKey;
+    while (!variableState.hasVariablesLocal(scopeKey)) {
+      final long parentScopeKey = variableState.getParentScopeKey(scopeKey);
+      if (parentScopeKey < 0) {
+        break;
+      }
+      scopeKey = parentScopeKey;
+    }
+
+    if (scopeKey == elementInstanceKey) {
+      // the variables of the job's own scope are not shared with other jobs
+      return getVariables(requestedVariables, scopeKey);
+    }
+
+    final var memoized = memoizedVariables.get(scopeKey);
+    if (memoized != null) {
+      return memoized;
+    }
+
+    final var variables = BufferUtil.cloneBuffer(getVariables(requestedVariables, scopeKey));
+    memoizedVariables.put(scopeKey, variables);
+    return variables;
+  }
+
   private Map<String, Object> getTaskVariables(
       final Collection<DirectBuffer> requestedVariables, final long elementInstanceKey) {
     final var elementInstance = elementInstanceState.getInstance(elementInstanceKey);
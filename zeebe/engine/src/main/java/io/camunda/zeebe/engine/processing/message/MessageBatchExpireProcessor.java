@@ -9,31 +9,78 @@ package io.camunda.zeebe.engine.processing.message;
 
 import static io.camunda.zeebe.protocol.record.intent.MessageIntent.*;
 
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.metrics.MessageExpiryMetrics;
 import io.camunda.zeebe.engine.processing.ExcludeAuthorizationCheck;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessor;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedCommandWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
+import io.camunda.zeebe.engine.state.immutable.MessageState;
 import io.camunda.zeebe.protocol.impl.record.value.message.MessageBatchRecord;
 import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
+import io.camunda.zeebe.protocol.record.intent.MessageBatchIntent;
 import io.camunda.zeebe.stream.api.records.ExceededBatchRecordSizeException;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
+import java.time.InstantSource;
+import org.agrona.collections.MutableInteger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Expires the messages of a {@link MessageBatchIntent#EXPIRE} command.
+ *
+ * <p>If the command lists message keys, each of these messages is expired with its own {@link
+ * io.camunda.zeebe.protocol.record.intent.MessageIntent#EXPIRED} event.
+ *
+ * <p>Otherwise, the command is a bulk expiry: all messages past their deadline are expired in
+ * deadline order, up to the batch limit, with a single {@link MessageBatchIntent#EXPIRED} event. As
+ * these messages form a contiguous range of deadlines, their deadlines are removed as a single
+ * range. If more messages are past their deadline, another bulk expiry command is written to
+ * continue where this one stopped.
+ */
 @ExcludeAuthorizationCheck
 public final class MessageBatchExpireProcessor implements TypedRecordProcessor<MessageBatchRecord> {
 
   private static final Logger LOG = LoggerFactory.getLogger(MessageBatchExpireProcessor.class);
+
+  /** The maximum number of bytes a message key adds to the record, i.e. a msgpack int64. */
+  private static final int MAX_MESSAGE_KEY_LENGTH = 9;
+
+  /** The maximum number of bytes the array header grows by when adding the first keys. */
+  private static final int MAX_ARRAY_HEADER_GROWTH = 5;
+
   private final StateWriter stateWriter;
+  private final TypedCommandWriter commandWriter;
+  private final MessageState messageState;
+  private final InstantSource clock;
+  private final int batchLimit;
+  private final MessageExpiryMetrics metrics;
 
   private final MessageRecord emptyDeleteMessageCommand =
       new MessageRecord().setName("").setCorrelationKey("").setTimeToLive(-1L);
+  private final MessageBatchRecord expiredMessages = new MessageBatchRecord();
 
-  public MessageBatchExpireProcessor(final StateWriter stateWriter) {
-    this.stateWriter = stateWriter;
+  public MessageBatchExpireProcessor(
+      final Writers writers,
+      final MessageState messageState,
+      final InstantSource clock,
+      final int batchLimit,
+      final MessageExpiryMetrics metrics) {
+    stateWriter = writers.state();
+    commandWriter = writers.command();
+    this.messageState = messageState;
+    this.clock = clock;
+    this.batchLimit = batchLimit;
+    this.metrics = metrics;
   }
 
   @Override
   public void processRecord(final TypedRecord<MessageBatchRecord> record) {
+    if (record.getValue().isEmpty()) {
+      expireInBulk(record);
+      return;
+    }
 
     int expiredMessagesCount = 0;
     final int totalMessagesCount = record.getValue().getMessageKeys().size();
@@ -50,5 +97,44 @@ public final class MessageBatchExpireProcessor implements TypedRecordProcessor<M
         break;
       }
     }
+    metrics.messagesExpired(expiredMessagesCount);
+  }
+
+  private void expireInBulk(final TypedRecord<MessageBatchRecord> record) {
+    expiredMessages.reset();
+    final var expiredCount = new MutableInteger(0);
+    final var recordLength =
+        new MutableInteger(expiredMessages.getLength() + MAX_ARRAY_HEADER_GROWTH);
+
+    final boolean hasMoreExpiredMessages =
+        messageState.visitMessagesWithDeadlineBeforeTimestamp(
+            clock.millis(),
+            null,
+            (deadline, messageKey) -> {
+              final int expectedEventLength =
+                  recordLength.value
+                      + MAX_MESSAGE_KEY_LENGTH
+                      + EngineConfiguration.BATCH_SIZE_CALCULATION_BUFFER;
+              if (expiredCount.value >= batchLimit
+                  || !stateWriter.canWriteEventOfLength(expectedEventLength)) {
+                return false;
+              }
+
+              expiredMessages.addMessageKey(messageKey);
+              recordLength.addAndGet(MAX_MESSAGE_KEY_LENGTH);
+              expiredCount.increment();
+              return true;
+            });
+
+    if (expiredMessages.isEmpty()) {
+      return;
+    }
+
+    stateWriter.appendFollowUpEvent(record.getKey(), MessageBatchIntent.EXPIRED, expiredMessages);
+    metrics.messagesExpired(expiredCount.value);
+
+    if (hasMoreExpiredMessages) {
+      commandWriter.appendNewCommand(MessageBatchIntent.EXPIRE, new MessageBatchRecord());
+    }
   }
 }
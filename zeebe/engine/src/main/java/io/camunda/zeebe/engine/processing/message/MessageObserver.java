@@ -27,6 +27,7 @@ public final class MessageObserver implements StreamProcessorLifecycleAware {
   private final int messagesTtlCheckerBatchLimit;
   private final Duration messagesTtlCheckerInterval;
   private final boolean enableMessageTtlCheckerAsync;
+  private final boolean messagesTtlCheckerBulkExpiry;
   private final InstantSource clock;
 
   public MessageObserver(
@@ -36,6 +37,7 @@ public final class MessageObserver implements StreamProcessorLifecycleAware {
       final Duration messagesTtlCheckerInterval,
       final int messagesTtlCheckerBatchLimit,
       final boolean enableMessageTtlCheckerAsync,
+      final boolean messagesTtlCheckerBulkExpiry,
       final InstantSource clock) {
     this.subscriptionCommandSender = subscriptionCommandSender;
     this.scheduledTaskStateFactory = scheduledTaskStateFactory;
@@ -43,6 +45,7 @@ public final class MessageObserver implements StreamProcessorLifecycleAware {
     this.messagesTtlCheckerInterval = messagesTtlCheckerInterval;
     this.messagesTtlCheckerBatchLimit = messagesTtlCheckerBatchLimit;
     this.enableMessageTtlCheckerAsync = enableMessageTtlCheckerAsync;
+    this.messagesTtlCheckerBulkExpiry = messagesTtlCheckerBulkExpiry;
     this.clock = clock;
   }
 
@@ -61,6 +64,7 @@ public final class MessageObserver implements StreamProcessorLifecycleAware {
             messagesTtlCheckerInterval,
             messagesTtlCheckerBatchLimit,
             enableMessageTtlCheckerAsync,
+            messagesTtlCheckerBulkExpiry,
             scheduleService,
             messageState,
             context.getClock());
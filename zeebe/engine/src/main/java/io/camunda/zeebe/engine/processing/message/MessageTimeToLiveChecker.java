@@ -30,6 +30,10 @@ import org.agrona.collections.MutableInteger;
  * #executionInterval interval}. If it reschedules itself immediately, then it will continue where
  * it left off the last time. Otherwise, it starts with the first expired message deadline it can
  * find.
+ *
+ * <p>With {@link #bulkExpiry}, it doesn't collect the expired messages itself. Instead, it writes a
+ * single EXPIRE Message Batch command without message keys if any message is expired, which the
+ * {@link MessageBatchExpireProcessor} processes as a bulk expiry of all expired messages.
  */
 public final class MessageTimeToLiveChecker implements Task {
 
@@ -42,6 +46,9 @@ public final class MessageTimeToLiveChecker implements Task {
   /** This determines whether to run this checker async or not. */
   private final boolean enableMessageTtlCheckerAsync;
 
+  /** This determines whether expired messages are expired in bulk, instead of by their keys. */
+  private final boolean bulkExpiry;
+
   private final ProcessingScheduleService scheduleService;
   private final MessageState messageState;
 
@@ -57,12 +64,14 @@ public final class MessageTimeToLiveChecker implements Task {
       final Duration executionInterval,
       final int batchLimit,
       final boolean enableMessageTtlCheckerAsync,
+      final boolean bulkExpiry,
       final ProcessingScheduleService scheduleService,
       final MessageState messageState,
       final InstantSource clock) {
     this.executionInterval = executionInterval;
     this.batchLimit = batchLimit;
     this.enableMessageTtlCheckerAsync = enableMessageTtlCheckerAsync;
+    this.bulkExpiry = bulkExpiry;
     this.messageState = messageState;
     this.scheduleService = scheduleService;
     this.clock = clock;
@@ -71,6 +80,10 @@ public final class MessageTimeToLiveChecker implements Task {
 
   @Override
   public TaskResult execute(final TaskResultBuilder taskResultBuilder) {
+    if (bulkExpiry) {
+      return expireInBulk(taskResultBuilder);
+    }
+
     if (currentTimestamp == -1) {
       currentTimestamp = clock.millis();
     }
@@ -110,6 +123,20 @@ public final class MessageTimeToLiveChecker implements Task {
     return taskResultBuilder.build();
   }
 
+  private TaskResult expireInBulk(final TaskResultBuilder taskResultBuilder) {
+    // the processing of the command continues by itself while there are expired messages, so
+    // there is no need to look beyond the first one
+    final boolean hasExpiredMessages =
+        messageState.visitMessagesWithDeadlineBeforeTimestamp(
+            clock.millis(), null, (deadline, expiredMessageKey) -> false);
+    if (hasExpiredMessages) {
+      taskResultBuilder.appendCommandRecord(MessageBatchIntent.EXPIRE, new MessageBatchRecord());
+    }
+
+    reschedule(executionInterval);
+    return taskResultBuilder.build();
+  }
+
   private void reschedule(final Duration idleInterval) {
     final var timestamp = clock.millis() + idleInterval.toMillis();
     if (enableMessageTtlCheckerAsync) {
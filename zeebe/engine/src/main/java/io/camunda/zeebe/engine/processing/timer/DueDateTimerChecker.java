@@ -7,8 +7,11 @@
  */
 package io.camunda.zeebe.engine.processing.timer;
 
+import io.camunda.zeebe.engine.metrics.TimerMetrics;
 import io.camunda.zeebe.engine.processing.scheduled.DueDateChecker;
+import io.camunda.zeebe.engine.processing.timer.DueDateTimerWheel.TimerReference;
 import io.camunda.zeebe.engine.state.immutable.TimerInstanceState;
+import io.camunda.zeebe.engine.state.immutable.TimerInstanceState.DueTimerVisitor;
 import io.camunda.zeebe.engine.state.immutable.TimerInstanceState.TimerVisitor;
 import io.camunda.zeebe.engine.state.instance.TimerInstance;
 import io.camunda.zeebe.protocol.impl.record.value.timer.TimerRecord;
@@ -17,35 +20,63 @@ import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
 import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
 import io.camunda.zeebe.stream.api.scheduling.TaskResultBuilder;
 import io.camunda.zeebe.util.FeatureFlags;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
 import java.time.InstantSource;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Function;
+import org.agrona.concurrent.ManyToOneConcurrentLinkedQueue;
 
 public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
 
   private static final long TIMER_RESOLUTION = Duration.ofMillis(100).toMillis();
   private static final double GIVE_YIELD_FACTOR = 0.5;
   private final DueDateChecker dueDateChecker;
+  private final TriggerTimersFromWheelSideEffect wheelSideEffect;
 
   public DueDateTimerChecker(
       final TimerInstanceState timerInstanceState,
       final FeatureFlags featureFlags,
-      final InstantSource clock) {
+      final InstantSource clock,
+      final MeterRegistry meterRegistry) {
+    final Function<TaskResultBuilder, Long> triggerTimersSideEffect;
+    if (featureFlags.enableTimerWheel()) {
+      wheelSideEffect =
+          new TriggerTimersFromWheelSideEffect(
+              timerInstanceState,
+              clock,
+              featureFlags.yieldingDueDateChecker(),
+              new TimerMetrics(meterRegistry));
+      triggerTimersSideEffect = wheelSideEffect;
+    } else {
+      wheelSideEffect = null;
+      triggerTimersSideEffect =
+          new TriggerTimersSideEffect(
+              timerInstanceState, clock, featureFlags.yieldingDueDateChecker());
+    }
+
     dueDateChecker =
         new DueDateChecker(
             TIMER_RESOLUTION,
             featureFlags.enableTimerDueDateCheckerAsync(),
-            new TriggerTimersSideEffect(
-                timerInstanceState, clock, featureFlags.yieldingDueDateChecker()),
+            triggerTimersSideEffect,
             clock);
   }
 
-  public void scheduleTimer(final long dueDate) {
+  public void scheduleTimer(
+      final long timerKey, final long elementInstanceKey, final long dueDate) {
+    if (wheelSideEffect != null) {
+      wheelSideEffect.addTimer(timerKey, elementInstanceKey, dueDate);
+    }
     dueDateChecker.schedule(dueDate);
   }
 
   @Override
   public void onRecovered(final ReadonlyStreamProcessorContext context) {
+    if (wheelSideEffect != null) {
+      wheelSideEffect.reload();
+    }
     dueDateChecker.onRecovered(context);
   }
 
@@ -105,6 +136,163 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
     }
   }
 
+  /**
+   * Finds the due timers in a {@link DueDateTimerWheel} rather than by scanning the state. The
+   * wheel is loaded from the state lazily, i.e. on the first execution after recovery, and then
+   * refilled from the state as time passes. Timers which are created in the meantime are added
+   * through {@link #addTimer(long, long, long)}.
+   */
+  protected static final class TriggerTimersFromWheelSideEffect
+      implements Function<TaskResultBuilder, Long> {
+
+    /** The maximum number of timers which are loaded from the state at once. */
+    static final int WHEEL_CAPACITY = 100_000;
+
+    /**
+     * Delay after which a triggered timer is triggered again, if it still exists by then, e.g.
+     * because the trigger command was rejected or not yet processed.
+     */
+    static final long RETRIGGER_DELAY = Duration.ofSeconds(1).toMillis();
+
+    private final ManyToOneConcurrentLinkedQueue<TimerReference> addedTimers =
+        new ManyToOneConcurrentLinkedQueue<>();
+    private final List<TimerReference> triggeredTimers = new ArrayList<>();
+    private final DueTimerVisitor loadVisitor = this::loadTimer;
+
+    private final TimerInstanceState timerInstanceState;
+    private final InstantSource clock;
+    private final boolean yieldControl;
+    private final TimerMetrics metrics;
+    private final DueDateTimerWheel wheel;
+
+    private volatile boolean reloadRequested = true;
+    private long farNextDueDate = -1L;
+    private long lastLoadedDueDate;
+
+    public TriggerTimersFromWheelSideEffect(
+        final TimerInstanceState timerInstanceState,
+        final InstantSource clock,
+        final boolean yieldControl,
+        final TimerMetrics metrics) {
+      this.timerInstanceState = timerInstanceState;
+      this.clock = clock;
+      this.yieldControl = yieldControl;
+      this.metrics = metrics;
+      wheel = new DueDateTimerWheel(clock.millis(), WHEEL_CAPACITY);
+    }
+
+    /** Can be called from any thread; the timer is added to the wheel on the next execution. */
+    public void addTimer(final long timerKey, final long elementInstanceKey, final long dueDate) {
+      addedTimers.offer(new TimerReference(timerKey, elementInstanceKey, dueDate, false));
+    }
+
+    /** Can be called from any thread; the wheel is rebuilt from the state on the next execution. */
+    public void reload() {
+      reloadRequested = true;
+    }
+
+    @Override
+    public Long apply(final TaskResultBuilder taskResultBuilder) {
+      final var now = clock.millis();
+
+      // the wheel can't catch up with large jumps of the clock, it's cheaper to rebuild it
+      if (reloadRequested || Math.abs(now - wheel.currentTickTime()) >= DueDateTimerWheel.WINDOW) {
+        reloadRequested = false;
+        wheel.reset(now);
+        farNextDueDate = -1L;
+      }
+
+      if (!wheel.isLoaded()) {
+        loadTimers(0, now);
+      } else if (wheel.horizon() - now < DueDateTimerWheel.WINDOW / 2 && !wheel.isFull()) {
+        loadTimers(wheel.horizon(), now);
+      }
+
+      TimerReference addedTimer;
+      while ((addedTimer = addedTimers.poll()) != null) {
+        if (!wheel.add(addedTimer) && addedTimer.dueDate() >= wheel.horizon()) {
+          farNextDueDate = earliest(farNextDueDate, addedTimer.dueDate());
+        }
+      }
+
+      final var yieldAfter = now + Math.round(TIMER_RESOLUTION * GIVE_YIELD_FACTOR);
+      final TimerVisitor timerVisitor;
+      if (yieldControl) {
+        timerVisitor =
+            new YieldingDecorator(
+                clock, yieldAfter, new WriteTriggerTimerCommandVisitor(taskResultBuilder));
+      } else {
+        timerVisitor = new WriteTriggerTimerCommandVisitor(taskResultBuilder);
+      }
+
+      triggeredTimers.clear();
+      wheel.pollExpired(now, timer -> triggerTimer(timer, timerVisitor, now));
+      for (final var triggeredTimer : triggeredTimers) {
+        wheel.reschedule(triggeredTimer, now + RETRIGGER_DELAY);
+      }
+      metrics.setWheelSize(wheel.size());
+
+      // while the wheel is full, it can't be refilled anyway, so we only wait for its own timers
+      return earliest(wheel.nextDeadline(), wheel.isFull() ? -1L : farNextDueDate);
+    }
+
+    private void loadTimers(final long fromDueDate, final long now) {
+      final long toDueDate = now + DueDateTimerWheel.WINDOW;
+      wheel.setHorizon(toDueDate);
+      lastLoadedDueDate = -1L;
+
+      final long nextDueDate =
+          timerInstanceState.forEachTimerDueBetween(fromDueDate, toDueDate, loadVisitor);
+
+      // all timers before the next due date are loaded now, possibly more than up to toDueDate
+      wheel.setHorizon(nextDueDate == -1L ? toDueDate : nextDueDate);
+      farNextDueDate = nextDueDate;
+    }
+
+    private boolean loadTimer(
+        final long dueDate, final long elementInstanceKey, final long timerKey) {
+      // stop only between due dates, such that the horizon can be moved to the next due date
+      if (wheel.isFull() && dueDate != lastLoadedDueDate) {
+        return false;
+      }
+
+      lastLoadedDueDate = dueDate;
+      wheel.add(new TimerReference(timerKey, elementInstanceKey, dueDate, false));
+      return true;
+    }
+
+    private boolean triggerTimer(
+        final TimerReference timer, final TimerVisitor timerVisitor, final long now) {
+      final var timerInstance =
+          timerInstanceState.get(timer.elementInstanceKey(), timer.timerKey());
+      if (timerInstance == null) {
+        // the timer was triggered or canceled in the meantime, we can forget about it
+        return true;
+      }
+
+      if (!timerVisitor.visit(timerInstance)) {
+        return false;
+      }
+
+      if (!timer.triggered()) {
+        metrics.timerTriggered(timer.dueDate(), now);
+      }
+      // keep the timer around until it's removed, in case the trigger command is not processed
+      triggeredTimers.add(
+          new TimerReference(timer.timerKey(), timer.elementInstanceKey(), timer.dueDate(), true));
+      return true;
+    }
+
+    private static long earliest(final long dueDate, final long otherDueDate) {
+      if (dueDate == -1L) {
+        return otherDueDate;
+      } else if (otherDueDate == -1L) {
+        return dueDate;
+      }
+      return Math.min(dueDate, otherDueDate);
+    }
+  }
+
   protected static final class WriteTriggerTimerCommandVisitor implements TimerVisitor {
 
     private final TimerRecord timerRecord = new TimerRecord();
@@ -0,0 +1,273 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.timer;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DeadlineTimerWheel;
+import org.agrona.collections.Long2LongCounterMap;
+import org.agrona.collections.Long2LongHashMap;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.collections.LongHashSet;
+
+/**
+ * An in-memory index of the timers which are due in the near future, such that due timers can be
+ * found without scanning the state. It only covers the timers with a due date before its {@link
+ * #horizon()}; timers which are due later are only kept in the state, and are added once the
+ * horizon moves past their due date.
+ *
+ * <p>The wheel only references the timers by their keys, it's up to the caller to look them up in
+ * the state when they expire. This way, timers which are removed from the state don't need to be
+ * removed from the wheel, they're simply dropped when they can't be found anymore.
+ *
+ * <p>This class is not thread safe.
+ */
+final class DueDateTimerWheel extends DeadlineTimerWheel {
+
+  static final long TICK_RESOLUTION = 64;
+  static final int TICKS_PER_WHEEL = 2048;
+
+  /** The time span covered by a single rotation of the wheel, about two minutes. */
+  static final long WINDOW = TICK_RESOLUTION * TICKS_PER_WHEEL;
+
+  private static final long NOT_LOADED = Long.MIN_VALUE;
+
+  private final Long2ObjectHashMap<TimerReference> timers = new Long2ObjectHashMap<>();
+  private final Long2LongHashMap timerDeadlines = new Long2LongHashMap(NULL_DEADLINE);
+  private final DeadlineQueue deadlines = new DeadlineQueue();
+  private final LongHashSet timerKeys = new LongHashSet();
+  private final int capacity;
+  private long horizon = NOT_LOADED;
+
+  private TimerReferenceHandler currentHandler;
+  private boolean rejected;
+  private final TimerHandler timerHandler = this::onTimerExpired;
+
+  DueDateTimerWheel(final long now, final int capacity) {
+    super(TimeUnit.MILLISECONDS, now, TICK_RESOLUTION, TICKS_PER_WHEEL);
+    this.capacity = capacity;
+  }
+
+  /**
+   * @return {@code true} if the timers before the {@link #horizon()} were loaded from the state
+   *     since the last {@link #reset(long)}
+   */
+  boolean isLoaded() {
+    return horizon != NOT_LOADED;
+  }
+
+  /**
+   * @return the due date up to which (exclusive) all timers are held in the wheel
+   */
+  long horizon() {
+    return horizon;
+  }
+
+  void setHorizon(final long horizon) {
+    this.horizon = horizon;
+  }
+
+  boolean isFull() {
+    return timers.size() >= capacity;
+  }
+
+  int size() {
+    return timers.size();
+  }
+
+  /**
+   * Removes all timers and restarts the wheel at the given time. The wheel must be loaded again
+   * from the state afterwards.
+   */
+  void reset(final long now) {
+    clear();
+    timers.clear();
+    timerDeadlines.clear();
+    deadlines.clear();
+    timerKeys.clear();
+    resetStartTime(now);
+    horizon = NOT_LOADED;
+  }
+
+  /**
+   * Adds the timer to the wheel, to expire at its due date. Timers which are due at or after the
+   * horizon, or which are already in the wheel, are ignored.
+   *
+   * @return {@code true} if the timer was added
+   */
+  boolean add(final TimerReference timer) {
+    if (!isLoaded() || timer.dueDate() >= horizon || !timerKeys.add(timer.timerKey())) {
+      return false;
+    }
+
+    schedule(timer, timer.dueDate());
+    return true;
+  }
+
+  /**
+   * Adds the timer to the wheel again, to expire at the given deadline rather than at its due date.
+   * Used to revisit a timer which was already triggered, but which may not have been removed yet.
+   */
+  void reschedule(final TimerReference timer, final long deadline) {
+    if (timerKeys.add(timer.timerKey())) {
+      schedule(timer, deadline);
+    }
+  }
+
+  private void schedule(final TimerReference timer, final long deadline) {
+    final long timerId = scheduleTimer(deadline);
+    timers.put(timerId, timer);
+    timerDeadlines.put(timerId, deadline);
+    deadlines.add(deadline);
+  }
+
+  /**
+   * Presents all expired timers to the handler, until the handler rejects one of them. Expired
+   * timers which are accepted by the handler are removed from the wheel.
+   *
+   * @return {@code true} if all expired timers were accepted by the handler
+   */
+  boolean pollExpired(final long now, final TimerReferenceHandler handler) {
+    currentHandler = handler;
+    rejected = false;
+    try {
+      int expired;
+      long tickTime;
+      do {
+        // each poll only processes a single tick, and only moves on to the next tick once the
+        // current one has passed; the loop catches up until the tick of the current time is polled
+        tickTime = currentTickTime();
+        expired = poll(now, timerHandler, Integer.MAX_VALUE);
+      } while (!rejected && (expired > 0 || currentTickTime() != tickTime));
+      return !rejected;
+    } finally {
+      currentHandler = null;
+    }
+  }
+
+  /**
+   * @return the earliest deadline of all timers in the wheel, or {@code -1} if it is empty
+   */
+  long nextDeadline() {
+    return deadlines.earliest();
+  }
+
+  private boolean onTimerExpired(final TimeUnit timeUnit, final long now, final long timerId) {
+    final var timer = timers.get(timerId);
+    if (timer == null) {
+      return true;
+    }
+
+    if (!currentHandler.onExpired(timer)) {
+      rejected = true;
+      return false;
+    }
+
+    timers.remove(timerId);
+    timerKeys.remove(timer.timerKey());
+    deadlines.remove(timerDeadlines.remove(timerId));
+    return true;
+  }
+
+  /**
+   * A reference to a timer in the state.
+   *
+   * @param triggered whether a trigger command was already written for this timer
+   */
+  record TimerReference(long timerKey, long elementInstanceKey, long dueDate, boolean triggered) {}
+
+  /**
+   * The deadlines of the timers in the wheel as a binary min-heap, such that the earliest deadline
+   * is found without iterating over all timers. A deadline is pushed when its first timer is
+   * scheduled, and only dropped once it reaches the top of the heap without any timers left; as
+   * timers expire in order of their deadlines, that is usually right away.
+   */
+  private static final class DeadlineQueue {
+
+    private final Long2LongCounterMap timersPerDeadline = new Long2LongCounterMap(0);
+    private long[] heap = new long[64];
+    private int size;
+
+    void add(final long deadline) {
+      if (timersPerDeadline.getAndIncrement(deadline) == 0) {
+        push(deadline);
+      }
+    }
+
+    void remove(final long deadline) {
+      timersPerDeadline.decrementAndGet(deadline);
+    }
+
+    /**
+     * @return the earliest deadline with at least one timer, or {@code -1} if there is none
+     */
+    long earliest() {
+      while (size > 0 && timersPerDeadline.get(heap[0]) == 0) {
+        pop();
+      }
+
+      return size > 0 ? heap[0] : -1;
+    }
+
+    void clear() {
+      timersPerDeadline.clear();
+      size = 0;
+    }
+
+    private void push(final long deadline) {
+      if (size == heap.length) {
+        heap = Arrays.copyOf(heap, size * 2);
+      }
+
+      int index = size++;
+      while (index > 0) {
+        final int parent = (index - 1) >>> 1;
+        if (heap[parent] <= deadline) {
+          break;
+        }
+
+        heap[index] = heap[parent];
+        index = parent;
+      }
+      heap[index] = deadline;
+    }
+
+    private void pop() {
+      final long last = heap[--size];
+      int index = 0;
+      while (true) {
+        int child = 2 * index + 1;
+        if (child >= size) {
+          break;
+        }
+
+        if (child + 1 < size && heap[child + 1] < heap[child]) {
+          child++;
+        }
+
+        if (last <= heap[child]) {
+          break;
+        }
+
+        heap[index] = heap[child];
+        index = child;
+      }
+      heap[index] = last;
+    }
+  }
+
+  @FunctionalInterface
+  interface TimerReferenceHandler {
+
+    /**
+     * @return {@code true} if the timer was handled and can be removed from the wheel, or {@code
+     *     false} if it needs to be revisited later on, which stops the current poll
+     */
+    boolean onExpired(TimerReference timer);
+  }
+}
@@ -21,6 +21,8 @@ public record VariableStateEvaluationContextLookup(VariableState variableState)
   public EvaluationContext getContext(final long scopeKey) {
     ensureGreaterThan("variable scope key", scopeKey, 0);
 
-    return (name) -> variableState.getVariable(scopeKey, BufferUtil.wrapString(name));
+    // resolves the scope hierarchy only once for all variables referenced by the expression
+    final var variables = variableState.getVariablesView(scopeKey);
+    return (name) -> variables.getVariable(BufferUtil.wrapString(name));
   }
 }
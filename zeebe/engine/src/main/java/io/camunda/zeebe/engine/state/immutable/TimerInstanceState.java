@@ -27,6 +27,17 @@ public interface TimerInstanceState {
 
   TimerInstance get(long elementInstanceKey, long timerKey);
 
+  /**
+   * Finds timers with due date in the range from {@code fromInclusive} to {@code toExclusive}, and
+   * presents their keys to the {@code visitor} in the order of their due date. In contrast to
+   * {@link #processTimersWithDueDateBefore(long, TimerVisitor)}, the timers themselves are not
+   * read.
+   *
+   * @return due date of the first timer which was not visited, because it is due at or after {@code
+   *     toExclusive} or the visitor stopped at it (or {@code -1} if no such timer exists)
+   */
+  long forEachTimerDueBetween(long fromInclusive, long toExclusive, DueTimerVisitor visitor);
+
   @FunctionalInterface
   interface TimerVisitor {
 
@@ -36,4 +47,13 @@ public interface TimerInstanceState {
      */
     boolean visit(TimerInstance timer);
   }
+
+  @FunctionalInterface
+  interface DueTimerVisitor {
+
+    /**
+     * @return {@code true} to continue with the next timer, or {@code false} to stop at this timer
+     */
+    boolean visit(long dueDate, long elementInstanceKey, long timerKey);
+  }
 }
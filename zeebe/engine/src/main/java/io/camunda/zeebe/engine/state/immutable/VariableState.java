@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine.state.immutable;
 
+import io.camunda.zeebe.engine.state.variable.VariableDocumentView;
 import io.camunda.zeebe.engine.state.variable.VariableInstance;
 import java.util.Collection;
 import java.util.List;
@@ -27,6 +28,16 @@ public interface VariableState {
 
   DirectBuffer getVariablesAsDocument(long scopeKey, Collection<DirectBuffer> names);
 
+  /**
+   * Returns a view of the variables which are visible from the given scope. Unlike {@link
+   * #getVariablesAsDocument(long)}, the view looks up and decodes only the variables which are
+   * requested from it.
+   *
+   * @param scopeKey the key of the variable scope to start from
+   * @return a view of the variables of the scope and its ancestor scopes
+   */
+  VariableDocumentView getVariablesView(long scopeKey);
+
   DirectBuffer getVariablesLocalAsDocument(long scopeKey);
 
   boolean isEmpty();
@@ -44,6 +55,13 @@ public interface VariableState {
 
   VariableInstance getVariableInstanceLocal(long scopeKey, DirectBuffer name);
 
+  /**
+   * Like {@link #getVariablesLocal(long)}, this method does not traverse the scope hierarchy.
+   *
+   * @return {@code true} if at least one variable is stored directly at the given scope key
+   */
+  boolean hasVariablesLocal(long scopeKey);
+
   /**
    * @return returns the parent scope key of the given {@code childScopeKey}, or {@link
    *     VariableState#NO_PARENT}
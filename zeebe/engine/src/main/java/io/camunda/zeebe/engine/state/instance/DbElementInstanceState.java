@@ -17,6 +17,8 @@ import io.camunda.zeebe.db.impl.DbInt;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.metrics.ElementInstanceCacheMetrics;
 import io.camunda.zeebe.engine.state.mutable.MutableElementInstanceState;
 import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
@@ -74,10 +76,13 @@ public final class DbElementInstanceState implements MutableElementInstanceState
   private final ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbNil>
       processInstanceKeyByProcessDefinitionKeyColumnFamily;
 
+  private final ElementInstanceCache elementInstanceCache;
+
   public DbElementInstanceState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final TransactionContext transactionContext,
-      final MutableVariableState variableState) {
+      final MutableVariableState variableState,
+      final EngineConfiguration config) {
 
     this.variableState = variableState;
 
@@ -134,6 +139,13 @@ public final class DbElementInstanceState implements MutableElementInstanceState
             transactionContext,
             processInstanceKeyByProcessDefinitionKey,
             DbNil.INSTANCE);
+
+    elementInstanceCache =
+        new ElementInstanceCache(
+            config.getElementInstanceCacheCapacity(),
+            new ElementInstanceCacheMetrics(zeebeDb.getMeterRegistry()));
+    // the cache may contain changes which are discarded by a rollback
+    transactionContext.addRollbackListener(elementInstanceCache::clear);
   }
 
   @Override
@@ -172,6 +184,7 @@ public final class DbElementInstanceState implements MutableElementInstanceState
     parentKey.inner().wrapLong(parent);
     parentChildColumnFamily.deleteIfExists(parentChildKey);
     elementInstanceColumnFamily.deleteExisting(elementInstanceKey);
+    elementInstanceCache.invalidate(key);
     variableState.removeScope(key);
     awaitProcessInstanceResultMetadataColumnFamily.deleteIfExists(elementInstanceKey);
     removeNumberOfTakenSequenceFlows(key);
@@ -202,6 +215,7 @@ public final class DbElementInstanceState implements MutableElementInstanceState
     parentKey.inner().wrapLong(instance.getParentKey());
 
     elementInstanceColumnFamily.insert(elementInstanceKey, instance);
+    elementInstanceCache.put(instance);
     parentChildColumnFamily.insert(parentChildKey, DbNil.INSTANCE);
     variableState.createScope(elementInstanceKey.getValue(), parentKey.inner().getValue());
 
@@ -218,6 +232,7 @@ public final class DbElementInstanceState implements MutableElementInstanceState
     elementInstanceKey.wrapLong(scopeInstance.getKey());
     parentKey.inner().wrapLong(scopeInstance.getParentKey());
     elementInstanceColumnFamily.update(elementInstanceKey, scopeInstance);
+    elementInstanceCache.put(scopeInstance);
   }
 
   @Override
@@ -316,8 +331,16 @@ public final class DbElementInstanceState implements MutableElementInstanceState
 
   @Override
   public ElementInstance getInstance(final long key) {
+    final var cachedInstance = elementInstanceCache.get(key);
+    if (cachedInstance != null) {
+      return cachedInstance;
+    }
+
     elementInstanceKey.wrapLong(key);
     final ElementInstance elementInstance = elementInstanceColumnFamily.get(elementInstanceKey);
+    if (elementInstance != null) {
+      elementInstanceCache.put(elementInstance);
+    }
     return copyElementInstance(elementInstance);
   }
 
@@ -479,7 +502,7 @@ public final class DbElementInstanceState implements MutableElementInstanceState
     return hasActiveInstances.get();
   }
 
-  private ElementInstance copyElementInstance(final ElementInstance elementInstance) {
+  static ElementInstance copyElementInstance(final ElementInstance elementInstance) {
     if (elementInstance != null) {
       final byte[] bytes = new byte[elementInstance.getLength()];
       final UnsafeBuffer buffer = new UnsafeBuffer(bytes);
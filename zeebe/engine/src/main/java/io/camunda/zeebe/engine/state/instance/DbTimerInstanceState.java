@@ -141,4 +141,36 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
     return timerInstanceColumnFamily.get(elementAndTimerKey);
   }
+
+  @Override
+  public long forEachTimerDueBetween(
+      final long fromInclusive, final long toExclusive, final DueTimerVisitor visitor) {
+    nextDueDate = -1L;
+
+    // keys are compared by their big-endian encoding, so zero is the smallest possible key part
+    dueDate.wrapLong(Math.max(0, fromInclusive));
+    elementInstanceKey.inner().wrapLong(0);
+    timerKey.wrapLong(0);
+
+    dueDateColumnFamily.whileTrue(
+        dueDateCompositeKey,
+        (key, nil) -> {
+          final var dueDate = key.first().getValue();
+          final var elementAndTimerKey = key.second();
+
+          final boolean visited =
+              dueDate < toExclusive
+                  && visitor.visit(
+                      dueDate,
+                      elementAndTimerKey.first().inner().getValue(),
+                      elementAndTimerKey.second().getValue());
+
+          if (!visited) {
+            nextDueDate = dueDate;
+          }
+          return visited;
+        });
+
+    return nextDueDate;
+  }
 }
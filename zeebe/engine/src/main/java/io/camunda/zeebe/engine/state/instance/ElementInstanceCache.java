@@ -0,0 +1,74 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.camunda.zeebe.engine.metrics.ElementInstanceCacheMetrics;
+
+/**
+ * A bounded cache of decoded element instances, which saves reading and decoding the same instance
+ * again when it is looked up repeatedly, e.g. the flow scope and the process instance of the
+ * elements that are processed.
+ *
+ * <p>The cache is write-through: every write of an element instance must update or invalidate its
+ * entry. It holds its own copies of the instances, such that changes to an instance which was put
+ * into or taken from the cache don't affect the cached one. As the cached instances may reflect
+ * uncommitted changes, the cache must be cleared when the changes of a transaction are discarded.
+ */
+final class ElementInstanceCache {
+
+  private final Cache<Long, ElementInstance> cache;
+  private final ElementInstanceCacheMetrics metrics;
+
+  /**
+   * @param capacity the maximum number of cached instances, or 0 to disable the cache
+   * @param metrics the metrics to count the cache hits and misses
+   */
+  ElementInstanceCache(final int capacity, final ElementInstanceCacheMetrics metrics) {
+    cache = capacity > 0 ? CacheBuilder.newBuilder().maximumSize(capacity).build() : null;
+    this.metrics = metrics;
+  }
+
+  /**
+   * @param key the key of the element instance
+   * @return a copy of the cached instance, or null if it is not cached
+   */
+  ElementInstance get(final long key) {
+    if (cache == null) {
+      return null;
+    }
+
+    final var cachedInstance = cache.getIfPresent(key);
+    if (cachedInstance == null) {
+      metrics.miss();
+      return null;
+    }
+
+    metrics.hit();
+    return DbElementInstanceState.copyElementInstance(cachedInstance);
+  }
+
+  void put(final ElementInstance instance) {
+    if (cache != null) {
+      cache.put(instance.getKey(), DbElementInstanceState.copyElementInstance(instance));
+    }
+  }
+
+  void invalidate(final long key) {
+    if (cache != null) {
+      cache.invalidate(key);
+    }
+  }
+
+  void clear() {
+    if (cache != null) {
+      cache.invalidateAll();
+    }
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.message;
+
+import org.agrona.DirectBuffer;
+
+/**
+ * Computes a fixed-width 64-bit hash of a tenant id, a message name and a correlation key. The hash
+ * replaces them in the keys of the column families which find messages and message subscriptions by
+ * correlation key, such that the keys don't grow with long correlation keys.
+ *
+ * <p>The hash is part of the persisted state, so it must never change. Different values may share a
+ * hash, which is why every entry found by a hash must be verified against the stored message or
+ * subscription.
+ */
+public final class CorrelationKeyHash {
+
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private CorrelationKeyHash() {}
+
+  /**
+   * @param tenantId the tenant id, encoded as UTF-8
+   * @param messageName the message name
+   * @param correlationKey the correlation key
+   * @return the hash of all three values
+   */
+  public static long hash(
+      final DirectBuffer tenantId,
+      final DirectBuffer messageName,
+      final DirectBuffer correlationKey) {
+    long hash = FNV_OFFSET_BASIS;
+    hash = hashBuffer(hash, tenantId);
+    hash = hashBuffer(hash, messageName);
+    hash = hashBuffer(hash, correlationKey);
+    return mix(hash);
+  }
+
+  private static long hashBuffer(final long seed, final DirectBuffer buffer) {
+    final int length = buffer.capacity();
+
+    // the length separates the values, such that e.g. ("ab", "c") and ("a", "bc") differ
+    long hash = hashInt(seed, length);
+    for (int i = 0; i < length; i++) {
+      hash = hashByte(hash, buffer.getByte(i));
+    }
+    return hash;
+  }
+
+  private static long hashInt(final long seed, final int value) {
+    long hash = seed;
+    for (int shift = 0; shift < Integer.SIZE; shift += Byte.SIZE) {
+      hash = hashByte(hash, (byte) (value >>> shift));
+    }
+    return hash;
+  }
+
+  private static long hashByte(final long hash, final byte value) {
+    return (hash ^ (value & 0xFF)) * FNV_PRIME;
+  }
+
+  /** Spreads the bits of the FNV-1a hash, see the finalizer of MurmurHash3. */
+  private static long mix(final long hash) {
+    long mixed = hash;
+    mixed ^= mixed >>> 33;
+    mixed *= 0xff51afd7ed558ccdL;
+    mixed ^= mixed >>> 33;
+    mixed *= 0xc4ceb9fe1a85ec53L;
+    mixed ^= mixed >>> 33;
+    return mixed;
+  }
+}
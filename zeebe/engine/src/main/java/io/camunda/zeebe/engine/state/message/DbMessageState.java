@@ -25,7 +25,10 @@ import io.camunda.zeebe.engine.state.mutable.MutableMessageState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
 import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.List;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.LongArrayList;
 import org.agrona.collections.MutableBoolean;
 
 public final class DbMessageState implements MutableMessageState {
@@ -41,26 +44,23 @@ public final class DbMessageState implements MutableMessageState {
   private final DbForeignKey<DbLong> fkMessage;
   private final StoredMessage message;
 
-  /**
-   * <pre>tenant aware message name | correlation key | key -> []
-   *
-   * find message by name and correlation key - the message key ensures the queue ordering
-   */
   private final DbString tenantIdKey;
-
   private final DbString messageName;
   private final DbTenantAwareKey<DbString> tenantAwareMessageName;
-
   private final DbString correlationKey;
-  private final DbCompositeKey<
-          DbCompositeKey<DbTenantAwareKey<DbString>, DbString>, DbForeignKey<DbLong>>
-      nameCorrelationMessageKey;
   private final DbCompositeKey<DbTenantAwareKey<DbString>, DbString> nameAndCorrelationKey;
-  private final ColumnFamily<
-          DbCompositeKey<
-              DbCompositeKey<DbTenantAwareKey<DbString>, DbString>, DbForeignKey<DbLong>>,
-          DbNil>
-      nameCorrelationMessageColumnFamily;
+
+  /**
+   * <pre>hash of tenant, message name and correlation key | key -> []
+   *
+   * find message by name and correlation key - the message key ensures the queue ordering; since
+   * different correlation keys may share a hash, the found messages must be verified
+   */
+  private final DbLong correlationKeyHash;
+
+  private final DbCompositeKey<DbLong, DbForeignKey<DbLong>> correlationKeyHashMessageKey;
+  private final ColumnFamily<DbCompositeKey<DbLong, DbForeignKey<DbLong>>, DbNil>
+      correlationKeyHashMessageColumnFamily;
 
   /**
    * <pre>deadline | key -> []
@@ -73,6 +73,10 @@ public final class DbMessageState implements MutableMessageState {
   private final ColumnFamily<DbCompositeKey<DbLong, DbForeignKey<DbLong>>, DbNil>
       deadlineColumnFamily;
 
+  private final DbLong rangeEndDeadline;
+  private final DbLong rangeEndMessageKey;
+  private final DbCompositeKey<DbLong, DbForeignKey<DbLong>> deadlineRangeEnd;
+
   /**
    * <pre>count | key -> value
    *
@@ -146,12 +150,14 @@ public final class DbMessageState implements MutableMessageState {
     tenantAwareMessageName = new DbTenantAwareKey<>(tenantIdKey, messageName, PlacementType.PREFIX);
     correlationKey = new DbString();
     nameAndCorrelationKey = new DbCompositeKey<>(tenantAwareMessageName, correlationKey);
-    nameCorrelationMessageKey = new DbCompositeKey<>(nameAndCorrelationKey, fkMessage);
-    nameCorrelationMessageColumnFamily =
+
+    correlationKeyHash = new DbLong();
+    correlationKeyHashMessageKey = new DbCompositeKey<>(correlationKeyHash, fkMessage);
+    correlationKeyHashMessageColumnFamily =
         zeebeDb.createColumnFamily(
-            ZbColumnFamilies.MESSAGES,
+            ZbColumnFamilies.MESSAGES_BY_CORRELATION_KEY_HASH,
             transactionContext,
-            nameCorrelationMessageKey,
+            correlationKeyHashMessageKey,
             DbNil.INSTANCE);
 
     deadline = new DbLong();
@@ -163,6 +169,12 @@ public final class DbMessageState implements MutableMessageState {
             deadlineMessageKey,
             DbNil.INSTANCE);
 
+    rangeEndDeadline = new DbLong();
+    rangeEndMessageKey = new DbLong();
+    deadlineRangeEnd =
+        new DbCompositeKey<>(
+            rangeEndDeadline, new DbForeignKey<>(rangeEndMessageKey, ZbColumnFamilies.MESSAGE_KEY));
+
     messagesDeadlineCount = new DbLong();
     messagesDeadlineCountKey = new DbString();
     messagesDeadlineCountColumnFamily =
@@ -230,7 +242,8 @@ public final class DbMessageState implements MutableMessageState {
     tenantIdKey.wrapString(record.getTenantId());
     messageName.wrapBuffer(record.getNameBuffer());
     correlationKey.wrapBuffer(record.getCorrelationKeyBuffer());
-    nameCorrelationMessageColumnFamily.insert(nameCorrelationMessageKey, DbNil.INSTANCE);
+    wrapCorrelationKeyHash();
+    correlationKeyHashMessageColumnFamily.insert(correlationKeyHashMessageKey, DbNil.INSTANCE);
 
     deadline.wrapLong(record.getDeadline());
     deadlineColumnFamily.insert(deadlineMessageKey, DbNil.INSTANCE);
@@ -317,14 +330,101 @@ public final class DbMessageState implements MutableMessageState {
       return;
     }
 
+    final long messageDeadline = storedMessage.getMessage().getDeadline();
+    removeMessageEntries(storedMessage);
+
+    messageKey.wrapLong(key);
+    deadline.wrapLong(messageDeadline);
+    deadlineColumnFamily.deleteExisting(deadlineMessageKey);
+    decrementMessageDeadlineCount(1);
+  }
+
+  @Override
+  public void removeExpired(final List<Long> messageKeys) {
+    final var removedDeadlines = new LongArrayList();
+    final var removedMessageKeys = new LongArrayList();
+    boolean inDeadlineOrder = true;
+
+    for (final long key : messageKeys) {
+      final StoredMessage storedMessage = getMessage(key);
+      if (storedMessage == null) {
+        continue;
+      }
+
+      final long messageDeadline = storedMessage.getMessage().getDeadline();
+      removeMessageEntries(storedMessage);
+
+      if (!removedDeadlines.isEmpty()) {
+        final long previousDeadline = removedDeadlines.getLong(removedDeadlines.size() - 1);
+        final long previousKey = removedMessageKeys.getLong(removedMessageKeys.size() - 1);
+        inDeadlineOrder &=
+            messageDeadline > previousDeadline
+                || (messageDeadline == previousDeadline && key > previousKey);
+      }
+      removedDeadlines.addLong(messageDeadline);
+      removedMessageKeys.addLong(key);
+    }
+
+    final int removedMessages = removedDeadlines.size();
+    if (removedMessages == 0) {
+      return;
+    }
+
+    if (inDeadlineOrder) {
+      removeDeadlineRange(removedDeadlines, removedMessageKeys);
+    } else {
+      // the deadlines are not a contiguous range, so remove them one by one
+      for (int i = 0; i < removedMessages; i++) {
+        deadline.wrapLong(removedDeadlines.getLong(i));
+        messageKey.wrapLong(removedMessageKeys.getLong(i));
+        deadlineColumnFamily.deleteExisting(deadlineMessageKey);
+      }
+    }
+
+    decrementMessageDeadlineCount(removedMessages);
+  }
+
+  /**
+   * Removes the given deadlines, in deadline order, as a single range. Since the range is only
+   * bounded by the first and last deadline, it fails if any other message has a deadline within it,
+   * instead of silently removing that deadline too and letting the deadline count drift.
+   */
+  private void removeDeadlineRange(
+      final LongArrayList removedDeadlines, final LongArrayList removedMessageKeys) {
+    final int last = removedDeadlines.size() - 1;
+    deadline.wrapLong(removedDeadlines.getLong(0));
+    messageKey.wrapLong(removedMessageKeys.getLong(0));
+    rangeEndDeadline.wrapLong(removedDeadlines.getLong(last));
+    rangeEndMessageKey.wrapLong(removedMessageKeys.getLong(last) + 1);
+
+    final long deletedDeadlines =
+        deadlineColumnFamily.deleteRange(deadlineMessageKey, deadlineRangeEnd);
+    if (deletedDeadlines != removedDeadlines.size()) {
+      throw new IllegalStateException(
+          String.format(
+              "Expected to remove the deadlines of %d expired messages, from deadline %d of message"
+                  + " %d to deadline %d of message %d, but removed %d deadlines; the expired"
+                  + " messages must be all messages with a deadline in this range",
+              removedDeadlines.size(),
+              removedDeadlines.getLong(0),
+              removedMessageKeys.getLong(0),
+              removedDeadlines.getLong(last),
+              removedMessageKeys.getLong(last),
+              deletedDeadlines));
+    }
+  }
+
+  /** Removes all entries of the message, except for its deadline. */
+  private void removeMessageEntries(final StoredMessage storedMessage) {
     messageKey.wrapLong(storedMessage.getMessageKey());
     messageColumnFamily.deleteExisting(messageKey);
 
     tenantIdKey.wrapString(storedMessage.getMessage().getTenantId());
     messageName.wrapBuffer(storedMessage.getMessage().getNameBuffer());
     correlationKey.wrapBuffer(storedMessage.getMessage().getCorrelationKeyBuffer());
+    wrapCorrelationKeyHash();
 
-    nameCorrelationMessageColumnFamily.deleteExisting(nameCorrelationMessageKey);
+    correlationKeyHashMessageColumnFamily.deleteExisting(correlationKeyHashMessageKey);
 
     final DirectBuffer messageId = storedMessage.getMessage().getMessageIdBuffer();
     if (messageId.capacity() > 0) {
@@ -332,14 +432,6 @@ public final class DbMessageState implements MutableMessageState {
       messageIdColumnFamily.deleteExisting(nameCorrelationMessageIdKey);
     }
 
-    deadline.wrapLong(storedMessage.getMessage().getDeadline());
-    deadlineColumnFamily.deleteExisting(deadlineMessageKey);
-
-    localMessageDeadlineCount -= 1L;
-    messagesDeadlineCount.wrapLong(localMessageDeadlineCount);
-    messagesDeadlineCountColumnFamily.upsert(messagesDeadlineCountKey, messagesDeadlineCount);
-    bufferedMessagesMetrics.setBufferedMessagesCounter(localMessageDeadlineCount);
-
     correlatedMessageColumnFamily.whileEqualPrefix(
         messageKey,
         ((compositeKey, zbNil) -> {
@@ -347,6 +439,13 @@ public final class DbMessageState implements MutableMessageState {
         }));
   }
 
+  private void decrementMessageDeadlineCount(final int count) {
+    localMessageDeadlineCount -= count;
+    messagesDeadlineCount.wrapLong(localMessageDeadlineCount);
+    messagesDeadlineCountColumnFamily.upsert(messagesDeadlineCountKey, messagesDeadlineCount);
+    bufferedMessagesMetrics.setBufferedMessagesCounter(localMessageDeadlineCount);
+  }
+
   @Override
   public boolean existMessageCorrelation(final long messageKey, final DirectBuffer bpmnProcessId) {
     ensureGreaterThan("message key", messageKey, 0);
@@ -389,16 +488,37 @@ public final class DbMessageState implements MutableMessageState {
     tenantIdKey.wrapString(tenantId);
     messageName.wrapBuffer(name);
     this.correlationKey.wrapBuffer(correlationKey);
+    wrapCorrelationKeyHash();
 
-    nameCorrelationMessageColumnFamily.whileEqualPrefix(
-        nameAndCorrelationKey,
+    correlationKeyHashMessageColumnFamily.whileEqualPrefix(
+        correlationKeyHash,
         (compositeKey, nil) -> {
           final long messageKey = compositeKey.second().inner().getValue();
           final StoredMessage message = getMessage(messageKey);
+          if (!isCorrelatedBy(message.getMessage(), tenantId, name, correlationKey)) {
+            // the message only shares the hash, skip it
+            return true;
+          }
           return visitor.visit(message);
         });
   }
 
+  private void wrapCorrelationKeyHash() {
+    correlationKeyHash.wrapLong(
+        CorrelationKeyHash.hash(
+            tenantIdKey.getBuffer(), messageName.getBuffer(), correlationKey.getBuffer()));
+  }
+
+  private static boolean isCorrelatedBy(
+      final MessageRecord message,
+      final String tenantId,
+      final DirectBuffer name,
+      final DirectBuffer correlationKey) {
+    return BufferUtil.equals(message.getCorrelationKeyBuffer(), correlationKey)
+        && BufferUtil.equals(message.getNameBuffer(), name)
+        && message.getTenantId().equals(tenantId);
+  }
+
   @Override
   public StoredMessage getMessage(final long messageKey) {
     this.messageKey.wrapLong(messageKey);
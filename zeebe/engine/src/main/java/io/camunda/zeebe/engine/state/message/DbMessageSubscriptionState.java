@@ -14,8 +14,6 @@ import io.camunda.zeebe.db.impl.DbCompositeKey;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.DbString;
-import io.camunda.zeebe.db.impl.DbTenantAwareKey;
-import io.camunda.zeebe.db.impl.DbTenantAwareKey.PlacementType;
 import io.camunda.zeebe.engine.Loggers;
 import io.camunda.zeebe.engine.state.immutable.PendingMessageSubscriptionState;
 import io.camunda.zeebe.engine.state.message.TransientPendingSubscriptionState.PendingSubscription;
@@ -43,16 +41,13 @@ public final class DbMessageSubscriptionState
   private final ColumnFamily<DbCompositeKey<DbLong, DbString>, MessageSubscription>
       subscriptionColumnFamily;
 
-  // (tenant aware messageName, correlationKey, elementInstanceKey) => \0
+  // (hash of tenant, messageName and correlationKey, elementInstanceKey) => \0
+  // since different correlation keys may share a hash, the found subscriptions must be verified
   private final DbString tenantIdKey;
   private final DbString correlationKey;
-  private final DbTenantAwareKey<DbCompositeKey<DbString, DbString>>
-      tenantAwareNameAndCorrelationKey;
-  private final DbCompositeKey<DbTenantAwareKey<DbCompositeKey<DbString, DbString>>, DbLong>
-      tenantAwareNameCorrelationAndElementInstanceKey;
-  private final ColumnFamily<
-          DbCompositeKey<DbTenantAwareKey<DbCompositeKey<DbString, DbString>>, DbLong>, DbNil>
-      messageNameAndCorrelationKeyColumnFamily;
+  private final DbLong correlationKeyHash;
+  private final DbCompositeKey<DbLong, DbLong> correlationKeyHashAndElementInstanceKey;
+  private final ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbNil> correlationKeyHashColumnFamily;
 
   private final TransientPendingSubscriptionState transientState;
   private final InstantSource clock;
@@ -77,16 +72,14 @@ public final class DbMessageSubscriptionState
 
     tenantIdKey = new DbString();
     correlationKey = new DbString();
-    tenantAwareNameAndCorrelationKey =
-        new DbTenantAwareKey<>(
-            tenantIdKey, new DbCompositeKey<>(messageName, correlationKey), PlacementType.PREFIX);
-    tenantAwareNameCorrelationAndElementInstanceKey =
-        new DbCompositeKey<>(tenantAwareNameAndCorrelationKey, elementInstanceKey);
-    messageNameAndCorrelationKeyColumnFamily =
+    correlationKeyHash = new DbLong();
+    correlationKeyHashAndElementInstanceKey =
+        new DbCompositeKey<>(correlationKeyHash, elementInstanceKey);
+    correlationKeyHashColumnFamily =
         zeebeDb.createColumnFamily(
-            ZbColumnFamilies.MESSAGE_SUBSCRIPTION_BY_NAME_AND_CORRELATION_KEY,
+            ZbColumnFamilies.MESSAGE_SUBSCRIPTION_BY_CORRELATION_KEY_HASH,
             transactionContext,
-            tenantAwareNameCorrelationAndElementInstanceKey,
+            correlationKeyHashAndElementInstanceKey,
             DbNil.INSTANCE);
     this.transientState = transientState;
   }
@@ -121,11 +114,16 @@ public final class DbMessageSubscriptionState
     tenantIdKey.wrapString(tenantId);
     this.messageName.wrapBuffer(messageName);
     this.correlationKey.wrapBuffer(correlationKey);
+    wrapCorrelationKeyHash();
 
-    messageNameAndCorrelationKeyColumnFamily.whileEqualPrefix(
-        tenantAwareNameAndCorrelationKey,
+    correlationKeyHashColumnFamily.whileEqualPrefix(
+        correlationKeyHash,
         (compositeKey, nil) -> {
-          return visitMessageSubscription(elementKeyAndMessageName, visitor);
+          // the element instance key is read into the shared key, the message name may have been
+          // overwritten by the visitor of the previous subscription
+          this.messageName.wrapBuffer(messageName);
+          return visitMessageSubscription(
+              elementKeyAndMessageName, tenantId, messageName, correlationKey, visitor);
         });
   }
 
@@ -148,8 +146,8 @@ public final class DbMessageSubscriptionState
     subscriptionColumnFamily.insert(elementKeyAndMessageName, messageSubscription);
 
     correlationKey.wrapBuffer(record.getCorrelationKeyBuffer());
-    messageNameAndCorrelationKeyColumnFamily.insert(
-        tenantAwareNameCorrelationAndElementInstanceKey, DbNil.INSTANCE);
+    wrapCorrelationKeyHash();
+    correlationKeyHashColumnFamily.insert(correlationKeyHashAndElementInstanceKey, DbNil.INSTANCE);
   }
 
   @Override
@@ -214,8 +212,8 @@ public final class DbMessageSubscriptionState
     tenantIdKey.wrapString(record.getTenantId());
     messageName.wrapBuffer(record.getMessageNameBuffer());
     correlationKey.wrapBuffer(record.getCorrelationKeyBuffer());
-    messageNameAndCorrelationKeyColumnFamily.deleteExisting(
-        tenantAwareNameCorrelationAndElementInstanceKey);
+    wrapCorrelationKeyHash();
+    correlationKeyHashColumnFamily.deleteExisting(correlationKeyHashAndElementInstanceKey);
 
     transientState.remove(
         new PendingSubscription(
@@ -251,18 +249,39 @@ public final class DbMessageSubscriptionState
     subscriptionColumnFamily.update(elementKeyAndMessageName, subscription);
   }
 
-  private Boolean visitMessageSubscription(
+  private void wrapCorrelationKeyHash() {
+    correlationKeyHash.wrapLong(
+        CorrelationKeyHash.hash(
+            tenantIdKey.getBuffer(), messageName.getBuffer(), correlationKey.getBuffer()));
+  }
+
+  private static boolean isCorrelatedBy(
+      final MessageSubscriptionRecord subscription,
+      final String tenantId,
+      final DirectBuffer messageName,
+      final DirectBuffer correlationKey) {
+    return BufferUtil.equals(subscription.getCorrelationKeyBuffer(), correlationKey)
+        && BufferUtil.equals(subscription.getMessageNameBuffer(), messageName)
+        && subscription.getTenantId().equals(tenantId);
+  }
+
+  private boolean visitMessageSubscription(
       final DbCompositeKey<DbLong, DbString> elementKeyAndMessageName,
+      final String tenantId,
+      final DirectBuffer messageName,
+      final DirectBuffer correlationKey,
       final MessageSubscriptionVisitor visitor) {
     final MessageSubscription messageSubscription =
         subscriptionColumnFamily.get(elementKeyAndMessageName);
 
-    if (messageSubscription == null) {
-      throw new IllegalStateException(
-          String.format(
-              "Expected to find subscription with key %d and %s, but no subscription found",
-              elementKeyAndMessageName.first().getValue(), elementKeyAndMessageName.second()));
+    if (messageSubscription == null
+        || !isCorrelatedBy(
+            messageSubscription.getRecord(), tenantId, messageName, correlationKey)) {
+      // the subscription of the element instance only shares the hash of its tenant, message name
+      // and correlation key, so there is none with the requested message name, or it differs
+      return true;
     }
+
     return visitor.visit(messageSubscription);
   }
 
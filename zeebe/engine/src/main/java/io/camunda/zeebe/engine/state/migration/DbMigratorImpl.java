@@ -25,6 +25,7 @@ import io.camunda.zeebe.engine.state.migration.to_8_4.MultiTenancySignalSubscrip
 import io.camunda.zeebe.engine.state.migration.to_8_5.ColumnFamilyPrefixCorrectionMigration;
 import io.camunda.zeebe.engine.state.migration.to_8_6.OrderedCommandDistributionMigration;
 import io.camunda.zeebe.engine.state.migration.to_8_7.IdempotentCommandDistributionMigration;
+import io.camunda.zeebe.engine.state.migration.to_8_8.MessageCorrelationKeyHashMigration;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.stream.api.ClusterContext;
 import io.camunda.zeebe.util.VersionUtil;
@@ -59,7 +60,8 @@ public class DbMigratorImpl implements DbMigrator {
           new JobBackoffRestoreMigration(),
           new RoutingInfoMigration(),
           new OrderedCommandDistributionMigration(),
-          new IdempotentCommandDistributionMigration());
+          new IdempotentCommandDistributionMigration(),
+          new MessageCorrelationKeyHashMigration());
   private static final Logger LOGGER =
       LoggerFactory.getLogger(DbMigratorImpl.class.getPackageName());
   // Be mindful of https://github.com/camunda/camunda/issues/7248. In particular, that issue
@@ -0,0 +1,149 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.migration.to_8_8;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbForeignKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbNil;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.db.impl.DbTenantAwareKey;
+import io.camunda.zeebe.db.impl.DbTenantAwareKey.PlacementType;
+import io.camunda.zeebe.engine.state.message.CorrelationKeyHash;
+import io.camunda.zeebe.engine.state.migration.MemoryBoundedColumnIteration;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+
+public class DbMessageCorrelationKeyHashMigrationState {
+
+  private final DbLong messageKey;
+  private final DbLong elementInstanceKey;
+  private final DbLong correlationKeyHash;
+
+  /** [tenant aware message name | correlation key | message key] => [] */
+  private final ColumnFamily<
+          DbCompositeKey<
+              DbCompositeKey<DbTenantAwareKey<DbString>, DbString>, DbForeignKey<DbLong>>,
+          DbNil>
+      messagesColumnFamily;
+
+  /** [correlation key hash | message key] => [] */
+  private final DbCompositeKey<DbLong, DbForeignKey<DbLong>> correlationKeyHashMessageKey;
+
+  private final ColumnFamily<DbCompositeKey<DbLong, DbForeignKey<DbLong>>, DbNil>
+      messagesByCorrelationKeyHashColumnFamily;
+
+  /** [tenant aware (message name | correlation key) | element instance key] => [] */
+  private final ColumnFamily<
+          DbCompositeKey<DbTenantAwareKey<DbCompositeKey<DbString, DbString>>, DbLong>, DbNil>
+      subscriptionsColumnFamily;
+
+  /** [correlation key hash | element instance key] => [] */
+  private final DbCompositeKey<DbLong, DbLong> correlationKeyHashElementInstanceKey;
+
+  private final ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbNil>
+      subscriptionsByCorrelationKeyHashColumnFamily;
+
+  public DbMessageCorrelationKeyHashMigrationState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+    messageKey = new DbLong();
+    final var fkMessage = new DbForeignKey<>(messageKey, ZbColumnFamilies.MESSAGE_KEY);
+    elementInstanceKey = new DbLong();
+    correlationKeyHash = new DbLong();
+
+    final var messageTenantId = new DbString();
+    final var messageName = new DbString();
+    final var messageCorrelationKey = new DbString();
+    messagesColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.MESSAGES,
+            transactionContext,
+            new DbCompositeKey<>(
+                new DbCompositeKey<>(
+                    new DbTenantAwareKey<>(messageTenantId, messageName, PlacementType.PREFIX),
+                    messageCorrelationKey),
+                fkMessage),
+            DbNil.INSTANCE);
+
+    correlationKeyHashMessageKey = new DbCompositeKey<>(correlationKeyHash, fkMessage);
+    messagesByCorrelationKeyHashColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.MESSAGES_BY_CORRELATION_KEY_HASH,
+            transactionContext,
+            correlationKeyHashMessageKey,
+            DbNil.INSTANCE);
+
+    final var subscriptionTenantId = new DbString();
+    final var subscriptionMessageName = new DbString();
+    final var subscriptionCorrelationKey = new DbString();
+    subscriptionsColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.MESSAGE_SUBSCRIPTION_BY_NAME_AND_CORRELATION_KEY,
+            transactionContext,
+            new DbCompositeKey<>(
+                new DbTenantAwareKey<>(
+                    subscriptionTenantId,
+                    new DbCompositeKey<>(subscriptionMessageName, subscriptionCorrelationKey),
+                    PlacementType.PREFIX),
+                new DbLong()),
+            DbNil.INSTANCE);
+
+    correlationKeyHashElementInstanceKey =
+        new DbCompositeKey<>(correlationKeyHash, elementInstanceKey);
+    subscriptionsByCorrelationKeyHashColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.MESSAGE_SUBSCRIPTION_BY_CORRELATION_KEY_HASH,
+            transactionContext,
+            correlationKeyHashElementInstanceKey,
+            DbNil.INSTANCE);
+  }
+
+  public void migrateMessageCorrelationKeyHash() {
+    final var iterator = new MemoryBoundedColumnIteration();
+
+    /*
+     `MESSAGES` -> `MESSAGES_BY_CORRELATION_KEY_HASH`
+    - Replace tenant, message name and correlation key by their hash
+     */
+    iterator.drain(
+        messagesColumnFamily,
+        (key, value) -> {
+          final var tenantAwareMessageName = key.first().first();
+          correlationKeyHash.wrapLong(
+              CorrelationKeyHash.hash(
+                  tenantAwareMessageName.tenantKey().getBuffer(),
+                  tenantAwareMessageName.wrappedKey().getBuffer(),
+                  key.first().second().getBuffer()));
+          messageKey.wrapLong(key.second().inner().getValue());
+          messagesByCorrelationKeyHashColumnFamily.insert(
+              correlationKeyHashMessageKey, DbNil.INSTANCE);
+        });
+
+    /*
+     `MESSAGE_SUBSCRIPTION_BY_NAME_AND_CORRELATION_KEY`
+       -> `MESSAGE_SUBSCRIPTION_BY_CORRELATION_KEY_HASH`
+    - Replace tenant, message name and correlation key by their hash
+     */
+    iterator.drain(
+        subscriptionsColumnFamily,
+        (key, value) -> {
+          final var tenantAwareNameAndCorrelationKey = key.first();
+          final var nameAndCorrelationKey = tenantAwareNameAndCorrelationKey.wrappedKey();
+          correlationKeyHash.wrapLong(
+              CorrelationKeyHash.hash(
+                  tenantAwareNameAndCorrelationKey.tenantKey().getBuffer(),
+                  nameAndCorrelationKey.first().getBuffer(),
+                  nameAndCorrelationKey.second().getBuffer()));
+          elementInstanceKey.wrapLong(key.second().getValue());
+          subscriptionsByCorrelationKeyHashColumnFamily.insert(
+              correlationKeyHashElementInstanceKey, DbNil.INSTANCE);
+        });
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.migration.to_8_8;
+
+import io.camunda.zeebe.engine.state.immutable.ProcessingState;
+import io.camunda.zeebe.engine.state.migration.MigrationTask;
+import io.camunda.zeebe.engine.state.migration.MigrationTaskContext;
+import io.camunda.zeebe.engine.state.migration.MutableMigrationTaskContext;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+
+/**
+ * Moves the messages and message subscriptions, which are found by their tenant, message name and
+ * correlation key, to the column families which are keyed by the hash of these values instead.
+ */
+public final class MessageCorrelationKeyHashMigration implements MigrationTask {
+
+  @Override
+  public String getIdentifier() {
+    return getClass().getSimpleName();
+  }
+
+  @Override
+  public boolean needsToRun(final MigrationTaskContext context) {
+    return hasEntriesKeyedByCorrelationKey(context.processingState());
+  }
+
+  @Override
+  public void runMigration(final MutableMigrationTaskContext context) {
+    final var migrationState = context.processingState().getMigrationState();
+    migrationState.migrateMessageCorrelationKeyHash();
+  }
+
+  private static boolean hasEntriesKeyedByCorrelationKey(final ProcessingState processingState) {
+    return !processingState.isEmpty(ZbColumnFamilies.MESSAGES)
+        || !processingState.isEmpty(
+            ZbColumnFamilies.MESSAGE_SUBSCRIPTION_BY_NAME_AND_CORRELATION_KEY);
+  }
+}
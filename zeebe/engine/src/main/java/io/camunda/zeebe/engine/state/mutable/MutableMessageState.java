@@ -10,6 +10,7 @@ package io.camunda.zeebe.engine.state.mutable;
 import io.camunda.zeebe.engine.state.immutable.MessageState;
 import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
 import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
+import java.util.List;
 import org.agrona.DirectBuffer;
 
 public interface MutableMessageState extends MessageState, StreamProcessorLifecycleAware {
@@ -29,4 +30,16 @@ public interface MutableMessageState extends MessageState, StreamProcessorLifecy
   void removeProcessInstanceCorrelationKey(long processInstanceKey);
 
   void remove(long messageKey);
+
+  /**
+   * Removes the given expired messages. The messages must be all messages of a contiguous range of
+   * deadlines, in the order of {@link #visitMessagesWithDeadlineBeforeTimestamp}, such that their
+   * deadlines can be removed as a single range. If they are not in deadline order, their deadlines
+   * are removed one by one instead.
+   *
+   * @param messageKeys the keys of the expired messages, in deadline order
+   * @throws IllegalStateException if another message has a deadline within the range of the given
+   *     messages' deadlines
+   */
+  void removeExpired(List<Long> messageKeys);
 }
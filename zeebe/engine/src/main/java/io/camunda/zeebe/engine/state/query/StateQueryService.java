@@ -75,7 +75,8 @@ public final class StateQueryService implements QueryService {
     }
     if (state == null) {
       // service is used for the first time, create state now
-      // we don't need a key generator here, so we set it to unsupported
+      // we don't need a key generator here, so we set it to unsupported; the element instances
+      // are not cached, as they are modified by the stream processor and not through this state
       state =
           new ProcessingDbState(
               Protocol.DEPLOYMENT_PARTITION,
@@ -86,7 +87,7 @@ public final class StateQueryService implements QueryService {
               },
               new TransientPendingSubscriptionState(),
               new TransientPendingSubscriptionState(),
-              new EngineConfiguration(),
+              new EngineConfiguration().setElementInstanceCacheCapacity(0),
               clock);
     }
   }
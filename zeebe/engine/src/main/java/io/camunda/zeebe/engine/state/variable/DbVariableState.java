@@ -27,6 +27,7 @@ import java.util.function.Predicate;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
 import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.MutableBoolean;
 import org.agrona.collections.MutableInteger;
 import org.agrona.collections.ObjectHashSet;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -54,7 +55,6 @@ public class DbVariableState implements MutableVariableState {
 
   // collecting variables
   private final ObjectHashSet<DirectBuffer> collectedVariables = new ObjectHashSet<>();
-  private final ObjectHashSet<DirectBuffer> variablesToCollect = new ObjectHashSet<>();
 
   public DbVariableState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
@@ -221,34 +221,46 @@ public class DbVariableState implements MutableVariableState {
     return resultView;
   }
 
+  /**
+   * Collects the variables with the given names into a document. Each variable is looked up by its
+   * name, instead of visiting all variables of the scopes, such that the other variables are
+   * neither read nor decoded.
+   */
   @Override
   public DirectBuffer getVariablesAsDocument(
       final long scopeKey, final Collection<DirectBuffer> names) {
 
-    variablesToCollect.clear();
-    variablesToCollect.addAll(names);
-
+    collectedVariables.clear();
     writer.wrap(documentResultBuffer, 0);
 
     writer.reserveMapHeader();
 
-    visitVariables(
-        scopeKey,
-        name -> variablesToCollect.contains(name.getBuffer()),
-        (name, value) -> {
-          writer.writeString(name.getBuffer());
-          writer.writeRaw(value.getValue());
+    final var variables = getVariablesView(scopeKey);
+    for (final DirectBuffer name : names) {
+      if (collectedVariables.contains(name)) {
+        continue;
+      }
 
-          variablesToCollect.remove(name.getBuffer());
-        },
-        variablesToCollect::isEmpty);
+      final DirectBuffer value = variables.getVariable(name);
+      if (value != null) {
+        writer.writeString(name);
+        writer.writeRaw(value);
+
+        collectedVariables.add(name);
+      }
+    }
 
-    writer.writeReservedMapHeader(0, names.size() - variablesToCollect.size());
+    writer.writeReservedMapHeader(0, collectedVariables.size());
 
     resultView.wrap(documentResultBuffer, 0, writer.getOffset());
     return resultView;
   }
 
+  @Override
+  public VariableDocumentView getVariablesView(final long scopeKey) {
+    return new VariableDocumentView(this, scopeKey);
+  }
+
   @Override
   public DirectBuffer getVariablesLocalAsDocument(final long scopeKey) {
     writer.wrap(documentResultBuffer, 0);
@@ -299,6 +311,20 @@ public class DbVariableState implements MutableVariableState {
     return getVariableLocal(scopeKey, name, 0, name.capacity());
   }
 
+  @Override
+  public boolean hasVariablesLocal(final long scopeKey) {
+    this.scopeKey.wrapLong(scopeKey);
+
+    final var hasVariables = new MutableBoolean();
+    variablesColumnFamily.whileEqualPrefix(
+        this.scopeKey,
+        (key, variable) -> {
+          hasVariables.set(true);
+          return false;
+        });
+    return hasVariables.get();
+  }
+
   @Override
   public long getParentScopeKey(final long childScopeKey) {
     childKey.wrapLong(childScopeKey);
@@ -0,0 +1,64 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.variable;
+
+import io.camunda.zeebe.engine.state.immutable.VariableState;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.LongArrayList;
+
+/**
+ * A view of the variables which are visible from a scope, i.e. the variables of the scope and of
+ * its ancestor scopes, where the variables of a scope hide the variables with the same name of its
+ * ancestors.
+ *
+ * <p>Unlike {@link VariableState#getVariablesAsDocument(long)}, the view doesn't collect the
+ * variables into a document. Instead, each variable is looked up and decoded only when it is
+ * requested. The scope hierarchy is resolved once, on the first lookup, such that subsequent
+ * lookups don't need to walk it again. Hence, the view must not outlive changes to the scope
+ * hierarchy.
+ */
+public final class VariableDocumentView {
+
+  private final VariableState variableState;
+  private final long scopeKey;
+  private final LongArrayList scopeKeys = new LongArrayList();
+
+  VariableDocumentView(final VariableState variableState, final long scopeKey) {
+    this.variableState = variableState;
+    this.scopeKey = scopeKey;
+  }
+
+  /**
+   * Returns the value of the variable with the given name, from the closest scope that contains it.
+   * The returned buffer is only valid until the next lookup of a variable.
+   *
+   * @param name the name of the variable
+   * @return the value of the variable, or {@code null} if no visible scope contains it
+   */
+  public DirectBuffer getVariable(final DirectBuffer name) {
+    if (scopeKeys.isEmpty()) {
+      resolveScopeKeys();
+    }
+
+    for (int i = 0; i < scopeKeys.size(); i++) {
+      final var value = variableState.getVariableLocal(scopeKeys.getLong(i), name);
+      if (value != null) {
+        return value;
+      }
+    }
+    return null;
+  }
+
+  private void resolveScopeKeys() {
+    long currentScopeKey = scopeKey;
+    do {
+      scopeKeys.addLong(currentScopeKey);
+      currentScopeKey = variableState.getParentScopeKey(currentScopeKey);
+    } while (currentScopeKey >= 0);
+  }
+}
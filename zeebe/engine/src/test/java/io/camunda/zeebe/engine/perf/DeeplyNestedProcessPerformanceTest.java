@@ -0,0 +1,153 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.perf;
+
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.perf.TestEngine.TestContext;
+import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.camunda.zeebe.engine.util.client.ProcessInstanceClient;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.model.bpmn.BpmnModelInstance;
+import io.camunda.zeebe.model.bpmn.builder.SubProcessBuilder;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.value.JobRecordValue;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.clock.DefaultActorClock;
+import io.camunda.zeebe.test.util.AutoCloseableRule;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.junit.rules.TemporaryFolder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of creating a process instance up to its first job, which is nested in
+ * many embedded sub-processes. Activating each level looks up its flow scopes again, so this
+ * compares the throughput with and without the element instance cache.
+ */
+@Warmup(iterations = 30, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 30, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class DeeplyNestedProcessPerformanceTest {
+
+  @Param({"10"})
+  private int nestingDepth;
+
+  @Param({"0", "1000"})
+  private int elementInstanceCacheCapacity;
+
+  private ProcessInstanceClient processInstanceClient;
+  private TestContext testContext;
+  private TestEngine singlePartitionEngine;
+
+  @Setup
+  public void setup() throws Throwable {
+    testContext = createTestContext();
+
+    final var engineConfiguration =
+        new EngineConfiguration().setElementInstanceCacheCapacity(elementInstanceCacheCapacity);
+    singlePartitionEngine =
+        TestEngine.createSinglePartitionEngine(
+            testContext, DefaultZeebeDbFactory.defaultFactory(), engineConfiguration);
+
+    singlePartitionEngine
+        .createDeploymentClient()
+        .withXmlResource(createNestedProcess(nestingDepth))
+        .deploy();
+    processInstanceClient = singlePartitionEngine.createProcessInstanceClient();
+  }
+
+  private TestContext createTestContext() throws IOException {
+    final var autoCloseableRule = new AutoCloseableRule();
+    final var temporaryFolder = new TemporaryFolder();
+    temporaryFolder.create();
+
+    final var actorScheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setActorClock(new DefaultActorClock())
+            .build();
+    autoCloseableRule.manage(actorScheduler);
+    actorScheduler.start();
+    return new TestContext(actorScheduler, temporaryFolder, autoCloseableRule);
+  }
+
+  private static BpmnModelInstance createNestedProcess(final int depth) {
+    return Bpmn.createExecutableProcess("process")
+        .startEvent()
+        .subProcess("subProcess-" + depth, subProcess -> nestSubProcess(subProcess, depth - 1))
+        .endEvent()
+        .done();
+  }
+
+  private static void nestSubProcess(final SubProcessBuilder subProcess, final int depth) {
+    final var startEvent = subProcess.embeddedSubProcess().startEvent();
+    if (depth > 0) {
+      startEvent
+          .subProcess("subProcess-" + depth, nested -> nestSubProcess(nested, depth - 1))
+          .endEvent();
+    } else {
+      startEvent.serviceTask("task", t -> t.zeebeJobType("task")).endEvent();
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    testContext.autoCloseableRule().after();
+  }
+
+  @Benchmark
+  public Record<?> measureNestedProcessInstanceCreation() {
+    final long piKey = processInstanceClient.ofBpmnProcessId("process").create();
+
+    final Record<JobRecordValue> task =
+        RecordingExporter.jobRecords()
+            .withIntent(JobIntent.CREATED)
+            .withType("task")
+            .withProcessInstanceKey(piKey)
+            .getFirst();
+
+    singlePartitionEngine.reset();
+    return task;
+  }
+
+  @JMHTest("measureNestedProcessInstanceCreation")
+  void shouldCreateNestedProcessInstancesWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured on a developer machine
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 200;
+
+    // when
+    final var assertResult =
+        testCase
+            .withOptions(options -> options.param("elementInstanceCacheCapacity", "1000"))
+            .run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+}
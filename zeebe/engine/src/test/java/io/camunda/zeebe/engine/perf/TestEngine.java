@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.engine.perf;
 
+import io.camunda.zeebe.db.ZeebeDbFactory;
+import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.processing.EngineProcessors;
 import io.camunda.zeebe.engine.processing.message.command.SubscriptionCommandSender;
 import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer;
@@ -17,6 +19,7 @@ import io.camunda.zeebe.engine.util.TestInterPartitionCommandSender;
 import io.camunda.zeebe.engine.util.TestStreams;
 import io.camunda.zeebe.engine.util.client.DeploymentClient;
 import io.camunda.zeebe.engine.util.client.ProcessInstanceClient;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.scheduler.ActorScheduler;
 import io.camunda.zeebe.stream.impl.StreamProcessorBuilder;
 import io.camunda.zeebe.stream.impl.StreamProcessorMode;
@@ -40,6 +43,8 @@ public final class TestEngine {
       final int partitionId,
       final int partitionCount,
       final TestContext testContext,
+      final ZeebeDbFactory<ZbColumnFamilies> zeebeDbFactory,
+      final EngineConfiguration engineConfiguration,
       final Consumer<StreamProcessorBuilder> processorConfiguration) {
     this.partitionCount = partitionCount;
 
@@ -52,6 +57,7 @@ public final class TestEngine {
     testStreams.withStreamProcessorMode(StreamProcessorMode.PROCESSING);
     // for performance reasons we want to enable batch processing
     testStreams.maxCommandsInBatch(100);
+    testStreams.engineConfiguration(engineConfiguration);
 
     testContext
         .autoCloseableRule()
@@ -61,10 +67,7 @@ public final class TestEngine {
 
     streamProcessingComposite =
         new StreamProcessingComposite(
-            testStreams,
-            partitionId,
-            DefaultZeebeDbFactory.defaultFactory(),
-            testContext.actorScheduler());
+            testStreams, partitionId, zeebeDbFactory, testContext.actorScheduler());
 
     final var interPartitionCommandSenders = new ArrayList<TestInterPartitionCommandSender>();
     final var featureFlags = FeatureFlags.createDefaultForTests();
@@ -104,7 +107,19 @@ public final class TestEngine {
   }
 
   public static TestEngine createSinglePartitionEngine(final TestContext testContext) {
-    return new TestEngine(1, 1, testContext, cfg -> {});
+    return createSinglePartitionEngine(testContext, DefaultZeebeDbFactory.defaultFactory());
+  }
+
+  public static TestEngine createSinglePartitionEngine(
+      final TestContext testContext, final ZeebeDbFactory<ZbColumnFamilies> zeebeDbFactory) {
+    return createSinglePartitionEngine(testContext, zeebeDbFactory, new EngineConfiguration());
+  }
+
+  public static TestEngine createSinglePartitionEngine(
+      final TestContext testContext,
+      final ZeebeDbFactory<ZbColumnFamilies> zeebeDbFactory,
+      final EngineConfiguration engineConfiguration) {
+    return new TestEngine(1, 1, testContext, zeebeDbFactory, engineConfiguration, cfg -> {});
   }
 
   public void reset() {
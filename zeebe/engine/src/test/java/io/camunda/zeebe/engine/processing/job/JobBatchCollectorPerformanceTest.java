@@ -0,0 +1,173 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.job;
+
+import io.camunda.security.configuration.SecurityConfiguration;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.processing.identity.AuthorizationCheckBehavior;
+import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.camunda.zeebe.engine.state.ProcessingDbState;
+import io.camunda.zeebe.engine.state.message.TransientPendingSubscriptionState;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
+import io.camunda.zeebe.engine.util.MockTypedRecord;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
+import io.camunda.zeebe.protocol.record.value.TenantOwned;
+import io.camunda.zeebe.stream.impl.state.DbKeyGenerator;
+import io.camunda.zeebe.test.util.MsgPackUtil;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.InstantSource;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures collecting a batch of jobs for activation, including resolving their variables. The jobs
+ * are spread over a few process instances, like the jobs of multi-instance tasks, such that they
+ * share their variable scopes.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class JobBatchCollectorPerformanceTest {
+
+  private static final String JOB_TYPE = "job";
+  private static final int PROCESS_INSTANCE_COUNT = 10;
+  private static final int JOBS_PER_PROCESS_INSTANCE = 10;
+  private static final int VARIABLE_COUNT = 10;
+
+  /** The size of each variable's value in bytes. */
+  @Param({"10", "1000", "10000"})
+  public int variableSize;
+
+  private Path directory;
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private MutableProcessingState state;
+  private JobBatchCollector collector;
+
+  @Setup
+  public void setup() throws Exception {
+    directory = Files.createTempDirectory("job-batch-perf");
+    zeebeDb = DefaultZeebeDbFactory.defaultFactory().createDb(directory.toFile());
+    final TransactionContext transactionContext = zeebeDb.createContext();
+    state =
+        new ProcessingDbState(
+            Protocol.DEPLOYMENT_PARTITION,
+            zeebeDb,
+            transactionContext,
+            new DbKeyGenerator(Protocol.DEPLOYMENT_PARTITION, zeebeDb, transactionContext),
+            new TransientPendingSubscriptionState(),
+            new TransientPendingSubscriptionState(),
+            new EngineConfiguration(),
+            InstantSource.system());
+    collector =
+        new JobBatchCollector(
+            state,
+            length -> true,
+            new AuthorizationCheckBehavior(state, new SecurityConfiguration()));
+
+    final var value = MsgPackUtil.encodeMsgPack(b -> b.packString("x".repeat(variableSize)));
+    for (int i = 0; i < PROCESS_INSTANCE_COUNT; i++) {
+      final long processInstanceKey = state.getKeyGenerator().nextKey();
+      for (int variable = 0; variable < VARIABLE_COUNT; variable++) {
+        state
+            .getVariableState()
+            .setVariableLocal(
+                state.getKeyGenerator().nextKey(),
+                processInstanceKey,
+                processInstanceKey,
+                BufferUtil.wrapString("var" + variable),
+                value);
+      }
+
+      for (int job = 0; job < JOBS_PER_PROCESS_INSTANCE; job++) {
+        final long elementInstanceKey = state.getKeyGenerator().nextKey();
+        state.getVariableState().createScope(elementInstanceKey, processInstanceKey);
+        state
+            .getJobState()
+            .create(
+                state.getKeyGenerator().nextKey(),
+                new JobRecord()
+                    .setBpmnProcessId("process")
+                    .setElementId("task")
+                    .setProcessInstanceKey(processInstanceKey)
+                    .setElementInstanceKey(elementInstanceKey)
+                    .setType(JOB_TYPE)
+                    .setTenantId(TenantOwned.DEFAULT_TENANT_IDENTIFIER));
+      }
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolderIfExists(directory);
+  }
+
+  @Benchmark
+  public JobBatchRecord measureCollectJobs() {
+    final var batchRecord =
+        new JobBatchRecord()
+            .setTimeout(Duration.ofSeconds(10).toMillis())
+            .setMaxJobsToActivate(PROCESS_INSTANCE_COUNT * JOBS_PER_PROCESS_INSTANCE)
+            .setType(JOB_TYPE)
+            .setWorker("worker")
+            .setTenantIds(List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER));
+    final var metadata =
+        new RecordMetadata()
+            .recordType(RecordType.COMMAND)
+            .intent(JobBatchIntent.ACTIVATE)
+            .valueType(ValueType.JOB_BATCH);
+
+    collector.collectJobs(new MockTypedRecord<>(1, metadata, batchRecord));
+    return batchRecord;
+  }
+
+  @JMHTest("measureCollectJobs")
+  void shouldCollectJobsWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score for batches of 100 jobs with 1 KB variables
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 2_000;
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("variableSize", "1000")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+}
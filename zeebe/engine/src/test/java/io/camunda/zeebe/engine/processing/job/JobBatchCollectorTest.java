@@ -292,6 +292,87 @@ final class JobBatchCollectorTest {
     assertThat(estimatedLength.ref).isEqualTo(expectedLength);
   }
 
+  @Test
+  void shouldCollectVariablesOfSharedParentScope() {
+    // given - jobs of sibling scopes, one of which overrides a variable of the parent scope
+    final TypedRecord<JobBatchRecord> record = createRecord();
+    final long parentScopeKey = state.getKeyGenerator().nextKey();
+    final long firstScopeKey = state.getKeyGenerator().nextKey();
+    final long secondScopeKey = state.getKeyGenerator().nextKey();
+    final long thirdScopeKey = state.getKeyGenerator().nextKey();
+    state.getVariableState().createScope(firstScopeKey, parentScopeKey);
+    state.getVariableState().createScope(secondScopeKey, parentScopeKey);
+    state.getVariableState().createScope(thirdScopeKey, parentScopeKey);
+    setVariables(parentScopeKey, Map.of("foo", "bar", "baz", "buz"));
+    setVariables(secondScopeKey, Map.of("foo", "local"));
+    createJob(firstScopeKey);
+    createJob(secondScopeKey);
+    createJob(thirdScopeKey);
+
+    // when
+    collector.collectJobs(record);
+
+    // then
+    final JobBatchRecord batchRecord = record.getValue();
+    JobBatchRecordValueAssert.assertThat(batchRecord)
+        .satisfies(
+            batch -> {
+              final List<JobRecordValue> activatedJobs = batch.getJobs();
+              RecordValueWithVariablesAssert.assertThat(activatedJobs.get(0))
+                  .hasVariables(Map.of("foo", "bar", "baz", "buz"));
+              RecordValueWithVariablesAssert.assertThat(activatedJobs.get(1))
+                  .hasVariables(Map.of("foo", "local", "baz", "buz"));
+              RecordValueWithVariablesAssert.assertThat(activatedJobs.get(2))
+                  .hasVariables(Map.of("foo", "bar", "baz", "buz"));
+            });
+  }
+
+  @Test
+  void shouldNotReuseVariablesOfPreviousBatch() {
+    // given
+    final long parentScopeKey = state.getKeyGenerator().nextKey();
+    final long scopeKey = state.getKeyGenerator().nextKey();
+    state.getVariableState().createScope(scopeKey, parentScopeKey);
+    setVariables(parentScopeKey, Map.of("foo", "bar"));
+    createJob(scopeKey);
+    collector.collectJobs(createRecord());
+
+    // when
+    setVariables(parentScopeKey, Map.of("foo", "baz"));
+    final TypedRecord<JobBatchRecord> record = createRecord();
+    collector.collectJobs(record);
+
+    // then
+    final JobRecordValue activatedJob = record.getValue().getJobs().getFirst();
+    RecordValueWithVariablesAssert.assertThat(activatedJob).hasVariables(Map.of("foo", "baz"));
+  }
+
+  @Test
+  void shouldNotUnderestimateLengthOfLargerBatches() {
+    // given
+    final TypedRecord<JobBatchRecord> record = createRecord();
+    final MutableReference<Integer> estimatedLength = new MutableReference<>();
+    for (int i = 0; i < 20; i++) {
+      createJobWithVariables(state.getKeyGenerator().nextKey(), Map.of("foo", "bar" + i));
+    }
+    record.getValue().setMaxJobsToActivate(20);
+
+    // when
+    lengthEvaluator.canWriteEventOfLength =
+        length -> {
+          estimatedLength.set(length);
+          return true;
+        };
+    collector.collectJobs(record);
+
+    // then - the last estimate must cover the whole batch, except for the key of the last job
+    // which, same as for the first job, is left to the buffer
+    final int maxJobKeyLength = Long.BYTES + 1;
+    assertThat(record.getValue().getJobs()).hasSize(20);
+    assertThat(estimatedLength.ref - EngineConfiguration.BATCH_SIZE_CALCULATION_BUFFER)
+        .isGreaterThanOrEqualTo(record.getLength() - maxJobKeyLength);
+  }
+
   @Test
   public void shouldCollectOnlyCustomTenantJobs() {
     // given
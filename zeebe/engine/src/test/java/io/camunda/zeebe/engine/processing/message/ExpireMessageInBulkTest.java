@@ -0,0 +1,101 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.message;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.util.EngineRule;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.MessageBatchIntent;
+import io.camunda.zeebe.protocol.record.intent.MessageIntent;
+import io.camunda.zeebe.protocol.record.value.MessageBatchRecordValue;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import io.camunda.zeebe.test.util.record.RecordingExporterTestWatcher;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class ExpireMessageInBulkTest {
+
+  private static final int BATCH_LIMIT = 2;
+
+  @Rule
+  public final EngineRule engine =
+      EngineRule.singlePartition()
+          .withEngineConfig(
+              config ->
+                  config
+                      .setMessagesTtlCheckerBulkExpiry(true)
+                      .setMessagesTtlCheckerBatchLimit(BATCH_LIMIT));
+
+  @Rule
+  public final RecordingExporterTestWatcher recordingExporterTestWatcher =
+      new RecordingExporterTestWatcher();
+
+  @Test
+  public void shouldExpireMessagesInBulk() {
+    // given
+    final var messageKeys =
+        List.of(publishMessage("first"), publishMessage("second"), publishMessage("third"));
+
+    // when
+    engine.increaseTime(EngineConfiguration.DEFAULT_MESSAGES_TTL_CHECKER_INTERVAL);
+
+    // then - the bulk expiry continues by itself once it reaches the batch limit
+    final var expiredBatches =
+        RecordingExporter.messageBatchRecords()
+            .withIntent(MessageBatchIntent.EXPIRED)
+            .limit(2)
+            .map(Record::getValue)
+            .map(MessageBatchRecordValue::getMessageKeys)
+            .toList();
+    assertThat(expiredBatches)
+        .containsExactly(messageKeys.subList(0, BATCH_LIMIT), messageKeys.subList(BATCH_LIMIT, 3));
+
+    assertThat(
+            RecordingExporter.messageBatchRecords()
+                .withIntent(MessageBatchIntent.EXPIRE)
+                .limit(2)
+                .map(Record::getValue)
+                .map(MessageBatchRecordValue::getMessageKeys))
+        .describedAs("expected bulk expiry commands without message keys")
+        .allMatch(List::isEmpty);
+  }
+
+  @Test
+  public void shouldNotWriteExpiredEventPerMessage() {
+    // given
+    publishMessage("first");
+
+    // when
+    engine.increaseTime(EngineConfiguration.DEFAULT_MESSAGES_TTL_CHECKER_INTERVAL);
+    RecordingExporter.messageBatchRecords().withIntent(MessageBatchIntent.EXPIRED).await();
+
+    // then
+    engine.message().withName("marker").withCorrelationKey("marker").publish();
+    assertThat(
+            RecordingExporter.messageRecords()
+                .limit(
+                    r ->
+                        r.getIntent() == MessageIntent.PUBLISHED
+                            && r.getValue().getName().equals("marker"))
+                .withIntent(MessageIntent.EXPIRED))
+        .isEmpty();
+  }
+
+  private long publishMessage(final String correlationKey) {
+    return engine
+        .message()
+        .withName("message")
+        .withCorrelationKey(correlationKey)
+        .withTimeToLive(100L)
+        .publish()
+        .getKey();
+  }
+}
@@ -16,21 +16,27 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import io.camunda.zeebe.engine.metrics.MessageExpiryMetrics;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
+import io.camunda.zeebe.engine.state.immutable.MessageState;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.impl.record.value.message.MessageBatchRecord;
 import io.camunda.zeebe.stream.api.records.ExceededBatchRecordSizeException;
 import io.camunda.zeebe.stream.impl.records.RecordBatchEntry;
 import io.camunda.zeebe.stream.impl.records.UnwrittenRecord;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.InstantSource;
 import org.junit.Test;
 import org.mockito.Mockito;
 
 public final class MessageBatchExpireProcessorTest {
 
   private final StateWriter stateWriter = Mockito.mock(StateWriter.class);
-  final MessageBatchExpireProcessor messageBatchExpireProcessor =
-      new MessageBatchExpireProcessor(stateWriter);
+  private final Writers writers = Mockito.mock(Writers.class);
+  final MessageBatchExpireProcessor messageBatchExpireProcessor = createProcessor();
 
   @Test
   public void shouldStopProcessingWhenExceedingBatchLimit() {
@@ -59,4 +65,14 @@ public final class MessageBatchExpireProcessorTest {
     // then
     verify(stateWriter, times(3)).appendFollowUpEvent(anyLong(), any(), any());
   }
+
+  private MessageBatchExpireProcessor createProcessor() {
+    when(writers.state()).thenReturn(stateWriter);
+    return new MessageBatchExpireProcessor(
+        writers,
+        mock(MessageState.class),
+        InstantSource.system(),
+        Integer.MAX_VALUE,
+        new MessageExpiryMetrics(new SimpleMeterRegistry()));
+  }
 }
@@ -103,7 +103,8 @@ public final class MessageStreamProcessorTest {
               FeatureFlags.createDefault(),
               spyCommandDistributionBehavior,
               InstantSource.system(),
-              mockAuthCheckBehavior);
+              mockAuthCheckBehavior,
+              processingContext.getMeterRegistry());
           return typedRecordProcessors;
         });
   }
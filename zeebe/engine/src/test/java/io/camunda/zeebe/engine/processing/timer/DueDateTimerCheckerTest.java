@@ -17,16 +17,22 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import io.camunda.zeebe.engine.metrics.EngineMetricsDoc;
+import io.camunda.zeebe.engine.metrics.TimerMetrics;
+import io.camunda.zeebe.engine.processing.timer.DueDateTimerChecker.TriggerTimersFromWheelSideEffect;
 import io.camunda.zeebe.engine.processing.timer.DueDateTimerChecker.TriggerTimersSideEffect;
 import io.camunda.zeebe.engine.processing.timer.DueDateTimerChecker.YieldingDecorator;
 import io.camunda.zeebe.engine.state.immutable.TimerInstanceState;
+import io.camunda.zeebe.engine.state.immutable.TimerInstanceState.DueTimerVisitor;
 import io.camunda.zeebe.engine.state.immutable.TimerInstanceState.TimerVisitor;
 import io.camunda.zeebe.engine.state.instance.TimerInstance;
 import io.camunda.zeebe.protocol.record.intent.TimerIntent;
 import io.camunda.zeebe.protocol.record.value.TenantOwned;
 import io.camunda.zeebe.stream.api.scheduling.TaskResultBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Instant;
 import java.time.InstantSource;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -114,6 +120,132 @@ class DueDateTimerCheckerTest {
     }
   }
 
+  @Nested
+  final class TriggerTimersFromWheelSideEffectTest {
+
+    private static final long ELEMENT_INSTANCE_KEY = 1L;
+    private static final long TIMER_KEY = 2L;
+
+    private final TestActorClock testActorClock = new TestActorClock();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private TimerInstanceState mockTimerInstanceState;
+    private TaskResultBuilder mockTaskResultBuilder;
+    private TriggerTimersFromWheelSideEffect sut;
+
+    @BeforeEach
+    void setUp() {
+      mockTaskResultBuilder = mock(TaskResultBuilder.class);
+      when(mockTaskResultBuilder.appendCommandRecord(anyLong(), any(), any())).thenReturn(true);
+
+      final var mockTimer = mock(TimerInstance.class, Mockito.RETURNS_DEEP_STUBS);
+      when(mockTimer.getKey()).thenReturn(TIMER_KEY);
+      when(mockTimer.getTenantId()).thenReturn(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+
+      mockTimerInstanceState = mock(TimerInstanceState.class);
+      when(mockTimerInstanceState.forEachTimerDueBetween(anyLong(), anyLong(), any()))
+          .thenReturn(-1L);
+      when(mockTimerInstanceState.get(ELEMENT_INSTANCE_KEY, TIMER_KEY)).thenReturn(mockTimer);
+
+      testActorClock.setTime(1_000);
+      sut =
+          new TriggerTimersFromWheelSideEffect(
+              mockTimerInstanceState, testActorClock, false, new TimerMetrics(meterRegistry));
+    }
+
+    @Test
+    void shouldTriggerTimerLoadedFromState() {
+      // given
+      when(mockTimerInstanceState.forEachTimerDueBetween(anyLong(), anyLong(), any()))
+          .thenAnswer(
+              invocation -> {
+                final DueTimerVisitor visitor = invocation.getArgument(2);
+                visitor.visit(500, ELEMENT_INSTANCE_KEY, TIMER_KEY);
+                return -1L;
+              });
+
+      // when
+      sut.apply(mockTaskResultBuilder);
+
+      // then
+      verify(mockTaskResultBuilder)
+          .appendCommandRecord(eq(TIMER_KEY), eq(TimerIntent.TRIGGER), any());
+    }
+
+    @Test
+    void shouldTriggerAddedTimerOnceDue() {
+      // given
+      sut.apply(mockTaskResultBuilder);
+      sut.addTimer(TIMER_KEY, ELEMENT_INSTANCE_KEY, 2_000);
+
+      // when
+      final long nextDueDate = sut.apply(mockTaskResultBuilder);
+      testActorClock.setTime(2_000);
+      sut.apply(mockTaskResultBuilder);
+
+      // then
+      assertThat(nextDueDate).isEqualTo(2_000);
+      verify(mockTaskResultBuilder)
+          .appendCommandRecord(eq(TIMER_KEY), eq(TimerIntent.TRIGGER), any());
+    }
+
+    @Test
+    void shouldNotTriggerTimerWhichNoLongerExists() {
+      // given
+      sut.apply(mockTaskResultBuilder);
+      sut.addTimer(TIMER_KEY + 1, ELEMENT_INSTANCE_KEY, 1_000);
+
+      // when
+      final long nextDueDate = sut.apply(mockTaskResultBuilder);
+
+      // then
+      assertThat(nextDueDate).isEqualTo(-1L);
+      verifyNoInteractions(mockTaskResultBuilder);
+    }
+
+    @Test
+    void shouldReturnDueDateOfTimerAfterWheel() {
+      // given
+      when(mockTimerInstanceState.forEachTimerDueBetween(anyLong(), anyLong(), any()))
+          .thenReturn(1_000_000L);
+
+      // when
+      final long nextDueDate = sut.apply(mockTaskResultBuilder);
+
+      // then
+      assertThat(nextDueDate).isEqualTo(1_000_000L);
+      verifyNoInteractions(mockTaskResultBuilder);
+    }
+
+    @Test
+    void shouldRecordTriggerLag() {
+      // given
+      sut.apply(mockTaskResultBuilder);
+      sut.addTimer(TIMER_KEY, ELEMENT_INSTANCE_KEY, 900);
+
+      // when
+      sut.apply(mockTaskResultBuilder);
+
+      // then
+      final var triggerLag =
+          meterRegistry.get(EngineMetricsDoc.TIMER_TRIGGER_LAG.getName()).timer();
+      assertThat(triggerLag.count()).isOne();
+      assertThat(triggerLag.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(100);
+    }
+
+    @Test
+    void shouldReloadTimersFromStateWhenRequested() {
+      // given
+      sut.apply(mockTaskResultBuilder);
+
+      // when
+      sut.reload();
+      sut.apply(mockTaskResultBuilder);
+
+      // then
+      verify(mockTimerInstanceState, times(2)).forEachTimerDueBetween(eq(0L), anyLong(), any());
+    }
+  }
+
   @Nested
   final class YieldingDecoratorTest {
 
@@ -233,5 +365,11 @@ class DueDateTimerCheckerTest {
     public TimerInstance get(final long elementInstanceKey, final long timerKey) {
       return null;
     }
+
+    @Override
+    public long forEachTimerDueBetween(
+        final long fromInclusive, final long toExclusive, final DueTimerVisitor visitor) {
+      return -1;
+    }
   }
 }
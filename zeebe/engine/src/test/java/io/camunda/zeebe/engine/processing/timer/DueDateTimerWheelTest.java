@@ -0,0 +1,197 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.timer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.processing.timer.DueDateTimerWheel.TimerReference;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class DueDateTimerWheelTest {
+
+  private static final long START_TIME = 1_000_000L;
+
+  private final List<TimerReference> expiredTimers = new ArrayList<>();
+  private DueDateTimerWheel wheel;
+
+  @BeforeEach
+  void setUp() {
+    wheel = new DueDateTimerWheel(START_TIME, 2);
+    wheel.setHorizon(START_TIME + DueDateTimerWheel.WINDOW);
+  }
+
+  @Test
+  void shouldExpireTimerAtDueDate() {
+    // given
+    final var timer = timer(1, START_TIME + 500);
+    wheel.add(timer);
+
+    // when
+    wheel.pollExpired(START_TIME + 499, expiredTimers::add);
+    final var expiredBeforeDueDate = new ArrayList<>(expiredTimers);
+    wheel.pollExpired(START_TIME + 500, expiredTimers::add);
+
+    // then
+    assertThat(expiredBeforeDueDate).isEmpty();
+    assertThat(expiredTimers).containsExactly(timer);
+    assertThat(wheel.size()).isZero();
+  }
+
+  @Test
+  void shouldExpireOverdueTimerImmediately() {
+    // given
+    final var timer = timer(1, START_TIME - 10_000);
+    wheel.add(timer);
+
+    // when
+    wheel.pollExpired(START_TIME, expiredTimers::add);
+
+    // then
+    assertThat(expiredTimers).containsExactly(timer);
+  }
+
+  @Test
+  void shouldNotAddTimerAtOrAfterHorizon() {
+    // when
+    final boolean added = wheel.add(timer(1, wheel.horizon()));
+
+    // then
+    assertThat(added).isFalse();
+    assertThat(wheel.size()).isZero();
+  }
+
+  @Test
+  void shouldNotAddTimerTwice() {
+    // given
+    wheel.add(timer(1, START_TIME + 500));
+
+    // when
+    final boolean added = wheel.add(timer(1, START_TIME + 500));
+
+    // then
+    assertThat(added).isFalse();
+    assertThat(wheel.size()).isOne();
+  }
+
+  @Test
+  void shouldNotAddTimerBeforeLoaded() {
+    // given
+    wheel.reset(START_TIME);
+
+    // when
+    final boolean added = wheel.add(timer(1, START_TIME + 500));
+
+    // then
+    assertThat(wheel.isLoaded()).isFalse();
+    assertThat(added).isFalse();
+  }
+
+  @Test
+  void shouldKeepRejectedTimerAndStopPolling() {
+    // given
+    final var rejectedTimer = timer(1, START_TIME + 100);
+    final var laterTimer = timer(2, START_TIME + 1_000);
+    wheel.add(rejectedTimer);
+    wheel.add(laterTimer);
+
+    // when
+    final boolean completed =
+        wheel.pollExpired(
+            START_TIME + 1_000,
+            timer -> {
+              expiredTimers.add(timer);
+              return false;
+            });
+
+    // then
+    assertThat(completed).isFalse();
+    assertThat(expiredTimers).containsExactly(rejectedTimer);
+    assertThat(wheel.size()).isEqualTo(2);
+    assertThat(wheel.nextDeadline()).isEqualTo(START_TIME + 100);
+  }
+
+  @Test
+  void shouldRescheduleTimerAtDeadline() {
+    // given
+    final var timer = timer(1, START_TIME);
+    wheel.add(timer);
+    wheel.pollExpired(START_TIME, expiredTimers::add);
+
+    // when
+    wheel.reschedule(timer, START_TIME + 1_000);
+
+    // then
+    assertThat(wheel.nextDeadline()).isEqualTo(START_TIME + 1_000);
+  }
+
+  @Test
+  void shouldReturnEarliestDeadline() {
+    // given
+    wheel.add(timer(1, START_TIME + 5_000));
+    wheel.add(timer(2, START_TIME + 1_000));
+
+    // when
+    final long nextDeadline = wheel.nextDeadline();
+
+    // then
+    assertThat(nextDeadline).isEqualTo(START_TIME + 1_000);
+  }
+
+  @Test
+  void shouldReturnEarliestDeadlineOfRemainingTimers() {
+    // given
+    wheel.add(timer(1, START_TIME + 1_000));
+    wheel.add(timer(2, START_TIME + 5_000));
+    wheel.add(timer(3, START_TIME + 5_000));
+
+    // when
+    wheel.pollExpired(START_TIME + 1_000, expiredTimers::add);
+
+    // then
+    assertThat(wheel.nextDeadline()).isEqualTo(START_TIME + 5_000);
+  }
+
+  @Test
+  void shouldReturnNoDeadlineIfEmpty() {
+    // when
+    final long nextDeadline = wheel.nextDeadline();
+
+    // then
+    assertThat(nextDeadline).isEqualTo(-1L);
+  }
+
+  @Test
+  void shouldBeFullAtCapacity() {
+    // when
+    wheel.add(timer(1, START_TIME + 500));
+    wheel.add(timer(2, START_TIME + 500));
+
+    // then
+    assertThat(wheel.isFull()).isTrue();
+  }
+
+  @Test
+  void shouldRemoveAllTimersOnReset() {
+    // given
+    wheel.add(timer(1, START_TIME + 500));
+
+    // when
+    wheel.reset(START_TIME + 500);
+
+    // then
+    assertThat(wheel.size()).isZero();
+    assertThat(wheel.nextDeadline()).isEqualTo(-1L);
+  }
+
+  private static TimerReference timer(final long timerKey, final long dueDate) {
+    return new TimerReference(timerKey, 100 + timerKey, dueDate, false);
+  }
+}
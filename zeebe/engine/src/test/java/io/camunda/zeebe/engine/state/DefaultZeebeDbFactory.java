@@ -19,10 +19,15 @@ import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 public final class DefaultZeebeDbFactory {
 
   public static ZeebeDbFactory<ZbColumnFamilies> defaultFactory() {
+    return defaultFactory(new RocksDbConfiguration());
+  }
+
+  public static ZeebeDbFactory<ZbColumnFamilies> defaultFactory(
+      final RocksDbConfiguration rocksDbConfiguration) {
     // enable consistency checks for tests
     final var consistencyChecks = new ConsistencyChecksSettings(true, true);
     return new ZeebeRocksDbFactory<>(
-        new RocksDbConfiguration(),
+        rocksDbConfiguration,
         consistencyChecks,
         new AccessMetricsConfiguration(Kind.NONE, 1),
         SimpleMeterRegistry::new);
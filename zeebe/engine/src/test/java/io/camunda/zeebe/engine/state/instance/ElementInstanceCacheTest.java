@@ -0,0 +1,152 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.metrics.EngineMetricsDoc;
+import io.camunda.zeebe.engine.metrics.EngineMetricsDoc.CacheResult;
+import io.camunda.zeebe.engine.metrics.EngineMetricsDoc.EngineKeyNames;
+import io.camunda.zeebe.engine.state.mutable.MutableElementInstanceState;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
+import io.camunda.zeebe.engine.util.ProcessingStateExtension;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(ProcessingStateExtension.class)
+final class ElementInstanceCacheTest {
+
+  @SuppressWarnings("unused") // injected by the extension
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+
+  @SuppressWarnings("unused") // injected by the extension
+  private TransactionContext transactionContext;
+
+  @SuppressWarnings("unused") // injected by the extension
+  private MutableProcessingState processingState;
+
+  private MutableElementInstanceState elementInstanceState;
+
+  @BeforeEach
+  void setUp() {
+    elementInstanceState = processingState.getElementInstanceState();
+  }
+
+  @Test
+  void shouldCountCacheHitsAndMisses() {
+    // given
+    elementInstanceState.newInstance(
+        100, createProcessInstanceRecord(), ProcessInstanceIntent.ELEMENT_ACTIVATED);
+
+    // when
+    elementInstanceState.getInstance(100);
+    elementInstanceState.getInstance(101);
+
+    // then
+    assertThat(lookups(CacheResult.HIT)).isEqualTo(1);
+    assertThat(lookups(CacheResult.MISS)).isEqualTo(1);
+  }
+
+  @Test
+  void shouldNotChangeCachedInstanceWhenModifyingReturnedInstance() {
+    // given
+    elementInstanceState.newInstance(
+        100, createProcessInstanceRecord(), ProcessInstanceIntent.ELEMENT_ACTIVATED);
+
+    // when
+    final var instance = elementInstanceState.getInstance(100);
+    instance.setState(ProcessInstanceIntent.ELEMENT_COMPLETING);
+    instance.setJobKey(5);
+
+    // then
+    final var cachedInstance = elementInstanceState.getInstance(100);
+    assertThat(cachedInstance.getState()).isEqualTo(ProcessInstanceIntent.ELEMENT_ACTIVATED);
+    assertThat(cachedInstance.getJobKey()).isZero();
+  }
+
+  @Test
+  void shouldReturnUpdatedInstance() {
+    // given
+    final var instance =
+        elementInstanceState.newInstance(
+            100, createProcessInstanceRecord(), ProcessInstanceIntent.ELEMENT_ACTIVATED);
+    elementInstanceState.getInstance(100);
+
+    // when
+    instance.setState(ProcessInstanceIntent.ELEMENT_COMPLETING);
+    elementInstanceState.updateInstance(instance);
+
+    // then
+    assertThat(elementInstanceState.getInstance(100).getState())
+        .isEqualTo(ProcessInstanceIntent.ELEMENT_COMPLETING);
+  }
+
+  @Test
+  void shouldNotReturnRemovedInstance() {
+    // given
+    elementInstanceState.newInstance(
+        100, createProcessInstanceRecord(), ProcessInstanceIntent.ELEMENT_ACTIVATED);
+    elementInstanceState.getInstance(100);
+
+    // when
+    elementInstanceState.removeInstance(100);
+
+    // then
+    assertThat(elementInstanceState.getInstance(100)).isNull();
+  }
+
+  @Test
+  void shouldNotReturnRolledBackChanges() throws Exception {
+    // given
+    final var instance =
+        elementInstanceState.newInstance(
+            100, createProcessInstanceRecord(), ProcessInstanceIntent.ELEMENT_ACTIVATED);
+    final var transaction = transactionContext.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          instance.setState(ProcessInstanceIntent.ELEMENT_COMPLETING);
+          elementInstanceState.updateInstance(instance);
+        });
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(elementInstanceState.getInstance(100).getState())
+        .isEqualTo(ProcessInstanceIntent.ELEMENT_ACTIVATED);
+  }
+
+  private double lookups(final CacheResult result) {
+    return zeebeDb
+        .getMeterRegistry()
+        .get(EngineMetricsDoc.ELEMENT_INSTANCE_CACHE_LOOKUPS.getName())
+        .tag(EngineKeyNames.CACHE_RESULT.asString(), result.toString())
+        .counter()
+        .count();
+  }
+
+  private ProcessInstanceRecord createProcessInstanceRecord() {
+    final ProcessInstanceRecord processInstanceRecord = new ProcessInstanceRecord();
+    processInstanceRecord.setElementId("startEvent");
+    processInstanceRecord.setBpmnProcessId(wrapString("process1"));
+    processInstanceRecord.setProcessInstanceKey(1000L);
+    processInstanceRecord.setFlowScopeKey(1001L);
+    processInstanceRecord.setVersion(1);
+    processInstanceRecord.setProcessDefinitionKey(2);
+    processInstanceRecord.setBpmnElementType(BpmnElementType.START_EVENT);
+    return processInstanceRecord;
+  }
+}
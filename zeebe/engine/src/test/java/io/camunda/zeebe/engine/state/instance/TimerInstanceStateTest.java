@@ -201,6 +201,66 @@ public final class TimerInstanceStateTest {
     assertThat(keys).hasSize(2).containsExactly(1L, 2L);
   }
 
+  @Test
+  public void shouldVisitTimersDueBetween() {
+    // given
+    createTimerInstance(1, 2, 1000L);
+    createTimerInstance(3, 4, 2000L);
+    createTimerInstance(5, 6, 3000L);
+
+    // when
+    final List<Long> timerKeys = new ArrayList<>();
+    final long nextDueDate =
+        state.forEachTimerDueBetween(
+            1000L,
+            3000L,
+            (dueDate, elementInstanceKey, timerKey) -> {
+              timerKeys.add(timerKey);
+              return true;
+            });
+
+    // then
+    assertThat(timerKeys).containsExactly(2L, 4L);
+    assertThat(nextDueDate).isEqualTo(3000L);
+  }
+
+  @Test
+  public void shouldNotVisitTimersDueBeforeRange() {
+    // given
+    createTimerInstance(1, 2, 1000L);
+    createTimerInstance(3, 4, 2000L);
+
+    // when
+    final List<Long> elementInstanceKeys = new ArrayList<>();
+    final long nextDueDate =
+        state.forEachTimerDueBetween(
+            1001L,
+            3000L,
+            (dueDate, elementInstanceKey, timerKey) -> {
+              elementInstanceKeys.add(elementInstanceKey);
+              return true;
+            });
+
+    // then
+    assertThat(elementInstanceKeys).containsExactly(3L);
+    assertThat(nextDueDate).isEqualTo(-1L);
+  }
+
+  @Test
+  public void shouldReturnDueDateOfTimerWhereVisitorStopped() {
+    // given
+    createTimerInstance(1, 2, 1000L);
+    createTimerInstance(3, 4, 2000L);
+
+    // when
+    final long nextDueDate =
+        state.forEachTimerDueBetween(
+            0L, Long.MAX_VALUE, (dueDate, elementInstanceKey, timerKey) -> dueDate < 2000L);
+
+    // then
+    assertThat(nextDueDate).isEqualTo(2000L);
+  }
+
   private TimerInstance createTimerInstance(
       final long elementInstanceKey, final long timerKey, final long dueDate) {
     createElementInstance(elementInstanceKey);
@@ -0,0 +1,42 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.message;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+final class CorrelationKeyHashTest {
+
+  @Test
+  void shouldNotChangeHash() {
+    // given
+    final var tenantId = wrapString("<default>");
+
+    // when
+    final var hash =
+        CorrelationKeyHash.hash(tenantId, wrapString("message"), wrapString("correlation"));
+
+    // then - the hash is persisted in the state, so it must stay the same across versions
+    assertThat(hash).isEqualTo(-2156720083653290301L);
+  }
+
+  @Test
+  void shouldSeparateValues() {
+    // given
+    final var tenantId = wrapString("<default>");
+
+    // when
+    final var first = CorrelationKeyHash.hash(tenantId, wrapString("ab"), wrapString("c"));
+    final var second = CorrelationKeyHash.hash(tenantId, wrapString("a"), wrapString("bc"));
+
+    // then
+    assertThat(first).isNotEqualTo(second);
+  }
+}
@@ -9,6 +9,7 @@ package io.camunda.zeebe.engine.state.message;
 
 import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.camunda.zeebe.engine.state.immutable.MessageState;
 import io.camunda.zeebe.engine.state.mutable.MutableMessageState;
@@ -401,6 +402,63 @@ public final class MessageStateTest {
     assertThat(messageState.existMessageCorrelation(1L, wrapString("b"))).isFalse();
   }
 
+  @Test
+  public void shouldRemoveExpiredMessages() {
+    // given
+    messageState.put(1L, createMessage("name", "correlationKey", "{}", "id-1", 1000));
+    messageState.put(2L, createMessage("name", "correlationKey", "{}", "id-2", 1000));
+    messageState.put(3L, createMessage("name", "correlationKey", "{}", "id-3", 2000));
+    messageState.put(4L, createMessage("name", "correlationKey", "{}", "id-4", 3000));
+
+    // when
+    messageState.removeExpired(List.of(1L, 2L, 3L));
+
+    // then
+    final List<Long> readMessages = new ArrayList<>();
+    messageState.visitMessagesWithDeadlineBeforeTimestamp(
+        4000, null, (deadline, e) -> readMessages.add(e));
+
+    assertThat(readMessages).containsExactly(4L);
+
+    // and
+    assertThat(messageState.getMessage(1L)).isNull();
+    assertThat(messageState.getMessage(2L)).isNull();
+    assertThat(messageState.getMessage(3L)).isNull();
+    assertThat(messageState.getMessage(4L)).isNotNull();
+  }
+
+  @Test
+  public void shouldRemoveExpiredMessagesNotInDeadlineOrder() {
+    // given
+    messageState.put(1L, createMessage("name", "correlationKey", "{}", "id-1", 1000));
+    messageState.put(2L, createMessage("name", "correlationKey", "{}", "id-2", 2000));
+    messageState.put(3L, createMessage("name", "correlationKey", "{}", "id-3", 3000));
+
+    // when
+    messageState.removeExpired(List.of(3L, 1L));
+
+    // then
+    final List<Long> readMessages = new ArrayList<>();
+    messageState.visitMessagesWithDeadlineBeforeTimestamp(
+        4000, null, (deadline, e) -> readMessages.add(e));
+
+    assertThat(readMessages).containsExactly(2L);
+    assertThat(messageState.getMessage(2L)).isNotNull();
+  }
+
+  @Test
+  public void shouldNotRemoveDeadlinesOfOtherMessagesWhenRemovingExpiredMessages() {
+    // given
+    messageState.put(1L, createMessage("name", "correlationKey", "{}", "id-1", 1000));
+    messageState.put(2L, createMessage("name", "correlationKey", "{}", "id-2", 2000));
+    messageState.put(3L, createMessage("name", "correlationKey", "{}", "id-3", 3000));
+
+    // when - then
+    assertThatThrownBy(() -> messageState.removeExpired(List.of(1L, 3L)))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("but removed 3 deadlines");
+  }
+
   @Test
   public void shouldRemoveMessageWithoutId() {
     // given
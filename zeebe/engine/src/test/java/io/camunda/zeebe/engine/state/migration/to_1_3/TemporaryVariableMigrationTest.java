@@ -16,6 +16,7 @@ import static org.mockito.Mockito.when;
 
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.state.instance.DbElementInstanceState;
 import io.camunda.zeebe.engine.state.instance.EventTrigger;
 import io.camunda.zeebe.engine.state.migration.MigrationTaskContextImpl;
@@ -113,7 +114,9 @@ public class TemporaryVariableMigrationTest {
           new LegacyDbTemporaryVariablesState(zeebeDb, transactionContext);
       legacyTemporaryVariablesState.put(EVENT_SCOPE_KEY, VARIABLES);
       variableState = new DbVariableState(zeebeDb, transactionContext);
-      elementInstanceState = new DbElementInstanceState(zeebeDb, transactionContext, variableState);
+      elementInstanceState =
+          new DbElementInstanceState(
+              zeebeDb, transactionContext, variableState, new EngineConfiguration());
     }
 
     @Test
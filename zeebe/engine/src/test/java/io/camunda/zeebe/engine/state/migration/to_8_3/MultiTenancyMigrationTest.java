@@ -44,6 +44,7 @@ import io.camunda.zeebe.engine.state.migration.to_8_3.legacy.LegacyMessageSubscr
 import io.camunda.zeebe.engine.state.migration.to_8_3.legacy.LegacyProcessMessageSubscriptionState;
 import io.camunda.zeebe.engine.state.migration.to_8_3.legacy.LegacyProcessState;
 import io.camunda.zeebe.engine.state.migration.to_8_3.legacy.LegacyProcessState.LegacyProcessVersionManager;
+import io.camunda.zeebe.engine.state.migration.to_8_8.MessageCorrelationKeyHashMigration;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.engine.util.ProcessingStateExtension;
 import io.camunda.zeebe.model.bpmn.Bpmn;
@@ -554,7 +555,10 @@ public class MultiTenancyMigrationTest {
       legacyState.put(123, messageRecord);
 
       // when
-      sut.runMigration(new MigrationTaskContextImpl(new ClusterContextImpl(1), processingState));
+      final var context = new MigrationTaskContextImpl(new ClusterContextImpl(1), processingState);
+      sut.runMigration(context);
+      // the current state finds messages by the hash of their correlation key
+      new MessageCorrelationKeyHashMigration().runMigration(context);
 
       // then
       final AtomicReference<StoredMessage> message = new AtomicReference<>();
@@ -737,7 +741,10 @@ public class MultiTenancyMigrationTest {
       legacyState.put(key, record);
 
       // when
-      sut.runMigration(new MigrationTaskContextImpl(new ClusterContextImpl(1), processingState));
+      final var context = new MigrationTaskContextImpl(new ClusterContextImpl(1), processingState);
+      sut.runMigration(context);
+      // the current state finds subscriptions by the hash of their correlation key
+      new MessageCorrelationKeyHashMigration().runMigration(context);
 
       // then
       final AtomicReference<MessageSubscription> subscriptionRef = new AtomicReference<>();
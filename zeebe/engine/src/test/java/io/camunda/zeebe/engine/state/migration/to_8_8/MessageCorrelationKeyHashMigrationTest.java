@@ -0,0 +1,205 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.migration.to_8_8;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbNil;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.db.impl.DbTenantAwareKey;
+import io.camunda.zeebe.db.impl.DbTenantAwareKey.PlacementType;
+import io.camunda.zeebe.engine.state.message.MessageSubscription;
+import io.camunda.zeebe.engine.state.message.StoredMessage;
+import io.camunda.zeebe.engine.state.migration.MigrationTaskContextImpl;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
+import io.camunda.zeebe.engine.util.ProcessingStateExtension;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageSubscriptionRecord;
+import io.camunda.zeebe.stream.impl.ClusterContextImpl;
+import java.util.ArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(ProcessingStateExtension.class)
+final class MessageCorrelationKeyHashMigrationTest {
+
+  private static final String TENANT_ID = "tenant";
+
+  private final MessageCorrelationKeyHashMigration sut = new MessageCorrelationKeyHashMigration();
+
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private MutableProcessingState processingState;
+  private TransactionContext transactionContext;
+
+  private final DbLong key = new DbLong();
+  private final DbString tenantId = new DbString();
+  private final DbString messageName = new DbString();
+  private final DbString correlationKey = new DbString();
+
+  private ColumnFamily<DbLong, StoredMessage> messageColumnFamily;
+  private DbCompositeKey<DbCompositeKey<DbTenantAwareKey<DbString>, DbString>, DbLong>
+      legacyMessageKey;
+  private ColumnFamily<
+          DbCompositeKey<DbCompositeKey<DbTenantAwareKey<DbString>, DbString>, DbLong>, DbNil>
+      legacyMessagesColumnFamily;
+
+  private DbCompositeKey<DbLong, DbString> subscriptionKey;
+  private ColumnFamily<DbCompositeKey<DbLong, DbString>, MessageSubscription>
+      subscriptionColumnFamily;
+  private DbCompositeKey<DbTenantAwareKey<DbCompositeKey<DbString, DbString>>, DbLong>
+      legacySubscriptionKey;
+  private ColumnFamily<
+          DbCompositeKey<DbTenantAwareKey<DbCompositeKey<DbString, DbString>>, DbLong>, DbNil>
+      legacySubscriptionsColumnFamily;
+
+  @BeforeEach
+  void setup() {
+    messageColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.MESSAGE_KEY, transactionContext, key, new StoredMessage());
+    legacyMessageKey =
+        new DbCompositeKey<>(
+            new DbCompositeKey<>(
+                new DbTenantAwareKey<>(tenantId, messageName, PlacementType.PREFIX),
+                correlationKey),
+            key);
+    legacyMessagesColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.MESSAGES, transactionContext, legacyMessageKey, DbNil.INSTANCE);
+
+    subscriptionKey = new DbCompositeKey<>(key, messageName);
+    subscriptionColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.MESSAGE_SUBSCRIPTION_BY_KEY,
+            transactionContext,
+            subscriptionKey,
+            new MessageSubscription());
+    legacySubscriptionKey =
+        new DbCompositeKey<>(
+            new DbTenantAwareKey<>(
+                tenantId, new DbCompositeKey<>(messageName, correlationKey), PlacementType.PREFIX),
+            key);
+    legacySubscriptionsColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.MESSAGE_SUBSCRIPTION_BY_NAME_AND_CORRELATION_KEY,
+            transactionContext,
+            legacySubscriptionKey,
+            DbNil.INSTANCE);
+  }
+
+  @Test
+  void shouldNotRunWithoutEntriesKeyedByCorrelationKey() {
+    // when
+    final var context = new MigrationTaskContextImpl(new ClusterContextImpl(1), processingState);
+
+    // then
+    assertThat(sut.needsToRun(context)).isFalse();
+  }
+
+  @Test
+  void shouldMigrateMessagesToCorrelationKeyHash() {
+    // given
+    putLegacyMessage(1L, "message", "correlation-1");
+    putLegacyMessage(2L, "message", "correlation-2");
+    putLegacyMessage(3L, "message", "correlation-1");
+
+    // when
+    final var context = new MigrationTaskContextImpl(new ClusterContextImpl(1), processingState);
+    assertThat(sut.needsToRun(context)).isTrue();
+    sut.runMigration(context);
+
+    // then
+    final var visitedKeys = new ArrayList<Long>();
+    processingState
+        .getMessageState()
+        .visitMessages(
+            TENANT_ID,
+            wrapString("message"),
+            wrapString("correlation-1"),
+            message -> visitedKeys.add(message.getMessageKey()));
+    assertThat(visitedKeys).containsExactly(1L, 3L);
+    assertThat(processingState.isEmpty(ZbColumnFamilies.MESSAGES)).isTrue();
+    assertThat(sut.needsToRun(context)).isFalse();
+  }
+
+  @Test
+  void shouldMigrateSubscriptionsToCorrelationKeyHash() {
+    // given
+    putLegacySubscription(1L, "message", "correlation-1");
+    putLegacySubscription(2L, "message", "correlation-2");
+    putLegacySubscription(3L, "other", "correlation-1");
+
+    // when
+    final var context = new MigrationTaskContextImpl(new ClusterContextImpl(1), processingState);
+    assertThat(sut.needsToRun(context)).isTrue();
+    sut.runMigration(context);
+
+    // then
+    final var visitedKeys = new ArrayList<Long>();
+    processingState
+        .getMessageSubscriptionState()
+        .visitSubscriptions(
+            TENANT_ID,
+            wrapString("message"),
+            wrapString("correlation-1"),
+            subscription -> visitedKeys.add(subscription.getRecord().getElementInstanceKey()));
+    assertThat(visitedKeys).containsExactly(1L);
+    assertThat(
+            processingState.isEmpty(
+                ZbColumnFamilies.MESSAGE_SUBSCRIPTION_BY_NAME_AND_CORRELATION_KEY))
+        .isTrue();
+    assertThat(sut.needsToRun(context)).isFalse();
+  }
+
+  private void putLegacyMessage(
+      final long messageKey, final String name, final String correlation) {
+    final var record =
+        new MessageRecord()
+            .setName(name)
+            .setCorrelationKey(correlation)
+            .setTimeToLive(1000L)
+            .setDeadline(2000L)
+            .setTenantId(TENANT_ID);
+    key.wrapLong(messageKey);
+    messageColumnFamily.insert(
+        key, new StoredMessage().setMessageKey(messageKey).setMessage(record));
+
+    tenantId.wrapString(TENANT_ID);
+    messageName.wrapString(name);
+    correlationKey.wrapString(correlation);
+    legacyMessagesColumnFamily.insert(legacyMessageKey, DbNil.INSTANCE);
+  }
+
+  private void putLegacySubscription(
+      final long elementInstanceKey, final String name, final String correlation) {
+    final var record =
+        new MessageSubscriptionRecord()
+            .setProcessInstanceKey(123)
+            .setElementInstanceKey(elementInstanceKey)
+            .setBpmnProcessId(wrapString("process"))
+            .setMessageName(wrapString(name))
+            .setCorrelationKey(wrapString(correlation))
+            .setTenantId(TENANT_ID);
+    key.wrapLong(elementInstanceKey);
+    messageName.wrapString(name);
+    subscriptionColumnFamily.insert(
+        subscriptionKey, new MessageSubscription().setKey(elementInstanceKey).setRecord(record));
+
+    tenantId.wrapString(TENANT_ID);
+    correlationKey.wrapString(correlation);
+    legacySubscriptionsColumnFamily.insert(legacySubscriptionKey, DbNil.INSTANCE);
+  }
+}
@@ -241,6 +241,62 @@ public final class VariableStateTest {
     assertEquality(variablesDocument, "{'a': 1}");
   }
 
+  @Test
+  public void shouldNotCollectHiddenVariablesByName() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    setVariableLocal(parent, wrapString("b"), asMsgPack("2"));
+    setVariableLocal(child, wrapString("a"), asMsgPack("3"));
+
+    // when
+    final DirectBuffer variablesDocument =
+        variableState.getVariablesAsDocument(
+            child, Arrays.asList(wrapString("a"), wrapString("b"), wrapString("a")));
+
+    // then
+    assertEquality(variablesDocument, "{'a': 3, 'b': 2}");
+  }
+
+  @Test
+  public void shouldGetVariablesFromView() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    declareScope(child, child2);
+
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    setVariableLocal(parent, wrapString("b"), asMsgPack("2"));
+    setVariableLocal(child, wrapString("b"), asMsgPack("3"));
+
+    // when
+    final var variables = variableState.getVariablesView(child2);
+
+    // then
+    assertEquality(variables.getVariable(wrapString("a")), "1");
+    assertEquality(variables.getVariable(wrapString("b")), "3");
+    assertThat(variables.getVariable(wrapString("c"))).isNull();
+  }
+
+  @Test
+  public void shouldGetUpdatedVariableFromView() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+
+    final var variables = variableState.getVariablesView(child);
+    variables.getVariable(wrapString("a"));
+
+    // when
+    setVariableLocal(child, wrapString("a"), asMsgPack("2"));
+
+    // then
+    assertEquality(variables.getVariable(wrapString("a")), "2");
+  }
+
   @Test
   public void shouldSetLocalVariable() {
     // given
@@ -462,6 +518,34 @@ public final class VariableStateTest {
             tuple(keyVariableC, child, wrapString("c"), wrapString("3")));
   }
 
+  @Test
+  public void shouldHaveVariablesLocal() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    setVariableLocal(child, wrapString("a"), wrapString("1"));
+
+    // when
+    final boolean hasVariablesLocal = variableState.hasVariablesLocal(child);
+
+    // then
+    assertThat(hasVariablesLocal).isTrue();
+  }
+
+  @Test
+  public void shouldNotHaveVariablesLocalIfOnlyParentHasVariables() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    setVariableLocal(parent, wrapString("a"), wrapString("1"));
+
+    // when
+    final boolean hasVariablesLocal = variableState.hasVariablesLocal(child);
+
+    // then
+    assertThat(hasVariablesLocal).isFalse();
+  }
+
   private void declareScope(final long key) {
     declareScope(-1, key);
   }
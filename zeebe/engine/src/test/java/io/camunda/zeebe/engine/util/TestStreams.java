@@ -103,6 +103,7 @@ public final class TestStreams {
   private boolean snapshotWasTaken = false;
   private StreamProcessorMode streamProcessorMode = StreamProcessorMode.PROCESSING;
   private int maxCommandsInBatch = StreamProcessorContext.DEFAULT_MAX_COMMANDS_IN_BATCH;
+  private EngineConfiguration engineConfiguration = new EngineConfiguration();
   private ListLogStorage listLogStorage;
 
   public TestStreams(
@@ -299,8 +300,7 @@ public final class TestStreams {
             .listener(new StreamProcessorListenerRelay(streamProcessorListeners))
             .recordProcessors(
                 List.of(
-                    new Engine(
-                        wrappedFactory, new EngineConfiguration(), new SecurityConfiguration())))
+                    new Engine(wrappedFactory, engineConfiguration, new SecurityConfiguration())))
             .streamProcessorMode(streamProcessorMode)
             .maxCommandsInBatch(maxCommandsInBatch)
             .partitionCommandSender(mock(InterPartitionCommandSender.class))
@@ -389,6 +389,10 @@ public final class TestStreams {
     this.maxCommandsInBatch = maxCommandsInBatch;
   }
 
+  public void engineConfiguration(final EngineConfiguration engineConfiguration) {
+    this.engineConfiguration = engineConfiguration;
+  }
+
   public MutableProcessingState getProcessingState(final String streamName) {
     return Optional.ofNullable(streamContextMap.get(streamName))
         .map(c -> c.processingState)
@@ -21,6 +21,7 @@ import io.camunda.zeebe.journal.JournalException.InvalidIndex;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.nio.file.Path;
 import java.util.SortedMap;
+import org.agrona.DirectBuffer;
 
 public interface Journal extends AutoCloseable {
 
@@ -67,6 +68,15 @@ public interface Journal extends AutoCloseable {
    */
   JournalRecord append(long checksum, byte[] serializedRecord);
 
+  /**
+   * Like {@link #append(long, byte[])}, but copies the serialized record straight from the given
+   * buffer, e.g. the buffer of a received message.
+   *
+   * @param checksum checksum of serializedRecord
+   * @param serializedRecord serializedRecord
+   */
+  JournalRecord append(long checksum, DirectBuffer serializedRecord);
+
   /**
    * Delete all records after indexExclusive. After a call to this method, {@link
    * Journal#getLastIndex()} should return indexExclusive.
@@ -124,6 +134,15 @@ public interface Journal extends AutoCloseable {
    */
   void flush() throws FlushException;
 
+  /**
+   * Returns the index of the last record which is known to be flushed to the persistent storage.
+   * Records appended after it may or may not be flushed yet. Truncating the journal may lower the
+   * returned index.
+   *
+   * @return the last flushed index
+   */
+  long getLastFlushedIndex();
+
   /**
    * Opens a new {@link JournalReader}
    *
@@ -104,6 +104,24 @@ public interface JournalReader extends Iterator<JournalRecord>, AutoCloseable {
    */
   long seekToAsqn(long asqn, long indexUpperBound);
 
+  /**
+   * Reads the next records in bulk, as if calling {@link #next()} repeatedly, but without copying
+   * them or allocating an object per record. The batch is a contiguous view over the journal's
+   * storage, and as such never spans more than one segment; it may thus contain fewer records than
+   * requested even if more are available.
+   *
+   * <p>The first available record is always included, even if it is larger than {@code maxBytes}.
+   * If {@link #hasNext()} returns false, the returned batch is empty.
+   *
+   * <p>The returned batch is reused by every call to this method, and is only valid until this
+   * reader is used again or closed.
+   *
+   * @param maxRecords the maximum number of records to read, must be positive
+   * @param maxBytes the maximum number of bytes the batch should span
+   * @return a view over the records read
+   */
+  JournalRecordBatch nextBatch(int maxRecords, int maxBytes);
+
   @Override
   void close();
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal;
+
+import org.agrona.DirectBuffer;
+
+/**
+ * A batch of consecutive records read in bulk via {@link JournalReader#nextBatch(int, int)}. The
+ * batch is a view over the journal's storage: none of the records are copied, and accessing them
+ * does not allocate any objects.
+ *
+ * <p>A batch is owned by the reader which filled it, and is reused on every call to {@link
+ * JournalReader#nextBatch(int, int)}. It is only valid until the reader is used again or closed.
+ */
+public interface JournalRecordBatch {
+
+  /**
+   * @return the number of records in the batch
+   */
+  int size();
+
+  /**
+   * @return true if the batch contains no records, false otherwise
+   */
+  default boolean isEmpty() {
+    return size() == 0;
+  }
+
+  /**
+   * @return the index of the first record of the batch, or -1 if the batch is empty
+   */
+  long firstIndex();
+
+  /**
+   * @return the index of the last record of the batch, or -1 if the batch is empty
+   */
+  long lastIndex();
+
+  /**
+   * Returns a view over all records of the batch, exactly as they are stored in the journal, i.e.
+   * including their framing and metadata. This is useful to process the batch as a whole, e.g. to
+   * transfer it; use {@link #record(int)} to access individual records.
+   *
+   * @return a contiguous view over all records of the batch
+   */
+  DirectBuffer buffer();
+
+  /**
+   * Returns the record at the given position in the batch. The returned record is a flyweight which
+   * is reused by the next call to this method, so it must not be kept around.
+   *
+   * @param position the position of the record in the batch, between 0 and {@link #size()}
+   * @return a view over the record at the given position
+   * @throws IndexOutOfBoundsException if there is no record at the given position
+   */
+  JournalRecord record(int position);
+}
@@ -21,10 +21,11 @@ interface FlushableSegment {
   /**
    * Flushes any changes from the segment to its underlying storage.
    *
-   * <p>If the method returns true, then it is guaranteed that the modified pages for this segment *
-   * have been flushed to disk (according to the underlying file system).
+   * <p>If the method returns, then it is guaranteed that the modified pages for this segment have
+   * been flushed to disk (according to the underlying file system).
    *
+   * @return the number of bytes which were synced, which may be 0 if there was nothing to flush
    * @throws FlushException if for any reason the flush failed
    */
-  void flush() throws FlushException;
+  int flush() throws FlushException;
 }
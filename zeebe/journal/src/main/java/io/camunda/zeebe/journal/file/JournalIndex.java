@@ -31,6 +31,17 @@ interface JournalIndex {
    */
   void index(JournalRecord record, int position);
 
+  /**
+   * Indexes the given index, asqn and position directly, e.g. when restoring entries previously
+   * read via {@link #forEach(long, long, IndexedEntryConsumer)}. Same as {@link
+   * #index(JournalRecord, int)}, this only indexes entries which match the density of the index.
+   *
+   * @param index the index of the record
+   * @param asqn the asqn of the record, or {@link SegmentedJournal#ASQN_IGNORE}
+   * @param position the position of the record within its segment
+   */
+  void index(long index, long asqn, int position);
+
   /**
    * Looks up the position of the given index.
    *
@@ -89,4 +100,24 @@ interface JournalIndex {
    * @return true if this index likely have been already indexed. false if otherwise.
    */
   boolean hasIndexed(long index);
+
+  /**
+   * Visits all indexed entries between the given indexes (both inclusive), in ascending order.
+   *
+   * @param fromIndex the lowest index to visit
+   * @param toIndex the highest index to visit
+   * @param consumer called for every indexed entry
+   */
+  void forEach(long fromIndex, long toIndex, IndexedEntryConsumer consumer);
+
+  @FunctionalInterface
+  interface IndexedEntryConsumer {
+
+    /**
+     * @param index the index of the entry
+     * @param position the position of the entry within its segment
+     * @param asqn the asqn of the entry, or {@link SegmentedJournal#ASQN_IGNORE} if none is indexed
+     */
+    void accept(long index, int position, long asqn);
+  }
 }
@@ -20,6 +20,7 @@ import static io.camunda.zeebe.journal.file.JournalMetricsDoc.*;
 import io.camunda.zeebe.util.CloseableSilently;
 import io.camunda.zeebe.util.micrometer.MicrometerUtil;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
@@ -37,6 +38,9 @@ final class JournalMetrics {
   private final Counter appendRate;
   private final Counter appendDataRate;
   private final Timer seekLatency;
+  private final DistributionSummary flushBatchSize;
+  private final DistributionSummary flushLatencyPerByte;
+  private final Counter flushMerged;
   private final MeterRegistry registry;
 
   JournalMetrics(final MeterRegistry registry) {
@@ -67,6 +71,15 @@ final class JournalMetrics {
             .description(APPEND_DATA_RATE.getDescription())
             .register(registry);
     seekLatency = makeTimer(SEEK_LATENCY);
+    flushBatchSize = MicrometerUtil.buildSummary(FLUSH_BATCH_SIZE).register(registry);
+    flushLatencyPerByte =
+        MicrometerUtil.buildSummary(FLUSH_LATENCY_PER_BYTE)
+            .baseUnit(FLUSH_LATENCY_PER_BYTE.getBaseUnit())
+            .register(registry);
+    flushMerged =
+        Counter.builder(FLUSH_MERGED.getName())
+            .description(FLUSH_MERGED.getDescription())
+            .register(registry);
   }
 
   void observeSegmentCreation(final Runnable segmentCreation) {
@@ -114,6 +127,28 @@ final class JournalMetrics {
     return MicrometerUtil.timer(appendLatency, Timer.start(registry));
   }
 
+  /**
+   * Records the outcome of a journal flush. A flush which did not sync anything is counted as
+   * merged, since everything it had to flush was already covered by a previous flush.
+   *
+   * @param flushedEntries the number of entries which became durable with this flush
+   * @param flushedBytes the number of bytes which were synced
+   * @param durationNanos the duration of the flush, in nanoseconds
+   */
+  void observeFlush(final long flushedEntries, final long flushedBytes, final long durationNanos) {
+    if (flushedBytes == 0) {
+      flushMerged.increment();
+      return;
+    }
+
+    flushBatchSize.record(flushedEntries);
+    flushLatencyPerByte.record((double) durationNanos / flushedBytes);
+  }
+
+  long monotonicTime() {
+    return registry.config().clock().monotonicTime();
+  }
+
   CloseableSilently observeSeekLatency() {
     return MicrometerUtil.timer(seekLatency, Timer.start(registry));
   }
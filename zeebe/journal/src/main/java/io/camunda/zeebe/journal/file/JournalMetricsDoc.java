@@ -303,6 +303,91 @@ public enum JournalMetricsDoc implements ExtendedMeterDocumentation {
       return buckets;
     }
 
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION};
+    }
+  },
+  /** Number of journal entries made durable by a single flush */
+  FLUSH_BATCH_SIZE {
+    private static final double[] BUCKETS = {1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 5000};
+
+    @Override
+    public String getName() {
+      return "atomix.journal.flush.batch.size";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.DISTRIBUTION_SUMMARY;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of journal entries made durable by a single flush";
+    }
+
+    @Override
+    public double[] getDistributionSLOs() {
+      return BUCKETS;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION};
+    }
+  },
+  /** Time spent flushing, divided by the number of bytes synced by the flush */
+  FLUSH_LATENCY_PER_BYTE {
+    private static final double[] BUCKETS = {0.1, 0.5, 1, 5, 10, 50, 100, 500, 1000, 5000, 10000};
+
+    @Override
+    public String getName() {
+      return "atomix.journal.flush.latency.per.byte";
+    }
+
+    @Override
+    public String getBaseUnit() {
+      return "ns";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.DISTRIBUTION_SUMMARY;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Time spent flushing, divided by the number of bytes synced by the flush";
+    }
+
+    @Override
+    public double[] getDistributionSLOs() {
+      return BUCKETS;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION};
+    }
+  },
+  /** Number of flush requests which were already covered by a previous flush */
+  FLUSH_MERGED {
+    @Override
+    public String getName() {
+      return "atomix.journal.flush.merged";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of flush requests already covered by a previous flush, which synced nothing";
+    }
+
     @Override
     public KeyName[] getKeyNames() {
       return new KeyName[] {PartitionKeyNames.PARTITION};
@@ -0,0 +1,251 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.CorruptedJournalException;
+import io.camunda.zeebe.journal.JournalException.InvalidIndex;
+import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.journal.JournalRecordBatch;
+import io.camunda.zeebe.journal.util.ChecksumGenerator;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A {@link JournalRecordBatch} over the memory mapped buffer of a segment. Records are decoded in
+ * place when added to the batch, which keeps only their offsets and headers in primitive arrays.
+ * Reading a batch thus costs the same checksum verification as reading each record individually,
+ * but no allocation.
+ *
+ * <p>Records are decoded exactly like {@link io.camunda.zeebe.journal.record.SBESerializer} does,
+ * but using the decoders directly to avoid creating intermediate objects.
+ */
+final class MappedJournalRecordBatch implements JournalRecordBatch {
+  private static final int INITIAL_CAPACITY = 64;
+
+  private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+  private final RecordMetadataDecoder metadataDecoder = new RecordMetadataDecoder();
+  private final RecordDataDecoder dataDecoder = new RecordDataDecoder();
+  private final ChecksumGenerator checksumGenerator = new ChecksumGenerator();
+
+  private final UnsafeBuffer segmentBuffer = new UnsafeBuffer(0, 0);
+  private final UnsafeBuffer batchBuffer = new UnsafeBuffer(0, 0);
+  private final RecordView recordView = new RecordView();
+
+  private ByteBuffer segment;
+  private int startPosition;
+  private int endPosition;
+  private int size;
+
+  private long[] indexes = new long[INITIAL_CAPACITY];
+  private long[] asqns = new long[INITIAL_CAPACITY];
+  private long[] checksums = new long[INITIAL_CAPACITY];
+  private int[] recordOffsets = new int[INITIAL_CAPACITY];
+  private int[] recordLengths = new int[INITIAL_CAPACITY];
+  private int[] dataOffsets = new int[INITIAL_CAPACITY];
+  private int[] dataLengths = new int[INITIAL_CAPACITY];
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public long firstIndex() {
+    return size > 0 ? indexes[0] : -1;
+  }
+
+  @Override
+  public long lastIndex() {
+    return size > 0 ? indexes[size - 1] : -1;
+  }
+
+  @Override
+  public DirectBuffer buffer() {
+    return batchBuffer;
+  }
+
+  @Override
+  public JournalRecord record(final int position) {
+    Objects.checkIndex(position, size);
+    return recordView.wrap(position);
+  }
+
+  /**
+   * Clears the batch, such that the next records are read from the given segment buffer, starting
+   * at the given position.
+   */
+  void reset(final ByteBuffer segment, final int position) {
+    if (this.segment != segment) {
+      this.segment = segment;
+      segmentBuffer.wrap(segment);
+    }
+
+    startPosition = position;
+    clear();
+  }
+
+  /** Removes all records from the batch. */
+  void clear() {
+    endPosition = startPosition;
+    size = 0;
+    batchBuffer.wrap(0, 0);
+  }
+
+  /**
+   * Decodes the framed record at the given position and adds it to the batch, unless it would make
+   * the batch span more than {@code maxBytes}. The first record is always added.
+   *
+   * @param framePosition the position of the record's frame in the segment buffer
+   * @param expectedIndex the index the record is expected to have
+   * @param maxBytes the maximum number of bytes the batch should span
+   * @return true if the record was added, false if the batch is full
+   * @throws CorruptedJournalException if the record is corrupted
+   * @throws InvalidIndex if the record does not have the expected index
+   */
+  boolean add(final int framePosition, final long expectedIndex, final int maxBytes) {
+    final int metadataOffset = framePosition + FrameUtil.getLength();
+    if (metadataOffset + MessageHeaderDecoder.ENCODED_LENGTH > segmentBuffer.capacity()) {
+      throw new CorruptedJournalException(
+          "Expected to read a record, but reached the end of the segment.");
+    }
+
+    headerDecoder.wrap(segmentBuffer, metadataOffset);
+    if (headerDecoder.schemaId() != metadataDecoder.sbeSchemaId()
+        || headerDecoder.templateId() != metadataDecoder.sbeTemplateId()) {
+      throw new CorruptedJournalException("Cannot read metadata. Header does not match.");
+    }
+
+    final int recordOffset =
+        metadataOffset + headerDecoder.encodedLength() + headerDecoder.blockLength();
+    if (recordOffset > segmentBuffer.capacity()) {
+      throw new CorruptedJournalException(
+          "Expected to read a record, but reached the end of the segment.");
+    }
+
+    metadataDecoder.wrap(
+        segmentBuffer,
+        metadataOffset + headerDecoder.encodedLength(),
+        headerDecoder.blockLength(),
+        headerDecoder.version());
+    final int recordLength = metadataDecoder.length();
+    if (recordLength < 0 || recordOffset + (long) recordLength > segmentBuffer.capacity()) {
+      throw new CorruptedJournalException(
+          "Expected to read a record at position %d with length %d, but reached the end of the segment."
+              .formatted(framePosition, recordLength));
+    }
+
+    final int recordEnd = recordOffset + recordLength;
+    if (size > 0 && recordEnd - startPosition > maxBytes) {
+      return false;
+    }
+
+    final long checksum = metadataDecoder.checksum();
+    final long actualChecksum = checksumGenerator.compute(segment, recordOffset, recordLength);
+    if (actualChecksum != checksum) {
+      throw new CorruptedJournalException(
+          "Record's checksum (%d) doesn't match checksum stored in metadata (%d)."
+              .formatted(actualChecksum, checksum));
+    }
+
+    headerDecoder.wrap(segmentBuffer, recordOffset);
+    if (headerDecoder.schemaId() != dataDecoder.sbeSchemaId()
+        || headerDecoder.templateId() != dataDecoder.sbeTemplateId()) {
+      throw new CorruptedJournalException("Cannot read record. Header does not match.");
+    }
+
+    dataDecoder.wrap(
+        segmentBuffer,
+        recordOffset + headerDecoder.encodedLength(),
+        headerDecoder.blockLength(),
+        headerDecoder.version());
+    final long index = dataDecoder.index();
+    if (index != expectedIndex) {
+      throw new InvalidIndex(
+          String.format(
+              "Expected to read a record with next index %d, but found %d",
+              expectedIndex, index));
+    }
+
+    ensureCapacity(size + 1);
+    indexes[size] = index;
+    asqns[size] = dataDecoder.asqn();
+    checksums[size] = checksum;
+    recordOffsets[size] = recordOffset;
+    recordLengths[size] = recordLength;
+    dataOffsets[size] = dataDecoder.limit() + RecordDataDecoder.dataHeaderLength();
+    dataLengths[size] = dataDecoder.dataLength();
+    size++;
+
+    endPosition = recordEnd;
+    batchBuffer.wrap(segmentBuffer, startPosition, endPosition - startPosition);
+    return true;
+  }
+
+  /**
+   * @return the position in the segment buffer right after the last record of the batch
+   */
+  int endPosition() {
+    return endPosition;
+  }
+
+  private void ensureCapacity(final int capacity) {
+    if (capacity <= indexes.length) {
+      return;
+    }
+
+    final int newCapacity = Math.max(capacity, indexes.length + (indexes.length >> 1));
+    indexes = Arrays.copyOf(indexes, newCapacity);
+    asqns = Arrays.copyOf(asqns, newCapacity);
+    checksums = Arrays.copyOf(checksums, newCapacity);
+    recordOffsets = Arrays.copyOf(recordOffsets, newCapacity);
+    recordLengths = Arrays.copyOf(recordLengths, newCapacity);
+    dataOffsets = Arrays.copyOf(dataOffsets, newCapacity);
+    dataLengths = Arrays.copyOf(dataLengths, newCapacity);
+  }
+
+  private final class RecordView implements JournalRecord {
+    private final UnsafeBuffer data = new UnsafeBuffer(0, 0);
+    private final UnsafeBuffer serializedRecord = new UnsafeBuffer(0, 0);
+    private int position;
+
+    private RecordView wrap(final int position) {
+      this.position = position;
+      data.wrap(segmentBuffer, dataOffsets[position], dataLengths[position]);
+      serializedRecord.wrap(segmentBuffer, recordOffsets[position], recordLengths[position]);
+      return this;
+    }
+
+    @Override
+    public long index() {
+      return indexes[position];
+    }
+
+    @Override
+    public long asqn() {
+      return asqns[position];
+    }
+
+    @Override
+    public long checksum() {
+      return checksums[position];
+    }
+
+    @Override
+    public DirectBuffer data() {
+      return data;
+    }
+
+    @Override
+    public DirectBuffer serializedRecord() {
+      return serializedRecord;
+    }
+  }
+}
@@ -0,0 +1,312 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.JournalRecord;
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * A {@link JournalIndex} with the same semantics as {@link SparseJournalIndex}, but which keeps its
+ * mappings in sorted primitive arrays instead of skip list maps. This avoids boxing the indexed
+ * values and allocating a node per entry, which reduces the heap footprint of the index by roughly
+ * an order of magnitude for large logs.
+ *
+ * <p>Entries are almost always added in ascending order by the writer, so inserting is usually an
+ * append. Readers may still index older entries when seeking into a segment which was not indexed
+ * yet, in which case the entry is inserted at its sorted position.
+ *
+ * <p>Since the asqn of the records grows monotonically with their index, a single table sorted by
+ * index is also sorted by asqn, which allows looking up both with a binary search.
+ *
+ * <p>The index is written by the journal writer, but read concurrently by all journal readers.
+ * Lookups use optimistic reads, and only fall back to a shared lock if a write happened
+ * concurrently.
+ */
+final class PrimitiveJournalIndex implements JournalIndex {
+
+  private static final int INITIAL_CAPACITY = 64;
+
+  private final int density;
+  private final StampedLock lock = new StampedLock();
+
+  // index -> position, sorted by index
+  private long[] positionIndexes = new long[INITIAL_CAPACITY];
+  private int[] positions = new int[INITIAL_CAPACITY];
+  private int positionCount;
+
+  // index <-> asqn, sorted by index and asqn
+  private long[] asqnIndexes = new long[INITIAL_CAPACITY];
+  private long[] asqns = new long[INITIAL_CAPACITY];
+  private int asqnCount;
+
+  PrimitiveJournalIndex(final int density) {
+    this.density = density;
+  }
+
+  @Override
+  public void index(final JournalRecord indexedEntry, final int position) {
+    index(indexedEntry.index(), indexedEntry.asqn(), position);
+  }
+
+  @Override
+  public void index(final long index, final long asqn, final int position) {
+    if (index % density != 0) {
+      return;
+    }
+
+    final long stamp = lock.writeLock();
+    try {
+      indexPosition(index, position);
+
+      if (asqn != SegmentedJournal.ASQN_IGNORE) {
+        indexAsqn(index, asqn);
+      }
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public IndexInfo lookup(final long index) {
+    long stamp = lock.tryOptimisticRead();
+    IndexInfo info = lookupPosition(index);
+
+    if (!lock.validate(stamp)) {
+      stamp = lock.readLock();
+      try {
+        info = lookupPosition(index);
+      } finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    return info;
+  }
+
+  @Override
+  public Long lookupAsqn(final long asqn) {
+    return lookupAsqn(asqn, Long.MAX_VALUE);
+  }
+
+  @Override
+  public Long lookupAsqn(final long asqn, final long indexUpperBound) {
+    long stamp = lock.tryOptimisticRead();
+    long index = lookupIndexOfAsqn(asqn, indexUpperBound);
+
+    if (!lock.validate(stamp)) {
+      stamp = lock.readLock();
+      try {
+        index = lookupIndexOfAsqn(asqn, indexUpperBound);
+      } finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    return index == SegmentedJournal.ASQN_IGNORE ? null : index;
+  }
+
+  @Override
+  public void deleteAfter(final long indexExclusive) {
+    final long stamp = lock.writeLock();
+    try {
+      positionCount = floorSlot(positionIndexes, positionCount, indexExclusive) + 1;
+      asqnCount = floorSlot(asqnIndexes, asqnCount, indexExclusive) + 1;
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public void deleteUntil(final long indexExclusive) {
+    final long stamp = lock.writeLock();
+    try {
+      // remove every position strictly lower than the given index
+      final int firstRetainedPosition =
+          floorSlot(positionIndexes, positionCount, indexExclusive - 1) + 1;
+      if (firstRetainedPosition > 0) {
+        positionCount -= firstRetainedPosition;
+        System.arraycopy(positionIndexes, firstRetainedPosition, positionIndexes, 0, positionCount);
+        System.arraycopy(positions, firstRetainedPosition, positions, 0, positionCount);
+      }
+
+      // keep the asqn mapping of the closest lower index, such that we can still find the lower
+      // bound of any asqn after compaction
+      final int firstRetainedAsqn = floorSlot(asqnIndexes, asqnCount, indexExclusive);
+      if (firstRetainedAsqn > 0) {
+        asqnCount -= firstRetainedAsqn;
+        System.arraycopy(asqnIndexes, firstRetainedAsqn, asqnIndexes, 0, asqnCount);
+        System.arraycopy(asqns, firstRetainedAsqn, asqns, 0, asqnCount);
+      }
+
+      trimToSize();
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public void clear() {
+    final long stamp = lock.writeLock();
+    try {
+      positionCount = 0;
+      asqnCount = 0;
+      trimToSize();
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public boolean hasIndexed(final long index) {
+    final var indexInfo = lookup(index);
+    if (indexInfo == null) {
+      return false;
+    } else {
+      return indexInfo.index() > index - density;
+    }
+  }
+
+  @Override
+  public void forEach(
+      final long fromIndex, final long toIndex, final IndexedEntryConsumer consumer) {
+    final long stamp = lock.readLock();
+    try {
+      int asqnSlot = floorSlot(asqnIndexes, asqnCount, fromIndex - 1) + 1;
+      for (int slot = floorSlot(positionIndexes, positionCount, fromIndex - 1) + 1;
+          slot < positionCount && positionIndexes[slot] <= toIndex;
+          slot++) {
+        final long index = positionIndexes[slot];
+        while (asqnSlot < asqnCount && asqnIndexes[asqnSlot] < index) {
+          asqnSlot++;
+        }
+
+        final boolean hasAsqn = asqnSlot < asqnCount && asqnIndexes[asqnSlot] == index;
+        consumer.accept(
+            index, positions[slot], hasAsqn ? asqns[asqnSlot] : SegmentedJournal.ASQN_IGNORE);
+      }
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  private IndexInfo lookupPosition(final long index) {
+    // read the fields only once, as they may be swapped concurrently during an optimistic read
+    final long[] indexes = positionIndexes;
+    final int[] values = positions;
+    final int count = Math.min(positionCount, Math.min(indexes.length, values.length));
+    final int slot = floorSlot(indexes, count, index);
+
+    return slot >= 0 ? new IndexInfo(indexes[slot], values[slot]) : null;
+  }
+
+  private long lookupIndexOfAsqn(final long asqn, final long indexUpperBound) {
+    // read the fields only once, as they may be swapped concurrently during an optimistic read
+    final long[] indexes = asqnIndexes;
+    final long[] values = asqns;
+    final int count = Math.min(asqnCount, Math.min(indexes.length, values.length));
+
+    final int slot = floorSlot(values, count, asqn);
+    if (slot < 0) {
+      return SegmentedJournal.ASQN_IGNORE;
+    }
+
+    if (indexes[slot] <= indexUpperBound) {
+      return indexes[slot];
+    }
+
+    final int boundedSlot = floorSlot(indexes, count, indexUpperBound);
+    return boundedSlot >= 0 ? indexes[boundedSlot] : SegmentedJournal.ASQN_IGNORE;
+  }
+
+  private void indexPosition(final long index, final int position) {
+    final int slot = Arrays.binarySearch(positionIndexes, 0, positionCount, index);
+    if (slot >= 0) {
+      positions[slot] = position;
+      return;
+    }
+
+    final int insertAt = -(slot + 1);
+    if (positionCount == positionIndexes.length) {
+      final int capacity = grow(positionIndexes.length);
+      positionIndexes = Arrays.copyOf(positionIndexes, capacity);
+      positions = Arrays.copyOf(positions, capacity);
+    }
+
+    final int tail = positionCount - insertAt;
+    if (tail > 0) {
+      System.arraycopy(positionIndexes, insertAt, positionIndexes, insertAt + 1, tail);
+      System.arraycopy(positions, insertAt, positions, insertAt + 1, tail);
+    }
+
+    positionIndexes[insertAt] = index;
+    positions[insertAt] = position;
+    positionCount++;
+  }
+
+  private void indexAsqn(final long index, final long asqn) {
+    final int slot = Arrays.binarySearch(asqnIndexes, 0, asqnCount, index);
+    if (slot >= 0) {
+      asqns[slot] = asqn;
+      return;
+    }
+
+    final int insertAt = -(slot + 1);
+    if (asqnCount == asqnIndexes.length) {
+      final int capacity = grow(asqnIndexes.length);
+      asqnIndexes = Arrays.copyOf(asqnIndexes, capacity);
+      asqns = Arrays.copyOf(asqns, capacity);
+    }
+
+    final int tail = asqnCount - insertAt;
+    if (tail > 0) {
+      System.arraycopy(asqnIndexes, insertAt, asqnIndexes, insertAt + 1, tail);
+      System.arraycopy(asqns, insertAt, asqns, insertAt + 1, tail);
+    }
+
+    asqnIndexes[insertAt] = index;
+    asqns[insertAt] = asqn;
+    asqnCount++;
+  }
+
+  /** Releases memory if the index shrunk considerably, e.g. after compaction or a reset. */
+  private void trimToSize() {
+    final int positionCapacity = shrink(positionIndexes.length, positionCount);
+    if (positionCapacity < positionIndexes.length) {
+      positionIndexes = Arrays.copyOf(positionIndexes, positionCapacity);
+      positions = Arrays.copyOf(positions, positionCapacity);
+    }
+
+    final int asqnCapacity = shrink(asqnIndexes.length, asqnCount);
+    if (asqnCapacity < asqnIndexes.length) {
+      asqnIndexes = Arrays.copyOf(asqnIndexes, asqnCapacity);
+      asqns = Arrays.copyOf(asqns, asqnCapacity);
+    }
+  }
+
+  private static int grow(final int capacity) {
+    return capacity + (capacity >> 1);
+  }
+
+  private static int shrink(final int capacity, final int count) {
+    if (capacity <= INITIAL_CAPACITY || count > capacity / 4) {
+      return capacity;
+    }
+
+    return Math.max(INITIAL_CAPACITY, count * 2);
+  }
+
+  /**
+   * Returns the slot of the greatest key less than or equal to the given key, or -1 if there is
+   * none.
+   */
+  private static int floorSlot(final long[] keys, final int count, final long key) {
+    final int slot = Arrays.binarySearch(keys, 0, count, key);
+    return slot >= 0 ? slot : -(slot + 1) - 1;
+  }
+}
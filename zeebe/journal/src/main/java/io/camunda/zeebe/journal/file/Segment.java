@@ -23,6 +23,7 @@ import com.google.common.collect.Sets;
 import io.camunda.zeebe.journal.CheckedJournalException.FlushException;
 import io.camunda.zeebe.journal.JournalException;
 import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.VisibleForTesting;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
@@ -30,6 +31,10 @@ import java.nio.ByteOrder;
 import java.nio.MappedByteBuffer;
 import java.nio.file.Files;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import org.agrona.IoUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -43,6 +48,8 @@ final class Segment implements AutoCloseable, FlushableSegment {
 
   private static final ByteOrder ENDIANNESS = ByteOrder.LITTLE_ENDIAN;
   private static final Logger LOG = LoggerFactory.getLogger(Segment.class);
+  // an empty range, as a dirty range always contains at least one byte
+  private static final long CLEAN_RANGE = 0L;
 
   private final SegmentFile file;
   private SegmentDescriptor descriptor;
@@ -52,11 +59,19 @@ final class Segment implements AutoCloseable, FlushableSegment {
   private final Set<SegmentReader> readers = Sets.newConcurrentHashSet();
   private final MappedByteBuffer buffer;
   private final JournalMetrics metrics;
+  // the range of bytes modified since the last flush, see #markDirty
+  private final AtomicLong dirtyRange;
 
   // This needs to be volatile in case the flushing is asynchronous
   private volatile boolean open = true;
   // This need to be volatile because both the writer and the readers access it concurrently
   private volatile boolean markedForDeletion = false;
+  // the pool to release the file to once deleted, if any; set before marking it for deletion
+  private volatile SegmentFilePool recyclingPool;
+  // the last reader and the writer may both try to delete the segment, but it's released only once
+  private final AtomicBoolean released = new AtomicBoolean();
+  // completed once the index file of this segment, if any, is written
+  private volatile CompletableFuture<Void> indexFileWrite = CompletableFuture.completedFuture(null);
 
   Segment(
       final SegmentFile file,
@@ -73,6 +88,9 @@ final class Segment implements AutoCloseable, FlushableSegment {
     this.index = index;
     this.metrics = metrics;
 
+    // we cannot know what was flushed before the segment was opened, so the first flush must cover
+    // the whole segment
+    dirtyRange = new AtomicLong(packRange(0, buffer.capacity()));
     writer = createWriter(lastWrittenAsqn, metrics);
   }
 
@@ -105,8 +123,12 @@ final class Segment implements AutoCloseable, FlushableSegment {
   }
 
   /**
-   * It's safe to sync a buffer via {@link MappedByteBuffer#force()} even after it has been unmapped
-   * (e.g. via {@link IoUtil#unmap(ByteBuffer)}.
+   * Syncs only the range of the segment which was modified since the last flush (see {@link
+   * #markDirty(int, int)}), via {@link MappedByteBuffer#force(int, int)}, i.e. a ranged {@code
+   * msync}. If nothing was modified, this returns immediately.
+   *
+   * <p>It's safe to sync a buffer via {@link MappedByteBuffer#force()} even after it has been
+   * unmapped (e.g. via {@link IoUtil#unmap(ByteBuffer)}.
    *
    * <p>Calling {@code msync} or {@code FlushViewOfFile} on pages which are not mapped returns an
    * error, but does not generate a SIGSEGV nor a SIGBUS. Instead, it returns an error code.
@@ -122,25 +144,71 @@ final class Segment implements AutoCloseable, FlushableSegment {
    * @throws UncheckedIOException if the operation failed but the segment is live
    */
   @Override
-  public void flush() throws FlushException {
+  public int flush() throws FlushException {
     final long lastIndex = lastIndex();
+    final long range = dirtyRange.getAndSet(CLEAN_RANGE);
+    if (range == CLEAN_RANGE) {
+      return 0;
+    }
 
+    final int from = rangeStart(range);
+    final int length = rangeEnd(range) - from;
     try (final var ignored = metrics.observeSegmentFlush()) {
-      buffer.force();
+      buffer.force(from, length);
     } catch (final UncheckedIOException e) {
       if (isOpen()) {
+        // the range is still dirty, so make sure it's flushed on the next attempt
+        markDirty(from, from + length);
         throw new FlushException(e.getCause());
       }
 
       LOG.debug("Flushing failed on a closed or deleted segment, and will be ignored");
-      return;
+      return 0;
     }
 
     LOG.trace(
-        "Flushed segment {} from index {} to index {}",
+        "Flushed {} bytes of segment {} from index {} to index {}",
+        length,
         descriptor.id(),
         descriptor.index(),
         lastIndex);
+    return length;
+  }
+
+  /**
+   * Marks the given range of the segment as modified, such that it is synced on the next {@link
+   * #flush()}. Only the range between the lowest and the highest modified bytes is flushed, which
+   * is typically much smaller than the whole segment.
+   *
+   * <p>This must be called after the bytes were written, but before the entries they contain are
+   * visible via {@link #lastIndex()}, and may be called concurrently with {@link #flush()}.
+   *
+   * @param from the offset of the first modified byte
+   * @param to the offset after the last modified byte, exclusive
+   */
+  void markDirty(final int from, final int to) {
+    final int end = Math.min(to, buffer.capacity());
+    if (end <= from) {
+      return;
+    }
+
+    long current;
+    long updated;
+    do {
+      current = dirtyRange.get();
+      updated =
+          current == CLEAN_RANGE
+              ? packRange(from, end)
+              : packRange(Math.min(from, rangeStart(current)), Math.max(end, rangeEnd(current)));
+      // always set, even if the range did not change, such that the written bytes happen-before any
+      // flush which clears the range afterwards
+    } while (!dirtyRange.compareAndSet(current, updated));
+  }
+
+  @VisibleForTesting("to verify that a flushed entry is never still marked as modified")
+  int dirtyRangeStart() {
+    final long range = dirtyRange.get();
+    return range == CLEAN_RANGE ? buffer.capacity() : rangeStart(range);
   }
 
   /**
@@ -197,6 +265,16 @@ final class Segment implements AutoCloseable, FlushableSegment {
     return new SegmentWriter(buffer, this, index, lastWrittenAsqn, metrics);
   }
 
+  /** Rebuilds the journal index of this segment by reading all of its entries. */
+  void rebuildIndex() {
+    final var reader = createReader();
+    try {
+      reader.indexAll();
+    } finally {
+      reader.close();
+    }
+  }
+
   /**
    * Removes the reader from this segment.
    *
@@ -226,14 +304,43 @@ final class Segment implements AutoCloseable, FlushableSegment {
     return open;
   }
 
+  /**
+   * Writes the index file of this sealed segment in the background, such that rolling over to the
+   * next segment does not wait for the disk. See {@link SegmentIndexFile}.
+   *
+   * @param indexFileWrite writes the index file of this segment
+   * @param executor the executor on which the index file is written
+   */
+  void persistIndexAsync(final Runnable indexFileWrite, final Executor executor) {
+    this.indexFileWrite = CompletableFuture.runAsync(indexFileWrite, executor);
+  }
+
+  /** Waits until a pending write of the index file of this segment is done. */
+  void awaitIndexFileWrite() {
+    indexFileWrite.join();
+  }
+
   /** Closes the segment. */
   @Override
   public void close() {
+    awaitIndexFileWrite();
     open = false;
     readers.forEach(SegmentReader::close);
     IoUtil.unmap(buffer);
   }
 
+  /**
+   * Deletes the segment like {@link #delete()}, but once it is not used anymore, its file is
+   * released to the given pool instead of being deleted, such that it can be reused for a new
+   * segment. If the pool is full, the file is deleted.
+   *
+   * @param pool the pool to release the segment file to
+   */
+  void recycle(final SegmentFilePool pool) {
+    recyclingPool = pool;
+    delete();
+  }
+
   /** Deletes the segment. */
   void delete() {
     open = false;
@@ -250,8 +357,18 @@ final class Segment implements AutoCloseable, FlushableSegment {
               "Cannot delete segment file. There are %d readers referring to this segment.",
               readers.size()));
     }
+    if (!released.compareAndSet(false, true)) {
+      return;
+    }
+
+    final var pool = recyclingPool;
     try {
       IoUtil.unmap(buffer);
+      if (pool != null && pool.offer(file.getFileMarkedForDeletion())) {
+        LOG.trace("Released file of segment {} for reuse", this);
+        return;
+      }
+
       Files.deleteIfExists(file.getFileMarkedForDeletion());
     } catch (final IOException e) {
       LOG.warn(
@@ -273,6 +390,9 @@ final class Segment implements AutoCloseable, FlushableSegment {
     }
 
     final var target = file.getFileMarkedForDeletion();
+    // a pending write could otherwise recreate the index file after it was deleted
+    indexFileWrite.join();
+    SegmentIndexFile.delete(file);
     try {
       FileUtil.moveDurably(file.file().toPath(), target);
     } catch (final IOException e) {
@@ -285,12 +405,29 @@ final class Segment implements AutoCloseable, FlushableSegment {
     descriptor =
         descriptor.withUpdatedIndices(writer.getLastIndex(), writer.getLastEntryPosition());
     descriptorSerializer.writeTo(descriptor, buffer);
+    markDirty(0, descriptor.encodingLength());
   }
 
   void resetLastEntryInDescriptor() {
+    // the segment is about to be truncated, so any persisted index of it becomes invalid; wait for
+    // a pending write first, as it could otherwise recreate the index file after it was deleted
+    indexFileWrite.join();
+    SegmentIndexFile.delete(file);
     descriptor = descriptor.reset();
     descriptorSerializer.writeTo(descriptor, buffer);
     // flush immediately to prevent inconsistencies between descriptor and actual last written entry
     buffer.force(0, descriptor.encodingLength());
   }
+
+  private static long packRange(final int from, final int to) {
+    return ((long) from << 32) | (to & 0xFFFFFFFFL);
+  }
+
+  private static int rangeStart(final long range) {
+    return (int) (range >>> 32);
+  }
+
+  private static int rangeEnd(final long range) {
+    return (int) range;
+  }
 }
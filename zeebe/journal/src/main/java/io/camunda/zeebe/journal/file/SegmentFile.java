@@ -32,6 +32,7 @@ public final class SegmentFile {
   private static final char PART_SEPARATOR = '-';
   private static final char EXTENSION_SEPARATOR = '.';
   private static final String EXTENSION = "log";
+  private static final String INDEX_EXTENSION = "idx";
   private static final String DELETE_EXTENSION = "deleted";
   private static final char DELETE_EXTENSION_SEPARATOR = '_';
   private final File file;
@@ -125,6 +126,42 @@ public final class SegmentFile {
     return file.getName();
   }
 
+  /**
+   * Returns the path of the companion index file of this segment, see {@link SegmentIndexFile}.
+   * The index file shares the name of the segment file, but uses a different extension, such that
+   * it is never mistaken for a segment file.
+   */
+  Path indexFile() {
+    final var name = file.getName();
+    final var baseName = name.substring(0, name.length() - EXTENSION.length());
+    return Path.of(file.getParent(), baseName + INDEX_EXTENSION);
+  }
+
+  /**
+   * Returns true if the given file name is the name of a segment index file of the given journal.
+   *
+   * @param journalName the name of the journal
+   * @param fileName the name of the file to check
+   */
+  static boolean isSegmentIndexFile(final String journalName, final String fileName) {
+    checkNotNull(journalName, "journalName cannot be null");
+    checkNotNull(fileName, "fileName cannot be null");
+
+    if (!fileName.endsWith(EXTENSION_SEPARATOR + INDEX_EXTENSION)) {
+      return false;
+    }
+
+    final var baseName = fileName.substring(0, fileName.length() - INDEX_EXTENSION.length());
+    return isSegmentFile(journalName, baseName + EXTENSION);
+  }
+
+  /** Returns the segment file which the given index file belongs to. */
+  static Path segmentFileOfIndexFile(final Path indexFile) {
+    final var name = indexFile.getFileName().toString();
+    final var baseName = name.substring(0, name.length() - INDEX_EXTENSION.length());
+    return indexFile.resolveSibling(baseName + EXTENSION);
+  }
+
   Path getFileMarkedForDeletion() {
     if (fileMarkedForDeletion == null) {
       final String renamedFileName =
@@ -0,0 +1,83 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A bounded pool of files of compacted segments, which can be reused for new segments instead of
+ * deleting them and allocating new files. This avoids having to allocate disk space for every new
+ * segment.
+ *
+ * <p>Files are only offered to the pool once their segment is not referenced anymore, i.e. after it
+ * was unmapped. Pooled files keep their name of a file marked for deletion, such that they are
+ * simply deleted if the journal is restarted before reusing them.
+ *
+ * <p>This class is thread safe, as segments may be released by any reader thread.
+ */
+final class SegmentFilePool {
+  private static final Logger LOGGER = LoggerFactory.getLogger(SegmentFilePool.class);
+
+  private final Deque<Path> files = new ConcurrentLinkedDeque<>();
+  private final AtomicInteger size = new AtomicInteger();
+  private final int capacity;
+
+  SegmentFilePool(final int capacity) {
+    this.capacity = capacity;
+  }
+
+  /**
+   * Offers the given file to the pool.
+   *
+   * @param file the file of a segment which is not used anymore
+   * @return true if the file was pooled, false if the pool is full and the file should be deleted
+   */
+  boolean offer(final Path file) {
+    if (size.incrementAndGet() > capacity) {
+      size.decrementAndGet();
+      return false;
+    }
+
+    files.offerLast(file);
+    return true;
+  }
+
+  /**
+   * @return a pooled file, or null if there is none
+   */
+  Path poll() {
+    final var file = files.pollFirst();
+    if (file != null) {
+      size.decrementAndGet();
+    }
+
+    return file;
+  }
+
+  /** Deletes all pooled files. */
+  void clear() {
+    Path file;
+    while ((file = poll()) != null) {
+      try {
+        Files.deleteIfExists(file);
+      } catch (final IOException e) {
+        LOGGER.warn(
+            "Could not delete pooled segment file {}. This can result in unnecessary disk usage.",
+            file,
+            e);
+      }
+    }
+  }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.JournalException;
+import io.camunda.zeebe.journal.util.ChecksumGenerator;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.collections.MutableInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A compact companion file of a sealed {@link Segment}, containing the {@link JournalIndex} entries
+ * of that segment. When loading the journal, a valid index file lets us restore the index of a
+ * segment without reading any of its records, such that opening the journal depends on the number
+ * of segments, and not on the size of the log.
+ *
+ * <p>The file is only a cache: it is written once the segment is sealed, deleted whenever the
+ * segment is truncated or deleted, and ignored if it is missing, corrupted, or does not match its
+ * segment. As such, it is written via an atomic rename but never explicitly flushed, since a torn
+ * write is detected via its checksum. Its content is serialized when the segment is sealed, but
+ * written in the background, see {@link Segment#persistIndexAsync}.
+ *
+ * <p>The layout is as follows (little endian):
+ *
+ * <pre>
+ * | version (1) | segment id (8) | first index (8) | last index (8) | entry count (4) |
+ * | entries: index (8), position (4), asqn (8) ... | checksum (8) |
+ * </pre>
+ */
+final class SegmentIndexFile {
+  private static final Logger LOGGER = LoggerFactory.getLogger(SegmentIndexFile.class);
+  private static final ByteOrder ENDIANNESS = ByteOrder.LITTLE_ENDIAN;
+
+  private static final byte VERSION = 1;
+  private static final int HEADER_LENGTH = Byte.BYTES + 3 * Long.BYTES + Integer.BYTES;
+  private static final int ENTRY_LENGTH = Long.BYTES + Integer.BYTES + Long.BYTES;
+  private static final int CHECKSUM_LENGTH = Long.BYTES;
+  private static final String TEMPORARY_SUFFIX = ".tmp";
+
+  private SegmentIndexFile() {}
+
+  /**
+   * Serializes the index entries of the given, sealed segment into the content of its index file.
+   *
+   * @param segment the sealed segment
+   * @param journalIndex the index which contains the segment's entries
+   * @return the content of the index file
+   */
+  static ByteBuffer serialize(final Segment segment, final JournalIndex journalIndex) {
+    final long firstIndex = segment.index();
+    final long lastIndex = segment.lastIndex();
+    final var entries = new ExpandableArrayBuffer();
+    final var entriesLength = new MutableInteger();
+    journalIndex.forEach(
+        firstIndex,
+        lastIndex,
+        (index, position, asqn) -> {
+          final int offset = entriesLength.get();
+          entries.putLong(offset, index, ENDIANNESS);
+          entries.putInt(offset + Long.BYTES, position, ENDIANNESS);
+          entries.putLong(offset + Long.BYTES + Integer.BYTES, asqn, ENDIANNESS);
+          entriesLength.addAndGet(ENTRY_LENGTH);
+        });
+
+    final var buffer =
+        ByteBuffer.allocate(HEADER_LENGTH + entriesLength.get() + CHECKSUM_LENGTH)
+            .order(ENDIANNESS);
+    buffer
+        .put(VERSION)
+        .putLong(segment.id())
+        .putLong(firstIndex)
+        .putLong(lastIndex)
+        .putInt(entriesLength.get() / ENTRY_LENGTH)
+        .put(entries.byteArray(), 0, entriesLength.get());
+
+    final int contentLength = buffer.capacity() - CHECKSUM_LENGTH;
+    buffer.putLong(contentLength, new ChecksumGenerator().compute(buffer, 0, contentLength));
+    return buffer.clear();
+  }
+
+  /**
+   * Writes the given content, as returned by {@link #serialize(Segment, JournalIndex)}, to the
+   * index file of the given segment file, replacing any existing one.
+   *
+   * @param segmentFile the file of the segment the content belongs to
+   * @param content the content of the index file
+   * @throws IOException if the file could not be written
+   */
+  static void write(final SegmentFile segmentFile, final ByteBuffer content) throws IOException {
+    final var buffer = content.duplicate();
+    final var target = segmentFile.indexFile();
+    final var temporary = target.resolveSibling(target.getFileName() + TEMPORARY_SUFFIX);
+    try (final var channel =
+        FileChannel.open(
+            temporary,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+    }
+
+    Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /**
+   * Restores the index entries of the given segment from its companion index file, if the file is
+   * valid and matches the segment. Nothing is indexed otherwise.
+   *
+   * @param segment the segment to restore the index of
+   * @param journalIndex the index to restore the entries into
+   * @return true if the entries were restored, false if the file is missing or invalid
+   */
+  static boolean load(final Segment segment, final JournalIndex journalIndex) {
+    final var indexFile = segment.file().indexFile();
+    final ByteBuffer buffer;
+    try {
+      buffer = ByteBuffer.wrap(Files.readAllBytes(indexFile)).order(ENDIANNESS);
+    } catch (final NoSuchFileException e) {
+      LOGGER.debug("No index file found for segment {}", segment);
+      return false;
+    } catch (final IOException e) {
+      LOGGER.warn("Failed to read index file {} of segment {}", indexFile, segment, e);
+      return false;
+    }
+
+    if (!isValid(buffer, segment)) {
+      LOGGER.debug("Ignoring invalid or outdated index file {} of {}", indexFile, segment);
+      return false;
+    }
+
+    final int entryCount = buffer.getInt(HEADER_LENGTH - Integer.BYTES);
+    buffer.position(HEADER_LENGTH);
+    for (int i = 0; i < entryCount; i++) {
+      final long index = buffer.getLong();
+      final int position = buffer.getInt();
+      final long asqn = buffer.getLong();
+      journalIndex.index(index, asqn, position);
+    }
+
+    return true;
+  }
+
+  /**
+   * Deletes the index file of the given segment file, if any. This must be done before modifying a
+   * sealed segment, e.g. when truncating it, to avoid restoring outdated positions.
+   *
+   * @param segmentFile the segment file whose index file should be deleted
+   * @throws JournalException if the file exists but could not be deleted
+   */
+  static void delete(final SegmentFile segmentFile) {
+    try {
+      Files.deleteIfExists(segmentFile.indexFile());
+    } catch (final IOException e) {
+      throw new JournalException(
+          "Failed to delete index file %s".formatted(segmentFile.indexFile()), e);
+    }
+  }
+
+  /** Returns true if the given file name is a partially written index file of the journal. */
+  static boolean isTemporaryFile(final String journalName, final String fileName) {
+    return fileName.endsWith(TEMPORARY_SUFFIX)
+        && SegmentFile.isSegmentIndexFile(
+            journalName, fileName.substring(0, fileName.length() - TEMPORARY_SUFFIX.length()));
+  }
+
+  private static boolean isValid(final ByteBuffer buffer, final Segment segment) {
+    if (buffer.capacity() < HEADER_LENGTH + CHECKSUM_LENGTH || buffer.get(0) != VERSION) {
+      return false;
+    }
+
+    final int entryCount = buffer.getInt(HEADER_LENGTH - Integer.BYTES);
+    final int contentLength = buffer.capacity() - CHECKSUM_LENGTH;
+    if (entryCount < 0 || contentLength != HEADER_LENGTH + (long) entryCount * ENTRY_LENGTH) {
+      return false;
+    }
+
+    final long checksum = new ChecksumGenerator().compute(buffer, 0, contentLength);
+    if (checksum != buffer.getLong(contentLength)) {
+      return false;
+    }
+
+    int offset = Byte.BYTES;
+    final long segmentId = buffer.getLong(offset);
+    offset += Long.BYTES;
+    final long firstIndex = buffer.getLong(offset);
+    offset += Long.BYTES;
+    final long lastIndex = buffer.getLong(offset);
+
+    return segmentId == segment.id()
+        && firstIndex == segment.index()
+        && lastIndex == segment.lastIndex();
+  }
+}
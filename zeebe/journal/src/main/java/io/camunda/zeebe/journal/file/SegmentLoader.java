@@ -19,6 +19,7 @@ import java.nio.channels.FileChannel.MapMode;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import org.agrona.IoUtil;
 import org.slf4j.Logger;
@@ -119,6 +120,65 @@ final class SegmentLoader {
         journalIndex);
   }
 
+  /**
+   * Reuses the file of a compacted segment as a new, uninitialized segment. The old descriptor and
+   * the first entry are wiped before moving the file to its new name, such that the file looks like
+   * any other uninitialized segment if we crash before using it. Older entries are left as is, but
+   * are never read, since writing an entry always invalidates the next one.
+   *
+   * @param recycledFile the file of a compacted segment, which is not used anymore
+   * @param segmentFile the path of the new segment
+   * @param descriptor the descriptor of the new segment
+   * @param journalIndex the journal index
+   * @return the new, uninitialized segment
+   * @throws JournalException if the file could not be reused; it is then left as is
+   */
+  UninitializedSegment recycleSegment(
+      final Path recycledFile,
+      final Path segmentFile,
+      final SegmentDescriptor descriptor,
+      final JournalIndex journalIndex) {
+    final MappedByteBuffer mappedSegment;
+
+    try (final var channel =
+        FileChannel.open(recycledFile, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      if (channel.size() != descriptor.maxSegmentSize()) {
+        throw new JournalException(
+            String.format(
+                "Expected recycled segment file %s to have size %d, but it has size %d",
+                recycledFile, descriptor.maxSegmentSize(), channel.size()));
+      }
+
+      mappedSegment = mapSegment(channel, descriptor.maxSegmentSize());
+    } catch (final IOException e) {
+      throw new JournalException(
+          String.format("Failed to reuse segment file %s", recycledFile), e);
+    }
+
+    final int wipedLength =
+        SegmentDescriptorSerializer.currentEncodingLength() + FrameUtil.getLength();
+    for (int i = 0; i < wipedLength; i++) {
+      mappedSegment.put(i, (byte) 0);
+    }
+    mappedSegment.force(0, wipedLength);
+
+    try {
+      FileUtil.moveDurably(recycledFile, segmentFile, StandardCopyOption.ATOMIC_MOVE);
+    } catch (final IOException e) {
+      IoUtil.unmap(mappedSegment);
+      throw new JournalException(
+          String.format("Failed to move recycled segment file %s to %s", recycledFile, segmentFile),
+          e);
+    }
+
+    return new UninitializedSegment(
+        new SegmentFile(segmentFile.toFile()),
+        descriptor.id(),
+        descriptor.maxSegmentSize(),
+        mappedSegment,
+        journalIndex);
+  }
+
   Segment loadExistingSegment(
       final Path segmentFile, final long lastWrittenAsqn, final JournalIndex journalIndex) {
     final var descriptorSerializer = SegmentDescriptorSerializer.currentSerializer();
@@ -17,6 +17,8 @@
 package io.camunda.zeebe.journal.file;
 
 import com.google.common.base.Preconditions;
+import io.camunda.zeebe.journal.CorruptedJournalException;
+import io.camunda.zeebe.journal.JournalException.InvalidIndex;
 import io.camunda.zeebe.journal.JournalRecord;
 import io.camunda.zeebe.journal.record.JournalRecordReaderUtil;
 import io.camunda.zeebe.journal.record.SBESerializer;
@@ -70,6 +72,38 @@ final class SegmentReader implements Iterator<JournalRecord> {
     return currentEntry;
   }
 
+  /**
+   * Reads the next records of the segment into the given batch, without copying them. Stops before
+   * the first record which is invalid, unless it's the very first one, in which case the error is
+   * thrown just like {@link #next()} would.
+   *
+   * @param batch the batch to read into; it is cleared first
+   * @param maxRecords the maximum number of records to read
+   * @param maxBytes the maximum number of bytes the batch should span
+   */
+  void readBatch(
+      final MappedJournalRecordBatch batch, final int maxRecords, final int maxBytes) {
+    batch.reset(buffer, buffer.position());
+
+    while (batch.size() < maxRecords && hasNext()) {
+      try {
+        if (!batch.add(buffer.position(), getNextIndex(), maxBytes)) {
+          break;
+        }
+      } catch (final CorruptedJournalException | InvalidIndex e) {
+        if (batch.isEmpty()) {
+          throw e;
+        }
+
+        // return the valid records first; the error is surfaced on the next read
+        break;
+      }
+
+      buffer.position(batch.endPosition());
+      currentIndex = batch.lastIndex();
+    }
+  }
+
   void reset() {
     buffer.position(descriptorLength);
     currentIndex = segment.index() - 1;
@@ -101,6 +135,18 @@ final class SegmentReader implements Iterator<JournalRecord> {
     }
   }
 
+  /** Reads all entries of the segment from the start, and indexes each of them. */
+  void indexAll() {
+    checkSegmentOpen();
+    reset();
+
+    while (hasNext()) {
+      final var nextPosition = buffer.position();
+      final var nextEntry = next();
+      index.index(nextEntry, nextPosition);
+    }
+  }
+
   void close() {
     segment.onReaderClosed(this);
   }
@@ -35,6 +35,7 @@ import io.camunda.zeebe.util.buffer.BufferWriter;
 import io.camunda.zeebe.util.buffer.DirectBufferWriter;
 import java.nio.BufferUnderflowException;
 import java.nio.MappedByteBuffer;
+import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
@@ -51,7 +52,8 @@ final class SegmentWriter {
   private final long firstIndex;
   private final long firstAsqn;
   private long lastAsqn;
-  private JournalRecord lastEntry;
+  // volatile, as it's read by a concurrent flush to find out up to which index bytes are synced
+  private volatile JournalRecord lastEntry;
   private int lastEntryPosition;
   private final JournalRecordReaderUtil recordUtil;
   private final ChecksumGenerator checksumGenerator = new ChecksumGenerator();
@@ -160,11 +162,11 @@ final class SegmentWriter {
   }
 
   Either<SegmentFull, JournalRecord> append(
-      final long expectedChecksum, final byte[] serializedRecord) {
+      final long expectedChecksum, final DirectBuffer serializedRecord) {
 
     final int startPosition = buffer.position();
     final int frameLength = FrameUtil.getLength();
-    final int recordLength = serializedRecord.length;
+    final int recordLength = serializedRecord.capacity();
     final int metadataLength = serializer.getMetadataLength();
 
     if (startPosition + frameLength + metadataLength + recordLength > buffer.capacity()) {
@@ -172,7 +174,8 @@ final class SegmentWriter {
     }
 
     // write serialized RecordData
-    writeBuffer.putBytes(startPosition + frameLength + metadataLength, serializedRecord);
+    writeBuffer.putBytes(
+        startPosition + frameLength + metadataLength, serializedRecord, 0, recordLength);
 
     finalizeAppend(expectedChecksum, startPosition, frameLength, metadataLength, recordLength);
     return Either.right(lastEntry);
@@ -241,15 +244,21 @@ final class SegmentWriter {
     final int nextEntryOffset = startPosition + frameLength + metadataLength + recordLength;
     invalidateNextEntry(nextEntryOffset);
 
-    updateLastWrittenEntry(startPosition, frameLength, metadataLength, recordLength);
+    final var writtenEntry =
+        readWrittenEntry(startPosition, frameLength, metadataLength, recordLength);
     FrameUtil.writeVersion(buffer, startPosition);
 
     final int appendedBytes = frameLength + metadataLength + recordLength;
     buffer.position(startPosition + appendedBytes);
+    // the bytes must be marked dirty before the entry is published, otherwise a concurrent flush
+    // could see the new last index, but not the new dirty range, and store a flushed index which
+    // covers bytes it did not sync
+    segment.markDirty(startPosition, nextEntryOffset);
+    updateLastWrittenEntry(writtenEntry, startPosition);
     metrics.observeAppend(appendedBytes);
   }
 
-  private void updateLastWrittenEntry(
+  private JournalRecord readWrittenEntry(
       final int startPosition,
       final int frameLength,
       final int metadataLength,
@@ -258,15 +267,18 @@ final class SegmentWriter {
     final var data = serializer.readData(writeBuffer, startPosition + frameLength + metadataLength);
     verifyNoIndexGap(data.index(), getNextIndex());
 
-    lastEntry =
-        new PersistedJournalRecord(
-            metadata,
-            data,
-            new UnsafeBuffer(
-                writeBuffer, startPosition + frameLength + metadataLength, recordLength));
-    updateLastAsqn(lastEntry.asqn());
-    index.index(lastEntry, startPosition);
+    return new PersistedJournalRecord(
+        metadata,
+        data,
+        new UnsafeBuffer(writeBuffer, startPosition + frameLength + metadataLength, recordLength));
+  }
+
+  private void updateLastWrittenEntry(final JournalRecord entry, final int startPosition) {
+    updateLastAsqn(entry.asqn());
+    index.index(entry, startPosition);
     lastEntryPosition = startPosition;
+    // publishes the entry, see #finalizeAppend
+    lastEntry = entry;
   }
 
   private void updateLastAsqn(final long asqn) {
@@ -299,6 +311,7 @@ final class SegmentWriter {
     }
 
     FrameUtil.markAsIgnored(buffer, position);
+    segment.markDirty(position, position + FrameUtil.getLength());
   }
 
   private void jumpToLastEntry(final int lastPosition, final long lastIndex) {
@@ -376,6 +389,7 @@ final class SegmentWriter {
         e.getMessage(),
         position);
     FrameUtil.markAsIgnored(buffer, position);
+    segment.markDirty(position, position + FrameUtil.getLength());
     buffer.position(position);
     buffer.mark();
   }
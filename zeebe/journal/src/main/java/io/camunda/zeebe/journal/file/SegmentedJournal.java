@@ -35,6 +35,8 @@ import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.concurrent.locks.StampedLock;
 import java.util.stream.Collectors;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -94,6 +96,11 @@ public final class SegmentedJournal implements Journal {
 
   @Override
   public JournalRecord append(final long checksum, final byte[] serializedRecord) {
+    return append(checksum, new UnsafeBuffer(serializedRecord));
+  }
+
+  @Override
+  public JournalRecord append(final long checksum, final DirectBuffer serializedRecord) {
     try (final var ignored = journalMetrics.observeAppendLatency()) {
       return writer.append(checksum, serializedRecord);
     }
@@ -178,6 +185,11 @@ public final class SegmentedJournal implements Journal {
     }
   }
 
+  @Override
+  public long getLastFlushedIndex() {
+    return writer.getLastFlushedIndex();
+  }
+
   @Override
   public JournalReader openReader() {
     final var stamped = acquireReadlock();
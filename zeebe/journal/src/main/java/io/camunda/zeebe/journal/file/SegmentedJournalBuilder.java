@@ -33,6 +33,10 @@ public class SegmentedJournalBuilder {
   private static final long DEFAULT_MIN_FREE_DISK_SPACE = 1024L * 1024 * 1024;
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final boolean DEFAULT_PRIMITIVE_JOURNAL_INDEX = false;
+  private static final boolean DEFAULT_PERSIST_SEGMENT_INDEX = false;
+  private static final int DEFAULT_PREPARED_SEGMENTS_COUNT = 1;
+  private static final boolean DEFAULT_RECYCLE_SEGMENTS = false;
 
   // impossible value to make it clear it's unset
   private static final int DEFAULT_PARTITION_ID = -1;
@@ -44,6 +48,10 @@ public class SegmentedJournalBuilder {
   private long freeDiskSpace = DEFAULT_MIN_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private boolean primitiveJournalIndex = DEFAULT_PRIMITIVE_JOURNAL_INDEX;
+  private boolean persistSegmentIndex = DEFAULT_PERSIST_SEGMENT_INDEX;
+  private int preparedSegmentsCount = DEFAULT_PREPARED_SEGMENTS_COUNT;
+  private boolean recycleSegments = DEFAULT_RECYCLE_SEGMENTS;
   private int partitionId = DEFAULT_PARTITION_ID;
 
   private JournalMetaStore journalMetaStore;
@@ -145,6 +153,59 @@ public class SegmentedJournalBuilder {
     return this;
   }
 
+  /**
+   * Sets whether the journal index keeps its mappings in sorted primitive arrays instead of
+   * concurrent skip list maps. Both have the same semantics, but the primitive index does not box
+   * its entries, which considerably reduces its heap footprint for large logs.
+   *
+   * @param primitiveJournalIndex true to use the primitive index, false otherwise
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withPrimitiveJournalIndex(final boolean primitiveJournalIndex) {
+    this.primitiveJournalIndex = primitiveJournalIndex;
+    return this;
+  }
+
+  /**
+   * Sets whether the index of each sealed segment is persisted to a companion file. When opening
+   * the journal, valid index files are loaded instead of scanning the segments, such that the time
+   * to open the journal depends on the number of segments and not on the size of the log.
+   *
+   * @param persistSegmentIndex true to persist the index of sealed segments, false otherwise
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withPersistSegmentIndex(final boolean persistSegmentIndex) {
+    this.persistSegmentIndex = persistSegmentIndex;
+    return this;
+  }
+
+  /**
+   * Sets how many segments are prepared in the background ahead of time, such that rolling over to
+   * a new segment does not have to wait for its file to be created and allocated.
+   *
+   * @param preparedSegmentsCount the number of segments to keep ready, at least 1
+   * @return this builder for chaining
+   * @throws IllegalArgumentException if {@code preparedSegmentsCount} is not positive
+   */
+  public SegmentedJournalBuilder withPreparedSegmentsCount(final int preparedSegmentsCount) {
+    checkArgument(preparedSegmentsCount > 0, "preparedSegmentsCount must be positive");
+    this.preparedSegmentsCount = preparedSegmentsCount;
+    return this;
+  }
+
+  /**
+   * Sets whether the files of compacted segments are reused for new segments instead of being
+   * deleted. Up to {@link #withPreparedSegmentsCount(int)} files are kept for reuse, which avoids
+   * allocating disk space for new segments.
+   *
+   * @param recycleSegments true to reuse the files of compacted segments, false otherwise
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withSegmentRecycling(final boolean recycleSegments) {
+    this.recycleSegments = recycleSegments;
+    return this;
+  }
+
   /**
    * The ID of the partition on which this journal resides. This is used primarily for
    * observability, e.g. in {@link JournalMetrics}.
@@ -167,7 +228,10 @@ public class SegmentedJournalBuilder {
   }
 
   public SegmentedJournal build() {
-    final var journalIndex = new SparseJournalIndex(journalIndexDensity);
+    final JournalIndex journalIndex =
+        primitiveJournalIndex
+            ? new PrimitiveJournalIndex(journalIndexDensity)
+            : new SparseJournalIndex(journalIndexDensity);
     final var journalMetrics = new JournalMetrics(meterRegistry);
     final var segmentAllocator =
         preallocateSegmentFiles ? SegmentAllocator.fill() : SegmentAllocator.noop();
@@ -180,8 +244,11 @@ public class SegmentedJournalBuilder {
             name,
             segmentLoader,
             journalMetrics,
-            journalMetaStore);
-    final var segmentsFlusher = new SegmentsFlusher(journalMetaStore);
+            journalMetaStore,
+            persistSegmentIndex,
+            preparedSegmentsCount,
+            recycleSegments);
+    final var segmentsFlusher = new SegmentsFlusher(journalMetaStore, journalMetrics);
 
     return new SegmentedJournal(journalIndex, segmentsManager, journalMetrics, segmentsFlusher);
   }
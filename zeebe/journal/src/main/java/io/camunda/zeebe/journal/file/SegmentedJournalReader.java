@@ -16,10 +16,12 @@
  */
 package io.camunda.zeebe.journal.file;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static io.camunda.zeebe.journal.file.SegmentedJournal.ASQN_IGNORE;
 
 import io.camunda.zeebe.journal.JournalReader;
 import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.journal.JournalRecordBatch;
 import java.util.NoSuchElementException;
 
 class SegmentedJournalReader implements JournalReader {
@@ -28,6 +30,7 @@ class SegmentedJournalReader implements JournalReader {
   private Segment currentSegment;
   private SegmentReader currentReader;
   private final JournalMetrics metrics;
+  private final MappedJournalRecordBatch batch = new MappedJournalRecordBatch();
 
   SegmentedJournalReader(final SegmentedJournal journal, final JournalMetrics journalMetrics) {
     this.journal = journal;
@@ -65,6 +68,24 @@ class SegmentedJournalReader implements JournalReader {
     }
   }
 
+  @Override
+  public JournalRecordBatch nextBatch(final int maxRecords, final int maxBytes) {
+    checkArgument(maxRecords > 0, "Expected maxRecords to be positive, but was %s", maxRecords);
+
+    final var stamp = journal.acquireReadlock();
+    try {
+      if (unsafeHasNext()) {
+        currentReader.readBatch(batch, maxRecords, maxBytes);
+      } else {
+        batch.clear();
+      }
+
+      return batch;
+    } finally {
+      journal.releaseReadlock(stamp);
+    }
+  }
+
   private JournalRecord unsafeNext() throws NoSuchElementException {
     if (!unsafeHasNext()) {
       throw new NoSuchElementException();
@@ -23,6 +23,7 @@ import io.camunda.zeebe.journal.JournalRecord;
 import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.util.function.Function;
+import org.agrona.DirectBuffer;
 
 final class SegmentedJournalWriter {
   private final SegmentsManager segments;
@@ -52,6 +53,10 @@ final class SegmentedJournalWriter {
     return currentWriter.getNextIndex();
   }
 
+  long getLastFlushedIndex() {
+    return flusher.lastFlushedIndex();
+  }
+
   JournalRecord append(final long asqn, final BufferWriter recordDataWriter) {
     return appendInCurrentSegmentOrNext(
         segmentWriter -> segmentWriter.append(asqn, recordDataWriter));
@@ -61,7 +66,7 @@ final class SegmentedJournalWriter {
     appendInCurrentSegmentOrNext(segmentWriter -> segmentWriter.append(journalRecord));
   }
 
-  JournalRecord append(final long checksum, final byte[] serializedRecord) {
+  JournalRecord append(final long checksum, final DirectBuffer serializedRecord) {
     return appendInCurrentSegmentOrNext(
         segmentWriter -> segmentWriter.append(checksum, serializedRecord));
   }
@@ -11,19 +11,32 @@ import io.camunda.zeebe.journal.CheckedJournalException.FlushException;
 import io.camunda.zeebe.journal.JournalMetaStore;
 import java.util.Collection;
 import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Flushes dirty segments, and keeps track of the last flushed index.
+ *
+ * <p>Flushes are group committed: concurrent flush requests, e.g. from an asynchronous flusher and
+ * a forced flush before taking a snapshot, are serialized, and a request which had to wait only
+ * syncs what the previous flush did not already cover. As segments only sync the range of bytes
+ * modified since their last flush, such merged requests typically return without any I/O, and a
+ * single {@code msync} covers all entries appended in the meantime.
+ */
 final class SegmentsFlusher {
   private static final Logger LOGGER = LoggerFactory.getLogger(SegmentsFlusher.class);
 
   private final JournalMetaStore metaStore;
+  private final JournalMetrics metrics;
+  private final ReentrantLock flushLock = new ReentrantLock();
 
-  // no need to make this volatile if callers always acquire the write-lock beforehand
-  private long lastFlushedIndex;
+  // flushes may run concurrently with each other, and with the writer computing the dirty segments
+  private volatile long lastFlushedIndex;
 
-  SegmentsFlusher(final JournalMetaStore metaStore) {
+  SegmentsFlusher(final JournalMetaStore metaStore, final JournalMetrics metrics) {
     this.metaStore = Objects.requireNonNull(metaStore, "must specify a meta store");
+    this.metrics = Objects.requireNonNull(metrics, "must specify journal metrics");
     lastFlushedIndex = metaStore.loadLastFlushedIndex();
   }
 
@@ -32,6 +45,10 @@ final class SegmentsFlusher {
     metaStore.storeLastFlushedIndex(lastFlushedIndex);
   }
 
+  long lastFlushedIndex() {
+    return lastFlushedIndex;
+  }
+
   long nextFlushIndex() {
     return lastFlushedIndex + 1;
   }
@@ -41,35 +58,56 @@ final class SegmentsFlusher {
    * #lastFlushedIndex}. These are then flushed in order. The {@link Segment#lastIndex()} of the
    * last successful segment to be flushed will be stored in the given {@link JournalMetaStore}.
    *
+   * <p>If another flush is in progress, this waits for it to complete first, and then only flushes
+   * whatever is still dirty.
+   *
    * @param dirtySegments the list of segments which need to be flushed
    */
   void flush(final Collection<? extends FlushableSegment> dirtySegments) throws FlushException {
-    final var segmentsCount = dirtySegments.size();
-    long flushedIndex = -1;
-
-    if (segmentsCount == 0) {
+    if (dirtySegments.isEmpty()) {
       LOGGER.debug(
-          "No segments to flush for index {}; there may be nothing to flush", flushedIndex);
+          "No segments to flush after index {}; there may be nothing to flush", lastFlushedIndex);
       return;
     }
 
+    flushLock.lock();
+    try {
+      flushSegments(dirtySegments);
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  private void flushSegments(final Collection<? extends FlushableSegment> dirtySegments)
+      throws FlushException {
+    final var startTime = metrics.monotonicTime();
+    final var previousFlushedIndex = lastFlushedIndex;
+    long flushedIndex = -1;
+    long flushedBytes = 0;
+
     try {
       for (final var segment : dirtySegments) {
         final long lastSegmentIndex = segment.lastIndex();
-        segment.flush(); // throws FlushException
+        flushedBytes += segment.flush(); // throws FlushException
         flushedIndex = lastSegmentIndex;
       }
     } finally {
       // store whatever we managed to flush to avoid doing it again
-      if (flushedIndex > lastFlushedIndex) {
+      if (flushedIndex > previousFlushedIndex) {
         setLastFlushedIndex(flushedIndex);
 
         LOGGER.trace(
-            "Flushed {} segment(s), from index {} to index {}",
-            segmentsCount,
-            lastFlushedIndex,
+            "Flushed {} segment(s) ({} bytes), from index {} to index {}",
+            dirtySegments.size(),
+            flushedBytes,
+            previousFlushedIndex,
             flushedIndex);
       }
+
+      metrics.observeFlush(
+          Math.max(0, flushedIndex - previousFlushedIndex),
+          flushedBytes,
+          metrics.monotonicTime() - startTime);
     }
   }
 }
@@ -15,15 +15,18 @@ import io.camunda.zeebe.journal.JournalMetaStore;
 import io.camunda.zeebe.util.logging.ThrottledLogger;
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -32,6 +35,8 @@ import java.util.SortedMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -41,12 +46,16 @@ final class SegmentsManager implements AutoCloseable {
   private static final long FIRST_SEGMENT_ID = 1;
   private static final long INITIAL_INDEX = 1;
   private static final long INITIAL_ASQN = SegmentedJournal.ASQN_IGNORE;
+  private static final int DEFAULT_PREPARED_SEGMENTS_COUNT = 1;
 
   private static final Logger LOG = LoggerFactory.getLogger(SegmentsManager.class);
   private static final Logger THROTTLED_LOG = new ThrottledLogger(LOG, Duration.ofSeconds(5));
 
   private final NavigableMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
-  private CompletableFuture<UninitializedSegment> nextSegment = null;
+  // segments prepared in the background, in the order in which they will be used
+  private final Deque<CompletableFuture<UninitializedSegment>> preparedSegments =
+      new ArrayDeque<>();
+  private long lastPreparedSegmentId;
 
   private final JournalMetrics journalMetrics;
   private final JournalIndex journalIndex;
@@ -55,6 +64,11 @@ final class SegmentsManager implements AutoCloseable {
   private final SegmentLoader segmentLoader;
   private final String name;
   private final JournalMetaStore metaStore;
+  private final boolean persistSegmentIndex;
+  private final int preparedSegmentsCount;
+  private final SegmentFilePool recycledSegments;
+  // writes the index files of sealed segments, such that rolling over does not wait for the disk
+  private final ExecutorService indexFileWriter;
 
   private volatile Segment currentSegment;
 
@@ -66,6 +80,30 @@ final class SegmentsManager implements AutoCloseable {
       final SegmentLoader segmentLoader,
       final JournalMetrics journalMetrics,
       final JournalMetaStore metaStore) {
+    this(
+        journalIndex,
+        maxSegmentSize,
+        directory,
+        name,
+        segmentLoader,
+        journalMetrics,
+        metaStore,
+        false,
+        DEFAULT_PREPARED_SEGMENTS_COUNT,
+        false);
+  }
+
+  SegmentsManager(
+      final JournalIndex journalIndex,
+      final int maxSegmentSize,
+      final File directory,
+      final String name,
+      final SegmentLoader segmentLoader,
+      final JournalMetrics journalMetrics,
+      final JournalMetaStore metaStore,
+      final boolean persistSegmentIndex,
+      final int preparedSegmentsCount,
+      final boolean recycleSegments) {
     this.name = checkNotNull(name, "name cannot be null");
     this.journalIndex = journalIndex;
     this.maxSegmentSize = maxSegmentSize;
@@ -73,6 +111,14 @@ final class SegmentsManager implements AutoCloseable {
     this.segmentLoader = segmentLoader;
     this.journalMetrics = journalMetrics;
     this.metaStore = metaStore;
+    this.persistSegmentIndex = persistSegmentIndex;
+    this.preparedSegmentsCount = preparedSegmentsCount;
+    recycledSegments = recycleSegments ? new SegmentFilePool(preparedSegmentsCount) : null;
+    indexFileWriter =
+        persistSegmentIndex
+            ? Executors.newSingleThreadExecutor(
+                Thread.ofPlatform().name(name + "-index-writer").daemon().factory())
+            : null;
   }
 
   @Override
@@ -85,14 +131,23 @@ final class SegmentsManager implements AutoCloseable {
               segment.close();
             });
 
-    if (nextSegment != null) {
+    for (final var preparedSegment : preparedSegments) {
       try {
-        nextSegment.join();
+        preparedSegment.join();
       } catch (final Exception e) {
         LOG.warn(
             "Next segment preparation failed during close, ignoring and proceeding to close", e);
       }
-      nextSegment = null;
+    }
+    preparedSegments.clear();
+
+    if (recycledSegments != null) {
+      recycledSegments.clear();
+    }
+
+    // closing the segments awaited all pending index file writes
+    if (indexFileWriter != null) {
+      indexFileWriter.shutdown();
     }
 
     currentSegment = null;
@@ -119,6 +174,14 @@ final class SegmentsManager implements AutoCloseable {
    * @throws IllegalStateException if the segment manager is not open
    */
   Segment getNextSegment() {
+    // the current segment is full, and will not be written to anymore unless truncated; only its
+    // entries are collected here, while the index file is written in the background
+    if (persistSegmentIndex) {
+      final var sealedSegment = currentSegment;
+      final var indexFileContent = SegmentIndexFile.serialize(sealedSegment, journalIndex);
+      sealedSegment.persistIndexAsync(
+          () -> writeSegmentIndex(sealedSegment, indexFileContent), indexFileWriter);
+    }
 
     final Segment lastSegment = getLastSegment();
     final var lastWrittenAsqn = lastSegment != null ? lastSegment.lastAsqn() : INITIAL_ASQN;
@@ -129,19 +192,19 @@ final class SegmentsManager implements AutoCloseable {
             .withIndex(nextSegmentIndex)
             .withMaxSegmentSize(maxSegmentSize)
             .build();
+    final var nextSegment = preparedSegments.pollFirst();
     if (nextSegment != null) {
       try {
         currentSegment =
             nextSegment.join().initializeForUse(nextSegmentIndex, lastWrittenAsqn, journalMetrics);
       } catch (final CompletionException e) {
         LOG.error("Failed to acquire next segment, retrying synchronously now.", e);
-        nextSegment = null;
         currentSegment = createSegment(descriptor, lastWrittenAsqn);
       }
     } else {
       currentSegment = createSegment(descriptor, lastWrittenAsqn);
     }
-    prepareNextSegment();
+    prepareNextSegments();
 
     segments.put(descriptor.index(), currentSegment);
     journalMetrics.incSegmentCount();
@@ -197,7 +260,11 @@ final class SegmentsManager implements AutoCloseable {
         compactSegments.size());
     for (final Segment segment : compactSegments.values()) {
       LOG.trace("{} - Deleting segment: {}", name, segment);
-      segment.delete();
+      if (recycledSegments != null) {
+        segment.recycle(recycledSegments);
+      } else {
+        segment.delete();
+      }
       journalMetrics.decSegmentCount();
     }
 
@@ -316,14 +383,25 @@ final class SegmentsManager implements AutoCloseable {
     deleteDeferredFiles();
   }
 
-  private void prepareNextSegment() {
-    final var descriptor =
-        SegmentDescriptor.builder()
-            .withId(currentSegment.id() + 1)
-            .withIndex(INITIAL_INDEX)
-            .withMaxSegmentSize(maxSegmentSize)
-            .build();
-    nextSegment = CompletableFuture.supplyAsync(() -> createUninitializedSegment(descriptor));
+  /**
+   * Prepares segments in the background until there are as many ready segments as configured, such
+   * that rolling over to a new segment does not have to wait for a file to be allocated.
+   */
+  private void prepareNextSegments() {
+    if (preparedSegments.isEmpty()) {
+      lastPreparedSegmentId = currentSegment.id();
+    }
+
+    while (preparedSegments.size() < preparedSegmentsCount) {
+      final var descriptor =
+          SegmentDescriptor.builder()
+              .withId(++lastPreparedSegmentId)
+              .withIndex(INITIAL_INDEX)
+              .withMaxSegmentSize(maxSegmentSize)
+              .build();
+      preparedSegments.addLast(
+          CompletableFuture.supplyAsync(() -> createUninitializedSegment(descriptor)));
+    }
   }
 
   SortedMap<Long, Segment> getTailSegments(final long index) {
@@ -337,6 +415,20 @@ final class SegmentsManager implements AutoCloseable {
 
   private UninitializedSegment createUninitializedSegment(final SegmentDescriptor descriptor) {
     final var segmentFile = SegmentFile.createSegmentFile(name, directory, descriptor.id());
+    final var recycledFile = recycledSegments != null ? recycledSegments.poll() : null;
+    if (recycledFile != null) {
+      try {
+        return segmentLoader.recycleSegment(
+            recycledFile, segmentFile.toPath(), descriptor, journalIndex);
+      } catch (final JournalException e) {
+        LOG.warn(
+            "Failed to reuse compacted segment file {}, allocating a new segment instead",
+            recycledFile,
+            e);
+        deleteDeferredFile(recycledFile);
+      }
+    }
+
     return segmentLoader.createUninitializedSegment(segmentFile.toPath(), descriptor, journalIndex);
   }
 
@@ -384,6 +476,10 @@ final class SegmentsManager implements AutoCloseable {
                   .formatted(lastFlushedIndex, segment.lastIndex()));
         }
 
+        if (persistSegmentIndex) {
+          restoreSegmentIndex(segment, isLastSegment);
+        }
+
         segments.add(segment);
         previousSegment = segment;
       } catch (final CorruptedJournalException e) {
@@ -398,6 +494,39 @@ final class SegmentsManager implements AutoCloseable {
     return segments;
   }
 
+  /**
+   * Restores the index of the given segment from its index file. If there is no valid index file,
+   * sealed segments are scanned once to rebuild their index, which is then persisted for the next
+   * time. The last segment is never scanned here, as the writer already does so when needed.
+   */
+  private void restoreSegmentIndex(final Segment segment, final boolean isLastSegment) {
+    if (SegmentIndexFile.load(segment, journalIndex)) {
+      return;
+    }
+
+    if (!isLastSegment) {
+      LOG.debug("Rebuilding index of segment {} by scanning it", segment);
+      segment.rebuildIndex();
+      persistSegmentIndex(segment);
+    }
+  }
+
+  private void persistSegmentIndex(final Segment segment) {
+    writeSegmentIndex(segment, SegmentIndexFile.serialize(segment, journalIndex));
+  }
+
+  private void writeSegmentIndex(final Segment segment, final ByteBuffer indexFileContent) {
+    try {
+      SegmentIndexFile.write(segment.file(), indexFileContent);
+    } catch (final IOException | RuntimeException e) {
+      // the index file is only an optimization for the next start up, so we can keep going
+      LOG.warn(
+          "Failed to persist index of segment {}; it will be rebuilt on the next start up",
+          segment,
+          e);
+    }
+  }
+
   private void checkForIndexGaps(final Segment prevSegment, final Segment segment) {
     if (prevSegment.lastIndex() != segment.index() - 1) {
       throw new CorruptedJournalException(
@@ -443,6 +572,7 @@ final class SegmentsManager implements AutoCloseable {
     for (int i = failedIndex; i < files.size(); i++) {
       final File file = files.get(i);
       try {
+        Files.deleteIfExists(new SegmentFile(file).indexFile());
         Files.delete(file.toPath());
       } catch (final IOException e) {
         throw new JournalException(
@@ -482,6 +612,28 @@ final class SegmentsManager implements AutoCloseable {
           directory.toPath(),
           e);
     }
+
+    // index files may outlive their segment if we crashed while deleting it
+    try (final DirectoryStream<Path> orphanedIndexFiles =
+        Files.newDirectoryStream(directory.toPath(), this::isOrphanedIndexFile)) {
+      orphanedIndexFiles.forEach(this::deleteDeferredFile);
+    } catch (final IOException e) {
+      LOG.warn(
+          "Could not delete orphaned segment index files in {}. This can result in unnecessary disk usage.",
+          directory.toPath(),
+          e);
+    }
+  }
+
+  private boolean isOrphanedIndexFile(final Path path) {
+    final var fileName = path.getFileName().toString();
+    if (SegmentIndexFile.isTemporaryFile(name, fileName)) {
+      // left over from a write which did not complete, and never read
+      return true;
+    }
+
+    return SegmentFile.isSegmentIndexFile(name, fileName)
+        && !Files.exists(SegmentFile.segmentFileOfIndexFile(path));
   }
 
   private void deleteDeferredFile(final Path segmentFileToDelete) {
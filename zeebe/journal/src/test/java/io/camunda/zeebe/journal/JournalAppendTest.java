@@ -107,6 +107,31 @@ final class JournalAppendTest {
     }
   }
 
+  @Test
+  void shouldAppendJournalRecordFromBuffer() {
+    // given
+    try (final var receiverJournal =
+        SegmentedJournal.builder(meterRegistry)
+            .withDirectory(directory.resolve("data-2").toFile())
+            .withJournalIndexDensity(5)
+            .withMetaStore(new MockJournalMetastore())
+            .build()) {
+      final var expected = journal.append(10, recordDataWriter);
+      final int length = expected.serializedRecord().capacity();
+      final var receivedMessage = new UnsafeBuffer(new byte[length + 32]);
+      receivedMessage.putBytes(16, expected.serializedRecord(), 0, length);
+
+      // when
+      receiverJournal.append(expected.checksum(), new UnsafeBuffer(receivedMessage, 16, length));
+
+      // then
+      final var reader = receiverJournal.openReader();
+      assertThat(reader.hasNext()).isTrue();
+      final var actual = reader.next();
+      assertThat(expected).isEqualTo(actual);
+    }
+  }
+
   @Test
   void shouldAppendMultipleData() {
     // when
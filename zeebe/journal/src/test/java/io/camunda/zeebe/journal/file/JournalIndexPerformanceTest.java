@@ -0,0 +1,101 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.util.TestJournalRecord;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the lookup latency and the heap footprint of the {@link SparseJournalIndex} and the
+ * {@link PrimitiveJournalIndex}. The heap footprint is measured once when setting up the index and
+ * is logged, as JMH has no notion of retained memory.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class JournalIndexPerformanceTest {
+  private static final Logger LOG = LoggerFactory.getLogger(JournalIndexPerformanceTest.class);
+
+  // with the default density of 100, this is an index over 100 million records
+  private static final long INDEXED_ENTRIES = 100_000_000L;
+  private static final int DENSITY = 100;
+
+  @Param({"SPARSE", "PRIMITIVE"})
+  public String indexType;
+
+  private JournalIndex index;
+
+  @Setup
+  public void setup() {
+    final var heapBefore = usedHeap();
+    index =
+        "SPARSE".equals(indexType)
+            ? new SparseJournalIndex(DENSITY)
+            : new PrimitiveJournalIndex(DENSITY);
+    for (long i = 1; i <= INDEXED_ENTRIES; i += DENSITY) {
+      final long indexed = i - 1 + DENSITY;
+      index.index(new TestJournalRecord(indexed, indexed, 0, null, null), (int) (indexed % 1024));
+    }
+
+    LOG.info(
+        "{} index over {} entries retains ~{} bytes",
+        indexType,
+        INDEXED_ENTRIES,
+        usedHeap() - heapBefore);
+  }
+
+  @Benchmark
+  public IndexInfo measureLookup() {
+    return index.lookup(ThreadLocalRandom.current().nextLong(1, INDEXED_ENTRIES));
+  }
+
+  @Benchmark
+  public Long measureAsqnLookup() {
+    return index.lookupAsqn(ThreadLocalRandom.current().nextLong(1, INDEXED_ENTRIES));
+  }
+
+  @JMHTest("measureLookup")
+  void shouldLookupWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/ms score, as measured on a developer machine
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 5_000;
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("indexType", "PRIMITIVE")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  private static long usedHeap() {
+    System.gc();
+    return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.JournalReader;
+import io.camunda.zeebe.journal.util.MockJournalMetastore;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares replaying a whole journal of roughly 1 GB record by record via {@link
+ * JournalReader#next()}, and in bulk via {@link JournalReader#nextBatch(int, int)}. Each operation
+ * reads every record once and touches its data, as a replay would.
+ */
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 10, time = 5)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class JournalReaderPerformanceTest {
+  private static final Logger LOG = LoggerFactory.getLogger(JournalReaderPerformanceTest.class);
+
+  private static final long LOG_SIZE = 1024L * 1024 * 1024;
+  private static final int SEGMENT_SIZE = 128 * 1024 * 1024;
+  private static final int RECORD_SIZE = 1024;
+  private static final int BATCH_MAX_RECORDS = 1024;
+  private static final int BATCH_MAX_BYTES = 4 * 1024 * 1024;
+
+  @Param({"RECORD", "BATCH"})
+  public String readMode;
+
+  private Path directory;
+  private SegmentedJournal journal;
+  private JournalReader reader;
+
+  @Setup
+  public void setup() throws Exception {
+    directory = Files.createTempDirectory("journal-reader-perf");
+    journal =
+        SegmentedJournal.builder(new SimpleMeterRegistry())
+            .withDirectory(directory.toFile())
+            .withMaxSegmentSize(SEGMENT_SIZE)
+            .withMetaStore(new MockJournalMetastore())
+            .build();
+
+    final var data = new byte[RECORD_SIZE];
+    ThreadLocalRandom.current().nextBytes(data);
+    final var writer = new DirectBufferWriter().wrap(new UnsafeBuffer(data));
+    long written = 0;
+    while (written < LOG_SIZE) {
+      journal.append(writer);
+      written += RECORD_SIZE;
+    }
+    journal.flush();
+
+    LOG.info("Wrote a journal of {} records", journal.getLastIndex());
+    reader = journal.openReader();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    reader.close();
+    journal.close();
+    FileUtil.deleteFolderIfExists(directory);
+  }
+
+  @Benchmark
+  public long measureReplay() {
+    long checksum = 0;
+    reader.seekToFirst();
+
+    if ("BATCH".equals(readMode)) {
+      var batch = reader.nextBatch(BATCH_MAX_RECORDS, BATCH_MAX_BYTES);
+      while (!batch.isEmpty()) {
+        for (int i = 0; i < batch.size(); i++) {
+          checksum += batch.record(i).data().getByte(0);
+        }
+        batch = reader.nextBatch(BATCH_MAX_RECORDS, BATCH_MAX_BYTES);
+      }
+    } else {
+      while (reader.hasNext()) {
+        checksum += reader.next().data().getByte(0);
+      }
+    }
+
+    return checksum;
+  }
+
+  @JMHTest("measureReplay")
+  void shouldReplayInBatchesWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected number of full replays per second, as measured on a developer machine
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 2;
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("readMode", "BATCH")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+}
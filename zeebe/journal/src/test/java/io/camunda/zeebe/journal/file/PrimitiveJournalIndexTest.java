@@ -0,0 +1,194 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static io.camunda.zeebe.journal.file.SparseJournalIndexTest.asJournalRecord;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+final class PrimitiveJournalIndexTest {
+
+  @Test
+  void shouldNotFindIndexWhenNotReachedDensity() {
+    // given
+    final JournalIndex index = new PrimitiveJournalIndex(5);
+
+    // when
+    index.index(asJournalRecord(1, 1), 2);
+
+    // then
+    assertThat(index.lookup(1)).isNull();
+    assertThat(index.lookupAsqn(1)).isNull();
+  }
+
+  @Test
+  void shouldFindLowerIndex() {
+    // given
+    final JournalIndex index = new PrimitiveJournalIndex(5);
+
+    // when
+    indexRange(index, 1, 12);
+
+    // then
+    assertThat(index.lookup(4)).isNull();
+    assertThat(index.lookup(5)).isEqualTo(new IndexInfo(5, 10));
+    assertThat(index.lookup(9)).isEqualTo(new IndexInfo(5, 10));
+    assertThat(index.lookup(12)).isEqualTo(new IndexInfo(10, 20));
+    assertThat(index.lookupAsqn(49)).isNull();
+    assertThat(index.lookupAsqn(50)).isEqualTo(5);
+    assertThat(index.lookupAsqn(99)).isEqualTo(5);
+    assertThat(index.lookupAsqn(Long.MAX_VALUE)).isEqualTo(10);
+  }
+
+  @Test
+  void shouldInsertEntriesIndexedOutOfOrder() {
+    // given
+    final JournalIndex index = new PrimitiveJournalIndex(2);
+    index.index(asJournalRecord(6, 60), 12);
+    index.index(asJournalRecord(2, 20), 4);
+
+    // when - a reader indexes a gap after the writer
+    index.index(asJournalRecord(4, 40), 8);
+
+    // then
+    assertThat(index.lookup(5)).isEqualTo(new IndexInfo(4, 8));
+    assertThat(index.lookup(7)).isEqualTo(new IndexInfo(6, 12));
+    assertThat(index.lookupAsqn(45)).isEqualTo(4);
+  }
+
+  @Test
+  void shouldOverwriteAlreadyIndexedEntry() {
+    // given
+    final JournalIndex index = new PrimitiveJournalIndex(2);
+    index.index(asJournalRecord(2, 20), 4);
+
+    // when
+    index.index(asJournalRecord(2, 20), 8);
+
+    // then
+    assertThat(index.lookup(2)).isEqualTo(new IndexInfo(2, 8));
+    assertThat(index.lookupAsqn(20)).isEqualTo(2);
+  }
+
+  @Test
+  void shouldNotIndexIgnoredAsqn() {
+    // given
+    final JournalIndex index = new PrimitiveJournalIndex(1);
+
+    // when
+    index.index(asJournalRecord(1, SegmentedJournal.ASQN_IGNORE), 2);
+
+    // then
+    assertThat(index.lookup(1)).isEqualTo(new IndexInfo(1, 2));
+    assertThat(index.lookupAsqn(Long.MAX_VALUE)).isNull();
+  }
+
+  @Test
+  void shouldFindAsqnWithinBound() {
+    // given
+    final JournalIndex index = new PrimitiveJournalIndex(2);
+
+    // when
+    for (int i = 1; i <= 6; i++) {
+      index.index(asJournalRecord(i, i), i * 2);
+    }
+
+    // then
+    assertThat(index.lookupAsqn(5, 1)).isNull();
+    assertThat(index.lookupAsqn(5, 3)).isEqualTo(2);
+    assertThat(index.lookupAsqn(5, 4)).isEqualTo(4);
+    assertThat(index.lookupAsqn(5, 5)).isEqualTo(4);
+    assertThat(index.lookupAsqn(Long.MAX_VALUE, 5)).isEqualTo(4);
+    assertThat(index.lookupAsqn(Long.MAX_VALUE, 6)).isEqualTo(6);
+  }
+
+  @Test
+  void shouldDeleteAfter() {
+    // given
+    final JournalIndex index = new PrimitiveJournalIndex(5);
+    indexRange(index, 1, 10);
+
+    // when
+    index.deleteAfter(8);
+
+    // then
+    assertThat(index.lookup(10)).isEqualTo(new IndexInfo(5, 10));
+    assertThat(index.lookupAsqn(100)).isEqualTo(5);
+
+    // when
+    index.deleteAfter(4);
+
+    // then
+    assertThat(index.lookup(10)).isNull();
+    assertThat(index.lookupAsqn(100)).isNull();
+  }
+
+  @Test
+  void shouldDeleteUntil() {
+    // given
+    final JournalIndex index = new PrimitiveJournalIndex(5);
+    indexRange(index, 1, 15);
+
+    // when
+    index.deleteUntil(11);
+
+    // then
+    assertThat(index.lookup(9)).isNull();
+    assertThat(index.lookup(10)).isNull();
+    assertThat(index.lookup(15)).isEqualTo(new IndexInfo(15, 30));
+    assertThat(index.lookupAsqn(99)).isNull();
+    assertThat(index.lookupAsqn(100)).isEqualTo(10);
+    assertThat(index.lookupAsqn(150)).isEqualTo(15);
+  }
+
+  @Test
+  void shouldBehaveLikeSparseIndexWhenCompacting() {
+    // given
+    final JournalIndex primitive = new PrimitiveJournalIndex(3);
+    final JournalIndex sparse = new SparseJournalIndex(3);
+    indexRange(primitive, 1, 1_000);
+    indexRange(sparse, 1, 1_000);
+
+    // when
+    primitive.deleteUntil(500);
+    sparse.deleteUntil(500);
+    primitive.deleteAfter(800);
+    sparse.deleteAfter(800);
+
+    // then
+    for (long i = 1; i <= 1_000; i++) {
+      assertThat(primitive.lookup(i)).as("lookup of index %d", i).isEqualTo(sparse.lookup(i));
+      assertThat(primitive.lookupAsqn(i * 10))
+          .as("lookup of asqn %d", i * 10)
+          .isEqualTo(sparse.lookupAsqn(i * 10));
+      assertThat(primitive.hasIndexed(i)).isEqualTo(sparse.hasIndexed(i));
+    }
+  }
+
+  @Test
+  void shouldClear() {
+    // given
+    final JournalIndex index = new PrimitiveJournalIndex(1);
+    indexRange(index, 1, 1_000);
+
+    // when
+    index.clear();
+
+    // then
+    assertThat(index.lookup(1_000)).isNull();
+    assertThat(index.lookupAsqn(10_000)).isNull();
+    assertThat(index.hasIndexed(1_000)).isFalse();
+  }
+
+  private static void indexRange(final JournalIndex index, final long from, final long to) {
+    for (long i = from; i <= to; i++) {
+      index.index(asJournalRecord(i, i * 10), (int) i * 2);
+    }
+  }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.journal.util.MockJournalMetastore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Stream;
+import org.agrona.CloseHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.AutoClose;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class SegmentIndexFileTest {
+  private static final int ENTRIES_PER_SEGMENT = 10;
+
+  private final TestJournalFactory journalFactory = new TestJournalFactory(ENTRIES_PER_SEGMENT);
+  private final MockJournalMetastore metaStore = new MockJournalMetastore();
+  @AutoClose private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private @TempDir Path directory;
+  private SegmentedJournal journal;
+
+  @AfterEach
+  void afterEach() {
+    CloseHelper.quietClose(journal);
+  }
+
+  @Test
+  void shouldPersistIndexOfSealedSegments() {
+    // given
+    journal = openJournal();
+
+    // when
+    appendEntries(3 * ENTRIES_PER_SEGMENT);
+
+    // then
+    assertThat(journal.getFirstSegment().file().indexFile()).isRegularFile();
+    assertThat(journal.getSegment(ENTRIES_PER_SEGMENT + 1).file().indexFile()).isRegularFile();
+    assertThat(journal.getLastSegment().file().indexFile()).doesNotExist();
+  }
+
+  @Test
+  void shouldRestoreIndexFromFile() throws IOException {
+    // given
+    journal = openJournal();
+    appendEntries(2 * ENTRIES_PER_SEGMENT);
+    final var segment = journal.getFirstSegment();
+    final var restoredIndex = new SparseJournalIndex(1);
+
+    // when
+    final var restored = SegmentIndexFile.load(segment, restoredIndex);
+
+    // then
+    assertThat(restored).isTrue();
+    for (long i = 1; i <= ENTRIES_PER_SEGMENT; i++) {
+      assertThat(restoredIndex.lookup(i))
+          .as("restored position of index %d", i)
+          .isEqualTo(journal.getJournalIndex().lookup(i));
+      assertThat(restoredIndex.lookupAsqn(i))
+          .as("restored index of asqn %d", i)
+          .isEqualTo(journal.getJournalIndex().lookupAsqn(i));
+    }
+  }
+
+  @Test
+  void shouldIndexSealedSegmentsOnOpen() {
+    // given
+    journal = openJournal();
+    appendEntries(3 * ENTRIES_PER_SEGMENT);
+    journal.close();
+
+    // when
+    journal = openJournal();
+
+    // then - sealed segments are indexed without having to read them
+    assertThat(journal.getJournalIndex().lookup(1)).isNotNull();
+    assertThat(journal.getJournalIndex().lookupAsqn(ENTRIES_PER_SEGMENT + 1))
+        .isEqualTo(ENTRIES_PER_SEGMENT + 1L);
+    try (final var reader = journal.openReader()) {
+      assertThat(reader.seekToAsqn(ENTRIES_PER_SEGMENT + 5)).isEqualTo(ENTRIES_PER_SEGMENT + 5);
+      assertThat(reader.next().asqn()).isEqualTo(ENTRIES_PER_SEGMENT + 5);
+    }
+  }
+
+  @Test
+  void shouldRebuildMissingIndexFileOnOpen() throws IOException {
+    // given
+    journal = openJournal();
+    appendEntries(2 * ENTRIES_PER_SEGMENT);
+    final var indexFile = journal.getFirstSegment().file().indexFile();
+    final var expected = Files.readAllBytes(indexFile);
+    journal.close();
+    Files.delete(indexFile);
+
+    // when
+    journal = openJournal();
+
+    // then
+    assertThat(indexFile).hasBinaryContent(expected);
+    assertThat(journal.getJournalIndex().lookup(ENTRIES_PER_SEGMENT)).isNotNull();
+  }
+
+  @Test
+  void shouldRebuildCorruptedIndexFileOnOpen() throws IOException {
+    // given
+    journal = openJournal();
+    appendEntries(2 * ENTRIES_PER_SEGMENT);
+    final var indexFile = journal.getFirstSegment().file().indexFile();
+    final var expected = Files.readAllBytes(indexFile);
+    journal.close();
+    final var corrupted = expected.clone();
+    corrupted[corrupted.length / 2] ^= 0xFF;
+    Files.write(indexFile, corrupted);
+
+    // when
+    journal = openJournal();
+
+    // then
+    assertThat(indexFile).hasBinaryContent(expected);
+    assertThat(journal.getJournalIndex().lookup(ENTRIES_PER_SEGMENT)).isNotNull();
+  }
+
+  @Test
+  void shouldRebuildTornIndexFileOnOpen() throws IOException {
+    // given
+    journal = openJournal();
+    appendEntries(2 * ENTRIES_PER_SEGMENT);
+    final var segment = journal.getFirstSegment();
+    final var indexFile = segment.file().indexFile();
+    final var expected = Files.readAllBytes(indexFile);
+
+    // when - only part of the file made it to disk
+    Files.write(indexFile, Arrays.copyOf(expected, expected.length / 2));
+
+    // then
+    assertThat(SegmentIndexFile.load(segment, new SparseJournalIndex(1))).isFalse();
+    journal.close();
+    journal = openJournal();
+    assertThat(indexFile).hasBinaryContent(expected);
+    assertThat(journal.getJournalIndex().lookup(ENTRIES_PER_SEGMENT)).isNotNull();
+  }
+
+  @Test
+  void shouldDeleteIndexFileOnTruncate() {
+    // given
+    journal = openJournal();
+    appendEntries(2 * ENTRIES_PER_SEGMENT);
+    final var indexFile = journal.getFirstSegment().file().indexFile();
+
+    // when
+    journal.deleteAfter(ENTRIES_PER_SEGMENT / 2);
+
+    // then
+    assertThat(indexFile).doesNotExist();
+  }
+
+  @Test
+  void shouldDeleteIndexFileWithSegment() {
+    // given
+    journal = openJournal();
+    appendEntries(3 * ENTRIES_PER_SEGMENT);
+    final var indexFile = journal.getFirstSegment().file().indexFile();
+
+    // when
+    journal.deleteUntil(ENTRIES_PER_SEGMENT + 1);
+
+    // then
+    assertThat(indexFile).doesNotExist();
+  }
+
+  @Test
+  void shouldIgnoreIndexFileOfDifferentSegment() throws IOException {
+    // given
+    journal = openJournal();
+    appendEntries(3 * ENTRIES_PER_SEGMENT);
+    final var firstSegment = journal.getFirstSegment();
+    final var secondSegment = journal.getSegment(ENTRIES_PER_SEGMENT + 1);
+
+    // when - the index file of a segment is replaced by the one of another segment
+    Files.copy(
+        secondSegment.file().indexFile(),
+        firstSegment.file().indexFile(),
+        StandardCopyOption.REPLACE_EXISTING);
+
+    // then
+    assertThat(SegmentIndexFile.load(firstSegment, new SparseJournalIndex(1))).isFalse();
+  }
+
+  private void appendEntries(final int count) {
+    for (int i = 1; i <= count; i++) {
+      journal.append(i, journalFactory.entry());
+    }
+
+    // index files of sealed segments are written in the background
+    Stream.iterate(
+            journal.getFirstSegment(),
+            Objects::nonNull,
+            segment -> journal.getNextSegment(segment.index()))
+        .forEach(Segment::awaitIndexFileWrite);
+  }
+
+  private SegmentedJournal openJournal() {
+    return SegmentedJournal.builder(meterRegistry)
+        .withDirectory(directory.resolve("data").toFile())
+        .withMaxSegmentSize(journalFactory.maxSegmentSize())
+        .withJournalIndexDensity(1)
+        .withPreallocateSegmentFiles(false)
+        .withPersistSegmentIndex(true)
+        .withMetaStore(metaStore)
+        .build();
+  }
+}
@@ -18,6 +18,7 @@ package io.camunda.zeebe.journal.file;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.camunda.zeebe.journal.JournalReader;
+import io.camunda.zeebe.journal.JournalRecord;
 import io.camunda.zeebe.journal.record.RecordData;
 import io.camunda.zeebe.journal.record.SBESerializer;
 import io.camunda.zeebe.journal.util.MockJournalMetastore;
@@ -28,6 +29,7 @@ import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import org.agrona.CloseHelper;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -175,6 +177,91 @@ class SegmentedJournalReaderTest {
         .isNotNull();
   }
 
+  @Test
+  void shouldReadBatchOfSameRecordsAsNext() {
+    // given
+    for (int i = 1; i <= ENTRIES_PER_SEGMENT; i++) {
+      journal.append(i, recordDataWriter);
+    }
+    final var expected = new ArrayList<JournalRecord>();
+    try (final var otherReader = journal.openReader()) {
+      otherReader.forEachRemaining(expected::add);
+    }
+
+    // when
+    final var batch = reader.nextBatch(ENTRIES_PER_SEGMENT, Integer.MAX_VALUE);
+
+    // then
+    assertThat(batch.size()).isEqualTo(ENTRIES_PER_SEGMENT);
+    assertThat(batch.firstIndex()).isEqualTo(1);
+    assertThat(batch.lastIndex()).isEqualTo(ENTRIES_PER_SEGMENT);
+    for (int i = 0; i < batch.size(); i++) {
+      final var record = batch.record(i);
+      final var expectedRecord = expected.get(i);
+      assertThat(record.index()).isEqualTo(expectedRecord.index());
+      assertThat(record.asqn()).isEqualTo(expectedRecord.asqn());
+      assertThat(record.checksum()).isEqualTo(expectedRecord.checksum());
+      assertThat(record.data()).isEqualTo(expectedRecord.data());
+      assertThat(record.serializedRecord()).isEqualTo(expectedRecord.serializedRecord());
+    }
+    assertThat(reader.hasNext()).isFalse();
+  }
+
+  @Test
+  void shouldReadBatchWithinSegment() {
+    // given
+    for (int i = 1; i <= ENTRIES_PER_SEGMENT * 2; i++) {
+      journal.append(i, recordDataWriter);
+    }
+
+    // when
+    final var firstBatchLastIndex =
+        reader.nextBatch(ENTRIES_PER_SEGMENT * 2, Integer.MAX_VALUE).lastIndex();
+    final var secondBatch = reader.nextBatch(ENTRIES_PER_SEGMENT * 2, Integer.MAX_VALUE);
+
+    // then
+    assertThat(firstBatchLastIndex).isEqualTo(ENTRIES_PER_SEGMENT);
+    assertThat(secondBatch.firstIndex()).isEqualTo(ENTRIES_PER_SEGMENT + 1);
+    assertThat(secondBatch.lastIndex()).isEqualTo(ENTRIES_PER_SEGMENT * 2);
+    assertThat(reader.nextBatch(1, Integer.MAX_VALUE).isEmpty()).isTrue();
+  }
+
+  @Test
+  void shouldLimitBatchByRecordsAndBytes() {
+    // given
+    for (int i = 1; i <= ENTRIES_PER_SEGMENT; i++) {
+      journal.append(i, recordDataWriter);
+    }
+
+    // when
+    final var recordsLimitedBatchSize = reader.nextBatch(2, Integer.MAX_VALUE).size();
+    final var bytesLimitedBatch = reader.nextBatch(ENTRIES_PER_SEGMENT, 1);
+
+    // then - the first record is always returned, even if it exceeds the byte limit
+    assertThat(recordsLimitedBatchSize).isEqualTo(2);
+    assertThat(bytesLimitedBatch.size()).isOne();
+    assertThat(bytesLimitedBatch.firstIndex()).isEqualTo(3);
+    assertThat(reader.next().index()).isEqualTo(4);
+  }
+
+  @Test
+  void shouldReadBatchAfterSeek() {
+    // given
+    for (int i = 1; i <= ENTRIES_PER_SEGMENT * 2; i++) {
+      journal.append(i, recordDataWriter);
+    }
+
+    // when
+    reader.seek(ENTRIES_PER_SEGMENT - 1);
+    final var batch = reader.nextBatch(ENTRIES_PER_SEGMENT, Integer.MAX_VALUE);
+
+    // then
+    assertThat(batch.size()).isEqualTo(2);
+    assertThat(batch.record(0).index()).isEqualTo(ENTRIES_PER_SEGMENT - 1);
+    assertThat(batch.buffer().capacity())
+        .isEqualTo(2 * (FrameUtil.getLength() + getSerializedSize(data)));
+  }
+
   private int getSerializedSize(final DirectBuffer data) {
     final var record = new RecordData(Long.MAX_VALUE, Long.MAX_VALUE, data);
     final var serializer = new SBESerializer();
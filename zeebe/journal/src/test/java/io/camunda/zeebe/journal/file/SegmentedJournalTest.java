@@ -19,6 +19,7 @@ import static io.camunda.zeebe.journal.file.SegmentedJournal.ASQN_IGNORE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 
+import io.camunda.zeebe.journal.CheckedJournalException.FlushException;
 import io.camunda.zeebe.journal.JournalException.InvalidAsqn;
 import io.camunda.zeebe.journal.JournalException.OutOfDiskSpace;
 import io.camunda.zeebe.journal.JournalReader;
@@ -53,6 +54,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.DisabledOnOs;
 import org.junit.jupiter.api.condition.OS;
 import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
 
 @SuppressWarnings("resource")
 class SegmentedJournalTest {
@@ -903,6 +905,67 @@ class SegmentedJournalTest {
     assertThat(journalFactory.metaStore().loadLastFlushedIndex()).isEqualTo(lastWrittenIndex);
   }
 
+  @Test
+  void shouldOnlyFlushModifiedRangeOfSegment() throws FlushException {
+    // given
+    journal = openJournal(10);
+    journal.append(1, journalFactory.entry());
+    journal.flush();
+    final var segment = journal.getLastSegment();
+
+    // when
+    journal.append(2, journalFactory.entry());
+    final var flushedBytes = segment.flush();
+
+    // then - the appended entry, plus the marker invalidating the next entry
+    assertThat(flushedBytes)
+        .isEqualTo(journalFactory.serializedEntrySize() + FrameUtil.getLength());
+    assertThat(segment.flush()).isZero();
+  }
+
+  @Test
+  void shouldNotStoreFlushedIndexOfUnsyncedEntryWhenFlushingConcurrently() {
+    // given - a flush on another thread in the middle of appending the second entry
+    journalFactory = new TestJournalFactory("test", 10);
+    final var index = Mockito.spy(new SparseJournalIndex(1));
+    final var segments =
+        new SegmentsManager(
+            index,
+            journalFactory.maxSegmentSize(),
+            directory.resolve("data").toFile(),
+            JOURNAL_NAME,
+            journalFactory.segmentLoader(),
+            journalFactory.metrics(),
+            journalFactory.metaStore());
+    journal =
+        new SegmentedJournal(
+            index,
+            segments,
+            journalFactory.metrics(),
+            new SegmentsFlusher(journalFactory.metaStore(), journalFactory.metrics()));
+    closeables.add(journal);
+    journal.append(1, journalFactory.entry());
+    CheckedRunnable.toUnchecked(journal::flush).run();
+    Mockito.doAnswer(
+            call -> {
+              call.callRealMethod();
+              CompletableFuture.runAsync(CheckedRunnable.toUnchecked(journal::flush)).join();
+              return null;
+            })
+        .when(index)
+        .index(Mockito.argThat(record -> record.index() == 2), Mockito.anyInt());
+
+    // when
+    journal.append(2, journalFactory.entry());
+
+    // then - either the entry was synced by that flush, or it's not marked as flushed
+    final var segment = journal.getLastSegment();
+    final long lastFlushedIndex = journalFactory.metaStore().loadLastFlushedIndex();
+    assertThat(segment.dirtyRangeStart())
+        .as("first modified byte after flushing up to index %d", lastFlushedIndex)
+        .isGreaterThan(index.lookup(lastFlushedIndex).position());
+  }
+
   @Test
   void shouldFailWithOODForAsyncSegmentCreation() {
     // given
@@ -21,6 +21,7 @@ import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import org.agrona.CloseHelper;
 import org.agrona.IoUtil;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.AutoClose;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,7 +32,7 @@ final class SegmentedJournalWriterTest {
   @AutoClose private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
   private final TestJournalFactory journalFactory =
       new TestJournalFactory("data", 2, this::fillWithOnes);
-  private final SegmentsFlusher flusher = new SegmentsFlusher(journalFactory.metaStore());
+  private final SegmentsFlusher flusher = new SegmentsFlusher(journalFactory.metaStore(), journalFactory.metrics());
 
   private SegmentsManager segments;
   private SegmentedJournalWriter writer;
@@ -73,6 +74,23 @@ final class SegmentedJournalWriterTest {
     assertThat(journalFactory.metaStore().loadLastFlushedIndex()).isEqualTo(2L);
   }
 
+  @Test
+  void shouldReturnLastFlushedIndex() throws FlushException {
+    // given
+    writer.append(1, journalFactory.entry());
+    writer.append(2, journalFactory.entry());
+    writer.append(3, journalFactory.entry());
+    writer.flush();
+
+    // when
+    writer.append(4, journalFactory.entry());
+
+    // then
+    assertThat(writer.getLastFlushedIndex()).isEqualTo(3L);
+    writer.deleteAfter(2);
+    assertThat(writer.getLastFlushedIndex()).isEqualTo(2L);
+  }
+
   @Test
   void shouldResetLastFlushedIndexOnReset() throws FlushException {
     // given
@@ -161,7 +179,7 @@ final class SegmentedJournalWriterTest {
     final var followerWriter =
         new SegmentedJournalWriter(
             followerSegments,
-            new SegmentsFlusher(followerJournalFactory.metaStore()),
+            new SegmentsFlusher(followerJournalFactory.metaStore(), followerJournalFactory.metrics()),
             followerJournalFactory.metrics());
 
     try (final SegmentedJournalReader reader =
@@ -169,7 +187,7 @@ final class SegmentedJournalWriterTest {
             followerJournalFactory.journal(followerSegments), new JournalMetrics(meterRegistry))) {
       // when
       final byte[] serializedRecord = BufferUtil.bufferAsArray(writtenRecord.serializedRecord());
-      followerWriter.append(writtenRecord.checksum(), serializedRecord);
+      followerWriter.append(writtenRecord.checksum(), new UnsafeBuffer(serializedRecord));
 
       // then
       assertThat(reader.hasNext()).isTrue();
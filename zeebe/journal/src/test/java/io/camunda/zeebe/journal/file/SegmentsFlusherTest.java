@@ -13,13 +13,21 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.camunda.zeebe.journal.CheckedJournalException.FlushException;
 import io.camunda.zeebe.journal.util.MockJournalMetastore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AutoClose;
 import org.junit.jupiter.api.Test;
 
 final class SegmentsFlusherTest {
   private final MockJournalMetastore metaStore = new MockJournalMetastore();
-  private final SegmentsFlusher flusher = new SegmentsFlusher(metaStore);
+  @AutoClose private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final SegmentsFlusher flusher =
+      new SegmentsFlusher(metaStore, new JournalMetrics(meterRegistry));
 
   @Test
   void shouldFlushAllSegments() throws FlushException {
@@ -61,11 +69,101 @@ final class SegmentsFlusherTest {
     assertThat(metaStore.loadLastFlushedIndex()).isEqualTo(15L);
   }
 
-  private static final class TestSegment implements FlushableSegment {
+  @Test
+  void shouldRecordFlushBatchSize() throws FlushException {
+    // given
+    flusher.setLastFlushedIndex(10);
+
+    // when
+    flusher.flush(List.of(new TestSegment(15), new TestSegment(30)));
+
+    // then
+    final var batchSize =
+        meterRegistry.get(JournalMetricsDoc.FLUSH_BATCH_SIZE.getName()).summary();
+    assertThat(batchSize.count()).isOne();
+    assertThat(batchSize.totalAmount()).isEqualTo(20);
+    final var latencyPerByte =
+        meterRegistry.get(JournalMetricsDoc.FLUSH_LATENCY_PER_BYTE.getName()).summary();
+    assertThat(latencyPerByte.count()).isOne();
+  }
+
+  @Test
+  void shouldCountFlushWithoutSyncedBytesAsMerged() throws FlushException {
+    // given
+    final var segment = new TestSegment(15);
+    flusher.flush(List.of(segment));
+
+    // when - nothing was modified since the last flush
+    flusher.flush(List.of(segment));
+
+    // then
+    assertThat(meterRegistry.get(JournalMetricsDoc.FLUSH_MERGED.getName()).counter().count())
+        .isOne();
+    assertThat(meterRegistry.get(JournalMetricsDoc.FLUSH_BATCH_SIZE.getName()).summary().count())
+        .isOne();
+  }
+
+  @Test
+  void shouldSerializeConcurrentFlushes() throws FlushException {
+    // given
+    final var flushing = new CountDownLatch(1);
+    final var release = new CountDownLatch(1);
+    final var blockingSegment =
+        new TestSegment(15) {
+          @Override
+          public int flush() throws FlushException {
+            flushing.countDown();
+            awaitUninterruptibly(release);
+            return super.flush();
+          }
+        };
+    final var firstFlush =
+        CompletableFuture.runAsync(
+            () -> {
+              try {
+                flusher.flush(List.of(blockingSegment));
+              } catch (final FlushException e) {
+                throw new RuntimeException(e);
+              }
+            });
+    awaitUninterruptibly(flushing);
+
+    // when
+    final var otherSegment = new TestSegment(15);
+    final var secondFlush =
+        CompletableFuture.runAsync(
+            () -> {
+              try {
+                flusher.flush(List.of(otherSegment));
+              } catch (final FlushException e) {
+                throw new RuntimeException(e);
+              }
+            });
+
+    // then - the second flush waits for the first one to complete
+    assertThat(secondFlush).failsWithin(Duration.ofMillis(100));
+    assertThat(otherSegment.flushed).isFalse();
+    release.countDown();
+    assertThat(firstFlush).succeedsWithin(Duration.ofSeconds(5));
+    assertThat(secondFlush).succeedsWithin(Duration.ofSeconds(5));
+    assertThat(otherSegment.flushed).isTrue();
+    assertThat(metaStore.loadLastFlushedIndex()).isEqualTo(15L);
+  }
+
+  private static void awaitUninterruptibly(final CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static class TestSegment implements FlushableSegment {
     private final long lastIndex;
     private final boolean shouldFlush;
     private final FlushException flushError;
-    private boolean flushed;
+    private volatile boolean flushed;
 
     private TestSegment(final long lastIndex) {
       this(lastIndex, true);
@@ -92,15 +190,19 @@ final class SegmentsFlusherTest {
     }
 
     @Override
-    public void flush() throws FlushException {
+    public int flush() throws FlushException {
       if (flushError != null) {
         throw flushError;
       }
 
-      flushed = shouldFlush;
       if (!shouldFlush) {
         throw new FlushException(new IOException("flush failed"));
       }
+
+      // only the first flush syncs anything, since nothing is modified afterwards
+      final var flushedBytes = flushed ? 0 : 1;
+      flushed = true;
+      return flushedBytes;
     }
   }
 }
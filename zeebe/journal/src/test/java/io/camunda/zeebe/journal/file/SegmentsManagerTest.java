@@ -20,6 +20,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.agrona.CloseHelper;
 import org.agrona.collections.ArrayUtil;
 import org.junit.jupiter.api.AfterEach;
@@ -293,6 +294,72 @@ class SegmentsManagerTest {
     }
   }
 
+  @Test
+  void shouldPrepareConfiguredNumberOfSegments() {
+    // given
+    segments = journalFactory.segmentsManager(directory, 3, false);
+    try (final var journal = journalFactory.journal(segments)) {
+      // when - rolling over to a new segment
+      journal.append(1, journalFactory.entry());
+      journal.append(2, journalFactory.entry());
+    }
+
+    // then - the two used segments, and the three prepared ones
+    assertThat(directory.resolve("data").toFile().listFiles())
+        .filteredOn(file -> SegmentFile.isSegmentFile(JOURNAL_NAME, file.getName()))
+        .hasSize(5);
+  }
+
+  @Test
+  void shouldReuseFilesOfCompactedSegments() {
+    // given
+    final var allocations = new AtomicInteger();
+    final var factory =
+        new TestJournalFactory("test", 1, (channel, size) -> allocations.incrementAndGet());
+    segments = factory.segmentsManager(directory, 1, true);
+    try (final var journal = factory.journal(segments)) {
+      journal.append(1, factory.entry());
+      journal.append(2, factory.entry());
+      journal.append(3, factory.entry());
+
+      // when - the file of one of the compacted segments is kept for the next prepared segment
+      journal.deleteUntil(3);
+      journal.append(4, factory.entry());
+      journal.append(5, factory.entry());
+    }
+
+    // then - segments 1 to 6 were created, but only segment 5 reused a file
+    assertThat(allocations).hasValue(5);
+    assertThat(directory.resolve("data").toFile())
+        .isDirectoryNotContaining(
+            file -> SegmentFile.isDeletedSegmentFile(JOURNAL_NAME, file.getName()));
+  }
+
+  @Test
+  void shouldNotReadStaleEntriesOfRecycledSegments() {
+    // given
+    segments = journalFactory.segmentsManager(directory, 2, true);
+    try (final var journal = journalFactory.journal(segments)) {
+      for (int i = 1; i <= 10; i++) {
+        journal.append(i, journalFactory.entry());
+        journal.deleteUntil(i);
+      }
+    }
+
+    // when
+    segments = journalFactory.segmentsManager(directory, 2, true);
+    try (final var journal = journalFactory.journal(segments);
+        final var reader = journal.openReader()) {
+
+      // then
+      assertThat(journal.getFirstIndex()).isEqualTo(10);
+      assertThat(journal.getLastIndex()).isEqualTo(10);
+      assertThat(reader.hasNext()).isTrue();
+      assertThat(reader.next().index()).isEqualTo(10);
+      assertThat(reader.hasNext()).isFalse();
+    }
+  }
+
   private SegmentedJournal openJournal() {
     return journalFactory.journal(journalFactory.segmentsManager(directory));
   }
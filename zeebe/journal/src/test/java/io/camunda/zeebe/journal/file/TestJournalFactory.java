@@ -119,8 +119,23 @@ final class TestJournalFactory {
         metaStore);
   }
 
+  SegmentsManager segmentsManager(
+      final Path directory, final int preparedSegmentsCount, final boolean recycleSegments) {
+    return new SegmentsManager(
+        index,
+        maxSegmentSize(),
+        directory.resolve("data").toFile(),
+        "journal",
+        loader,
+        metrics,
+        metaStore,
+        false,
+        preparedSegmentsCount,
+        recycleSegments);
+  }
+
   SegmentedJournal journal(final SegmentsManager segments) {
-    final var segmentsFlusher = new SegmentsFlusher(metaStore);
+    final var segmentsFlusher = new SegmentsFlusher(metaStore, metrics);
     return new SegmentedJournal(index, segments, metrics, segmentsFlusher);
   }
 
@@ -0,0 +1,72 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.exporter;
+
+import io.camunda.zeebe.exporter.dto.BulkIndexAction;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.test.broker.protocol.ProtocolFactory;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures serializing records to JSON with the Elasticsearch exporter's {@link BulkIndexRequest},
+ * i.e. with the same mapper and sequence attribute as when indexing them. It lives in the
+ * exporter's package, as the request is package-private. The records are generated upfront and
+ * serialized round-robin, such that the score is not skewed by a single record shape.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class RecordSerializationPerformanceTest {
+
+  private static final int RECORD_COUNT = 1_000;
+
+  @Param({"PROCESS_INSTANCE", "JOB", "VARIABLE"})
+  public String valueType;
+
+  private final BulkIndexRequest request = new BulkIndexRequest();
+  private final BulkIndexAction action = new BulkIndexAction("zeebe-record", "1-1", "1");
+  private final RecordSequence recordSequence = new RecordSequence(1, 1);
+  private Record<?>[] records;
+  private int next;
+
+  @Setup
+  public void setup() {
+    final var factory = new ProtocolFactory();
+    records = new Record<?>[RECORD_COUNT];
+    for (int i = 0; i < RECORD_COUNT; i++) {
+      records[i] = factory.generateRecord(ValueType.valueOf(valueType));
+    }
+  }
+
+  @Benchmark
+  public int measureSerialization() {
+    final var record = records[next];
+    next = (next + 1) % RECORD_COUNT;
+
+    // clearing also forgets the last action, which would otherwise turn indexing into a no-op
+    request.clear();
+    request.index(action, record, recordSequence);
+    return request.memoryUsageBytes();
+  }
+}
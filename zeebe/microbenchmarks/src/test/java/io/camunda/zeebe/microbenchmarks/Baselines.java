@@ -0,0 +1,66 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Properties;
+
+/**
+ * Gives access to the baseline scores of the benchmarks in this module, which are checked in as
+ * {@code baselines.properties}. Keeping them in a single file makes it easy to review how a change
+ * shifts them, and to update them all at once after measuring on a new reference machine.
+ *
+ * <p>Each baseline is keyed by the simple name of the benchmark class and the name of the benchmark
+ * method, e.g. {@code MsgPackPerformanceTest.measureWrite}, and its value is the score in the
+ * benchmark's own unit, e.g. ops/s.
+ */
+public final class Baselines {
+
+  private static final String RESOURCE = "baselines.properties";
+  private static final Properties BASELINES = load();
+
+  /** The maximum allowed regression from a baseline, as a float from 0 to 1. */
+  public static final double MAX_DEVIATION = 0.25;
+
+  private Baselines() {}
+
+  /**
+   * @param benchmarkClass the class containing the benchmark
+   * @param benchmark the name of the benchmark method
+   * @return the checked in baseline score of the given benchmark
+   * @throws IllegalArgumentException if there is no baseline for the given benchmark
+   */
+  public static double of(final Class<?> benchmarkClass, final String benchmark) {
+    final var key = benchmarkClass.getSimpleName() + "." + benchmark;
+    final var baseline = BASELINES.getProperty(key);
+    if (baseline == null) {
+      throw new IllegalArgumentException(
+          "Expected a baseline for benchmark '%s' in '%s', but none found"
+              .formatted(key, RESOURCE));
+    }
+
+    return Double.parseDouble(baseline);
+  }
+
+  private static Properties load() {
+    final var properties = new Properties();
+    try (final var input = Baselines.class.getClassLoader().getResourceAsStream(RESOURCE)) {
+      if (input == null) {
+        throw new IllegalStateException(
+            "Expected to find '%s' on the classpath, but none found".formatted(RESOURCE));
+      }
+
+      properties.load(input);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    return properties;
+  }
+}
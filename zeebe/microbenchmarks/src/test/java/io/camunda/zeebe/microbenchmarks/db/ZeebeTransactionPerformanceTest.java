@@ -0,0 +1,177 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.db;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.microbenchmarks.Baselines;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures transactions against a {@link ZeebeDb} which reads, writes, or iterates entries of a
+ * column family with composite keys, the way the engine's state classes do. Each operation is a
+ * whole transaction, including its commit, such that the cost of the transaction itself is part of
+ * the score.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class ZeebeTransactionPerformanceTest {
+
+  private static final int GROUP_COUNT = 1_000;
+  private static final int ENTRIES_PER_GROUP = 100;
+  private static final int OPERATIONS_PER_TRANSACTION = 10;
+
+  private final DbLong groupKey = new DbLong();
+  private final DbLong entryKey = new DbLong();
+  private final DbCompositeKey<DbLong, DbLong> key = new DbCompositeKey<>(groupKey, entryKey);
+  private final DbString value = new DbString();
+
+  private Path directory;
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private TransactionContext context;
+  private ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbString> columnFamily;
+
+  @Setup
+  public void setup() throws Exception {
+    directory = Files.createTempDirectory("zeebe-db-perf");
+    final var factory =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+            new RocksDbConfiguration(),
+            new ConsistencyChecksSettings(false, false),
+            new AccessMetricsConfiguration(Kind.NONE, 1),
+            SimpleMeterRegistry::new);
+    zeebeDb = factory.createDb(directory.toFile());
+    context = zeebeDb.createContext();
+    columnFamily = zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
+
+    value.wrapString("x".repeat(256));
+    for (int group = 0; group < GROUP_COUNT; group++) {
+      final long currentGroup = group;
+      context.runInTransaction(
+          () -> {
+            groupKey.wrapLong(currentGroup);
+            for (int entry = 0; entry < ENTRIES_PER_GROUP; entry++) {
+              entryKey.wrapLong(entry);
+              columnFamily.insert(key, value);
+            }
+          });
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolderIfExists(directory);
+  }
+
+  @Benchmark
+  public void measureGet() {
+    context.runInTransaction(
+        () -> {
+          for (int i = 0; i < OPERATIONS_PER_TRANSACTION; i++) {
+            wrapRandomKey();
+            columnFamily.get(key);
+          }
+        });
+  }
+
+  @Benchmark
+  public void measurePut() {
+    context.runInTransaction(
+        () -> {
+          for (int i = 0; i < OPERATIONS_PER_TRANSACTION; i++) {
+            wrapRandomKey();
+            columnFamily.upsert(key, value);
+          }
+        });
+  }
+
+  @Benchmark
+  public void measureIterate() {
+    context.runInTransaction(
+        () -> {
+          groupKey.wrapLong(ThreadLocalRandom.current().nextInt(GROUP_COUNT));
+          columnFamily.whileEqualPrefix(groupKey, (ignoredKey, ignoredValue) -> {});
+        });
+  }
+
+  private void wrapRandomKey() {
+    final var random = ThreadLocalRandom.current();
+    groupKey.wrapLong(random.nextInt(GROUP_COUNT));
+    entryKey.wrapLong(random.nextInt(ENTRIES_PER_GROUP));
+  }
+
+  @JMHTest("measureGet")
+  void shouldGetWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given
+    final var referenceScore = Baselines.of(getClass(), "measureGet");
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, Baselines.MAX_DEVIATION);
+  }
+
+  @JMHTest("measurePut")
+  void shouldPutWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given
+    final var referenceScore = Baselines.of(getClass(), "measurePut");
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, Baselines.MAX_DEVIATION);
+  }
+
+  @JMHTest("measureIterate")
+  void shouldIterateWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given
+    final var referenceScore = Baselines.of(getClass(), "measureIterate");
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, Baselines.MAX_DEVIATION);
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.feel;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+
+import io.camunda.zeebe.el.EvaluationContext;
+import io.camunda.zeebe.el.EvaluationResult;
+import io.camunda.zeebe.el.Expression;
+import io.camunda.zeebe.el.ExpressionLanguage;
+import io.camunda.zeebe.el.ExpressionLanguageFactory;
+import io.camunda.zeebe.engine.processing.bpmn.clock.ZeebeFeelEngineClock;
+import java.time.InstantSource;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures evaluating a parsed FEEL expression against MessagePack encoded variables, as done for
+ * conditions, input/output mappings, and job properties. Parsing is done once upfront, as the
+ * engine caches parsed expressions.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class FeelEvaluationPerformanceTest {
+
+  private static final Map<String, String> EXPRESSIONS =
+      Map.of(
+          "VARIABLE", "=orderId",
+          "CONDITION", "=order.total > 100 and order.priority = \"high\"",
+          "LIST", "=sum(for item in order.items return item.price * item.quantity)");
+
+  private static final Map<String, DirectBuffer> VARIABLES =
+      Map.of(
+          "orderId",
+          asMsgPack("\"order-1\""),
+          "order",
+          asMsgPack(
+              Map.of(
+                  "total",
+                  250,
+                  "priority",
+                  "high",
+                  "items",
+                  List.of(
+                      Map.of("price", 10, "quantity", 3),
+                      Map.of("price", 20, "quantity", 5),
+                      Map.of("price", 30, "quantity", 2)))));
+
+  @Param({"VARIABLE", "CONDITION", "LIST"})
+  public String expressionType;
+
+  private final EvaluationContext context = VARIABLES::get;
+  private ExpressionLanguage expressionLanguage;
+  private Expression expression;
+
+  @Setup
+  public void setup() {
+    expressionLanguage =
+        ExpressionLanguageFactory.createExpressionLanguage(
+            new ZeebeFeelEngineClock(InstantSource.system()));
+    expression = expressionLanguage.parseExpression(EXPRESSIONS.get(expressionType));
+    if (!expression.isValid()) {
+      throw new IllegalStateException(expression.getFailureMessage());
+    }
+
+    final var result = measureEvaluation();
+    if (result.isFailure()) {
+      throw new IllegalStateException(result.getFailureMessage());
+    }
+  }
+
+  @Benchmark
+  public EvaluationResult measureEvaluation() {
+    return expressionLanguage.evaluateExpression(expression, context);
+  }
+}
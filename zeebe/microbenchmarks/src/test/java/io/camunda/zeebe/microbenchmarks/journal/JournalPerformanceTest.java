@@ -0,0 +1,135 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.journal;
+
+import io.camunda.zeebe.journal.Journal;
+import io.camunda.zeebe.journal.JournalMetaStore;
+import io.camunda.zeebe.journal.JournalReader;
+import io.camunda.zeebe.journal.file.SegmentedJournal;
+import io.camunda.zeebe.microbenchmarks.Baselines;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures appending single records to a {@link SegmentedJournal}, and reading them back one by
+ * one. Records are not flushed, so this measures the journal's own overhead and not the disk.
+ *
+ * <p>To keep the disk usage bounded, the journal is reset whenever it holds {@link #MAX_RECORDS}
+ * records. The cost of the reset is amortized over all appends until then.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class JournalPerformanceTest {
+
+  private static final int SEGMENT_SIZE = 64 * 1024 * 1024;
+  private static final int MAX_RECORDS = 100_000;
+
+  @Param({"128", "1024"})
+  public int recordSize;
+
+  private Path directory;
+  private Journal journal;
+  private JournalReader reader;
+  private DirectBufferWriter writer;
+
+  @Setup
+  public void setup() throws Exception {
+    directory = Files.createTempDirectory("journal-perf");
+    journal =
+        SegmentedJournal.builder(new SimpleMeterRegistry())
+            .withDirectory(directory.toFile())
+            .withMaxSegmentSize(SEGMENT_SIZE)
+            .withMetaStore(new JournalMetaStore.InMemory())
+            .build();
+
+    final var data = new byte[recordSize];
+    ThreadLocalRandom.current().nextBytes(data);
+    writer = new DirectBufferWriter().wrap(new UnsafeBuffer(data));
+
+    for (int i = 0; i < MAX_RECORDS; i++) {
+      journal.append(writer);
+    }
+    reader = journal.openReader();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    reader.close();
+    journal.close();
+    FileUtil.deleteFolderIfExists(directory);
+  }
+
+  @Benchmark
+  public long measureAppend() {
+    if (journal.getLastIndex() - journal.getFirstIndex() >= MAX_RECORDS) {
+      journal.reset(journal.getLastIndex() + 1);
+    }
+
+    return journal.append(writer).index();
+  }
+
+  @Benchmark
+  public long measureRead() {
+    if (!reader.hasNext()) {
+      reader.seekToFirst();
+    }
+
+    return reader.next().data().getByte(0);
+  }
+
+  @JMHTest("measureAppend")
+  void shouldAppendRecordsWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given
+    final var referenceScore = Baselines.of(getClass(), "measureAppend");
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("recordSize", "1024")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, Baselines.MAX_DEVIATION);
+  }
+
+  @JMHTest("measureRead")
+  void shouldReadRecordsWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given
+    final var referenceScore = Baselines.of(getClass(), "measureRead");
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("recordSize", "1024")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, Baselines.MAX_DEVIATION);
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.msgpack;
+
+import io.camunda.zeebe.microbenchmarks.Baselines;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures encoding and decoding a flat MessagePack document, similar to a variable document or a
+ * record value, with {@link MsgPackWriter} and {@link MsgPackReader}.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class MsgPackPerformanceTest {
+
+  @Param({"10", "100"})
+  public int propertyCount;
+
+  private final MutableDirectBuffer writeBuffer = new ExpandableArrayBuffer();
+  private final MsgPackWriter writer = new MsgPackWriter();
+  private final MsgPackReader reader = new MsgPackReader();
+
+  private DirectBuffer[] keys;
+  private DirectBuffer stringValue;
+  private DirectBuffer document;
+  private int documentLength;
+
+  @Setup
+  public void setup() {
+    keys = new DirectBuffer[propertyCount];
+    for (int i = 0; i < propertyCount; i++) {
+      keys[i] = new UnsafeBuffer(("property" + i).getBytes());
+    }
+    stringValue = new UnsafeBuffer("some string value".getBytes());
+
+    documentLength = measureWrite();
+    final var bytes = new byte[documentLength];
+    writeBuffer.getBytes(0, bytes);
+    document = new UnsafeBuffer(bytes);
+  }
+
+  @Benchmark
+  public int measureWrite() {
+    writer.wrap(writeBuffer, 0);
+    writer.writeMapHeader(propertyCount);
+    for (int i = 0; i < propertyCount; i++) {
+      writer.writeString(keys[i]);
+      if ((i & 1) == 0) {
+        writer.writeInteger(i);
+      } else {
+        writer.writeString(stringValue);
+      }
+    }
+
+    return writer.getOffset();
+  }
+
+  @Benchmark
+  public long measureRead() {
+    long checksum = 0;
+    reader.wrap(document, 0, documentLength);
+
+    final int size = reader.readMapHeader();
+    for (int i = 0; i < size; i++) {
+      final int keyLength = reader.readStringLength();
+      reader.skipBytes(keyLength);
+      checksum += keyLength;
+
+      if ((i & 1) == 0) {
+        checksum += reader.readInteger();
+      } else {
+        final int valueLength = reader.readStringLength();
+        reader.skipBytes(valueLength);
+        checksum += valueLength;
+      }
+    }
+
+    return checksum;
+  }
+
+  @JMHTest("measureWrite")
+  void shouldWriteDocumentsWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given
+    final var referenceScore = Baselines.of(getClass(), "measureWrite");
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("propertyCount", "10")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, Baselines.MAX_DEVIATION);
+  }
+
+  @JMHTest("measureRead")
+  void shouldReadDocumentsWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given
+    final var referenceScore = Baselines.of(getClass(), "measureRead");
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("propertyCount", "10")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, Baselines.MAX_DEVIATION);
+  }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.scheduler;
+
+import io.camunda.zeebe.microbenchmarks.Baselines;
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.SchedulingHints;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the latency of an exporter-like I/O bound actor, which flushes small records to disk,
+ * while several snapshot-like I/O bound actors concurrently persist large chunks to disk. Compare
+ * the percentiles of both {@link #virtualThreads} modes: with the fixed I/O bound threads, the
+ * flush queues behind the blocking snapshot writes, while with virtual threads it does not.
+ */
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class IoActorLatencyPerformanceTest {
+
+  private static final int IO_THREAD_COUNT = 2;
+  private static final int SNAPSHOT_ACTOR_COUNT = 4;
+  private static final int SNAPSHOT_CHUNK_SIZE = 1024 * 1024;
+  private static final int SNAPSHOT_SIZE = 16 * SNAPSHOT_CHUNK_SIZE;
+  private static final int EXPORT_RECORD_SIZE = 512;
+
+  /** Whether the I/O bound actors run on virtual threads instead of the fixed I/O threads. */
+  @Param({"false", "true"})
+  public boolean virtualThreads;
+
+  private Path directory;
+  private ActorScheduler scheduler;
+  private final List<FileWritingActor> snapshotActors = new ArrayList<>();
+  private FileWritingActor exportActor;
+
+  @Setup
+  public void setup() throws Exception {
+    directory = Files.createTempDirectory("io-actor-perf");
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(IO_THREAD_COUNT)
+            .setVirtualIoBoundActorThreads(virtualThreads)
+            .build();
+    scheduler.start();
+
+    for (int i = 0; i < SNAPSHOT_ACTOR_COUNT; i++) {
+      final var snapshotActor =
+          new FileWritingActor("snapshot-" + i, directory.resolve("snapshot-" + i), true);
+      scheduler.submitActor(snapshotActor, SchedulingHints.ioBound()).join();
+      snapshotActors.add(snapshotActor);
+    }
+
+    exportActor = new FileWritingActor("exporter", directory.resolve("exporter"), false);
+    scheduler.submitActor(exportActor, SchedulingHints.ioBound()).join();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    exportActor.closeAsync().join();
+    snapshotActors.forEach(actor -> actor.closeAsync().join());
+    scheduler.close();
+    FileUtil.deleteFolderIfExists(directory);
+  }
+
+  @Benchmark
+  public Long measureExportFlush() {
+    return exportActor.flush(EXPORT_RECORD_SIZE).join();
+  }
+
+  @JMHTest("measureExportFlush")
+  void shouldFlushExportsWithinExpectedLatency(final JMHTestCase testCase) {
+    // given - the fixed I/O threads measured in the same run, as the absolute fsync latency depends
+    // too much on the disk to be compared against a checked in baseline
+    final var platformThreads =
+        JMHTestCase.of(
+                getClass(),
+                "measureExportFlush",
+                options -> options.param("virtualThreads", "false"))
+            .run()
+            .actual();
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("virtualThreads", "true")).run();
+
+    // then - queueing behind the snapshot writes shows up in the tail latency, not in the mean, so
+    // virtual threads must not make the tail worse than the fixed I/O threads
+    assertResult.hasPercentileAtMost(99, platformThreads, Baselines.MAX_DEVIATION);
+  }
+
+  /**
+   * Writes data to a single file and flushes it. Snapshot actors do so continuously, replacing
+   * their file once it reaches {@link #SNAPSHOT_SIZE}, while the export actor only does when asked.
+   */
+  private static final class FileWritingActor extends Actor {
+    private final String name;
+    private final Path file;
+    private final boolean continuous;
+    private final ByteBuffer chunk;
+    private FileChannel channel;
+
+    private FileWritingActor(final String name, final Path file, final boolean continuous) {
+      this.name = name;
+      this.file = file;
+      this.continuous = continuous;
+
+      final var data = new byte[continuous ? SNAPSHOT_CHUNK_SIZE : EXPORT_RECORD_SIZE];
+      ThreadLocalRandom.current().nextBytes(data);
+      chunk = ByteBuffer.wrap(data);
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+
+    @Override
+    protected void onActorStarted() {
+      openChannel();
+      if (continuous) {
+        actor.run(this::persistChunk);
+      }
+    }
+
+    @Override
+    protected void onActorClosing() {
+      try {
+        channel.close();
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    private ActorFuture<Long> flush(final int length) {
+      return actor.call(() -> write(length));
+    }
+
+    private void persistChunk() {
+      if (write(SNAPSHOT_CHUNK_SIZE) >= SNAPSHOT_SIZE) {
+        openChannel();
+      }
+
+      // yield to other jobs, e.g. closing, before writing the next chunk
+      actor.submit(this::persistChunk);
+    }
+
+    private long write(final int length) {
+      try {
+        chunk.clear().limit(length);
+        channel.write(chunk);
+        channel.force(false);
+        return channel.position();
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    private void openChannel() {
+      try {
+        if (channel != null) {
+          channel.close();
+        }
+        channel =
+            FileChannel.open(
+                file,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+}
@@ -156,9 +156,11 @@ public enum ZbColumnFamilies implements EnumValue {
   FORM_VERSION(69),
   FORM_BY_ID_AND_VERSION(70),
 
+  @Deprecated // only used for migration logic
   MESSAGES(71),
   MESSAGE_START_EVENT_SUBSCRIPTION_BY_NAME_AND_KEY(72),
   MESSAGE_START_EVENT_SUBSCRIPTION_BY_KEY_AND_NAME(73),
+  @Deprecated // only used for migration logic
   MESSAGE_SUBSCRIPTION_BY_NAME_AND_CORRELATION_KEY(74),
   PROCESS_SUBSCRIPTION_BY_KEY(75),
 
@@ -231,7 +233,10 @@ public enum ZbColumnFamilies implements EnumValue {
 
   USERNAME_BY_USER_KEY(119),
   CLAIM_BY_ID(120),
-  AUTHORIZATION_KEYS_BY_OWNER(121);
+  AUTHORIZATION_KEYS_BY_OWNER(121),
+
+  MESSAGES_BY_CORRELATION_KEY_HASH(122),
+  MESSAGE_SUBSCRIPTION_BY_CORRELATION_KEY_HASH(123);
 
   private final int value;
 
@@ -16,11 +16,15 @@
 package io.camunda.zeebe.protocol.record.intent;
 
 public enum MessageBatchIntent implements Intent {
-  EXPIRE((short) 0);
+  EXPIRE((short) 0, false),
+  EXPIRED((short) 1, true);
+
   private final short value;
+  private final boolean isEvent;
 
-  MessageBatchIntent(final short value) {
+  MessageBatchIntent(final short value, final boolean isEvent) {
     this.value = value;
+    this.isEvent = isEvent;
   }
 
   @Override
@@ -30,13 +34,15 @@ public enum MessageBatchIntent implements Intent {
 
   @Override
   public boolean isEvent() {
-    return false;
+    return isEvent;
   }
 
   public static Intent from(final short value) {
     switch (value) {
       case 0:
         return EXPIRE;
+      case 1:
+        return EXPIRED;
       default:
         return Intent.UNKNOWN;
     }
@@ -16,6 +16,8 @@ public interface ActorMetrics {
 
   ActorMetricsScoped scoped(final String actorName);
 
+  ThreadGroupMetrics ofThreadGroup(final String threadGroupName);
+
   void observeJobSchedulingLatency(final long waitTimeNs, final SubscriptionType subscriptionType);
 
   static ActorMetrics ofNullable(final MeterRegistry registry) {
@@ -38,6 +40,11 @@ public interface ActorMetrics {
         return ActorMetricsScoped.noop();
       }
 
+      @Override
+      public ThreadGroupMetrics ofThreadGroup(final String threadGroupName) {
+        return ThreadGroupMetrics.noop();
+      }
+
       @Override
       public void observeJobSchedulingLatency(
           final long waitTimeNs, final SubscriptionType subscriptionType) {}
@@ -82,6 +89,27 @@ public interface ActorMetrics {
     boolean isEnabled();
   }
 
+  interface ThreadGroupMetrics {
+    ThreadGroupMetrics NOOP =
+        new ThreadGroupMetrics() {
+          @Override
+          public void countSteal() {}
+
+          @Override
+          public void countMigration() {}
+        };
+
+    /** Counts a task which was stolen by an idle thread from the queue of another thread. */
+    void countSteal();
+
+    /** Counts a task which is executed on a different thread than the one it last ran on. */
+    void countMigration();
+
+    static ThreadGroupMetrics noop() {
+      return NOOP;
+    }
+  }
+
   enum SubscriptionType {
     FUTURE("Future"),
     TIMER("Timer"),
@@ -119,6 +119,50 @@ public enum ActorMetricsDoc implements ExtendedMeterDocumentation {
     public KeyName[] getKeyNames() {
       return new KeyName[] {ActorMetricsKeyName.ACTOR_NAME};
     }
+  },
+  /** Number of actor tasks which were stolen from the queue of another thread */
+  TASK_STEAL_COUNT {
+    @Override
+    public String getName() {
+      return "zeebe.actor.task.steal.count";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of actor tasks which were stolen from the queue of another thread";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {ActorMetricsKeyName.THREAD_GROUP};
+    }
+  },
+  /** Number of times an actor task was executed on a different thread than before */
+  TASK_MIGRATION_COUNT {
+    @Override
+    public String getName() {
+      return "zeebe.actor.task.migration.count";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of times an actor task was executed on a different thread than before";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {ActorMetricsKeyName.THREAD_GROUP};
+    }
   };
 
   public enum ActorMetricsKeyName implements KeyName {
@@ -135,6 +179,13 @@ public enum ActorMetricsDoc implements ExtendedMeterDocumentation {
       public String asString() {
         return "actorName";
       }
+    },
+    /** The name of the actor thread group, e.g. the CPU or I/O bound threads */
+    THREAD_GROUP {
+      @Override
+      public String asString() {
+        return "threadGroup";
+      }
     }
   }
 }
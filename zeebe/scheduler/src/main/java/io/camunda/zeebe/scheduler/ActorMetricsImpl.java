@@ -63,6 +63,14 @@ final class ActorMetricsImpl implements ActorMetrics {
         .register(registry);
   }
 
+  private Counter createThreadGroupCounter(
+      final ActorMetricsDoc meterDoc, final String threadGroupName) {
+    return Counter.builder(meterDoc.getName())
+        .description(meterDoc.getDescription())
+        .tag(ActorMetricsKeyName.THREAD_GROUP.asString(), threadGroupName)
+        .register(registry);
+  }
+
   @Override
   public boolean isEnabled() {
     return true;
@@ -79,6 +87,13 @@ final class ActorMetricsImpl implements ActorMetrics {
         createExecutionCount(actorName));
   }
 
+  @Override
+  public ThreadGroupMetrics ofThreadGroup(final String threadGroupName) {
+    return new ThreadGroupMetricsEnabled(
+        createThreadGroupCounter(TASK_STEAL_COUNT, threadGroupName),
+        createThreadGroupCounter(TASK_MIGRATION_COUNT, threadGroupName));
+  }
+
   @Override
   public void observeJobSchedulingLatency(
       final long waitTimeNs, final SubscriptionType subscriptionType) {
@@ -121,4 +136,18 @@ final class ActorMetricsImpl implements ActorMetrics {
       return true;
     }
   }
+
+  record ThreadGroupMetricsEnabled(Counter stealCount, Counter migrationCount)
+      implements ThreadGroupMetrics {
+
+    @Override
+    public void countSteal() {
+      stealCount.increment();
+    }
+
+    @Override
+    public void countMigration() {
+      migrationCount.increment();
+    }
+  }
 }
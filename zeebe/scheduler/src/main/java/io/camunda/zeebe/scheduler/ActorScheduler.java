@@ -125,6 +125,12 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     /** 20 ms instead of {@link BackoffIdleStrategy#DEFAULT_MAX_PARK_PERIOD_NS}. */
     public static final long DEFAULT_MAX_PARK_PERIOD_NS = 20_000_000;
 
+    /**
+     * With home thread scheduling, an idle thread only steals from threads with at least this many
+     * queued tasks.
+     */
+    public static final int DEFAULT_STEAL_THRESHOLD = 2;
+
     private String schedulerName = "";
     private ActorClock actorClock;
     private int cpuBoundThreadsCount = Math.max(1, Runtime.getRuntime().availableProcessors() - 2);
@@ -138,6 +144,10 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     private Supplier<IdleStrategy> idleStrategySupplier =
         ActorSchedulerBuilder::defaultIdleStrategySupplier;
     private ActorMetrics actorMetrics = ActorMetrics.disabled();
+    private boolean homeThreadScheduling = false;
+    private int stealThreshold = DEFAULT_STEAL_THRESHOLD;
+    private ActorThreadTopology cpuBoundActorThreadTopology;
+    private boolean virtualIoBoundActorThreads = false;
 
     public static IdleStrategy defaultIdleStrategySupplier() {
       return new BackoffIdleStrategy(
@@ -202,6 +212,59 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       return this;
     }
 
+    public boolean isHomeThreadScheduling() {
+      return homeThreadScheduling;
+    }
+
+    /**
+     * Opt-in: when enabled, each actor is assigned to a home thread and always scheduled on it,
+     * instead of on the thread which wakes it up. Idle threads only steal actors from threads with
+     * at least {@link #setStealThreshold(int) stealThreshold} queued actors, and the stolen actor
+     * then moves to the thief.
+     */
+    public ActorSchedulerBuilder setHomeThreadScheduling(final boolean homeThreadScheduling) {
+      this.homeThreadScheduling = homeThreadScheduling;
+      return this;
+    }
+
+    public int getStealThreshold() {
+      return stealThreshold;
+    }
+
+    public ActorSchedulerBuilder setStealThreshold(final int stealThreshold) {
+      this.stealThreshold = stealThreshold;
+      return this;
+    }
+
+    public ActorThreadTopology getCpuBoundActorThreadTopology() {
+      return cpuBoundActorThreadTopology;
+    }
+
+    /**
+     * Sets the topology over which the CPU bound threads are distributed, to pin them to cores or
+     * NUMA nodes. If not set, the threads are not pinned.
+     */
+    public ActorSchedulerBuilder setCpuBoundActorThreadTopology(
+        final ActorThreadTopology cpuBoundActorThreadTopology) {
+      this.cpuBoundActorThreadTopology = cpuBoundActorThreadTopology;
+      return this;
+    }
+
+    public boolean isVirtualIoBoundActorThreads() {
+      return virtualIoBoundActorThreads;
+    }
+
+    /**
+     * Opt-in: when enabled, each I/O bound actor runs on its own virtual thread instead of on one
+     * of the {@link #setIoBoundActorThreadCount(int) I/O bound threads}, see {@link
+     * VirtualThreadIoThreadGroup}.
+     */
+    public ActorSchedulerBuilder setVirtualIoBoundActorThreads(
+        final boolean virtualIoBoundActorThreads) {
+      this.virtualIoBoundActorThreads = virtualIoBoundActorThreads;
+      return this;
+    }
+
     public ActorThreadFactory getActorThreadFactory() {
       return actorThreadFactory;
     }
@@ -241,7 +304,10 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
 
     private void initIoBoundActorThreadGroup() {
       if (ioBoundActorGroup == null) {
-        ioBoundActorGroup = new IoThreadGroup(this);
+        ioBoundActorGroup =
+            virtualIoBoundActorThreads
+                ? new VirtualThreadIoThreadGroup(this)
+                : new IoThreadGroup(this);
       }
     }
 
@@ -46,6 +46,16 @@ public class ActorTask {
   boolean shouldYield;
   final AtomicReference<TaskSchedulingState> schedulingState = new AtomicReference<>();
   final AtomicLong stateCount = new AtomicLong(0);
+
+  /**
+   * The id of the thread the task is submitted to, if the thread group schedules tasks on their
+   * home thread; -1 if the task was not assigned to a thread yet. Changes when the task is stolen.
+   */
+  volatile int homeThreadId = -1;
+
+  /** The id of the thread which last executed this task, or -1 if it was never executed. */
+  int lastThreadId = -1;
+
   private final CompletableActorFuture<Void> jobClosingTaskFuture = new CompletableActorFuture<>();
   private final CompletableActorFuture<Void> startingFuture = new CompletableActorFuture<>();
   private final CompletableActorFuture<Void> jobStartingTaskFuture = new CompletableActorFuture<>();
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.scheduler;
 
+import io.camunda.zeebe.scheduler.ActorMetrics.ThreadGroupMetrics;
 import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
 import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.scheduler.clock.DefaultActorClock;
@@ -42,6 +43,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   protected ActorTaskRunnerIdleStrategy idleStrategy;
   ActorTask currentTask;
   private final ActorMetrics actorMetrics;
+  private final ThreadGroupMetrics threadGroupMetrics;
   private final CompletableFuture<Void> terminationFuture = new CompletableFuture<>();
   private final ActorClock clock;
   private final int threadId;
@@ -85,6 +87,8 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     this.clock = clock != null ? clock : new DefaultActorClock();
     timerJobQueue = timerQueue != null ? timerQueue : new ActorTimerQueue(this.clock);
     actorThreadGroup = threadGroup;
+    threadGroupMetrics =
+        threadGroup != null ? threadGroup.getThreadGroupMetrics() : ThreadGroupMetrics.noop();
     this.taskScheduler = taskScheduler;
     this.idleStrategy = new ActorTaskRunnerIdleStrategy(idleStrategy);
   }
@@ -99,6 +103,13 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     currentTask = taskScheduler.getNextTask();
 
     if (currentTask != null) {
+      if (currentTask.lastThreadId != threadId) {
+        if (currentTask.lastThreadId >= 0) {
+          threadGroupMetrics.countMigration();
+        }
+        currentTask.lastThreadId = threadId;
+      }
+
       final var metrics = currentTask.getActorMetrics();
       try (final var timer = metrics.startExecutionTimer()) {
         executeCurrentTask();
@@ -165,9 +176,13 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
      * This implementation takes advantage of the fact that ActorTaskRunner extends Thread
      * itself. If we can cast down, the current thread is the current ActorTaskRunner.
      */
-    return Thread.currentThread() instanceof ActorThread
-        ? (ActorThread) Thread.currentThread()
-        : null;
+    final Thread thread = Thread.currentThread();
+    if (thread instanceof final ActorThread actorThread) {
+      return actorThread;
+    }
+
+    // virtual threads cannot extend ActorThread; only for them do we fall back to a thread local
+    return thread.isVirtual() ? VirtualActorThread.ofCurrentThread() : null;
   }
 
   public static ActorThread ensureCalledFromActorThread(final String methodName) {
@@ -208,16 +223,22 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   @Override
   public synchronized void start() {
     if (STATE_HANDLE.compareAndSet(this, ActorThreadState.NEW, ActorThreadState.RUNNING)) {
-      super.start();
+      startThread();
     } else {
       throw new IllegalStateException("Cannot start runner, not in state 'NEW'.");
     }
   }
 
+  /** Starts the thread which runs this runner's loop, by default this thread itself. */
+  protected void startThread() {
+    super.start();
+  }
+
   @Override
   public void run() {
     idleStrategy.init();
     MDC.put("actor-scheduler", actorThreadGroup.getSchedulerName());
+    actorThreadGroup.onThreadStarted(this);
 
     while (state == ActorThreadState.RUNNING) {
       try {
@@ -7,14 +7,23 @@
  */
 package io.camunda.zeebe.scheduler;
 
+import io.camunda.zeebe.scheduler.ActorMetrics.ThreadGroupMetrics;
 import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
 import io.camunda.zeebe.util.Loggers;
+import java.util.BitSet;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A thread group is a group of threads which process the same kind of tasks (ie. blocking I/O vs.
  * CPU bound).
+ *
+ * <p>By default, a task is submitted to the queue of the thread which submits it, e.g. the thread
+ * which completes a future the task is waiting on. With {@link
+ * ActorSchedulerBuilder#setHomeThreadScheduling(boolean) home thread scheduling}, each task is
+ * assigned to a thread once and is always submitted to that thread's queue, such that it keeps
+ * running on the same CPU cache; it only moves to another thread when it is stolen.
  */
 public abstract class ActorThreadGroup {
   protected final String groupName;
@@ -22,17 +31,48 @@ public abstract class ActorThreadGroup {
   protected final WorkStealingGroup tasks;
   protected final int numOfThreads;
   private final String schedulerName;
+  private final ThreadGroupMetrics threadGroupMetrics;
+  private final ActorThreadTopology topology;
+  private final boolean homeThreadScheduling;
+  private final AtomicInteger nextHomeThreadId = new AtomicInteger();
 
   public ActorThreadGroup(
       final String groupName,
       final int numOfThreads,
       final ActorSchedulerBuilder builder,
       final String schedulerName) {
+    this(groupName, numOfThreads, builder, schedulerName, null);
+  }
+
+  /**
+   * @param topology the topology to distribute the threads over, or null to not pin the threads and
+   *     treat all of them as local to each other
+   */
+  public ActorThreadGroup(
+      final String groupName,
+      final int numOfThreads,
+      final ActorSchedulerBuilder builder,
+      final String schedulerName,
+      final ActorThreadTopology topology) {
     this.groupName = groupName;
     this.numOfThreads = numOfThreads;
     this.schedulerName = schedulerName;
+    this.topology = topology;
+    homeThreadScheduling = builder.isHomeThreadScheduling();
+    threadGroupMetrics = builder.getActorMetrics().ofThreadGroup(groupName);
 
-    tasks = new WorkStealingGroup(numOfThreads);
+    final int[] threadNodes = new int[numOfThreads];
+    if (topology != null) {
+      for (int t = 0; t < numOfThreads; t++) {
+        threadNodes[t] = topology.nodeOf(t, numOfThreads);
+      }
+    }
+    tasks =
+        new WorkStealingGroup(
+            numOfThreads,
+            homeThreadScheduling ? builder.getStealThreshold() : 1,
+            threadNodes,
+            threadGroupMetrics);
 
     threads = new ActorThread[numOfThreads];
 
@@ -57,7 +97,9 @@ public abstract class ActorThreadGroup {
 
   public void submit(final ActorTask actorTask) {
     final ActorThread current = ActorThread.current();
-    if (current != null && current.getActorThreadGroup() == this) {
+    if (homeThreadScheduling) {
+      submitToHomeThread(actorTask, current);
+    } else if (current != null && current.getActorThreadGroup() == this) {
       tasks.submit(actorTask, current.getRunnerId());
     } else {
       final int threadId = ThreadLocalRandom.current().nextInt(numOfThreads);
@@ -66,6 +108,38 @@ public abstract class ActorThreadGroup {
     }
   }
 
+  private void submitToHomeThread(final ActorTask actorTask, final ActorThread current) {
+    int homeThreadId = actorTask.homeThreadId;
+    if (homeThreadId < 0) {
+      // distribute new tasks evenly, instead of keeping them on the thread which submitted them
+      homeThreadId = Math.floorMod(nextHomeThreadId.getAndIncrement(), numOfThreads);
+      actorTask.homeThreadId = homeThreadId;
+    }
+
+    tasks.submit(actorTask, homeThreadId);
+    if (current == null
+        || current.getActorThreadGroup() != this
+        || current.getRunnerId() != homeThreadId) {
+      threads[homeThreadId].hintWorkAvailable();
+    }
+  }
+
+  /** Called by each thread of the group when it starts, from that thread. */
+  void onThreadStarted(final ActorThread thread) {
+    if (topology == null) {
+      return;
+    }
+
+    final BitSet cpus = topology.cpusOf(thread.getRunnerId(), numOfThreads);
+    if (!cpus.isEmpty()) {
+      ThreadAffinity.pinCurrentThread(cpus);
+    }
+  }
+
+  ThreadGroupMetrics getThreadGroupMetrics() {
+    return threadGroupMetrics;
+  }
+
   public void start() {
     for (final ActorThread actorThread : threads) {
       actorThread.start();
@@ -0,0 +1,156 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Describes the CPUs of the host, grouped by NUMA node, over which the threads of an actor thread
+ * group are distributed. Threads are assigned to nodes in contiguous blocks, e.g. with 8 threads
+ * and 2 nodes, threads 0-3 are assigned to the first node and threads 4-7 to the second one.
+ *
+ * <p>Idle threads prefer to steal tasks from threads on the same node, such that a stolen task
+ * keeps accessing memory local to its node. Additionally, threads can be pinned to the CPUs of
+ * their node, or to a single core of it, see {@link Pinning}.
+ */
+public final class ActorThreadTopology {
+
+  private final Pinning pinning;
+  private final List<BitSet> nodes;
+
+  /**
+   * @param pinning how to pin the threads to the CPUs of their node
+   * @param nodes the CPUs of each NUMA node; each node must contain at least one CPU
+   */
+  public ActorThreadTopology(final Pinning pinning, final List<BitSet> nodes) {
+    this.pinning = Objects.requireNonNull(pinning, "pinning cannot be null");
+    if (nodes.isEmpty()) {
+      throw new IllegalArgumentException("Expected at least one node, but none was given");
+    }
+
+    for (int node = 0; node < nodes.size(); node++) {
+      if (nodes.get(node).isEmpty()) {
+        throw new IllegalArgumentException(
+            "Expected each node to contain at least one CPU, but node %d has none".formatted(node));
+      }
+    }
+
+    this.nodes = nodes.stream().map(cpus -> (BitSet) cpus.clone()).toList();
+  }
+
+  /**
+   * Creates a topology from the CPU lists of the NUMA nodes, using the same format as Linux, e.g.
+   * {@code /sys/devices/system/node/node0/cpulist}: a comma separated list of CPUs or ranges of
+   * CPUs, such as {@code 0-3,8-11}.
+   *
+   * @param pinning how to pin the threads to the CPUs of their node
+   * @param cpuLists the CPU list of each node
+   * @return the parsed topology
+   * @throws IllegalArgumentException if one of the CPU lists is malformed
+   */
+  public static ActorThreadTopology parse(final Pinning pinning, final List<String> cpuLists) {
+    final var nodes = new ArrayList<BitSet>(cpuLists.size());
+    for (final String cpuList : cpuLists) {
+      nodes.add(parseCpuList(cpuList));
+    }
+
+    return new ActorThreadTopology(pinning, nodes);
+  }
+
+  public Pinning pinning() {
+    return pinning;
+  }
+
+  public int nodeCount() {
+    return nodes.size();
+  }
+
+  /**
+   * @return the node of the given thread, out of a group with the given number of threads
+   */
+  int nodeOf(final int threadId, final int threadCount) {
+    return (int) ((long) threadId * nodes.size() / threadCount);
+  }
+
+  /**
+   * @return the CPUs the given thread should be pinned to, out of a group with the given number of
+   *     threads; empty if it should not be pinned
+   */
+  BitSet cpusOf(final int threadId, final int threadCount) {
+    final int node = nodeOf(threadId, threadCount);
+    final BitSet nodeCpus = nodes.get(node);
+
+    return switch (pinning) {
+      case NONE -> new BitSet();
+      case NODE -> (BitSet) nodeCpus.clone();
+      case CORE -> {
+        // the threads of a node are assigned to its CPUs in order, wrapping around if there are
+        // more threads than CPUs
+        final int firstThreadOfNode =
+            (int) (((long) node * threadCount + nodes.size() - 1) / nodes.size());
+        final int index = (threadId - firstThreadOfNode) % nodeCpus.cardinality();
+
+        int cpu = nodeCpus.nextSetBit(0);
+        for (int i = 0; i < index; i++) {
+          cpu = nodeCpus.nextSetBit(cpu + 1);
+        }
+
+        final BitSet cpus = new BitSet();
+        cpus.set(cpu);
+        yield cpus;
+      }
+    };
+  }
+
+  static BitSet parseCpuList(final String cpuList) {
+    final BitSet cpus = new BitSet();
+    for (final String part : cpuList.split(",")) {
+      final String range = part.trim();
+      final int separator = range.indexOf('-');
+
+      try {
+        if (separator < 0) {
+          cpus.set(Integer.parseInt(range));
+        } else {
+          final int from = Integer.parseInt(range.substring(0, separator).trim());
+          final int to = Integer.parseInt(range.substring(separator + 1).trim());
+          if (from > to) {
+            throw new IllegalArgumentException(
+                "Expected CPU range '%s' to be ascending, but it is not".formatted(range));
+          }
+          cpus.set(from, to + 1);
+        }
+      } catch (final NumberFormatException | IndexOutOfBoundsException e) {
+        throw new IllegalArgumentException(
+            "Expected CPU list '%s' to be a comma separated list of CPUs or CPU ranges, e.g. '0-3,8'"
+                .formatted(cpuList),
+            e);
+      }
+    }
+
+    return cpus;
+  }
+
+  @Override
+  public String toString() {
+    return "ActorThreadTopology{" + "pinning=" + pinning + ", nodes=" + nodes + '}';
+  }
+
+  /** Describes how the actor threads are pinned to the CPUs of their node. */
+  public enum Pinning {
+    /** Threads are not pinned, the operating system may run them on any CPU. */
+    NONE,
+    /** Each thread is pinned to all CPUs of its node, and may move freely between them. */
+    NODE,
+    /** Each thread is pinned to a single CPU of its node. */
+    CORE
+  }
+}
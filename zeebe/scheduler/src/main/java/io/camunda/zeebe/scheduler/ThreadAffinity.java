@@ -0,0 +1,61 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import com.sun.jna.LastErrorException;
+import com.sun.jna.Library;
+import com.sun.jna.Native;
+import com.sun.jna.NativeLong;
+import com.sun.jna.Platform;
+import io.camunda.zeebe.util.Loggers;
+import java.util.BitSet;
+import org.slf4j.Logger;
+
+/**
+ * Pins threads to a set of CPUs. Only supported on Linux, where it uses {@code
+ * sched_setaffinity(2)}; on other platforms, threads are never pinned.
+ */
+final class ThreadAffinity {
+  private static final Logger LOG = Loggers.ACTOR_LOGGER;
+
+  private ThreadAffinity() {}
+
+  /**
+   * Pins the calling thread to the given CPUs. Failing to do so is not fatal, the thread simply
+   * keeps running on any CPU.
+   *
+   * @return true if the thread was pinned, false otherwise
+   */
+  static boolean pinCurrentThread(final BitSet cpus) {
+    final var threadName = Thread.currentThread().getName();
+    if (!Platform.isLinux()) {
+      LOG.warn(
+          "Expected to pin thread '{}' to CPUs {}, but thread affinity is only supported on Linux",
+          threadName,
+          cpus);
+      return false;
+    }
+
+    try {
+      // cpu_set_t is a bit mask stored in an array of unsigned longs, same as BitSet#toLongArray
+      final long[] mask = cpus.toLongArray();
+      LibC.INSTANCE.sched_setaffinity(0, new NativeLong((long) mask.length * Long.BYTES), mask);
+      LOG.debug("Pinned thread '{}' to CPUs {}", threadName, cpus);
+      return true;
+    } catch (final LastErrorException | LinkageError e) {
+      LOG.warn("Failed to pin thread '{}' to CPUs {}", threadName, cpus, e);
+      return false;
+    }
+  }
+
+  private interface LibC extends Library {
+    LibC INSTANCE = Native.load("c", LibC.class);
+
+    int sched_setaffinity(int pid, NativeLong cpusetsize, long[] mask) throws LastErrorException;
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static io.camunda.zeebe.scheduler.ActorTask.TaskSchedulingState.QUEUED;
+
+import io.camunda.zeebe.scheduler.clock.ActorClock;
+import java.util.concurrent.locks.LockSupport;
+import org.agrona.concurrent.IdleStrategy;
+
+/**
+ * An actor runner dedicated to a single task, whose loop runs on a virtual thread instead of on
+ * this (platform) thread, which is never started. When the task blocks, only its virtual thread is
+ * blocked, and its carrier thread is free to run other virtual threads.
+ *
+ * <p>Since a virtual thread cannot be an instance of {@link ActorThread}, the virtual thread only
+ * references this runner through a thread local, see {@link ActorThread#current()}.
+ */
+final class VirtualActorThread extends ActorThread {
+  private static final ThreadLocal<VirtualActorThread> CURRENT = new ThreadLocal<>();
+
+  private final DedicatedTaskScheduler taskScheduler;
+  private volatile Thread virtualThread;
+
+  VirtualActorThread(
+      final String name,
+      final ActorThreadGroup threadGroup,
+      final ActorClock clock,
+      final ActorMetrics actorMetrics,
+      final IdleStrategy idleStrategy) {
+    this(name, threadGroup, new DedicatedTaskScheduler(), clock, actorMetrics, idleStrategy);
+  }
+
+  private VirtualActorThread(
+      final String name,
+      final ActorThreadGroup threadGroup,
+      final DedicatedTaskScheduler taskScheduler,
+      final ActorClock clock,
+      final ActorMetrics actorMetrics,
+      final IdleStrategy idleStrategy) {
+    // the timer queue is not thread safe, so each runner needs its own
+    super(name, 0, threadGroup, taskScheduler, clock, null, actorMetrics, idleStrategy);
+    this.taskScheduler = taskScheduler;
+    this.idleStrategy = new VirtualThreadIdleStrategy(idleStrategy);
+  }
+
+  static VirtualActorThread ofCurrentThread() {
+    return CURRENT.get();
+  }
+
+  void submit(final ActorTask task) {
+    taskScheduler.submit(task);
+    if (ActorThread.current() != this) {
+      hintWorkAvailable();
+    }
+  }
+
+  @Override
+  protected void startThread() {
+    final Thread thread = Thread.ofVirtual().name(getName()).unstarted(this::runOnVirtualThread);
+    virtualThread = thread;
+    thread.start();
+  }
+
+  private void runOnVirtualThread() {
+    CURRENT.set(this);
+    try {
+      run();
+    } finally {
+      CURRENT.remove();
+    }
+  }
+
+  private final class VirtualThreadIdleStrategy extends ActorTaskRunnerIdleStrategy {
+
+    private VirtualThreadIdleStrategy(final IdleStrategy idleStrategy) {
+      super(idleStrategy);
+    }
+
+    @Override
+    public void hintWorkAvailable() {
+      // this runner is never started, the virtual thread is the one waiting for work
+      final Thread thread = virtualThread;
+      if (thread != null) {
+        LockSupport.unpark(thread);
+      }
+    }
+  }
+
+  /** Holds the queue of the single task which is run by this runner. */
+  private static final class DedicatedTaskScheduler implements TaskScheduler {
+    private final ActorTaskQueue queue = new ActorTaskQueue();
+
+    private void submit(final ActorTask task) {
+      task.schedulingState.set(QUEUED);
+      queue.append(task);
+    }
+
+    @Override
+    public ActorTask getNextTask() {
+      return queue.pop();
+    }
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
+import io.camunda.zeebe.util.Loggers;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread group for the blocking, I/O bound, tasks, which runs each task on its own virtual thread
+ * instead of sharing a fixed number of platform threads. A task blocking on a slow disk or remote
+ * store then only blocks itself, and doesn't starve the other I/O bound tasks.
+ *
+ * <p>Each task is still only run by its single virtual thread, so actors keep their single threaded
+ * semantics. The virtual thread is started when the task is first submitted, and stops once the
+ * task is closed.
+ */
+public final class VirtualThreadIoThreadGroup extends ActorThreadGroup {
+  private static final String GROUP_NAME = "zb-fs-workers";
+
+  private final Map<ActorTask, VirtualActorThread> actorThreads = new ConcurrentHashMap<>();
+  private final ActorSchedulerBuilder builder;
+
+  public VirtualThreadIoThreadGroup(final ActorSchedulerBuilder builder) {
+    // no platform threads, the virtual threads are created per task
+    super(GROUP_NAME, 0, builder, builder.getSchedulerName());
+    this.builder = builder;
+  }
+
+  @Override
+  public void submit(final ActorTask actorTask) {
+    VirtualActorThread thread = actorThreads.get(actorTask);
+    if (thread == null) {
+      thread = startThread(actorTask);
+    }
+
+    thread.submit(actorTask);
+  }
+
+  @Override
+  public CompletableFuture<Void> closeAsync() {
+    Loggers.ACTOR_LOGGER.debug("Closing actor thread group '{}'", groupName);
+
+    final var terminationFutures = new ArrayList<CompletableFuture<Void>>();
+    for (final var thread : actorThreads.values()) {
+      try {
+        terminationFutures.add(thread.close());
+      } catch (final IllegalStateException e) {
+        // the thread was already closed together with its task
+      }
+    }
+    actorThreads.clear();
+
+    return CompletableFuture.allOf(terminationFutures.toArray(CompletableFuture[]::new));
+  }
+
+  /** Returns the number of virtual threads which are currently running, one per open task. */
+  public int getThreadCount() {
+    return actorThreads.size();
+  }
+
+  private VirtualActorThread startThread(final ActorTask actorTask) {
+    final var newThread =
+        new VirtualActorThread(
+            "%s-%s".formatted(GROUP_NAME, actorTask.getName()),
+            this,
+            builder.getActorClock(),
+            builder.getActorMetrics(),
+            builder.getIdleStrategySupplier().get());
+
+    final var existingThread = actorThreads.putIfAbsent(actorTask, newThread);
+    if (existingThread != null) {
+      return existingThread;
+    }
+
+    newThread.start();
+    actorTask.closeFuture.onComplete(
+        (ok, error) -> onTaskClosed(actorTask, newThread), Runnable::run);
+    return newThread;
+  }
+
+  private void onTaskClosed(final ActorTask actorTask, final VirtualActorThread thread) {
+    if (actorThreads.remove(actorTask, thread)) {
+      try {
+        thread.close();
+      } catch (final IllegalStateException e) {
+        // the thread was already closed together with the group
+      }
+    }
+  }
+}
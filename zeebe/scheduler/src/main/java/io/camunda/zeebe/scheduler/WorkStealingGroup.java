@@ -9,19 +9,72 @@ package io.camunda.zeebe.scheduler;
 
 import static io.camunda.zeebe.scheduler.ActorTask.TaskSchedulingState.QUEUED;
 
+import io.camunda.zeebe.scheduler.ActorMetrics.ThreadGroupMetrics;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 
-/** Workstealing group maintains a queue per thread. */
+/**
+ * Workstealing group maintains a queue per thread.
+ *
+ * <p>By default, an idle thread steals any queued task from another thread. With a steal threshold
+ * greater than one, the group keeps track of the number of tasks queued per thread, and a thread
+ * only steals from threads which have at least that many tasks queued, i.e. only when the load is
+ * measurably imbalanced. Idle threads always prefer victims on their own NUMA node.
+ */
 public final class WorkStealingGroup implements TaskScheduler {
   private final int numOfThreads;
   private final ActorTaskQueue[] taskQueues;
+  private final int stealThreshold;
+  private final int[] threadNodes;
+  private final boolean hasMultipleNodes;
+  private final AtomicInteger[] queuedTasks;
+  private final ThreadGroupMetrics metrics;
 
   public WorkStealingGroup(final int numOfThreads) {
+    this(numOfThreads, 1, new int[numOfThreads], ThreadGroupMetrics.noop());
+  }
+
+  /**
+   * @param numOfThreads the number of threads, each with its own queue
+   * @param stealThreshold the minimum number of tasks which must be queued for a thread before
+   *     other threads steal from it
+   * @param threadNodes the NUMA node of each thread
+   * @param metrics the metrics of the thread group
+   */
+  public WorkStealingGroup(
+      final int numOfThreads,
+      final int stealThreshold,
+      final int[] threadNodes,
+      final ThreadGroupMetrics metrics) {
+    if (stealThreshold < 1) {
+      throw new IllegalArgumentException(
+          "Expected steal threshold to be at least 1, but was %d".formatted(stealThreshold));
+    }
+
     this.numOfThreads = numOfThreads;
+    this.stealThreshold = stealThreshold;
+    this.threadNodes = threadNodes;
+    this.metrics = metrics;
     taskQueues = new ActorTaskQueue[numOfThreads];
     for (int i = 0; i < numOfThreads; i++) {
       taskQueues[i] = new ActorTaskQueue();
     }
+
+    boolean multipleNodes = false;
+    for (final int node : threadNodes) {
+      multipleNodes |= node != threadNodes[0];
+    }
+    hasMultipleNodes = multipleNodes;
+
+    // counting is only necessary to measure imbalance; skip it otherwise to keep submit cheap
+    if (stealThreshold > 1) {
+      queuedTasks = new AtomicInteger[numOfThreads];
+      for (int i = 0; i < numOfThreads; i++) {
+        queuedTasks[i] = new AtomicInteger();
+      }
+    } else {
+      queuedTasks = null;
+    }
   }
 
   /**
@@ -32,6 +85,10 @@ public final class WorkStealingGroup implements TaskScheduler {
    */
   public void submit(final ActorTask task, final int threadId) {
     task.schedulingState.set(QUEUED);
+    if (queuedTasks != null) {
+      // count before appending, such that the task is never claimed before it was counted
+      queuedTasks[threadId].incrementAndGet();
+    }
     taskQueues[threadId].append(task);
   }
 
@@ -43,9 +100,12 @@ public final class WorkStealingGroup implements TaskScheduler {
   @Override
   public ActorTask getNextTask() {
     final ActorThread currentThread = ActorThread.current();
-    ActorTask nextTask = taskQueues[currentThread.getRunnerId()].pop();
+    final int runnerId = currentThread.getRunnerId();
+    ActorTask nextTask = taskQueues[runnerId].pop();
 
-    if (nextTask == null) {
+    if (nextTask != null) {
+      onTaskClaimed(runnerId);
+    } else {
       nextTask = trySteal(currentThread);
     }
 
@@ -76,14 +136,33 @@ public final class WorkStealingGroup implements TaskScheduler {
      * Also, the optimization only makes sense if the system uses at least 3 runners.
      */
     final int offset = ThreadLocalRandom.current().nextInt(numOfThreads);
+    final int thiefId = currentThread.getRunnerId();
+
+    // prefer victims on the same node, such that the stolen task keeps using local memory
+    ActorTask stolenActor = trySteal(thiefId, offset, true);
+    if (stolenActor == null && hasMultipleNodes) {
+      stolenActor = trySteal(thiefId, offset, false);
+    }
+
+    return stolenActor;
+  }
+
+  private ActorTask trySteal(final int thiefId, final int offset, final boolean sameNode) {
+    final int thiefNode = threadNodes[thiefId];
 
     for (int i = offset; i < offset + numOfThreads; i++) {
       final int runnerId = i % numOfThreads;
 
-      if (runnerId != currentThread.getRunnerId()) {
+      if (runnerId != thiefId
+          && (threadNodes[runnerId] == thiefNode) == sameNode
+          && isImbalanced(runnerId)) {
         final ActorTask stolenActor = taskQueues[runnerId].trySteal();
 
         if (stolenActor != null) {
+          onTaskClaimed(runnerId);
+          // the task moves to the thief, such that it's not handed back to the busy victim
+          stolenActor.homeThreadId = thiefId;
+          metrics.countSteal();
           return stolenActor;
         }
       }
@@ -91,4 +170,14 @@ public final class WorkStealingGroup implements TaskScheduler {
 
     return null;
   }
+
+  private boolean isImbalanced(final int victimId) {
+    return queuedTasks == null || queuedTasks[victimId].get() >= stealThreshold;
+  }
+
+  private void onTaskClaimed(final int runnerId) {
+    if (queuedTasks != null) {
+      queuedTasks[runnerId].decrementAndGet();
+    }
+  }
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.scheduler.ActorThreadTopology.Pinning;
+import java.util.BitSet;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+final class ActorThreadTopologyTest {
+
+  @Test
+  void shouldParseCpuList() {
+    // when
+    final var cpus = ActorThreadTopology.parseCpuList("0-2, 8,10-11");
+
+    // then
+    assertThat(cpus.stream()).containsExactly(0, 1, 2, 8, 10, 11);
+  }
+
+  @Test
+  void shouldRejectMalformedCpuList() {
+    assertThatThrownBy(() -> ActorThreadTopology.parseCpuList("0-"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> ActorThreadTopology.parseCpuList("a"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> ActorThreadTopology.parseCpuList("3-1"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldRejectNodeWithoutCpus() {
+    assertThatThrownBy(() -> new ActorThreadTopology(Pinning.NODE, List.of(new BitSet())))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldAssignThreadsToNodesInContiguousBlocks() {
+    // given
+    final var topology = ActorThreadTopology.parse(Pinning.NONE, List.of("0-3", "4-7"));
+
+    // then
+    assertThat(topology.nodeOf(0, 6)).isZero();
+    assertThat(topology.nodeOf(2, 6)).isZero();
+    assertThat(topology.nodeOf(3, 6)).isOne();
+    assertThat(topology.nodeOf(5, 6)).isOne();
+  }
+
+  @Test
+  void shouldNotPinThreads() {
+    // given
+    final var topology = ActorThreadTopology.parse(Pinning.NONE, List.of("0-3", "4-7"));
+
+    // then
+    assertThat(topology.cpusOf(0, 4).stream()).isEmpty();
+  }
+
+  @Test
+  void shouldPinThreadsToAllCpusOfNode() {
+    // given
+    final var topology = ActorThreadTopology.parse(Pinning.NODE, List.of("0-3", "4-7"));
+
+    // then
+    assertThat(topology.cpusOf(1, 4).stream()).containsExactly(0, 1, 2, 3);
+    assertThat(topology.cpusOf(2, 4).stream()).containsExactly(4, 5, 6, 7);
+  }
+
+  @Test
+  void shouldPinThreadsToSingleCoreOfNode() {
+    // given
+    final var topology = ActorThreadTopology.parse(Pinning.CORE, List.of("0,2", "1,3"));
+
+    // then - threads 0-2 on the first node, wrapping around its cores; threads 3-5 on the second
+    assertThat(topology.cpusOf(0, 6).stream()).containsExactly(0);
+    assertThat(topology.cpusOf(1, 6).stream()).containsExactly(2);
+    assertThat(topology.cpusOf(2, 6).stream()).containsExactly(0);
+    assertThat(topology.cpusOf(3, 6).stream()).containsExactly(1);
+    assertThat(topology.cpusOf(4, 6).stream()).containsExactly(3);
+  }
+}
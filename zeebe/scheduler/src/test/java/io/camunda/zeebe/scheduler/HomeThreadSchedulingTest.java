@@ -0,0 +1,94 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class HomeThreadSchedulingTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private ActorScheduler scheduler;
+
+  @BeforeEach
+  void setUp() {
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(2)
+            .setIoBoundActorThreadCount(1)
+            .setHomeThreadScheduling(true)
+            .setMeterRegistry(meterRegistry)
+            .build();
+    scheduler.start();
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    scheduler.close();
+  }
+
+  @Test
+  void shouldKeepActorOnItsHomeThreadWhenCalledFromAnotherThread() {
+    // given - actors are assigned to the threads in turn, so both are on different threads
+    final var callee = new ThreadRecordingActor();
+    final var caller = new ThreadRecordingActor();
+    scheduler.submitActor(callee).join();
+    scheduler.submitActor(caller).join();
+
+    // when
+    caller.callRepeatedly(callee, 1_000).join();
+    await().until(() -> callee.calls.get() == 1_000);
+
+    // then
+    assertThat(callee.threads).hasSize(1);
+    assertThat(caller.threads).hasSize(1).doesNotContainAnyElementsOf(callee.threads);
+    assertThat(meterRegistry.get(ActorMetricsDoc.TASK_MIGRATION_COUNT.getName()).counters())
+        .allSatisfy(counter -> assertThat(counter.count()).isZero());
+  }
+
+  private static final class ThreadRecordingActor extends Actor {
+    private final Set<String> threads = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Override
+    protected void onActorStarted() {
+      recordThread();
+    }
+
+    private void call() {
+      actor.run(
+          () -> {
+            recordThread();
+            calls.incrementAndGet();
+          });
+    }
+
+    private ActorFuture<Void> callRepeatedly(final ThreadRecordingActor callee, final int times) {
+      return actor.call(
+          () -> {
+            recordThread();
+            for (int i = 0; i < times; i++) {
+              callee.call();
+            }
+          });
+    }
+
+    private void recordThread() {
+      threads.add(Thread.currentThread().getName());
+    }
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler.iobound;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.ActorThread;
+import io.camunda.zeebe.scheduler.ActorThreadGroup;
+import io.camunda.zeebe.scheduler.SchedulingHints;
+import io.camunda.zeebe.scheduler.VirtualThreadIoThreadGroup;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class VirtualThreadIoThreadGroupTest {
+
+  private ActorScheduler scheduler;
+  private VirtualThreadIoThreadGroup ioBoundActorThreads;
+
+  @BeforeEach
+  void setUp() {
+    final var builder =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setVirtualIoBoundActorThreads(true);
+    scheduler = builder.build();
+    ioBoundActorThreads = (VirtualThreadIoThreadGroup) builder.getIoBoundActorThreads();
+    scheduler.start();
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    scheduler.close();
+  }
+
+  @Test
+  void shouldRunIoBoundActorOnVirtualThread() {
+    // given
+    final AtomicBoolean isVirtual = new AtomicBoolean();
+    final AtomicReference<ActorThreadGroup> threadGroupRef = new AtomicReference<>();
+    final Actor actor =
+        new Actor() {
+          @Override
+          protected void onActorStarting() {
+            isVirtual.set(Thread.currentThread().isVirtual());
+            threadGroupRef.set(ActorThread.current().getActorThreadGroup());
+          }
+        };
+
+    // when
+    scheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+
+    // then
+    assertThat(isVirtual).isTrue();
+    assertThat(threadGroupRef.get()).isSameAs(ioBoundActorThreads);
+  }
+
+  @Test
+  void shouldNotStarveOtherActorsWhenOneBlocks() throws InterruptedException {
+    // given
+    final var blockingActor = new BlockingActor();
+    final var otherActor = new Actor() {};
+    scheduler.submitActor(blockingActor, SchedulingHints.ioBound()).join();
+    scheduler.submitActor(otherActor, SchedulingHints.ioBound()).join();
+    final var blocked = blockingActor.block();
+
+    // when
+    blockingActor.blocking.await();
+    final ActorFuture<Void> result = otherActor.call(() -> null);
+
+    // then
+    assertThat((CompletableActorFuture<Void>) result).succeedsWithin(Duration.ofSeconds(5));
+    blockingActor.release.countDown();
+    assertThat((CompletableActorFuture<Void>) blocked).succeedsWithin(Duration.ofSeconds(5));
+  }
+
+  @Test
+  void shouldRunTimers() {
+    // given
+    final var timerFired = new CompletableActorFuture<Void>();
+    final Actor actor =
+        new Actor() {
+          @Override
+          protected void onActorStarted() {
+            actor.schedule(Duration.ofMillis(10), () -> timerFired.complete(null));
+          }
+        };
+
+    // when
+    scheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+
+    // then
+    assertThat((CompletableActorFuture<Void>) timerFired).succeedsWithin(Duration.ofSeconds(5));
+  }
+
+  @Test
+  void shouldStopVirtualThreadWhenActorIsClosed() {
+    // given
+    final Actor actor = new Actor() {};
+    scheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+    assertThat(ioBoundActorThreads.getThreadCount()).isOne();
+
+    // when
+    actor.closeAsync().join();
+
+    // then
+    await().until(() -> ioBoundActorThreads.getThreadCount() == 0);
+  }
+
+  private static final class BlockingActor extends Actor {
+    private final CountDownLatch blocking = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private ActorFuture<Void> block() {
+      return actor.call(
+          () -> {
+            blocking.countDown();
+            release.await();
+            return null;
+          });
+    }
+  }
+}
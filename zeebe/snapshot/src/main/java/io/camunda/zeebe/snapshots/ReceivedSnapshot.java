@@ -8,6 +8,9 @@
 package io.camunda.zeebe.snapshots;
 
 import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * A received volatile snapshot, which consist of several {@link SnapshotChunk}'s. It can be
@@ -30,4 +33,17 @@ public interface ReceivedSnapshot extends PersistableSnapshot {
    * @param chunk the {@link SnapshotChunk} which should be applied
    */
   ActorFuture<Void> apply(SnapshotChunk chunk);
+
+  /**
+   * Reuses files of the latest local snapshot for this snapshot, such that they don't need to be
+   * received. A file is only reused if the local snapshot contains a file with the same name and
+   * checksum, and only if it can be linked; it is never copied. Chunks of reused files which are
+   * applied afterwards are validated, but not written.
+   *
+   * @param files the names and checksums of the files of this snapshot which may be reused
+   * @return a future completed with the names of all files which are reused
+   */
+  default ActorFuture<Set<String>> reuseFiles(final Map<String, Long> files) {
+    return CompletableActorFuture.completed(Set.of());
+  }
 }
@@ -26,15 +26,23 @@ public interface SnapshotChunk {
   String getChunkName();
 
   /**
-   * @return the checksum of the content, can be use to verify the integrity of the content
+   * @return the checksum of the uncompressed content, can be use to verify the integrity of the
+   *     content
    */
   long getChecksum();
 
   /**
-   * @return the content of the current chunk
+   * @return the content of the current chunk, compressed with {@link #getCompression()}
    */
   byte[] getContent();
 
+  /**
+   * @return the compression applied to the content of the current chunk
+   */
+  default SnapshotChunkCompression getCompression() {
+    return SnapshotChunkCompression.NONE;
+  }
+
   /**
    * @return the index of the part of the chunk contents.
    */
@@ -0,0 +1,17 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.snapshots;
+
+/** The compression applied to the content of a {@link SnapshotChunk} during replication. */
+public enum SnapshotChunkCompression {
+  /** The content is sent as is. */
+  NONE,
+
+  /** The content is compressed with Zstandard. */
+  ZSTD
+}
@@ -10,6 +10,8 @@ package io.camunda.zeebe.snapshots;
 import io.camunda.zeebe.util.CloseableSilently;
 import java.nio.ByteBuffer;
 import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.Executor;
 
 /**
  * Represents a snapshot chunk reader, which means it is used to chunk an {@link PersistedSnapshot}
@@ -41,4 +43,30 @@ public interface SnapshotChunkReader extends Iterator<SnapshotChunk>, CloseableS
    * @param maximumChunkSize
    */
   void setMaximumChunkSize(final int maximumChunkSize);
+
+  /**
+   * Sets the compression applied to the content of the chunks returned by this reader. The reader
+   * may still return uncompressed chunks, e.g. when compressing does not reduce their size.
+   *
+   * @param compression the compression to apply
+   */
+  default void setCompression(final SnapshotChunkCompression compression) {}
+
+  /**
+   * Enables reading up to {@code prefetchWindow} chunks ahead of the current one on the given
+   * executor, such that the next chunks are already read by the time they are requested.
+   *
+   * @param executor the executor on which chunks are read ahead
+   * @param prefetchWindow the maximum number of chunks read ahead; 0 disables prefetching
+   */
+  default void enablePrefetch(final Executor executor, final int prefetchWindow) {}
+
+  /**
+   * Skips the chunks of the given files, e.g. because the receiver reuses files it already has. The
+   * last chunk is never skipped, such that the receiver can always complete the snapshot. Skipped
+   * files are read again after {@link #reset()}.
+   *
+   * @param fileNames the names of the files to skip
+   */
+  default void skipFiles(final Set<String> fileNames) {}
 }
@@ -18,10 +18,14 @@ import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -29,17 +33,22 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(FileBasedReceivedSnapshot.class);
   private static final int BLOCK_SIZE = 512 * 1024;
+  // only the SST files of RocksDB are immutable, so only these are reused from local snapshots
+  private static final String REUSABLE_FILE_SUFFIX = ".sst";
 
   private final Path directory;
   private final ConcurrencyControl actor;
   private final FileBasedSnapshotStoreImpl snapshotStore;
 
   private final FileBasedSnapshotId snapshotId;
+  private final Set<String> reusedFiles = new HashSet<>();
   private int expectedTotalCount;
   private FileBasedSnapshotMetadata metadata;
   private ByteBuffer metadataBuffer;
   private long writtenMetadataBytes;
   private SfvChecksumImpl checksumCollection;
+  private long transferStartTime;
+  private long transferredBytes;
 
   FileBasedReceivedSnapshot(
       final FileBasedSnapshotId snapshotId,
@@ -68,6 +77,68 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
         });
   }
 
+  @Override
+  public ActorFuture<Set<String>> reuseFiles(final Map<String, Long> files) {
+    return actor.call(() -> reuseFilesInternal(files));
+  }
+
+  private Set<String> reuseFilesInternal(final Map<String, Long> files)
+      throws SnapshotWriteException {
+    final var localSnapshot = snapshotStore.getLatestSnapshot().orElse(null);
+    if (localSnapshot == null || snapshotStore.hasSnapshotId(snapshotId.getSnapshotIdAsString())) {
+      return Set.copyOf(reusedFiles);
+    }
+
+    try {
+      FileUtil.ensureDirectoryExists(directory);
+    } catch (final IOException e) {
+      throw new SnapshotWriteException(
+          String.format("Failed to ensure that directory %s exists.", directory), e);
+    }
+
+    if (checksumCollection == null) {
+      checksumCollection = new SfvChecksumImpl();
+    }
+
+    final var localChecksums = localSnapshot.getChecksums().getChecksums();
+    for (final var file : files.entrySet()) {
+      final var fileName = file.getKey();
+      final var checksum = file.getValue();
+      final var snapshotFile = directory.resolve(fileName);
+      if (!fileName.endsWith(REUSABLE_FILE_SUFFIX)
+          || !directory.equals(snapshotFile.getParent())
+          || !checksum.equals(localChecksums.get(fileName))
+          || Files.exists(snapshotFile)) {
+        continue;
+      }
+
+      try {
+        // the files are immutable, so linking them is safe; files which can't be linked are
+        // received instead, as copying them would write as much data as receiving them
+        Files.createLink(snapshotFile, localSnapshot.getPath().resolve(fileName));
+        snapshotStore.getSnapshotMetrics().observeReusedFile(Files.size(snapshotFile));
+      } catch (final IOException | UnsupportedOperationException e) {
+        LOGGER.debug(
+            "Failed to reuse file {} of snapshot {}, it will be received instead",
+            fileName,
+            localSnapshot.getId(),
+            e);
+        continue;
+      }
+
+      checksumCollection.updateFromChecksum(snapshotFile, checksum);
+      reusedFiles.add(fileName);
+    }
+
+    LOGGER.debug(
+        "Reused {} of {} files of snapshot {} from local snapshot {}",
+        reusedFiles.size(),
+        files.size(),
+        snapshotId,
+        localSnapshot.getId());
+    return Set.copyOf(reusedFiles);
+  }
+
   private void applyInternal(final SnapshotChunk snapshotChunk) throws SnapshotWriteException {
     checkSnapshotIdIsValid(snapshotChunk.getSnapshotId());
 
@@ -85,7 +156,15 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
       return;
     }
 
-    checkChunkChecksumIsValid(snapshotChunk, snapshotId, chunkName);
+    final var snapshotMetrics = snapshotStore.getSnapshotMetrics();
+    if (transferredBytes == 0) {
+      transferStartTime = snapshotMetrics.startTransfer();
+    }
+    transferredBytes += snapshotChunk.getContent().length;
+    snapshotMetrics.observeTransferredChunk(snapshotChunk.getContent().length);
+
+    final byte[] content = SnapshotChunkUtil.decompressContent(snapshotChunk);
+    checkChunkChecksumIsValid(snapshotChunk, content, snapshotId, chunkName);
 
     final var tmpSnapshotDirectory = directory;
     try {
@@ -95,33 +174,38 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
           String.format("Failed to ensure that directory %s exists.", tmpSnapshotDirectory), e);
     }
 
+    if (reusedFiles.contains(chunkName)) {
+      // the file is linked to a local snapshot, so writing to it would modify the local snapshot
+      LOGGER.trace("Skip snapshot chunk {} of reused file of snapshot {}", chunkName, snapshotId);
+      return;
+    }
+
     final var snapshotFile = tmpSnapshotDirectory.resolve(chunkName);
 
     LOGGER.trace("Consume snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
-    writeReceivedSnapshotChunk(snapshotChunk, snapshotFile);
+    writeReceivedSnapshotChunk(snapshotChunk, content, snapshotFile);
 
     if (checksumCollection == null) {
       checksumCollection = new SfvChecksumImpl();
     }
-    checksumCollection.updateFromBytes(
-        snapshotFile.getFileName().toString(), snapshotChunk.getContent());
+    checksumCollection.updateFromBytes(snapshotFile.getFileName().toString(), content);
 
     if (snapshotChunk.getChunkName().equals(FileBasedSnapshotStoreImpl.METADATA_FILE_NAME)) {
       try {
-        collectMetadata(snapshotChunk);
+        collectMetadata(snapshotChunk, content);
       } catch (final IOException e) {
         throw new SnapshotWriteException("Cannot decode snapshot metadata");
       }
     }
   }
 
-  private void collectMetadata(final SnapshotChunk chunk) throws IOException {
+  private void collectMetadata(final SnapshotChunk chunk, final byte[] content) throws IOException {
     if (metadataBuffer == null) {
       metadataBuffer = ByteBuffer.allocate(Math.toIntExact(chunk.getTotalFileSize()));
     }
 
-    metadataBuffer.put(Math.toIntExact(chunk.getFileBlockPosition()), chunk.getContent());
-    writtenMetadataBytes += chunk.getContent().length;
+    metadataBuffer.put(Math.toIntExact(chunk.getFileBlockPosition()), content);
+    writtenMetadataBytes += content.length;
 
     if (writtenMetadataBytes == chunk.getTotalFileSize()) {
       metadata = FileBasedSnapshotMetadata.decode(metadataBuffer.array());
@@ -129,10 +213,13 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
   }
 
   private void checkChunkChecksumIsValid(
-      final SnapshotChunk snapshotChunk, final String snapshotId, final String chunkName)
+      final SnapshotChunk snapshotChunk,
+      final byte[] content,
+      final String snapshotId,
+      final String chunkName)
       throws SnapshotWriteException {
     final long expectedChecksum = snapshotChunk.getChecksum();
-    final long actualChecksum = SnapshotChunkUtil.createChecksum(snapshotChunk.getContent());
+    final long actualChecksum = SnapshotChunkUtil.createChecksum(content);
 
     if (expectedChecksum != actualChecksum) {
       throw new SnapshotWriteException(
@@ -172,11 +259,12 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
   }
 
   private void writeReceivedSnapshotChunk(
-      final SnapshotChunk snapshotChunk, final Path snapshotFile) throws SnapshotWriteException {
+      final SnapshotChunk snapshotChunk, final byte[] content, final Path snapshotFile)
+      throws SnapshotWriteException {
 
     try (final var channel =
         FileChannel.open(snapshotFile, StandardOpenOption.WRITE, StandardOpenOption.CREATE)) {
-      final ByteBuffer buffer = ByteBuffer.wrap(snapshotChunk.getContent());
+      final ByteBuffer buffer = ByteBuffer.wrap(content);
 
       while (buffer.hasRemaining()) {
         final int newLimit = Math.min(buffer.capacity(), buffer.position() + BLOCK_SIZE);
@@ -274,6 +362,9 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
       }
       final PersistedSnapshot value =
           snapshotStore.persistNewSnapshot(snapshotId, checksumCollection, metadata);
+      snapshotStore
+          .getSnapshotMetrics()
+          .observeSnapshotTransfer(transferredBytes, transferStartTime);
       future.complete(value);
     } catch (final Exception e) {
       future.completeExceptionally(e);
@@ -41,6 +41,7 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
 
   private final Set<FileBasedSnapshotReservation> reservations = new HashSet<>();
   private final ConcurrencyControl actor;
+  private final SnapshotMetrics snapshotMetrics;
 
   private boolean deleted = false;
 
@@ -51,7 +52,8 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
       final FileBasedSnapshotId snapshotId,
       final SnapshotMetadata metadata,
       final Consumer<FileBasedSnapshot> onSnapshotDeleted,
-      final ConcurrencyControl actor) {
+      final ConcurrencyControl actor,
+      final SnapshotMetrics snapshotMetrics) {
     this.directory = directory;
     this.checksumFile = checksumFile;
     this.checksums = checksums;
@@ -59,6 +61,7 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
     this.metadata = metadata;
     this.onSnapshotDeleted = onSnapshotDeleted;
     this.actor = actor;
+    this.snapshotMetrics = snapshotMetrics;
   }
 
   public FileBasedSnapshotId getSnapshotId() {
@@ -87,7 +90,7 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
   @Override
   public SnapshotChunkReader newChunkReader() {
     try {
-      return new FileBasedSnapshotChunkReader(directory);
+      return new FileBasedSnapshotChunkReader(directory, snapshotMetrics);
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
     }
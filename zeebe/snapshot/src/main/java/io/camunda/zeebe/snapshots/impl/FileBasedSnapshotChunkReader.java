@@ -8,6 +8,7 @@
 package io.camunda.zeebe.snapshots.impl;
 
 import io.camunda.zeebe.snapshots.SnapshotChunk;
+import io.camunda.zeebe.snapshots.SnapshotChunkCompression;
 import io.camunda.zeebe.snapshots.SnapshotChunkReader;
 import java.io.IOException;
 import java.io.RandomAccessFile;
@@ -15,32 +16,57 @@ import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.NavigableSet;
+import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Implements a chunk reader where each chunk is a single file in a root directory. Chunks are then
  * ordered lexicographically, and the files are assumed to be immutable, i.e. no more are added to
  * the directory once this is created.
+ *
+ * <p>If prefetching is enabled, the chunks following the current one are read ahead on the given
+ * executor, such that reading and compressing the next chunk overlaps with sending the current one.
+ * Prefetched chunks are discarded whenever the chunk size or compression changes, or the reader is
+ * moved to a chunk outside the prefetch window. A chunk which is still being read ahead when it is
+ * requested is read again directly instead of waiting for it, as the reader is used on the Raft
+ * thread.
  */
 public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   private final Path directory;
   private final NavigableSet<CharSequence> chunks;
+  private final Map<String, Long> fileLengths;
+  private final SnapshotMetrics metrics;
+  private final Map<ChunkPosition, CompletableFuture<SnapshotChunk>> prefetchedChunks =
+      new HashMap<>();
+  private final Set<String> skippedFiles = new HashSet<>();
 
   private long offset;
   private NavigableSet<CharSequence> chunksView;
   private final int totalCount;
   private final String snapshotID;
   private long maximumChunkSize;
+  private SnapshotChunkCompression compression = SnapshotChunkCompression.NONE;
+  private Executor prefetchExecutor;
+  private int prefetchWindow;
 
-  public FileBasedSnapshotChunkReader(final Path directory) throws IOException {
-    this(directory, Long.MAX_VALUE);
+  public FileBasedSnapshotChunkReader(final Path directory, final SnapshotMetrics metrics)
+      throws IOException {
+    this(directory, Long.MAX_VALUE, metrics);
   }
 
-  FileBasedSnapshotChunkReader(final Path directory, final long maximumChunkSize)
+  FileBasedSnapshotChunkReader(
+      final Path directory, final long maximumChunkSize, final SnapshotMetrics metrics)
       throws IOException {
     this.directory = directory;
+    this.metrics = metrics;
     chunks = collectChunks(directory);
+    fileLengths = collectFileLengths(directory, chunks);
     totalCount = chunks.size();
     chunksView = new TreeSet<>(chunks);
 
@@ -57,8 +83,19 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
     return set;
   }
 
+  private Map<String, Long> collectFileLengths(final Path directory, final Set<CharSequence> chunks)
+      throws IOException {
+    final Map<String, Long> lengths = new HashMap<>();
+    for (final var chunk : chunks) {
+      final var fileName = chunk.toString();
+      lengths.put(fileName, Files.size(directory.resolve(fileName)));
+    }
+    return lengths;
+  }
+
   @Override
   public void reset() {
+    skippedFiles.clear();
     chunksView = new TreeSet<>(chunks);
   }
 
@@ -70,9 +107,11 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
 
     final var chunkId = new SnapshotChunkId(id);
 
-    offset = chunkId.offset();
+    // skipped files are not read, so seeking into one continues with the next file
+    offset = skippedFiles.contains(chunkId.fileName()) ? 0 : chunkId.offset();
 
     chunksView = new TreeSet<>(chunks.tailSet(chunkId.fileName(), true));
+    chunksView.removeAll(skippedFiles);
   }
 
   @Override
@@ -86,13 +125,56 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
 
   @Override
   public void setMaximumChunkSize(final int maximumChunkSize) {
+    if (this.maximumChunkSize != maximumChunkSize) {
+      discardPrefetchedChunks();
+    }
     this.maximumChunkSize = maximumChunkSize;
   }
 
+  @Override
+  public void setCompression(final SnapshotChunkCompression compression) {
+    if (this.compression != compression) {
+      discardPrefetchedChunks();
+    }
+    this.compression = compression;
+  }
+
+  @Override
+  public void enablePrefetch(final Executor executor, final int prefetchWindow) {
+    prefetchExecutor = executor;
+    this.prefetchWindow = executor == null ? 0 : prefetchWindow;
+    if (this.prefetchWindow <= 0) {
+      discardPrefetchedChunks();
+    }
+  }
+
+  @Override
+  public void skipFiles(final Set<String> fileNames) {
+    if (chunks.isEmpty()) {
+      return;
+    }
+
+    final var lastFileName = chunks.last().toString();
+    final var currentFileName = offset > 0 ? chunksView.first().toString() : null;
+    for (final var fileName : fileNames) {
+      if (!fileName.equals(lastFileName)
+          && !fileName.equals(currentFileName)
+          && chunks.contains(fileName)) {
+        skippedFiles.add(fileName);
+        chunksView.remove(fileName);
+      }
+    }
+
+    discardPrefetchedChunks();
+  }
+
   @Override
   public void close() {
+    discardPrefetchedChunks();
     chunks.clear();
+    fileLengths.clear();
     chunksView.clear();
+    skippedFiles.clear();
   }
 
   @Override
@@ -103,26 +185,118 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   @Override
   public SnapshotChunk next() {
     final var fileName = chunksView.first().toString();
-    final var filePath = directory.resolve(fileName).toString();
+    final long fileLength = fileLengths.get(fileName);
+    final var bytesToRead = Math.min(maximumChunkSize, fileLength - offset);
+    final var position = new ChunkPosition(fileName, offset, bytesToRead);
+
+    final var chunk = getPrefetchedChunk(position);
+    final var snapshotChunk = chunk != null ? chunk : readChunk(position, compression);
+
+    offset += bytesToRead;
+    if (offset == fileLength) {
+      offset = 0;
+      chunksView.pollFirst();
+    }
 
+    prefetchNextChunks();
+    return snapshotChunk;
+  }
+
+  private SnapshotChunk readChunk(
+      final ChunkPosition position, final SnapshotChunkCompression compression) {
+    final var filePath = directory.resolve(position.fileName()).toString();
+    final byte[] buffer = new byte[(int) position.length()];
     try (final var file = new RandomAccessFile(filePath, "r")) {
-      final var fileLength = file.length();
-      final var bytesToRead = Math.min(maximumChunkSize, fileLength - offset);
-      final byte[] buffer = new byte[(int) bytesToRead];
-      file.seek(offset);
+      file.seek(position.offset());
       file.readFully(buffer);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    final var chunk =
+        SnapshotChunkUtil.createSnapshotChunkFromFileChunk(
+            snapshotID,
+            totalCount,
+            position.fileName(),
+            buffer,
+            position.offset(),
+            fileLengths.get(position.fileName()),
+            compression);
+    if (chunk.getCompression() != SnapshotChunkCompression.NONE) {
+      metrics.observeCompressedChunk(buffer.length, chunk.getContent().length);
+    }
+    return chunk;
+  }
+
+  private SnapshotChunk getPrefetchedChunk(final ChunkPosition position) {
+    final var prefetchedChunk = prefetchedChunks.remove(position);
+    if (prefetchedChunk == null) {
+      return null;
+    }
 
-      final var fileBlockPosition = offset;
-      offset += bytesToRead;
-      if (offset == fileLength) {
-        offset = 0;
-        chunksView.pollFirst();
+    // never wait for a chunk which is still being read ahead; if it is not read yet, or could not
+    // be read, it is read again directly, which also surfaces any error to the caller
+    if (!prefetchedChunk.isDone() || prefetchedChunk.isCompletedExceptionally()) {
+      prefetchedChunk.cancel(false);
+      return null;
+    }
+
+    return prefetchedChunk.join();
+  }
+
+  /**
+   * Reads the chunks following the current position ahead, up to the prefetch window. Chunks which
+   * were read ahead but are not part of the window anymore are discarded, as they would not be
+   * requested anytime soon.
+   */
+  private void prefetchNextChunks() {
+    if (prefetchWindow <= 0) {
+      return;
+    }
+
+    final Map<ChunkPosition, CompletableFuture<SnapshotChunk>> window = new HashMap<>();
+    var nextFileName = chunksView.isEmpty() ? null : chunksView.first().toString();
+    var nextOffset = offset;
+    while (nextFileName != null && window.size() < prefetchWindow) {
+      final long fileLength = fileLengths.get(nextFileName);
+      final var bytesToRead = Math.min(maximumChunkSize, fileLength - nextOffset);
+      if (bytesToRead <= 0) {
+        break;
       }
 
-      return SnapshotChunkUtil.createSnapshotChunkFromFileChunk(
-          snapshotID, totalCount, fileName, buffer, fileBlockPosition, fileLength);
-    } catch (final IOException e) {
-      throw new UncheckedIOException(e);
+      final var position = new ChunkPosition(nextFileName, nextOffset, bytesToRead);
+      final var prefetchedChunk = prefetchedChunks.remove(position);
+      window.put(position, prefetchedChunk != null ? prefetchedChunk : prefetch(position));
+
+      nextOffset += bytesToRead;
+      if (nextOffset == fileLength) {
+        nextOffset = 0;
+        nextFileName = nextFileName(nextFileName);
+      }
+    }
+
+    discardPrefetchedChunks();
+    prefetchedChunks.putAll(window);
+  }
+
+  private String nextFileName(final String fileName) {
+    var followingFileName = chunks.higher(fileName);
+    while (followingFileName != null && skippedFiles.contains(followingFileName.toString())) {
+      followingFileName = chunks.higher(followingFileName);
     }
+    return followingFileName == null ? null : followingFileName.toString();
+  }
+
+  private CompletableFuture<SnapshotChunk> prefetch(final ChunkPosition position) {
+    final var chunkCompression = compression;
+    return CompletableFuture.supplyAsync(
+        () -> readChunk(position, chunkCompression), prefetchExecutor);
   }
+
+  private void discardPrefetchedChunks() {
+    prefetchedChunks.values().forEach(chunk -> chunk.cancel(false));
+    prefetchedChunks.clear();
+  }
+
+  private record ChunkPosition(String fileName, long offset, long length) {}
 }
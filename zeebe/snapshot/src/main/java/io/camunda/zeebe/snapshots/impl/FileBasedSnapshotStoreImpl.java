@@ -202,7 +202,14 @@ public final class FileBasedSnapshotStoreImpl {
 
       final var metadata = collectMetadata(path, snapshotId);
       return new FileBasedSnapshot(
-          path, checksumPath, actualChecksum, snapshotId, metadata, this::onSnapshotDeleted, actor);
+          path,
+          checksumPath,
+          actualChecksum,
+          snapshotId,
+          metadata,
+          this::onSnapshotDeleted,
+          actor,
+          snapshotMetrics);
     } catch (final Exception e) {
       LOGGER.warn("Could not load snapshot in {}", path, e);
       return null;
@@ -515,7 +522,8 @@ public final class FileBasedSnapshotStoreImpl {
               snapshotId,
               metadata,
               this::onSnapshotDeleted,
-              actor);
+              actor,
+              snapshotMetrics);
       final var failed =
           !currentPersistedSnapshotRef.compareAndSet(
               currentPersistedSnapshot, newPersistedSnapshot);
@@ -7,7 +7,9 @@
  */
 package io.camunda.zeebe.snapshots.impl;
 
+import com.github.luben.zstd.Zstd;
 import io.camunda.zeebe.snapshots.SnapshotChunk;
+import io.camunda.zeebe.snapshots.SnapshotChunkCompression;
 import java.util.zip.CRC32C;
 import java.util.zip.Checksum;
 
@@ -32,10 +34,80 @@ final class SnapshotChunkUtil {
       final byte[] fileData,
       final long fileBlockPosition,
       final long totalFileSize) {
+    return createSnapshotChunkFromFileChunk(
+        snapshotId,
+        totalCount,
+        fileName,
+        fileData,
+        fileBlockPosition,
+        totalFileSize,
+        SnapshotChunkCompression.NONE);
+  }
 
+  /**
+   * Creates a chunk whose content is compressed with the given compression. The checksum is always
+   * calculated over the uncompressed data. If compressing does not reduce the size of the data, the
+   * chunk is created uncompressed.
+   */
+  static SnapshotChunk createSnapshotChunkFromFileChunk(
+      final String snapshotId,
+      final int totalCount,
+      final String fileName,
+      final byte[] fileData,
+      final long fileBlockPosition,
+      final long totalFileSize,
+      final SnapshotChunkCompression compression) {
     final long checksum = createChecksum(fileData);
+
+    var content = fileData;
+    var contentCompression = SnapshotChunkCompression.NONE;
+    if (compression == SnapshotChunkCompression.ZSTD) {
+      final byte[] compressed = Zstd.compress(fileData);
+      if (compressed.length < fileData.length) {
+        content = compressed;
+        contentCompression = compression;
+      }
+    }
+
     return new SnapshotChunkImpl(
-        snapshotId, totalCount, fileName, checksum, fileData, fileBlockPosition, totalFileSize);
+        snapshotId,
+        totalCount,
+        fileName,
+        checksum,
+        content,
+        fileBlockPosition,
+        totalFileSize,
+        contentCompression);
+  }
+
+  /**
+   * @return the uncompressed content of the given chunk
+   * @throws SnapshotWriteException if the content cannot be decompressed
+   */
+  static byte[] decompressContent(final SnapshotChunk chunk) throws SnapshotWriteException {
+    final byte[] content = chunk.getContent();
+    return switch (chunk.getCompression()) {
+      case NONE -> content;
+      case ZSTD -> {
+        final long contentSize = Zstd.getFrameContentSize(content);
+        if (contentSize < 0 || contentSize > Integer.MAX_VALUE) {
+          throw new SnapshotWriteException(
+              String.format(
+                  "Expected to decompress snapshot chunk %s (%s), but its content size is unknown",
+                  chunk.getChunkName(), chunk.getSnapshotId()));
+        }
+
+        try {
+          yield Zstd.decompress(content, (int) contentSize);
+        } catch (final RuntimeException e) {
+          throw new SnapshotWriteException(
+              String.format(
+                  "Failed to decompress snapshot chunk %s (%s)",
+                  chunk.getChunkName(), chunk.getSnapshotId()),
+              e);
+        }
+      }
+    };
   }
 
   private static final class SnapshotChunkImpl implements SnapshotChunk {
@@ -46,6 +118,7 @@ final class SnapshotChunkUtil {
     private final long checksum;
     private final long fileBlockPosition;
     private final long totalFileSize;
+    private final SnapshotChunkCompression compression;
 
     SnapshotChunkImpl(
         final String snapshotId,
@@ -54,7 +127,8 @@ final class SnapshotChunkUtil {
         final long checksum,
         final byte[] content,
         final long fileBlockPosition,
-        final long totalFileSize) {
+        final long totalFileSize,
+        final SnapshotChunkCompression compression) {
       this.snapshotId = snapshotId;
       this.totalCount = totalCount;
       this.chunkName = chunkName;
@@ -62,6 +136,7 @@ final class SnapshotChunkUtil {
       this.content = content;
       this.fileBlockPosition = fileBlockPosition;
       this.totalFileSize = totalFileSize;
+      this.compression = compression;
     }
 
     @Override
@@ -89,6 +164,11 @@ final class SnapshotChunkUtil {
       return content;
     }
 
+    @Override
+    public SnapshotChunkCompression getCompression() {
+      return compression;
+    }
+
     @Override
     public long getFileBlockPosition() {
       return fileBlockPosition;
@@ -8,11 +8,15 @@
 package io.camunda.zeebe.snapshots.impl;
 
 import static io.camunda.zeebe.snapshots.impl.SnapshotMetricsDoc.SNAPSHOT_CHUNK_COUNT;
+import static io.camunda.zeebe.snapshots.impl.SnapshotMetricsDoc.SNAPSHOT_COMPRESSION_SAVED_BYTES;
 import static io.camunda.zeebe.snapshots.impl.SnapshotMetricsDoc.SNAPSHOT_COUNT;
 import static io.camunda.zeebe.snapshots.impl.SnapshotMetricsDoc.SNAPSHOT_DURATION;
 import static io.camunda.zeebe.snapshots.impl.SnapshotMetricsDoc.SNAPSHOT_FILE_SIZE;
 import static io.camunda.zeebe.snapshots.impl.SnapshotMetricsDoc.SNAPSHOT_PERSIST_DURATION;
+import static io.camunda.zeebe.snapshots.impl.SnapshotMetricsDoc.SNAPSHOT_REUSED_BYTES;
 import static io.camunda.zeebe.snapshots.impl.SnapshotMetricsDoc.SNAPSHOT_SIZE;
+import static io.camunda.zeebe.snapshots.impl.SnapshotMetricsDoc.SNAPSHOT_TRANSFERRED_BYTES;
+import static io.camunda.zeebe.snapshots.impl.SnapshotMetricsDoc.SNAPSHOT_TRANSFER_THROUGHPUT;
 
 import io.camunda.zeebe.util.CloseableSilently;
 import io.camunda.zeebe.util.micrometer.MicrometerUtil;
@@ -22,6 +26,7 @@ import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 public final class SnapshotMetrics {
@@ -34,6 +39,10 @@ public final class SnapshotMetrics {
   private final DistributionSummary snapshotFileSize;
   private final Timer snapshotDuration;
   private final Counter snapshotCount;
+  private final Counter compressionSavedBytes;
+  private final Counter transferredBytes;
+  private final Counter reusedBytes;
+  private final DistributionSummary transferThroughput;
 
   public SnapshotMetrics(final MeterRegistry registry) {
     clock = registry.config().clock();
@@ -46,6 +55,20 @@ public final class SnapshotMetrics {
         Counter.builder(SNAPSHOT_COUNT.getName())
             .description(SNAPSHOT_COUNT.getDescription())
             .register(registry);
+    compressionSavedBytes =
+        Counter.builder(SNAPSHOT_COMPRESSION_SAVED_BYTES.getName())
+            .description(SNAPSHOT_COMPRESSION_SAVED_BYTES.getDescription())
+            .register(registry);
+    transferredBytes =
+        Counter.builder(SNAPSHOT_TRANSFERRED_BYTES.getName())
+            .description(SNAPSHOT_TRANSFERRED_BYTES.getDescription())
+            .register(registry);
+    reusedBytes =
+        Counter.builder(SNAPSHOT_REUSED_BYTES.getName())
+            .description(SNAPSHOT_REUSED_BYTES.getDescription())
+            .register(registry);
+    transferThroughput =
+        MicrometerUtil.buildSummary(SNAPSHOT_TRANSFER_THROUGHPUT).register(registry);
 
     Gauge.builder(SNAPSHOT_CHUNK_COUNT.getName(), snapshotChunkCount, Number::longValue)
         .description(SNAPSHOT_CHUNK_COUNT.getDescription())
@@ -71,6 +94,36 @@ public final class SnapshotMetrics {
     snapshotFileSize.record(sizeInBytes / 1_000_000f);
   }
 
+  void observeCompressedChunk(final long uncompressedBytes, final long compressedBytes) {
+    compressionSavedBytes.increment(uncompressedBytes - compressedBytes);
+  }
+
+  void observeTransferredChunk(final long sizeInBytes) {
+    transferredBytes.increment(sizeInBytes);
+  }
+
+  void observeReusedFile(final long sizeInBytes) {
+    reusedBytes.increment(sizeInBytes);
+  }
+
+  /**
+   * @return the start time of a transfer, to be passed to {@link #observeSnapshotTransfer(long,
+   *     long)} once it completes
+   */
+  long startTransfer() {
+    return clock.monotonicTime();
+  }
+
+  void observeSnapshotTransfer(final long sizeInBytes, final long transferStartTime) {
+    final long elapsedNanos = clock.monotonicTime() - transferStartTime;
+    if (elapsedNanos <= 0) {
+      return;
+    }
+
+    final double elapsedSeconds = (double) elapsedNanos / TimeUnit.SECONDS.toNanos(1);
+    transferThroughput.record(sizeInBytes / 1_000_000d / elapsedSeconds);
+  }
+
   CloseableSilently startTimer() {
     return MicrometerUtil.timer(snapshotDuration, Timer.start(clock));
   }
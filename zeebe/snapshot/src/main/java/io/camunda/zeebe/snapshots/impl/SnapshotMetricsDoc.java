@@ -157,6 +157,112 @@ public enum SnapshotMetricsDoc implements ExtendedMeterDocumentation {
       return PartitionKeyNames.values();
     }
 
+    @Override
+    public double[] getDistributionSLOs() {
+      return BUCKETS;
+    }
+  },
+
+  /** Number of bytes saved by compressing the chunks of replicated snapshots */
+  SNAPSHOT_COMPRESSION_SAVED_BYTES {
+    @Override
+    public String getDescription() {
+      return "Number of bytes saved by compressing the chunks of replicated snapshots";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.snapshot.replication.compression.saved.bytes";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  },
+
+  /** Number of bytes of snapshot chunks received over the network */
+  SNAPSHOT_TRANSFERRED_BYTES {
+    @Override
+    public String getDescription() {
+      return "Number of bytes of snapshot chunks received over the network";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.snapshot.replication.transferred.bytes";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  },
+
+  /** Number of bytes of received snapshots which are reused from local snapshots */
+  SNAPSHOT_REUSED_BYTES {
+    @Override
+    public String getDescription() {
+      return "Number of bytes of received snapshots which are reused from local snapshots, instead"
+          + " of being received over the network";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.snapshot.replication.reused.bytes";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  },
+
+  /** Throughput of received snapshots, from the first received chunk until they are persisted */
+  SNAPSHOT_TRANSFER_THROUGHPUT {
+    private static final double[] BUCKETS = {.1, .5, 1, 5, 10, 25, 50, 100, 250, 500, 1000};
+
+    @Override
+    public String getDescription() {
+      return "Throughput of received snapshots, from the first received chunk until they are"
+          + " persisted";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.snapshot.replication.throughput";
+    }
+
+    @Override
+    public String getBaseUnit() {
+      return "MB/s";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.DISTRIBUTION_SUMMARY;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return PartitionKeyNames.values();
+    }
+
     @Override
     public double[] getDistributionSLOs() {
       return BUCKETS;
@@ -17,6 +17,7 @@ import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.PersistedSnapshotListener;
 import io.camunda.zeebe.snapshots.ReceivedSnapshot;
 import io.camunda.zeebe.snapshots.SnapshotChunk;
+import io.camunda.zeebe.snapshots.SnapshotChunkCompression;
 import io.camunda.zeebe.snapshots.SnapshotChunkWrapper;
 import io.camunda.zeebe.test.util.asserts.DirectoryAssert;
 import io.camunda.zeebe.util.FileUtil;
@@ -44,6 +45,17 @@ public class FileBasedReceivedSnapshotTest {
       Map.of(
           "file1", "file1 contents",
           "file2", "file2 contents");
+  private static final Map<String, String> BASE_SNAPSHOT_FILE_CONTENTS =
+      Map.of(
+          "000001.sst", "first sst contents",
+          "000002.sst", "second sst contents",
+          "CURRENT", "first manifest");
+  private static final Map<String, String> NEXT_SNAPSHOT_FILE_CONTENTS =
+      Map.of(
+          "000001.sst", "first sst contents",
+          "000002.sst", "changed sst contents",
+          "000003.sst", "third sst contents",
+          "CURRENT", "second manifest");
 
   @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
   @Rule public ActorSchedulerRule scheduler = new ActorSchedulerRule();
@@ -117,6 +129,33 @@ public class FileBasedReceivedSnapshotTest {
         .hasBinaryContent(expectedChunk.getContent());
   }
 
+  @Test
+  public void shouldDecompressReceivedChunk() {
+    // given
+    final var persistedSnapshot = takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+    final var content = "file1 contents".repeat(100).getBytes(StandardCharsets.UTF_8);
+    final var chunk =
+        SnapshotChunkUtil.createSnapshotChunkFromFileChunk(
+            persistedSnapshot.getId(),
+            3,
+            "file1",
+            content,
+            0,
+            content.length,
+            SnapshotChunkCompression.ZSTD);
+
+    // when
+    receivedSnapshot.apply(chunk).join();
+
+    // then
+    assertThat(chunk.getCompression()).isEqualTo(SnapshotChunkCompression.ZSTD);
+    assertThat(receivedSnapshot.getPath().resolve("file1"))
+        .as("the received chunk should be decompressed")
+        .hasBinaryContent(content);
+  }
+
   @Test
   public void shouldRemovePreviousSnapshotOnCommit() {
     // given
@@ -168,7 +207,8 @@ public class FileBasedReceivedSnapshotTest {
             persistedSnapshot.getSnapshotId(),
             null,
             s -> {},
-            null);
+            null,
+            new SnapshotMetrics(new SimpleMeterRegistry()));
 
     // when
     final var receivedSnapshot = receiveSnapshot(corruptedSnapshot);
@@ -349,6 +389,95 @@ public class FileBasedReceivedSnapshotTest {
     }
   }
 
+  @Test
+  public void shouldReuseFilesOfLocalSnapshot() throws IOException {
+    // given
+    final var baseSnapshot =
+        receiveSnapshot(takePersistedSnapshot(1L, BASE_SNAPSHOT_FILE_CONTENTS)).persist().join();
+    final var persistedSnapshot = takePersistedSnapshot(2L, NEXT_SNAPSHOT_FILE_CONTENTS);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+
+    // when
+    final var reusedFiles =
+        receivedSnapshot.reuseFiles(persistedSnapshot.getChecksums().getChecksums()).join();
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      snapshotChunkReader.skipFiles(reusedFiles);
+      while (snapshotChunkReader.hasNext()) {
+        receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      }
+    }
+    final var receiverSnapshot = receivedSnapshot.persist().join();
+
+    // then
+    assertThat(reusedFiles).containsExactly("000001.sst");
+    assertThat(receiverSnapshot.getChecksums().getChecksums())
+        .isEqualTo(persistedSnapshot.getChecksums().getChecksums());
+    for (final var file : NEXT_SNAPSHOT_FILE_CONTENTS.entrySet()) {
+      assertThat(receiverSnapshot.getPath().resolve(file.getKey())).hasContent(file.getValue());
+    }
+    assertThat(baseSnapshot.getPath()).doesNotExist();
+  }
+
+  @Test
+  public void shouldNotWriteChunkOfReusedFile() throws IOException {
+    // given
+    final var baseSnapshot =
+        receiveSnapshot(takePersistedSnapshot(1L, BASE_SNAPSHOT_FILE_CONTENTS)).persist().join();
+    final var persistedSnapshot = takePersistedSnapshot(2L, NEXT_SNAPSHOT_FILE_CONTENTS);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+    receivedSnapshot.reuseFiles(persistedSnapshot.getChecksums().getChecksums()).join();
+    final var reusedFile = receivedSnapshot.getPath().resolve("000001.sst");
+
+    // when
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      while (snapshotChunkReader.hasNext()) {
+        receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      }
+    }
+
+    // then
+    assertThat(Files.isSameFile(reusedFile, baseSnapshot.getPath().resolve("000001.sst")))
+        .as("the reused file is still linked to the local snapshot")
+        .isTrue();
+    assertThatCode(() -> receivedSnapshot.persist().join()).doesNotThrowAnyException();
+  }
+
+  @Test
+  public void shouldNotReuseFileWhichCannotBeLinked() throws IOException {
+    // given
+    final var baseSnapshot =
+        receiveSnapshot(takePersistedSnapshot(1L, BASE_SNAPSHOT_FILE_CONTENTS)).persist().join();
+    final var persistedSnapshot = takePersistedSnapshot(2L, NEXT_SNAPSHOT_FILE_CONTENTS);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+    Files.delete(baseSnapshot.getPath().resolve("000001.sst"));
+
+    // when
+    final var reusedFiles =
+        receivedSnapshot.reuseFiles(persistedSnapshot.getChecksums().getChecksums()).join();
+
+    // then
+    assertThat(reusedFiles).isEmpty();
+    assertThat(receivedSnapshot.getPath().resolve("000001.sst")).doesNotExist();
+  }
+
+  @Test
+  public void shouldNotReuseFilesWithoutLocalSnapshot() {
+    // given
+    final var persistedSnapshot = takePersistedSnapshot(1L, BASE_SNAPSHOT_FILE_CONTENTS);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+
+    // when
+    final var reusedFiles =
+        receivedSnapshot.reuseFiles(persistedSnapshot.getChecksums().getChecksums()).join();
+
+    // then
+    assertThat(reusedFiles).isEmpty();
+  }
+
   private ReceivedSnapshot receiveSnapshot(final PersistedSnapshot persistedSnapshot) {
     final var receivedSnapshot =
         receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
@@ -363,16 +492,21 @@ public class FileBasedReceivedSnapshotTest {
   }
 
   private PersistedSnapshot takePersistedSnapshot(final long index) {
+    return takePersistedSnapshot(index, SNAPSHOT_FILE_CONTENTS);
+  }
+
+  private PersistedSnapshot takePersistedSnapshot(
+      final long index, final Map<String, String> fileContents) {
     final var transientSnapshot = senderSnapshotStore.newTransientSnapshot(index, 0L, 1, 0).get();
-    transientSnapshot.take(this::writeSnapshot).join();
+    transientSnapshot.take(path -> writeSnapshot(path, fileContents)).join();
     return transientSnapshot.withLastFollowupEventPosition(100L).persist().join();
   }
 
-  private boolean writeSnapshot(final Path path) {
+  private boolean writeSnapshot(final Path path, final Map<String, String> fileContents) {
     try {
       FileUtil.ensureDirectoryExists(path);
 
-      for (final var entry : SNAPSHOT_FILE_CONTENTS.entrySet()) {
+      for (final var entry : fileContents.entrySet()) {
         final var fileName = path.resolve(entry.getKey());
         final var fileContent = entry.getValue().getBytes(StandardCharsets.UTF_8);
         Files.write(fileName, fileContent, CREATE_NEW, StandardOpenOption.WRITE);
@@ -9,10 +9,13 @@ package io.camunda.zeebe.snapshots.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.snapshots.SnapshotChunk;
+import io.camunda.zeebe.snapshots.SnapshotChunkCompression;
 import io.camunda.zeebe.util.FileUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -26,8 +29,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
+import org.assertj.core.groups.Tuple;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
@@ -342,6 +347,149 @@ public final class FileBasedSnapshotChunkReaderTest {
     return snapshotChunks;
   }
 
+  @Test
+  public void shouldCompressChunkContent() throws IOException, SnapshotWriteException {
+    // given
+    snapshotDirectory = temporaryFolder.newFolder("compressible").toPath();
+    final var content = "compressible".repeat(100).getBytes(StandardCharsets.UTF_8);
+    Files.write(snapshotDirectory.resolve("file1"), content);
+    final var reader = new FileBasedSnapshotChunkReader(snapshotDirectory, newMetrics());
+
+    // when
+    reader.setCompression(SnapshotChunkCompression.ZSTD);
+    final var chunk = reader.next();
+
+    // then
+    assertThat(chunk.getCompression()).isEqualTo(SnapshotChunkCompression.ZSTD);
+    assertThat(chunk.getContent()).hasSizeLessThan(content.length);
+    assertThat(chunk.getChecksum()).isEqualTo(SnapshotChunkUtil.createChecksum(content));
+    assertThat(SnapshotChunkUtil.decompressContent(chunk)).isEqualTo(content);
+  }
+
+  @Test
+  public void shouldNotCompressChunkIfContentDoesNotShrink() throws IOException {
+    // given
+    final var reader = newReader();
+
+    // when
+    reader.setCompression(SnapshotChunkCompression.ZSTD);
+    final var chunk = reader.next();
+
+    // then
+    assertThat(chunk.getCompression()).isEqualTo(SnapshotChunkCompression.NONE);
+    assertThat(chunk.getContent()).asString().isEqualTo(SORTED_CHUNKS.get(0).getValue());
+  }
+
+  @Test
+  public void shouldPrefetchNextChunks() throws IOException {
+    // given
+    final List<Runnable> prefetchTasks = new ArrayList<>();
+    final var reader = newReader();
+    reader.enablePrefetch(prefetchTasks::add, 2);
+
+    // when
+    final var chunks = new ArrayList<SnapshotChunk>();
+    chunks.add(reader.next());
+    final var prefetchedTasks = prefetchTasks.size();
+    prefetchTasks.forEach(Runnable::run);
+    chunks.add(reader.next());
+    chunks.add(reader.next());
+
+    // then
+    assertThat(prefetchedTasks).isEqualTo(2);
+    assertThat(prefetchTasks).as("no chunk is read ahead twice").hasSize(2);
+    assertThat(chunks)
+        .extracting(SnapshotChunk::getChunkName, chunk -> new String(chunk.getContent()))
+        .containsExactly(
+            SORTED_CHUNKS.stream()
+                .map(entry -> tuple(entry.getKey(), entry.getValue()))
+                .toArray(Tuple[]::new));
+  }
+
+  @Test
+  public void shouldNotWaitForChunksWhichAreStillPrefetched() throws IOException {
+    // given - chunks are read ahead, but the reads never complete
+    final List<Runnable> prefetchTasks = new ArrayList<>();
+    final var reader = newReader();
+    reader.enablePrefetch(prefetchTasks::add, 2);
+
+    // when
+    final var chunks = getAllChunks(reader);
+
+    // then
+    assertThat(prefetchTasks).isNotEmpty();
+    assertThat(chunks)
+        .extracting(SnapshotChunk::getChunkName, chunk -> new String(chunk.getContent()))
+        .containsExactly(
+            SORTED_CHUNKS.stream()
+                .map(entry -> tuple(entry.getKey(), entry.getValue()))
+                .toArray(Tuple[]::new));
+  }
+
+  @Test
+  public void shouldReadChunkAfterSeekingOutsideOfPrefetchWindow() throws IOException {
+    // given
+    final List<Runnable> prefetchTasks = new ArrayList<>();
+    final var reader = newReader();
+    reader.enablePrefetch(prefetchTasks::add, 1);
+    reader.next();
+    prefetchTasks.forEach(Runnable::run);
+
+    // when
+    reader.seek(asByteBuffer("file3__0"));
+    final var chunk = reader.next();
+
+    // then
+    assertThat(chunk.getChunkName()).isEqualTo("file3");
+    assertThat(chunk.getContent()).asString().isEqualTo(SNAPSHOT_CHUNK.get("file3"));
+  }
+
+  @Test
+  public void shouldSkipFiles() throws IOException {
+    // given
+    final var reader = newReader();
+    reader.next();
+
+    // when
+    reader.skipFiles(Set.of("file2"));
+    reader.seek(asByteBuffer("file2__0"));
+
+    // then
+    final var chunk = reader.next();
+    assertThat(chunk.getChunkName()).isEqualTo("file3");
+    assertThat(chunk.getTotalCount()).isEqualTo(SNAPSHOT_CHUNK.size());
+    assertThat(reader.hasNext()).isFalse();
+  }
+
+  @Test
+  public void shouldNotSkipLastFile() throws IOException {
+    // given
+    final var reader = newReader();
+
+    // when
+    reader.skipFiles(Set.of("file2", "file3"));
+
+    // then
+    assertThat(getAllChunks(reader))
+        .extracting(SnapshotChunk::getChunkName)
+        .containsExactly("file1", "file3");
+  }
+
+  @Test
+  public void shouldReadSkippedFilesAfterReset() throws IOException {
+    // given
+    final var reader = newReader();
+    reader.skipFiles(Set.of("file2"));
+
+    // when
+    reader.reset();
+
+    // then
+    assertThat(getAllChunks(reader))
+        .extracting(SnapshotChunk::getChunkName)
+        .containsExactly("file1", "file2", "file3");
+  }
+
   private ByteBuffer asByteBuffer(final String string) {
     return ByteBuffer.wrap(string.getBytes()).order(Protocol.ENDIANNESS);
   }
@@ -355,10 +503,14 @@ public final class FileBasedSnapshotChunkReaderTest {
       Files.writeString(path, SNAPSHOT_CHUNK.get(chunk));
     }
 
-    return new FileBasedSnapshotChunkReader(snapshotDirectory, chunkSize);
+    return new FileBasedSnapshotChunkReader(snapshotDirectory, chunkSize, newMetrics());
   }
 
   private FileBasedSnapshotChunkReader newReader() throws IOException {
     return newReader(Long.MAX_VALUE);
   }
+
+  private SnapshotMetrics newMetrics() {
+    return new SnapshotMetrics(new SimpleMeterRegistry());
+  }
 }
@@ -13,6 +13,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import io.camunda.zeebe.scheduler.Actor;
 import io.camunda.zeebe.scheduler.testing.ActorSchedulerRule;
 import io.camunda.zeebe.util.FileUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -128,7 +129,8 @@ public final class FileBasedSnapshotTest {
         metadata,
         null,
         s -> {},
-        actor.getActorControl());
+        actor.getActorControl(),
+        new SnapshotMetrics(new SimpleMeterRegistry()));
   }
 
   static class TestActor extends Actor {
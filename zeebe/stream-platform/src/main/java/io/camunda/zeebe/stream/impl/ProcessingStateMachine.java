@@ -21,6 +21,7 @@ import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.RejectionType;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.ErrorIntent;
+import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.scheduler.ActorControl;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
@@ -94,6 +95,24 @@ import org.slf4j.Logger;
  *                                       +-----+
  *
  * </pre>
+ *
+ * <p>With pipelined processing enabled, the state machine doesn't commit the state right after the
+ * follow-up records of a command were written. Once the write is sequenced, the next command is
+ * read and processed directly, against the uncommitted state of the previous commands. The state of
+ * all pipelined commands is committed together when no further command is available, the processing
+ * is paused, or the commit is due: either the configured maximum of commands is pending, their
+ * uncommitted state changes exceed the configured size, or the first of them is pending for longer
+ * than the configured delay. Only then are the responses sent and the post commit tasks executed,
+ * in the order of the commands. The last processed position is updated in the same commit, so a
+ * snapshot never contains the state of a command without its position, and replay resumes right
+ * after the last committed command. Since the follow-up records of every pipelined command are
+ * written before the state is committed, a failure before the commit is recovered by replaying
+ * them, as it is without pipelining.
+ *
+ * <p>A save point is set before processing a command on top of pipelined ones, such that an error
+ * only rolls back the state changes of the failed command, and not the ones of the pipelined
+ * commands, whose records are already written. The save point is released once the records of the
+ * command are written, so at most one save point is kept at a time.
  */
 public final class ProcessingStateMachine {
 
@@ -119,6 +138,11 @@ public final class ProcessingStateMachine {
   private static final Duration PROCESSING_RETRY_DELAY = Duration.ofMillis(250);
   private static final String ERROR_MESSAGE_HANDLING_PROCESSING_ERROR_FAILED =
       "Expected to process command '{} {}' successfully on stream processor, but caught unexpected exception. Failed to handle the exception gracefully.";
+  private static final String ERROR_MESSAGE_COMMIT_PIPELINE_FAILED =
+      "Expected to commit the state of %d pipelined commands up to position %d, but caught an exception. The state is recovered by replaying their written records.";
+  private static final String ERROR_MESSAGE_RELEASE_SAVE_POINT_FAILED =
+      "Expected to release the save point of pipelined command '%s %s', but caught an exception.";
+
   private final EventFilter processingFilter;
   private final EventFilter isEventOrRejection =
       new MetadataEventFilter(
@@ -163,6 +187,13 @@ public final class ProcessingStateMachine {
   private final ScheduledCommandCache scheduledCommandCache;
   private volatile ErrorHandlingPhase errorHandlingPhase = ErrorHandlingPhase.NO_ERROR;
   private final ControllableStreamClock clock;
+  private final boolean pipelinedProcessing;
+  // commands whose records are written, but whose state is not yet committed
+  private final ArrayDeque<PipelinedCommand> pipeline = new ArrayDeque<>();
+  private final int maxCommandsInCommit;
+  private final long maxCommitSize;
+  private final long maxCommitDelayMillis;
+  private long pipelineStartMillis;
 
   public ProcessingStateMachine(
       final StreamProcessorContext context,
@@ -197,6 +228,10 @@ public final class ProcessingStateMachine {
             .and(record -> !record.shouldSkipProcessing())
             .and(context.processingFilter());
     clock = context.getClock();
+    pipelinedProcessing = context.isPipelinedProcessingEnabled();
+    maxCommandsInCommit = context.getMaxCommandsInCommit();
+    maxCommitSize = context.getMaxCommitSize();
+    maxCommitDelayMillis = context.getMaxCommitDelay().toMillis();
   }
 
   private void skipRecord() {
@@ -228,10 +263,15 @@ public final class ProcessingStateMachine {
       reachedEnd =
           isEventOrRejection.applies(previousRecord)
               && !hasNext
+              && pipeline.isEmpty()
               && lastWrittenPosition <= previousRecord.getPosition();
     }
 
-    if (shouldProcessNext.getAsBoolean() && hasNext && !inProcessing) {
+    if (inProcessing) {
+      return;
+    }
+
+    if (shouldProcessNext.getAsBoolean() && hasNext && !isCommitDue()) {
       currentRecord = logStreamReader.next();
 
       if (processingFilter.applies(currentRecord)) {
@@ -239,9 +279,25 @@ public final class ProcessingStateMachine {
       } else {
         skipRecord();
       }
+    } else if (!pipeline.isEmpty()) {
+      commitPipeline();
     }
   }
 
+  /**
+   * @return true if the state of the pipelined commands has to be committed before processing the
+   *     next command, false if there are none or more commands can be added to the commit
+   */
+  private boolean isCommitDue() {
+    if (pipeline.isEmpty()) {
+      return false;
+    }
+
+    return pipeline.size() >= maxCommandsInCommit
+        || clock.millis() - pipelineStartMillis >= maxCommitDelayMillis
+        || zeebeDbTransaction.getUncommittedSize() >= maxCommitSize;
+  }
+
   /**
    * Be aware this is a transient property which can change anytime, e.g. if a new command is
    * written to the log.
@@ -276,6 +332,9 @@ public final class ProcessingStateMachine {
       typedCommand.wrap(loggedEvent, metadata, value);
 
       zeebeDbTransaction = transactionContext.getCurrentTransaction();
+      if (!pipeline.isEmpty()) {
+        zeebeDbTransaction.setSavePoint();
+      }
       try (final var timer = processingMetrics.startBatchProcessingDurationTimer()) {
         zeebeDbTransaction.run(() -> batchProcessing(typedCommand));
         processingMetrics.observeCommandCount(processedCommandsCount);
@@ -437,7 +496,7 @@ public final class ProcessingStateMachine {
     final ActorFuture<Boolean> retryFuture =
         updateStateRetryStrategy.runWithRetry(
             () -> {
-              zeebeDbTransaction.rollback();
+              rollbackCurrentCommand();
               return true;
             },
             abortCondition);
@@ -459,6 +518,17 @@ public final class ProcessingStateMachine {
         });
   }
 
+  private void rollbackCurrentCommand() throws Exception {
+    if (pipeline.isEmpty()) {
+      zeebeDbTransaction.rollback();
+    } else {
+      // the records of the pipelined commands are written already, so we have to keep their state;
+      // the save point is set again, as the retry or error handling may fail as well
+      zeebeDbTransaction.rollbackToSavePoint();
+      zeebeDbTransaction.setSavePoint();
+    }
+  }
+
   private boolean tryExitOutOfErrorLoop(final Throwable error) {
     try {
       // If in error loop and the processing record is a user command
@@ -593,27 +663,36 @@ public final class ProcessingStateMachine {
       // we might have nothing to write but likely something to send as response
       // means we will not mark the record as skipped
       writeFuture = CompletableActorFuture.completed(true);
+    } else if (pipelinedProcessing && tryWritePendingRecords(sourceRecordPosition)) {
+      // the write is sequenced, so we can continue with the next command right away
+      writeFuture = CompletableActorFuture.completed(true);
     } else {
       writeFuture =
           writeRetryStrategy.runWithRetry(
-              () -> {
-                final var writeResult =
-                    logStreamWriter.tryWrite(
-                        WriteContext.processingResult(), pendingWrites, sourceRecordPosition);
-                if (writeResult.isRight()) {
-                  writtenPosition = writeResult.get();
-                  return true;
-                } else {
-                  return false;
-                }
-              },
-              abortCondition);
+              () -> tryWritePendingRecords(sourceRecordPosition), abortCondition);
     }
     return writeFuture;
   }
 
+  private boolean tryWritePendingRecords(final long sourceRecordPosition) {
+    final var writeResult =
+        logStreamWriter.tryWrite(
+            WriteContext.processingResult(), pendingWrites, sourceRecordPosition);
+    if (writeResult.isRight()) {
+      writtenPosition = writeResult.get();
+      return true;
+    } else {
+      return false;
+    }
+  }
+
   private void writeRecords() {
     final ActorFuture<Boolean> writeFuture = writeWithRetryAsync();
+    if (pipelinedProcessing && writeFuture.isDone() && !writeFuture.isCompletedExceptionally()) {
+      onRecordsWritten();
+      return;
+    }
+
     actor.runOnCompletion(
         writeFuture,
         (bool, t) -> {
@@ -626,21 +705,31 @@ public final class ProcessingStateMachine {
                   writeRecords();
                 });
           } else {
-            // We write various type of records. The positions are always increasing and
-            // incremented by 1 for one record (even in a batch), so we can count the amount
-            // of written records via the lastWritten and now written position.
-            final var amount = writtenPosition - lastWrittenPosition;
-            processingMetrics.recordsWritten(amount);
-            updateState();
+            onRecordsWritten();
           }
         });
   }
 
+  private void onRecordsWritten() {
+    // We write various type of records. The positions are always increasing and
+    // incremented by 1 for one record (even in a batch), so we can count the amount
+    // of written records via the lastWritten and now written position.
+    final var previousWrittenPosition =
+        pipeline.isEmpty() ? lastWrittenPosition : pipeline.getLast().writtenPosition();
+    final var amount = writtenPosition - previousWrittenPosition;
+    processingMetrics.recordsWritten(amount);
+    if (pipelinedProcessing) {
+      pipelineCommand();
+    } else {
+      updateState();
+    }
+  }
+
   private void updateState() {
     final ActorFuture<Boolean> retryFuture =
         updateStateRetryStrategy.runWithRetry(
             () -> {
-              zeebeDbTransaction.commit();
+              commitTransaction(1);
               lastSuccessfulProcessedRecordPosition = currentRecord.getPosition();
               processingMetrics.setLastProcessedPosition(lastSuccessfulProcessedRecordPosition);
               lastWrittenPosition = writtenPosition;
@@ -666,30 +755,25 @@ public final class ProcessingStateMachine {
         });
   }
 
+  /**
+   * Commits the state changes of the given number of processed commands, together with their last
+   * processed position which is updated in the same transaction.
+   */
+  private void commitTransaction(final int commandCount) throws Exception {
+    try (final var timer = processingMetrics.startCommitTimer()) {
+      zeebeDbTransaction.commit();
+    }
+    processingMetrics.observeCommandsInCommit(commandCount);
+  }
+
   private void executeSideEffects() {
     final ActorFuture<Boolean> retryFuture =
         sideEffectsRetryStrategy.runWithRetry(
             () -> {
               // TODO refactor this into two parallel tasks, which are then combined, and on the
               // completion of which the process continues
-              for (final var processingResponse : pendingResponses) {
-                final var responseWriter = context.getCommandResponseWriter();
-
-                final var responseValue = processingResponse.responseValue();
-                final var recordMetadata = responseValue.recordMetadata();
-                responseWriter
-                    .intent(recordMetadata.getIntent())
-                    .key(responseValue.key())
-                    .recordType(recordMetadata.getRecordType())
-                    .rejectionReason(BufferUtil.wrapString(recordMetadata.getRejectionReason()))
-                    .rejectionType(recordMetadata.getRejectionType())
-                    .partitionId(context.getPartitionId())
-                    .valueType(recordMetadata.getValueType())
-                    .valueWriter(responseValue.recordValue())
-                    .tryWriteResponse(
-                        processingResponse.requestStreamId(), processingResponse.requestId());
-              }
-              return executePostCommitTasks();
+              writeResponses(pendingResponses);
+              return executePostCommitTasks(currentProcessingResult);
             },
             abortCondition);
 
@@ -712,12 +796,144 @@ public final class ProcessingStateMachine {
         });
   }
 
-  private boolean executePostCommitTasks() {
+  private void writeResponses(final Collection<ProcessingResponse> responses) {
+    for (final var processingResponse : responses) {
+      final var responseWriter = context.getCommandResponseWriter();
+
+      final var responseValue = processingResponse.responseValue();
+      final var recordMetadata = responseValue.recordMetadata();
+      responseWriter
+          .intent(recordMetadata.getIntent())
+          .key(responseValue.key())
+          .recordType(recordMetadata.getRecordType())
+          .rejectionReason(BufferUtil.wrapString(recordMetadata.getRejectionReason()))
+          .rejectionType(recordMetadata.getRejectionType())
+          .partitionId(context.getPartitionId())
+          .valueType(recordMetadata.getValueType())
+          .valueWriter(responseValue.recordValue())
+          .tryWriteResponse(processingResponse.requestStreamId(), processingResponse.requestId());
+    }
+  }
+
+  private boolean executePostCommitTasks(final ProcessingResult processingResult) {
     try (final var timer = processingMetrics.startBatchProcessingPostCommitTasksTimer()) {
-      return currentProcessingResult.executePostCommitTasks();
+      return processingResult.executePostCommitTasks();
+    }
+  }
+
+  /**
+   * Adds the current command, whose records are written, to the pipeline and continues with the
+   * next command without committing the state. The command record is reused for the next command,
+   * so the pipeline keeps a copy of it.
+   */
+  private void pipelineCommand() {
+    if (pipeline.isEmpty()) {
+      pipelineStartMillis = clock.millis();
+    } else {
+      releaseSavePoint();
+    }
+    pipeline.addLast(
+        new PipelinedCommand(
+            typedCommand.copy(),
+            metadata.getIntent(),
+            writtenPosition,
+            currentProcessingResult,
+            pendingResponses,
+            processingTimer));
+
+    markProcessingCompleted();
+    actor.submit(this::tryToReadNextRecord);
+  }
+
+  private void releaseSavePoint() {
+    try {
+      zeebeDbTransaction.releaseSavePoint();
+    } catch (final Exception e) {
+      throw new UnrecoverableException(
+          ERROR_MESSAGE_RELEASE_SAVE_POINT_FAILED.formatted(currentRecord, metadata), e);
     }
   }
 
+  private void commitPipeline() {
+    inProcessing = true;
+
+    final var lastCommand = pipeline.getLast();
+    final ActorFuture<Boolean> retryFuture =
+        updateStateRetryStrategy.runWithRetry(
+            () -> {
+              commitTransaction(pipeline.size());
+              lastSuccessfulProcessedRecordPosition = lastCommand.command().getPosition();
+              processingMetrics.setLastProcessedPosition(lastSuccessfulProcessedRecordPosition);
+              lastWrittenPosition = lastCommand.writtenPosition();
+              return true;
+            },
+            abortCondition);
+
+    actor.runOnCompletion(
+        retryFuture,
+        (bool, throwable) -> {
+          if (throwable != null) {
+            // rolling back would discard the state of commands whose records are already written,
+            // so we fail and let the state be rebuilt from the snapshot and the log
+            throw new UnrecoverableException(
+                ERROR_MESSAGE_COMMIT_PIPELINE_FAILED.formatted(
+                    pipeline.size(), lastCommand.command().getPosition()),
+                throwable);
+          }
+
+          for (final var pipelinedCommand : pipeline) {
+            scheduledCommandCache.remove(
+                pipelinedCommand.intent(), pipelinedCommand.command().getKey());
+          }
+          executePipelinedSideEffects();
+        });
+  }
+
+  private void executePipelinedSideEffects() {
+    final ActorFuture<Boolean> retryFuture =
+        sideEffectsRetryStrategy.runWithRetry(
+            () -> {
+              // side effects are executed in the order of the commands, a retry continues with the
+              // command whose side effects failed
+              while (!pipeline.isEmpty()) {
+                final var pipelinedCommand = pipeline.getFirst();
+                writeResponses(pipelinedCommand.responses());
+                if (!executePostCommitTasks(pipelinedCommand.processingResult())) {
+                  return false;
+                }
+                completePipelinedCommand(pipeline.removeFirst());
+              }
+              return true;
+            },
+            abortCondition);
+
+    actor.runOnCompletion(
+        retryFuture,
+        (bool, throwable) -> {
+          if (throwable != null) {
+            final var failedCommand = pipeline.peekFirst();
+            LOG.error(
+                ERROR_MESSAGE_EXECUTE_SIDE_EFFECT_ABORTED,
+                failedCommand != null ? failedCommand.command() : null,
+                failedCommand != null ? failedCommand.intent() : null,
+                throwable);
+          }
+
+          while (!pipeline.isEmpty()) {
+            completePipelinedCommand(pipeline.removeFirst());
+          }
+
+          // continue with next record
+          markProcessingCompleted();
+          actor.submit(this::tryToReadNextRecord);
+        });
+  }
+
+  private void completePipelinedCommand(final PipelinedCommand pipelinedCommand) {
+    notifyProcessedListener(pipelinedCommand.command());
+    pipelinedCommand.processingTimer().close();
+  }
+
   private void notifyProcessedListener(final TypedRecord processedRecord) {
     try {
       streamProcessorListener.onProcessed(processedRecord);
@@ -772,6 +988,14 @@ public final class ProcessingStateMachine {
   private record BatchProcessingStepResult(
       List<TypedRecord<?>> toProcess, List<LogAppendEntry> toWrite) {}
 
+  private record PipelinedCommand(
+      TypedRecord<?> command,
+      Intent intent,
+      long writtenPosition,
+      ProcessingResult processingResult,
+      Collection<ProcessingResponse> responses,
+      CloseableSilently processingTimer) {}
+
   @FunctionalInterface
   private interface NextProcessingStep {
     void run() throws Exception;
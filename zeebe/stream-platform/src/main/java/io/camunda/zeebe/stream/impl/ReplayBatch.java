@@ -0,0 +1,91 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import io.camunda.zeebe.logstreams.impl.log.LoggedEventImpl;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import java.util.BitSet;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.IntArrayList;
+
+/**
+ * Consecutive records read from the log, which are replayed within a single transaction. The
+ * records are copied into a buffer owned by the batch, such that reading further records from the
+ * log does not invalidate them. This allows reading the next batch while the previous one is still
+ * being replayed.
+ *
+ * <p>Besides the records, the batch remembers which of them have to be replayed, i.e. which are
+ * events that were not yet applied to the state of the snapshot. This is decided when reading the
+ * batch, as it requires reading the metadata of each record.
+ *
+ * <p>The batch is reused for reading further records after it was replayed, so it only allocates
+ * while its buffer grows.
+ */
+final class ReplayBatch {
+
+  private final MutableDirectBuffer buffer = new ExpandableArrayBuffer();
+  private final IntArrayList offsets = new IntArrayList();
+  private final BitSet recordsToReplay = new BitSet();
+  private final LoggedEventImpl view = new LoggedEventImpl();
+  private int length;
+
+  void add(final LoggedEvent record, final boolean shouldReplay) {
+    if (shouldReplay) {
+      recordsToReplay.set(offsets.size());
+    }
+
+    offsets.addInt(length);
+    record.write(buffer, length);
+    length += record.getLength();
+  }
+
+  void clear() {
+    offsets.clear();
+    recordsToReplay.clear();
+    length = 0;
+  }
+
+  boolean isEmpty() {
+    return offsets.isEmpty();
+  }
+
+  int size() {
+    return offsets.size();
+  }
+
+  /**
+   * @return the number of records in this batch which have to be applied to the state
+   */
+  int eventCount() {
+    return recordsToReplay.cardinality();
+  }
+
+  /**
+   * @return a view of the record at the given index, which is only valid until the next call
+   */
+  LoggedEvent get(final int index) {
+    view.wrap(buffer, offsets.getInt(index));
+    return view;
+  }
+
+  /**
+   * @return true if the record at the given index is an event which has to be applied to the state
+   */
+  boolean shouldReplay(final int index) {
+    return recordsToReplay.get(index);
+  }
+
+  /**
+   * @return a view of the last record of the batch, which is only valid until the next call of
+   *     {@link #get(int)}
+   */
+  LoggedEvent last() {
+    return get(offsets.size() - 1);
+  }
+}
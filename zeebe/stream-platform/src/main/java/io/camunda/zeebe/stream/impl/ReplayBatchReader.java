@@ -0,0 +1,87 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import io.camunda.zeebe.logstreams.impl.log.LogStreamBatchReaderImpl;
+import io.camunda.zeebe.logstreams.log.LogStreamReader;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.stream.api.EventFilter;
+import io.camunda.zeebe.stream.api.MetadataFilter;
+
+/**
+ * Reads the log in {@link ReplayBatch replay batches}. A replay batch contains at least the
+ * configured number of records, unless the end of the log is reached, and is then extended until
+ * the end of the current batch of follow-up events. All events with the same source position are
+ * thus always replayed within the same transaction, which keeps the last processed position
+ * consistent with the state.
+ *
+ * <p>The reader is not thread-safe, but it can be used on a different thread than the one replaying
+ * the batches, as the batches own a copy of their records.
+ */
+final class ReplayBatchReader {
+
+  private static final MetadataFilter REPLAY_FILTER =
+      recordMetadata -> recordMetadata.getRecordType() == RecordType.EVENT;
+
+  private final EventFilter eventFilter = new MetadataEventFilter(REPLAY_FILTER);
+  private final LogStreamReader logStreamReader;
+  private final int batchSize;
+  private long snapshotPosition = StreamProcessor.UNSET_POSITION;
+
+  /**
+   * @param logStreamReader the reader to read the records from
+   * @param batchSize the minimum number of records per replay batch
+   */
+  ReplayBatchReader(final LogStreamReader logStreamReader, final int batchSize) {
+    this.logStreamReader = logStreamReader;
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * Seeks to the first batch of follow-up events after the snapshot position. Events which were
+   * caused by a command at or before that position are already part of the snapshot, so they are
+   * not replayed again.
+   */
+  void seekToNextBatch(final long snapshotPosition) {
+    this.snapshotPosition = snapshotPosition;
+    new LogStreamBatchReaderImpl(logStreamReader).seekToNextBatch(snapshotPosition);
+  }
+
+  boolean hasNext() {
+    return logStreamReader.hasNext();
+  }
+
+  /**
+   * Reads the next records into the given batch, replacing its previous content. Must only be
+   * called if {@link #hasNext()} returns true.
+   */
+  void readNext(final ReplayBatch batch) {
+    batch.clear();
+
+    long sourceEventPosition;
+    do {
+      final LoggedEvent record = logStreamReader.next();
+      batch.add(record, shouldReplay(record));
+      sourceEventPosition = record.getSourceEventPosition();
+    } while (logStreamReader.hasNext()
+        && (batch.size() < batchSize || continuesBatch(sourceEventPosition)));
+  }
+
+  private boolean continuesBatch(final long sourceEventPosition) {
+    return sourceEventPosition > 0
+        && sourceEventPosition == logStreamReader.peekNext().getSourceEventPosition();
+  }
+
+  private boolean shouldReplay(final LoggedEvent record) {
+    final long sourceEventPosition = record.getSourceEventPosition();
+    // some events might not have a source pointer
+    return (sourceEventPosition > snapshotPosition || sourceEventPosition < 0)
+        && eventFilter.applies(record);
+  }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import io.camunda.zeebe.logstreams.log.LogStream;
+import io.camunda.zeebe.logstreams.log.LogStreamReader;
+import io.camunda.zeebe.scheduler.Actor;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import org.agrona.CloseHelper;
+import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
+
+/**
+ * Reads {@link ReplayBatch replay batches} ahead of the {@link ReplayStateMachine} on its own
+ * actor, such that reading records from the log and deciding which of them to replay overlaps with
+ * applying the events of the previous batch on the stream processor actor.
+ *
+ * <p>The prefetcher owns a fixed number of batches. It fills the free ones and hands them over to
+ * the replay state machine, which returns each of them via {@link #release(ReplayBatch)} once it
+ * was replayed. This bounds the memory used for reading ahead, and keeps the batches from being
+ * reallocated.
+ *
+ * <p>The prefetcher reads until it reaches the end of the log, after which {@link #hasReadAll()}
+ * returns true. It is thus only meant for the replay before processing, and not for continuously
+ * replaying records as they are written.
+ */
+final class ReplayPrefetcher extends Actor {
+
+  /** One batch is replayed while the others are read ahead. */
+  private static final int BATCH_COUNT = 3;
+
+  private final Queue<ReplayBatch> readBatches = new OneToOneConcurrentArrayQueue<>(BATCH_COUNT);
+  private final Queue<ReplayBatch> freeBatches = new ArrayDeque<>(BATCH_COUNT);
+  private final LogStream logStream;
+  private final int batchSize;
+  private final long snapshotPosition;
+  private final Runnable onBatchRead;
+  private final String name;
+
+  private LogStreamReader logStreamReader;
+  private ReplayBatchReader batchReader;
+  private volatile boolean hasReadAll;
+  private volatile Throwable failure;
+
+  /**
+   * @param logStream the log stream to read from
+   * @param batchSize the minimum number of records per replay batch
+   * @param snapshotPosition the position of the snapshot, after which the replay starts
+   * @param onBatchRead called whenever a batch was read, the end of the log was reached, or reading
+   *     failed; must be thread-safe, as it is called from the prefetcher's actor
+   */
+  ReplayPrefetcher(
+      final LogStream logStream,
+      final int batchSize,
+      final long snapshotPosition,
+      final Runnable onBatchRead) {
+    this.logStream = logStream;
+    this.batchSize = batchSize;
+    this.snapshotPosition = snapshotPosition;
+    this.onBatchRead = onBatchRead;
+    name = buildActorName("ReplayPrefetcher", logStream.getPartitionId());
+
+    for (int i = 0; i < BATCH_COUNT; i++) {
+      freeBatches.add(new ReplayBatch());
+    }
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  protected void onActorStarted() {
+    logStreamReader = logStream.newLogStreamReader();
+    batchReader = new ReplayBatchReader(logStreamReader, batchSize);
+    try {
+      batchReader.seekToNextBatch(snapshotPosition);
+    } catch (final RuntimeException e) {
+      onReadFailed(e);
+      return;
+    }
+
+    readAhead();
+  }
+
+  @Override
+  protected void onActorClosing() {
+    CloseHelper.quietClose(logStreamReader);
+  }
+
+  /**
+   * @return the next batch which was read, or null if none is available yet
+   * @throws IllegalStateException if reading the log failed
+   */
+  ReplayBatch poll() {
+    final var batch = readBatches.poll();
+    if (batch == null && failure != null) {
+      throw new IllegalStateException("Failed to read records to replay from the log", failure);
+    }
+    return batch;
+  }
+
+  /**
+   * Returns true if all records of the log were read. If this returns true before {@link #poll()}
+   * returns null, then all batches were replayed.
+   */
+  boolean hasReadAll() {
+    return hasReadAll;
+  }
+
+  /** Hands back a batch after it was replayed, such that it can be used to read further records. */
+  void release(final ReplayBatch batch) {
+    actor.call(
+        () -> {
+          freeBatches.add(batch);
+          readAhead();
+        });
+  }
+
+  private void readAhead() {
+    if (hasReadAll || failure != null) {
+      return;
+    }
+
+    try {
+      while (!freeBatches.isEmpty() && batchReader.hasNext()) {
+        final var batch = freeBatches.poll();
+        batchReader.readNext(batch);
+        readBatches.add(batch);
+        onBatchRead.run();
+      }
+
+      if (!batchReader.hasNext()) {
+        hasReadAll = true;
+        onBatchRead.run();
+      }
+    } catch (final RuntimeException e) {
+      onReadFailed(e);
+    }
+  }
+
+  private void onReadFailed(final Throwable error) {
+    failure = error;
+    onBatchRead.run();
+  }
+}
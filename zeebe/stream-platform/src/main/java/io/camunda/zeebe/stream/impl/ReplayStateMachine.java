@@ -10,23 +10,19 @@ package io.camunda.zeebe.stream.impl;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
 import io.camunda.zeebe.logstreams.impl.Loggers;
-import io.camunda.zeebe.logstreams.impl.log.LogStreamBatchReaderImpl;
 import io.camunda.zeebe.logstreams.log.LogRecordAwaiter;
 import io.camunda.zeebe.logstreams.log.LogStream;
-import io.camunda.zeebe.logstreams.log.LogStreamBatchReader;
-import io.camunda.zeebe.logstreams.log.LogStreamBatchReader.Batch;
 import io.camunda.zeebe.logstreams.log.LoggedEvent;
 import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
-import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.scheduler.ActorControl;
+import io.camunda.zeebe.scheduler.ActorSchedulingService;
+import io.camunda.zeebe.scheduler.SchedulingHints;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.scheduler.retry.RecoverableRetryStrategy;
 import io.camunda.zeebe.scheduler.retry.RetryStrategy;
-import io.camunda.zeebe.stream.api.EventFilter;
-import io.camunda.zeebe.stream.api.MetadataFilter;
 import io.camunda.zeebe.stream.api.RecordProcessor;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
 import io.camunda.zeebe.stream.api.state.KeyGeneratorControls;
@@ -38,20 +34,26 @@ import java.util.List;
 import java.util.function.BooleanSupplier;
 import org.slf4j.Logger;
 
-/** Represents the state machine to replay events and rebuild the state. */
+/**
+ * Represents the state machine to replay events and rebuild the state.
+ *
+ * <p>Records are read in {@link ReplayBatch replay batches}, each of which is replayed within a
+ * single transaction. If pipelined replay is enabled, the batches are read ahead by a {@link
+ * ReplayPrefetcher} on a different actor while the previous batch is replayed. This is only done
+ * for the replay before processing, as the replay of a follower continuously waits for new records
+ * anyway.
+ */
 public final class ReplayStateMachine implements LogRecordAwaiter {
 
   private static final Logger LOG = Loggers.PROCESSOR_LOGGER;
 
   private static final String LOG_STMT_REPLAY_FINISHED = "Processor finished replay, with {}";
   private static final String ERROR_INCONSISTENT_LOG =
-      "Expected that position '%d' of current event is higher then position '%d' of last event, but was not. Inconsistent log detected!";
+      "Expected that position '%d' of current event is higher then position '%d' of last event, but"
+          + " was not. Inconsistent log detected!";
   private static final String ERROR_MSG_EXPECTED_TO_READ_METADATA =
       "Expected to read the metadata for the record '%s', but an exception was thrown.";
 
-  private static final MetadataFilter REPLAY_FILTER =
-      recordMetadata -> recordMetadata.getRecordType() == RecordType.EVENT;
-
   private final RecordMetadata metadata = new RecordMetadata();
   private final KeyGeneratorControls keyGeneratorControls;
   private final MutableLastProcessedPositionState lastProcessedPositionState;
@@ -60,9 +62,12 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
 
   private final RecordValues recordValues;
 
-  private final EventFilter eventFilter = new MetadataEventFilter(REPLAY_FILTER);
-
-  private final LogStreamBatchReader logStreamBatchReader;
+  private final ReplayBatch replayBatch = new ReplayBatch();
+  private final ReplayBatchReader replayBatchReader;
+  private final ActorSchedulingService actorSchedulingService;
+  private final int replayBatchSize;
+  private final boolean pipelinedReplayEnabled;
+  private ReplayPrefetcher prefetcher;
 
   private final TransactionContext transactionContext;
   private final RetryStrategy replayStrategy;
@@ -74,6 +79,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
 
   private long snapshotPosition;
   private long lastReadRecordPosition = StreamProcessor.UNSET_POSITION;
+  private long batchStartReadRecordPosition = StreamProcessor.UNSET_POSITION;
   private long lastReplayedEventPosition = StreamProcessor.UNSET_POSITION;
 
   private ActorFuture<LastProcessingPositions> recoveryFuture;
@@ -90,7 +96,9 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
   public ReplayStateMachine(
       final List<RecordProcessor> recordProcessors,
       final StreamProcessorContext context,
+      final ActorSchedulingService actorSchedulingService,
       final BooleanSupplier shouldReplayNext) {
+    this.actorSchedulingService = actorSchedulingService;
     partitionId = context.getPartitionId();
     this.recordProcessors = recordProcessors;
     shouldPause = () -> !shouldReplayNext.getAsBoolean();
@@ -105,7 +113,9 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     replayStrategy = new RecoverableRetryStrategy(actor);
     streamProcessorMode = context.getProcessorMode();
     logStream = context.getLogStream();
-    logStreamBatchReader = new LogStreamBatchReaderImpl(context.getLogStreamReader());
+    replayBatchSize = context.getReplayBatchSize();
+    pipelinedReplayEnabled = context.isPipelinedReplayEnabled();
+    replayBatchReader = new ReplayBatchReader(context.getLogStreamReader(), replayBatchSize);
     replayMetrics = new ReplayMetrics(context.getMeterRegistry());
   }
 
@@ -122,13 +132,27 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     lastSourceEventPosition =
         snapshotPosition > 0 ? snapshotPosition : StreamProcessor.UNSET_POSITION;
 
-    // start after snapshot
-    logStreamBatchReader.seekToNextBatch(snapshotPosition);
-
+    final boolean pipelined = isPipelinedReplayEnabled();
     LOG.info(
-        "Processor starts replay of events. [snapshot-position: {}, replay-mode: {}]",
+        "Processor starts replay of events. [snapshot-position: {}, replay-mode: {}, batch-size:"
+            + " {}, pipelined: {}]",
         snapshotPosition,
-        streamProcessorMode);
+        streamProcessorMode,
+        replayBatchSize,
+        pipelined);
+
+    if (pipelined) {
+      // start after snapshot, and read ahead on a separate actor; it notifies us like the log does
+      prefetcher =
+          new ReplayPrefetcher(
+              logStream, replayBatchSize, snapshotPosition, this::onRecordAvailable);
+      actorSchedulingService.submitActor(prefetcher, SchedulingHints.ioBound());
+      currentState = State.AWAIT_RECORD;
+      return recoveryFuture;
+    }
+
+    // start after snapshot
+    replayBatchReader.seekToNextBatch(snapshotPosition);
 
     if (streamProcessorMode == StreamProcessorMode.REPLAY) {
       logStream.registerRecordAvailableListener(this);
@@ -150,16 +174,19 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
   }
 
   void replayNextEvent() {
-    if (shouldPause.getAsBoolean()) {
+    if (shouldPause.getAsBoolean() || currentState == State.REPLAY_COMPLETED) {
       return;
     }
 
     try {
-      if (logStreamBatchReader.hasNext()) {
+      // must be checked before polling the next batch, see ReplayPrefetcher#hasReadAll
+      final boolean hasReadAll = prefetcher == null || prefetcher.hasReadAll();
+      final var batch = nextBatch();
+      if (batch != null) {
         currentState = State.REPLAY_EVENT;
 
         final var replayDurationTimer = replayMetrics.startReplayDurationTimer();
-        final var batch = logStreamBatchReader.next();
+        batchStartReadRecordPosition = lastReadRecordPosition;
         replayStrategy
             .runWithRetry(() -> tryToReplayBatch(batch), abortCondition)
             .onComplete(
@@ -167,20 +194,24 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
                   if (failure != null) {
                     throw new RuntimeException(
                         "Failed to replay batch at '%s %s'"
-                            .formatted(batch.current(), typedEvent.getMetadata()),
+                            .formatted(batch.last(), typedEvent.getMetadata()),
                         failure);
                   } else {
                     // observe the replay duration
                     replayDurationTimer.close();
+                    replayMetrics.batchReplayed(batch.eventCount());
                     // the position should be visible only after the batch is replayed successfully
                     lastSourceEventPosition =
                         Math.max(lastSourceEventPosition, batchSourceEventPosition);
                     replayMetrics.setLastSourcePosition(lastSourceEventPosition);
+                    releaseBatch(batch);
                     actor.submit(this::replayNextEvent);
                   }
                 });
 
-      } else if (streamProcessorMode == StreamProcessorMode.PROCESSING) {
+      } else if (streamProcessorMode == StreamProcessorMode.PROCESSING && hasReadAll) {
+        currentState = State.REPLAY_COMPLETED;
+        closePrefetcher();
         onRecordsReplayed();
 
       } else {
@@ -190,24 +221,55 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     } catch (final RuntimeException e) {
       final var message =
           String.format(
-              "Failed to replay records. [snapshot-position: %d, last-read-record-position: %d, last-replayed-event-position: %d]",
+              "Failed to replay records. [snapshot-position: %d, last-read-record-position: %d,"
+                  + " last-replayed-event-position: %d]",
               snapshotPosition, lastReadRecordPosition, lastReplayedEventPosition);
       recoveryFuture.completeExceptionally(new RuntimeException(message, e));
     }
   }
 
-  private boolean tryToReplayBatch(final Batch batch) throws Exception {
+  /**
+   * @return the next batch to replay, or null if there is none yet
+   */
+  private ReplayBatch nextBatch() {
+    if (prefetcher != null) {
+      return prefetcher.poll();
+    }
+
+    if (!replayBatchReader.hasNext()) {
+      return null;
+    }
+
+    replayBatchReader.readNext(replayBatch);
+    return replayBatch;
+  }
+
+  private void releaseBatch(final ReplayBatch batch) {
+    if (prefetcher != null) {
+      prefetcher.release(batch);
+    }
+  }
+
+  private boolean isPipelinedReplayEnabled() {
+    // a follower replays records as they are written, so there is nothing to read ahead
+    return streamProcessorMode == StreamProcessorMode.PROCESSING && pipelinedReplayEnabled;
+  }
+
+  private boolean tryToReplayBatch(final ReplayBatch batch) throws Exception {
     final boolean onRetry = zeebeDbTransaction != null;
     if (onRetry) {
       zeebeDbTransaction.rollback();
-      // reading the whole batch from the beginning again
-      batch.head();
+      // the whole batch is replayed again, so forget that we've read it already
+      lastReadRecordPosition = batchStartReadRecordPosition;
     }
+    batchSourceEventPosition = StreamProcessor.UNSET_POSITION;
 
     zeebeDbTransaction = transactionContext.getCurrentTransaction();
     zeebeDbTransaction.run(
         () -> {
-          batch.forEachRemaining(this::replayEvent);
+          for (int i = 0; i < batch.size(); i++) {
+            replayEvent(batch.get(i), batch.shouldReplay(i));
+          }
 
           if (batchSourceEventPosition > snapshotPosition) {
             lastProcessedPositionState.markAsProcessed(batchSourceEventPosition);
@@ -220,11 +282,8 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     return true;
   }
 
-  private void replayEvent(final LoggedEvent currentEvent) {
-    if (eventFilter.applies(currentEvent)
-        && (currentEvent.getSourceEventPosition() > snapshotPosition
-            || currentEvent.getSourceEventPosition()
-                < 0)) { // some events might not have a source pointer
+  private void replayEvent(final LoggedEvent currentEvent, final boolean shouldReplay) {
+    if (shouldReplay) {
       readMetadata(currentEvent);
       final var currentTypedEvent = readRecordValue(currentEvent);
 
@@ -283,8 +342,8 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     lastReadRecordPosition = currentPosition;
 
     // we need to keep track of the last source event position to know where to start with
-    // processing after replay
-    batchSourceEventPosition = sourceEventPosition;
+    // processing after replay; a replay batch may end with commands which have no source position
+    batchSourceEventPosition = Math.max(batchSourceEventPosition, sourceEventPosition);
 
     // records from other partitions should not influence the key generator of this partition
     if (Protocol.decodePartitionId(currentRecordKey) == partitionId) {
@@ -324,10 +383,19 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
 
   public void close() {
     logStream.removeRecordAvailableListener(this);
+    closePrefetcher();
+  }
+
+  private void closePrefetcher() {
+    if (prefetcher != null) {
+      prefetcher.closeAsync();
+      prefetcher = null;
+    }
   }
 
   private enum State {
     AWAIT_RECORD,
-    REPLAY_EVENT
+    REPLAY_EVENT,
+    REPLAY_COMPLETED
   }
 }
@@ -83,7 +83,8 @@ public class StreamProcessor extends Actor implements HealthMonitorable, LogReco
   public static final Duration HEALTH_CHECK_TICK_DURATION = Duration.ofSeconds(5);
 
   private static final String ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED =
-      "Expected to find event with the snapshot position %s in log stream, but nothing was found. Failed to recover '%s'.";
+      "Expected to find event with the snapshot position %s in log stream, but nothing was found."
+          + " Failed to recover '%s'.";
   private static final Logger LOG = Loggers.LOGSTREAMS_LOGGER;
   private final ActorSchedulingService actorSchedulingService;
   private final AtomicBoolean isOpened = new AtomicBoolean(false);
@@ -194,7 +195,11 @@ public class StreamProcessor extends Actor implements HealthMonitorable, LogReco
       healthCheckTick();
 
       replayStateMachine =
-          new ReplayStateMachine(recordProcessors, streamProcessorContext, this::shouldProcessNext);
+          new ReplayStateMachine(
+              recordProcessors,
+              streamProcessorContext,
+              actorSchedulingService,
+              this::shouldProcessNext);
 
       openFuture.complete(null);
       replayCompletedFuture = replayStateMachine.startRecover(snapshotPosition);
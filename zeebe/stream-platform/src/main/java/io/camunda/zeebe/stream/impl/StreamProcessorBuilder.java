@@ -147,6 +147,26 @@ public final class StreamProcessorBuilder {
           "Batch processing limit must be >= 1 but was %s"
               .formatted(streamProcessorContext.getMaxCommandsInBatch()));
     }
+    if (streamProcessorContext.getReplayBatchSize() < 1) {
+      throw new IllegalArgumentException(
+          "Replay batch size must be >= 1 but was %s"
+              .formatted(streamProcessorContext.getReplayBatchSize()));
+    }
+    if (streamProcessorContext.getMaxCommandsInCommit() < 1) {
+      throw new IllegalArgumentException(
+          "Max commands in commit must be >= 1 but was %s"
+              .formatted(streamProcessorContext.getMaxCommandsInCommit()));
+    }
+    if (streamProcessorContext.getMaxCommitSize() < 1) {
+      throw new IllegalArgumentException(
+          "Max commit size must be >= 1 but was %s"
+              .formatted(streamProcessorContext.getMaxCommitSize()));
+    }
+    if (!streamProcessorContext.getMaxCommitDelay().isPositive()) {
+      throw new IllegalArgumentException(
+          "Max commit delay must be positive but was %s"
+              .formatted(streamProcessorContext.getMaxCommitDelay()));
+    }
   }
 
   public StreamProcessorBuilder maxCommandsInBatch(final int maxCommandsInBatch) {
@@ -154,6 +174,36 @@ public final class StreamProcessorBuilder {
     return this;
   }
 
+  public StreamProcessorBuilder replayBatchSize(final int replayBatchSize) {
+    streamProcessorContext.replayBatchSize(replayBatchSize);
+    return this;
+  }
+
+  public StreamProcessorBuilder enablePipelinedReplay(final boolean enablePipelinedReplay) {
+    streamProcessorContext.enablePipelinedReplay(enablePipelinedReplay);
+    return this;
+  }
+
+  public StreamProcessorBuilder enablePipelinedProcessing(final boolean enablePipelinedProcessing) {
+    streamProcessorContext.enablePipelinedProcessing(enablePipelinedProcessing);
+    return this;
+  }
+
+  public StreamProcessorBuilder maxCommandsInCommit(final int maxCommandsInCommit) {
+    streamProcessorContext.maxCommandsInCommit(maxCommandsInCommit);
+    return this;
+  }
+
+  public StreamProcessorBuilder maxCommitSize(final long maxCommitSize) {
+    streamProcessorContext.maxCommitSize(maxCommitSize);
+    return this;
+  }
+
+  public StreamProcessorBuilder maxCommitDelay(final Duration maxCommitDelay) {
+    streamProcessorContext.maxCommitDelay(maxCommitDelay);
+    return this;
+  }
+
   public StreamProcessorBuilder setEnableAsyncScheduledTasks(final boolean enabled) {
     streamProcessorContext.setEnableAsyncScheduledTasks(enabled);
     return this;
@@ -30,6 +30,10 @@ import java.util.function.BooleanSupplier;
 public final class StreamProcessorContext implements ReadonlyStreamProcessorContext {
 
   public static final int DEFAULT_MAX_COMMANDS_IN_BATCH = 100;
+  public static final int DEFAULT_REPLAY_BATCH_SIZE = 1;
+  public static final int DEFAULT_MAX_COMMANDS_IN_COMMIT = 32;
+  public static final long DEFAULT_MAX_COMMIT_SIZE = 4 * 1024 * 1024;
+  public static final Duration DEFAULT_MAX_COMMIT_DELAY = Duration.ofMillis(10);
   private static final StreamProcessorListener NOOP_LISTENER = processedCommand -> {};
   private ActorControl actor;
   private LogStream logStream;
@@ -52,6 +56,12 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
   private volatile StreamProcessor.Phase phase = Phase.INITIAL;
   private KeyGeneratorControls keyGeneratorControls;
   private int maxCommandsInBatch = DEFAULT_MAX_COMMANDS_IN_BATCH;
+  private int replayBatchSize = DEFAULT_REPLAY_BATCH_SIZE;
+  private boolean enablePipelinedReplay = false;
+  private boolean enablePipelinedProcessing = false;
+  private int maxCommandsInCommit = DEFAULT_MAX_COMMANDS_IN_COMMIT;
+  private long maxCommitSize = DEFAULT_MAX_COMMIT_SIZE;
+  private Duration maxCommitDelay = DEFAULT_MAX_COMMIT_DELAY;
   private boolean enableAsyncScheduledTasks = true;
   private EventFilter processingFilter = e -> true;
   private ControllableStreamClock clock;
@@ -223,6 +233,86 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
     return maxCommandsInBatch;
   }
 
+  /**
+   * Sets the minimum number of records which are replayed within a single transaction. A
+   * transaction always contains all follow-up events of a command, so it may contain more records.
+   */
+  public StreamProcessorContext replayBatchSize(final int replayBatchSize) {
+    this.replayBatchSize = replayBatchSize;
+    return this;
+  }
+
+  public int getReplayBatchSize() {
+    return replayBatchSize;
+  }
+
+  /**
+   * Enables reading records ahead of the replay on a separate actor, such that reading the log
+   * overlaps with applying events. Only used when replaying before processing.
+   */
+  public StreamProcessorContext enablePipelinedReplay(final boolean enablePipelinedReplay) {
+    this.enablePipelinedReplay = enablePipelinedReplay;
+    return this;
+  }
+
+  public boolean isPipelinedReplayEnabled() {
+    return enablePipelinedReplay;
+  }
+
+  /**
+   * Enables processing the next command as soon as the records of the previous one are written,
+   * against its uncommitted state. The state of several commands is then committed together, before
+   * their responses are sent.
+   */
+  public StreamProcessorContext enablePipelinedProcessing(final boolean enablePipelinedProcessing) {
+    this.enablePipelinedProcessing = enablePipelinedProcessing;
+    return this;
+  }
+
+  public boolean isPipelinedProcessingEnabled() {
+    return enablePipelinedProcessing;
+  }
+
+  /**
+   * Sets the maximum number of pipelined commands whose state is committed together. Only used with
+   * pipelined processing.
+   */
+  public StreamProcessorContext maxCommandsInCommit(final int maxCommandsInCommit) {
+    this.maxCommandsInCommit = maxCommandsInCommit;
+    return this;
+  }
+
+  public int getMaxCommandsInCommit() {
+    return maxCommandsInCommit;
+  }
+
+  /**
+   * Sets the size in bytes of uncommitted state changes, after which the state of the pipelined
+   * commands is committed, even if more commands could be processed. Only used with pipelined
+   * processing.
+   */
+  public StreamProcessorContext maxCommitSize(final long maxCommitSize) {
+    this.maxCommitSize = maxCommitSize;
+    return this;
+  }
+
+  public long getMaxCommitSize() {
+    return maxCommitSize;
+  }
+
+  /**
+   * Sets the maximum time the state of the first pipelined command stays uncommitted, which bounds
+   * the delay of its response under sustained load. Only used with pipelined processing.
+   */
+  public StreamProcessorContext maxCommitDelay(final Duration maxCommitDelay) {
+    this.maxCommitDelay = maxCommitDelay;
+    return this;
+  }
+
+  public Duration getMaxCommitDelay() {
+    return maxCommitDelay;
+  }
+
   public StreamProcessorContext setEnableAsyncScheduledTasks(final boolean enabled) {
     enableAsyncScheduledTasks = enabled;
     return this;
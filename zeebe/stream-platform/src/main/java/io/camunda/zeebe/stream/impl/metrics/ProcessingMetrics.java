@@ -41,6 +41,8 @@ public class ProcessingMetrics {
   private final Timer batchProcessingPostCommitTasks;
   private final DistributionSummary batchProcessingCommands;
   private final Counter batchProcessingRetries;
+  private final DistributionSummary commitCommands;
+  private final Timer commitLatency;
   private final EnumMeter<ErrorHandlingPhase> errorHandlingPhase;
   private final Timer processingLatency;
 
@@ -53,6 +55,8 @@ public class ProcessingMetrics {
         registerTimer(StreamMetricsDoc.BATCH_PROCESSING_POST_COMMIT_TASKS);
     batchProcessingCommands = registerBatchProcessingCommands();
     batchProcessingRetries = registerBatchProcessingRetries();
+    commitCommands = registerCommitCommands();
+    commitLatency = registerTimer(StreamMetricsDoc.COMMIT_LATENCY);
     errorHandlingPhase =
         EnumMeter.register(
             ErrorHandlingPhase.class,
@@ -73,6 +77,14 @@ public class ProcessingMetrics {
     batchProcessingCommands.record(commandCount);
   }
 
+  public void observeCommandsInCommit(final int commandCount) {
+    commitCommands.record(commandCount);
+  }
+
+  public CloseableSilently startCommitTimer() {
+    return MicrometerUtil.timer(commitLatency, Timer.start(registry.config().clock()));
+  }
+
   public void countRetry() {
     batchProcessingRetries.increment();
   }
@@ -135,6 +147,14 @@ public class ProcessingMetrics {
     return batchProcessingCommands;
   }
 
+  private DistributionSummary registerCommitCommands() {
+    final var commandsDoc = StreamMetricsDoc.COMMIT_COMMANDS;
+    return DistributionSummary.builder(commandsDoc.getName())
+        .description(commandsDoc.getDescription())
+        .serviceLevelObjectives(commandsDoc.getDistributionSLOs())
+        .register(registry);
+  }
+
   private Counter registerBatchProcessingRetries() {
     final Counter batchProcessingRetries;
     final var retriesDoc = StreamMetricsDoc.BATCH_PROCESSING_RETRIES;
@@ -11,6 +11,7 @@ import io.camunda.zeebe.util.CloseableSilently;
 import io.camunda.zeebe.util.micrometer.MicrometerUtil;
 import io.micrometer.core.instrument.Clock;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
@@ -23,15 +24,25 @@ public final class ReplayMetrics {
   private final Clock clock;
   private final Counter replayEventsCount;
   private final Timer replayDurationTimer;
+  private final DistributionSummary replayBatchSize;
 
   public ReplayMetrics(final MeterRegistry registry) {
     clock = registry.config().clock();
 
     replayEventsCount = registerReplayEventsCount(registry);
     replayDurationTimer = registerReplayDuration(registry);
+    replayBatchSize = registerReplayBatchSize(registry);
     registerLastSourcePosition(registry);
   }
 
+  private DistributionSummary registerReplayBatchSize(final MeterRegistry registry) {
+    final var meterDoc = StreamMetricsDoc.REPLAY_BATCH_SIZE;
+    return DistributionSummary.builder(meterDoc.getName())
+        .description(meterDoc.getDescription())
+        .serviceLevelObjectives(meterDoc.getDistributionSLOs())
+        .register(registry);
+  }
+
   private Timer registerReplayDuration(final MeterRegistry registry) {
     final var meterDoc = StreamMetricsDoc.REPLAY_DURATION;
     return Timer.builder(meterDoc.getName())
@@ -62,6 +73,11 @@ public final class ReplayMetrics {
     return MicrometerUtil.timer(replayDurationTimer, Timer.start(clock));
   }
 
+  /** Observes the number of events which were replayed within a single transaction. */
+  public void batchReplayed(final int eventCount) {
+    replayBatchSize.record(eventCount);
+  }
+
   public void setLastSourcePosition(final long position) {
     lastSourcePosition.set(position);
   }
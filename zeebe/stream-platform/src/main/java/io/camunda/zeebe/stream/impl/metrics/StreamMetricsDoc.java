@@ -108,6 +108,65 @@ public enum StreamMetricsDoc implements ExtendedMeterDocumentation {
     }
   },
 
+  /** Records the distribution of commands whose state is committed together */
+  COMMIT_COMMANDS {
+    private static final double[] BUCKETS = {1, 2, 4, 8, 16, 32, 64, 128};
+
+    @Override
+    public String getDescription() {
+      return "Records the distribution of commands whose state is committed together";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.stream.processor.commit.commands";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.DISTRIBUTION_SUMMARY;
+    }
+
+    @Override
+    public double[] getDistributionSLOs() {
+      return BUCKETS;
+    }
+  },
+
+  /** Time spent in committing the state of processed commands (in seconds) */
+  COMMIT_LATENCY {
+    private static final Duration[] BUCKETS = {
+      Duration.ofNanos(10_000), // 10 micros
+      Duration.ofNanos(100_000), // 100 micros
+      Duration.ofMillis(1),
+      Duration.ofMillis(5),
+      Duration.ofMillis(10),
+      Duration.ofMillis(50),
+      Duration.ofMillis(100),
+      Duration.ofMillis(500)
+    };
+
+    @Override
+    public String getDescription() {
+      return "Time spent in committing the state of processed commands (in seconds)";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.stream.processor.commit.latency";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.TIMER;
+    }
+
+    @Override
+    public Duration[] getTimerSLOs() {
+      return BUCKETS;
+    }
+  },
+
   /** Number of times batch processing failed due to reaching batch limit and was retried */
   BATCH_PROCESSING_RETRIES {
     @Override
@@ -188,6 +247,31 @@ public enum StreamMetricsDoc implements ExtendedMeterDocumentation {
     }
   },
 
+  /** Number of events replayed within a single transaction */
+  REPLAY_BATCH_SIZE {
+    private static final double[] BUCKETS = {1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 5000};
+
+    @Override
+    public String getDescription() {
+      return "Number of events replayed within a single transaction";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.replay.batch.size";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.DISTRIBUTION_SUMMARY;
+    }
+
+    @Override
+    public double[] getDistributionSLOs() {
+      return BUCKETS;
+    }
+  },
+
   /** Time for replay a batch of events (in seconds) */
   REPLAY_DURATION {
     @Override
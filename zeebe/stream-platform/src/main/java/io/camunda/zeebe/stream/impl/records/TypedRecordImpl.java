@@ -7,7 +7,10 @@
  */
 package io.camunda.zeebe.stream.impl.records;
 
+import static io.camunda.zeebe.stream.impl.TypedEventRegistry.EVENT_REGISTRY;
+
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.camunda.zeebe.logstreams.impl.log.LoggedEventImpl;
 import io.camunda.zeebe.logstreams.log.LoggedEvent;
 import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
@@ -18,8 +21,10 @@ import io.camunda.zeebe.protocol.record.RejectionType;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.util.ReflectUtil;
 import io.camunda.zeebe.util.StringUtil;
 import java.util.Map;
+import org.agrona.concurrent.UnsafeBuffer;
 
 public final class TypedRecordImpl implements TypedRecord {
   private final int partitionId;
@@ -38,6 +43,27 @@ public final class TypedRecordImpl implements TypedRecord {
     this.value = value;
   }
 
+  /**
+   * Returns a copy of this record which doesn't share any buffer with it, such that it remains
+   * valid when this record, or the event it wraps, is reused for the next record.
+   */
+  public TypedRecordImpl copy() {
+    final var buffer = new UnsafeBuffer(new byte[rawEvent.getLength()]);
+    rawEvent.write(buffer, 0);
+    final var eventCopy = new LoggedEventImpl();
+    eventCopy.wrap(buffer, 0);
+
+    final var metadataCopy = new RecordMetadata();
+    eventCopy.readMetadata(metadataCopy);
+    final UnifiedRecordValue valueCopy =
+        ReflectUtil.newInstance(EVENT_REGISTRY.get(metadataCopy.getValueType()));
+    eventCopy.readValue(valueCopy);
+
+    final var copy = new TypedRecordImpl(partitionId);
+    copy.wrap(eventCopy, metadataCopy, valueCopy);
+    return copy;
+  }
+
   @JsonIgnore
   public RecordMetadata getMetadata() {
     return metadata;
@@ -0,0 +1,278 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ACTIVATE_ELEMENT;
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ELEMENT_ACTIVATING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.stream.api.ProcessingResult;
+import io.camunda.zeebe.stream.api.ProcessingResultBuilder;
+import io.camunda.zeebe.stream.api.RecordProcessor;
+import io.camunda.zeebe.stream.api.RecordProcessorContext;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.stream.impl.metrics.StreamMetricsDoc;
+import io.camunda.zeebe.stream.impl.state.DbKeyGenerator;
+import io.camunda.zeebe.stream.util.RecordToWrite;
+import io.camunda.zeebe.stream.util.Records;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.verification.VerificationWithTimeout;
+
+@ExtendWith(StreamPlatformExtension.class)
+final class StreamProcessorPipelinedProcessingTest {
+
+  private static final long TIMEOUT_MILLIS = 2_000L;
+  private static final VerificationWithTimeout TIMEOUT = timeout(TIMEOUT_MILLIS);
+  private static final int KEYS_PER_COMMAND = 3;
+
+  @SuppressWarnings("unused") // injected by the extension
+  private StreamPlatform streamPlatform;
+
+  @Test
+  void shouldRespondInOrderOfCommands() {
+    // given
+    final var processor = new KeyGeneratingProcessor(Set.of());
+    startPipelinedStreamProcessor(processor);
+
+    // when
+    writeCommands(3);
+
+    // then
+    final var commandResponseWriter = streamPlatform.getMockCommandResponseWriter();
+    verify(commandResponseWriter, TIMEOUT.times(3)).tryWriteResponse(anyInt(), anyLong());
+
+    // the processor responds with the position of the command as key
+    final var inOrder = inOrder(commandResponseWriter);
+    inOrder.verify(commandResponseWriter).key(1L);
+    inOrder.verify(commandResponseWriter).key(2L);
+    inOrder.verify(commandResponseWriter).key(3L);
+  }
+
+  @Test
+  void shouldCommitStateOfPipelinedCommands() {
+    // given
+    final var processor = new KeyGeneratingProcessor(Set.of());
+    startPipelinedStreamProcessor(processor);
+    final var keyGenerator = newKeyGenerator(processor);
+    final var firstKey = keyGenerator.nextKey();
+
+    // when
+    writeCommands(3);
+
+    // then
+    awaitLastProcessedPosition(3);
+    assertThat(keyGenerator.nextKey()).isEqualTo(firstKey + 3 * KEYS_PER_COMMAND + 1);
+  }
+
+  @Test
+  void shouldKeepStateOfPipelinedCommandsWhenProcessingFails() {
+    // given - the second command fails after generating keys
+    final var processor = new KeyGeneratingProcessor(Set.of(2L));
+    startPipelinedStreamProcessor(processor);
+    final var keyGenerator = newKeyGenerator(processor);
+    final var firstKey = keyGenerator.nextKey();
+
+    // when
+    writeCommands(3);
+
+    // then - only the keys of the failed command are rolled back
+    awaitLastProcessedPosition(3);
+    assertThat(keyGenerator.nextKey()).isEqualTo(firstKey + 2 * KEYS_PER_COMMAND + 1);
+  }
+
+  @Test
+  void shouldNotifyListenerWithEachPipelinedCommand() {
+    // given
+    final var processor = new KeyGeneratingProcessor(Set.of());
+    startPipelinedStreamProcessor(processor);
+
+    // when
+    writeCommands(3);
+
+    // then
+    final var captor = ArgumentCaptor.forClass(TypedRecord.class);
+    verify(streamPlatform.getMockStreamProcessorListener(), TIMEOUT.times(3))
+        .onProcessed(captor.capture());
+    assertThat(captor.getAllValues())
+        .extracting(TypedRecord::getPosition)
+        .containsExactly(1L, 2L, 3L);
+  }
+
+  @Test
+  void shouldObserveCommandsPerCommit() {
+    // given
+    final var meterRegistry = new SimpleMeterRegistry();
+    startPipelinedStreamProcessor(
+        new KeyGeneratingProcessor(Set.of()), cfg -> cfg.meterRegistry(meterRegistry));
+
+    // when
+    writeCommands(3);
+
+    // then
+    awaitLastProcessedPosition(3);
+    final var commandsPerCommit =
+        meterRegistry.get(StreamMetricsDoc.COMMIT_COMMANDS.getName()).summary();
+    final var commitLatency = meterRegistry.get(StreamMetricsDoc.COMMIT_LATENCY.getName()).timer();
+    assertThat(commandsPerCommit.totalAmount()).isEqualTo(3);
+    assertThat(commitLatency.count()).isEqualTo(commandsPerCommit.count());
+  }
+
+  @Test
+  void shouldCommitWhenMaxCommandsInCommitIsReached() {
+    // given
+    final var meterRegistry = new SimpleMeterRegistry();
+    final var processor = new KeyGeneratingProcessor(Set.of());
+    startPipelinedStreamProcessor(
+        processor, cfg -> cfg.maxCommandsInCommit(1).meterRegistry(meterRegistry));
+    final var keyGenerator = newKeyGenerator(processor);
+    final var firstKey = keyGenerator.nextKey();
+
+    // when
+    writeCommands(3);
+
+    // then
+    awaitLastProcessedPosition(3);
+    final var commandsPerCommit =
+        meterRegistry.get(StreamMetricsDoc.COMMIT_COMMANDS.getName()).summary();
+    assertThat(commandsPerCommit.count()).isEqualTo(3);
+    assertThat(commandsPerCommit.max()).isOne();
+    assertThat(keyGenerator.nextKey()).isEqualTo(firstKey + 3 * KEYS_PER_COMMAND + 1);
+  }
+
+  @Test
+  void shouldCommitWhenMaxCommitSizeIsReached() {
+    // given - every command exceeds the size on its own
+    final var meterRegistry = new SimpleMeterRegistry();
+    startPipelinedStreamProcessor(
+        new KeyGeneratingProcessor(Set.of()),
+        cfg -> cfg.maxCommitSize(1).meterRegistry(meterRegistry));
+
+    // when
+    writeCommands(3);
+
+    // then
+    awaitLastProcessedPosition(3);
+    final var commandsPerCommit =
+        meterRegistry.get(StreamMetricsDoc.COMMIT_COMMANDS.getName()).summary();
+    assertThat(commandsPerCommit.max()).isOne();
+  }
+
+  private void startPipelinedStreamProcessor(final RecordProcessor processor) {
+    startPipelinedStreamProcessor(processor, cfg -> {});
+  }
+
+  private void startPipelinedStreamProcessor(
+      final RecordProcessor processor, final Consumer<StreamProcessorBuilder> configuration) {
+    streamPlatform
+        .withRecordProcessors(List.of(processor))
+        .buildStreamProcessor(
+            streamPlatform.getLogStream(),
+            true,
+            cfg -> configuration.accept(cfg.enablePipelinedProcessing(true)));
+  }
+
+  private void writeCommands(final int count) {
+    final var commands = new RecordToWrite[count];
+    for (int i = 0; i < count; i++) {
+      commands[i] =
+          RecordToWrite.userCommand()
+              .processInstance(ACTIVATE_ELEMENT, Records.processInstance(i + 1));
+    }
+    streamPlatform.writeBatch(commands);
+  }
+
+  private DbKeyGenerator newKeyGenerator(final KeyGeneratingProcessor processor) {
+    final var zeebeDb = processor.context.getZeebeDb();
+    return new DbKeyGenerator(1, zeebeDb, zeebeDb.createContext());
+  }
+
+  private void awaitLastProcessedPosition(final long position) {
+    Awaitility.await("until all commands are processed and committed")
+        .untilAsserted(
+            () ->
+                assertThat(
+                        streamPlatform.getStreamProcessor().getLastProcessedPositionAsync().join())
+                    .isEqualTo(position));
+  }
+
+  /**
+   * Generates keys for each command and responds to it with its position as key. Fails the commands
+   * at the given positions after generating their keys.
+   */
+  private static final class KeyGeneratingProcessor implements RecordProcessor {
+    private final Set<Long> failingPositions;
+    private RecordProcessorContext context;
+
+    private KeyGeneratingProcessor(final Set<Long> failingPositions) {
+      this.failingPositions = failingPositions;
+    }
+
+    @Override
+    public void init(final RecordProcessorContext recordProcessorContext) {
+      context = recordProcessorContext;
+    }
+
+    @Override
+    public boolean accepts(final ValueType valueType) {
+      return true;
+    }
+
+    @Override
+    public void replay(final TypedRecord record) {}
+
+    @Override
+    public ProcessingResult process(
+        final TypedRecord record, final ProcessingResultBuilder processingResultBuilder) {
+      final var keyGenerator =
+          new DbKeyGenerator(1, context.getZeebeDb(), context.getTransactionContext());
+      for (int i = 0; i < KEYS_PER_COMMAND; i++) {
+        keyGenerator.nextKey();
+      }
+
+      if (failingPositions.contains(record.getPosition())) {
+        throw new RuntimeException("expected");
+      }
+
+      return processingResultBuilder
+          .withResponse(
+              RecordType.EVENT,
+              record.getPosition(),
+              ELEMENT_ACTIVATING,
+              record.getValue(),
+              ValueType.PROCESS_INSTANCE,
+              RejectionType.NULL_VAL,
+              "",
+              record.getRequestId(),
+              record.getRequestStreamId())
+          .build();
+    }
+
+    @Override
+    public ProcessingResult onProcessingError(
+        final Throwable processingException,
+        final TypedRecord record,
+        final ProcessingResultBuilder processingResultBuilder) {
+      return processingResultBuilder.build();
+    }
+  }
+}
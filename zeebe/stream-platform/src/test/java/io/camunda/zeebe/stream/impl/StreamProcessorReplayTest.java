@@ -27,9 +27,11 @@ import io.camunda.zeebe.stream.api.ProcessingResultBuilder;
 import io.camunda.zeebe.stream.api.RecordProcessor;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
 import io.camunda.zeebe.stream.impl.StreamProcessor.Phase;
+import io.camunda.zeebe.stream.impl.metrics.StreamMetricsDoc;
 import io.camunda.zeebe.stream.util.RecordToWrite;
 import io.camunda.zeebe.stream.util.Records;
 import io.camunda.zeebe.test.util.junit.RegressionTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -164,6 +166,56 @@ final class StreamProcessorReplayTest {
     assertThat(Protocol.decodeKeyInPartition(streamPlatform.getCurrentKey())).isEqualTo(19L);
   }
 
+  @Test
+  void shouldReplayMultipleCommandsInOneTransaction() {
+    // given
+    writeCommandsWithFollowUpEvents(3);
+
+    // when
+    final var streamProcessor =
+        streamPlatform.buildStreamProcessor(
+            streamPlatform.getLogStream(), true, cfg -> cfg.replayBatchSize(10));
+
+    // then
+    verifyReplayedCommandsWithFollowUpEvents(streamProcessor, 3);
+  }
+
+  @Test
+  void shouldCommitReplayBatchOnce() {
+    // given
+    writeCommandsWithFollowUpEvents(3);
+    final var meterRegistry = new SimpleMeterRegistry();
+
+    // when
+    final var streamProcessor =
+        streamPlatform.buildStreamProcessor(
+            streamPlatform.getLogStream(),
+            true,
+            cfg -> cfg.replayBatchSize(10).meterRegistry(meterRegistry));
+
+    // then - the batch size is observed once per committed replay transaction
+    verifyReplayedCommandsWithFollowUpEvents(streamProcessor, 3);
+    final var batchSize = meterRegistry.get(StreamMetricsDoc.REPLAY_BATCH_SIZE.getName()).summary();
+    assertThat(batchSize.count()).isOne();
+    assertThat(batchSize.totalAmount()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldReplayWithPipelinedReads() {
+    // given
+    writeCommandsWithFollowUpEvents(5);
+
+    // when
+    final var streamProcessor =
+        streamPlatform.buildStreamProcessor(
+            streamPlatform.getLogStream(),
+            true,
+            cfg -> cfg.replayBatchSize(2).enablePipelinedReplay(true));
+
+    // then
+    verifyReplayedCommandsWithFollowUpEvents(streamProcessor, 5);
+  }
+
   @Test
   void shouldRestoreFromSnapshot() throws Exception {
     // given
@@ -390,4 +442,33 @@ final class StreamProcessorReplayTest {
     // then
     assertThat(Protocol.decodeKeyInPartition(streamPlatform.getCurrentKey())).isEqualTo(19L);
   }
+
+  private void writeCommandsWithFollowUpEvents(final int count) {
+    for (int i = 1; i <= count; i++) {
+      streamPlatform.writeBatch(
+          RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(i)),
+          RecordToWrite.event()
+              .processInstance(ELEMENT_ACTIVATING, Records.processInstance(i))
+              .key(Protocol.encodePartitionId(1, i))
+              .causedBy(0));
+    }
+  }
+
+  private void verifyReplayedCommandsWithFollowUpEvents(
+      final StreamProcessor streamProcessor, final int count) {
+    final RecordProcessor recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    verify(recordProcessor, timeout(TIMEOUT_MILLIS).times(count)).replay(any());
+    verify(recordProcessor, never()).process(any(), any());
+
+    // the last command with follow-up events is at position 2 * count - 1
+    final long lastProcessedPosition = 2L * count - 1;
+    Awaitility.await("position has to be set on processing start")
+        .untilAsserted(
+            () ->
+                assertThat(streamProcessor.getLastProcessedPositionAsync().join())
+                    .isEqualTo(lastProcessedPosition));
+    assertThat(streamPlatform.getLastSuccessfulProcessedRecordPosition())
+        .isEqualTo(lastProcessedPosition);
+    assertThat(Protocol.decodeKeyInPartition(streamPlatform.getCurrentKey())).isEqualTo(count);
+  }
 }
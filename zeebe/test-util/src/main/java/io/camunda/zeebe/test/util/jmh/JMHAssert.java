@@ -49,7 +49,8 @@ public final class JMHAssert extends AbstractAssert<JMHAssert, RunResult> {
     if (deviation > maxDeviation) {
       throwAssertionError(
           new BasicErrorMessageFactory(
-              "Expected reference score is %s got %s, deviation %s exceeds maximum allowed deviation %s",
+              "Expected reference score is %s got %s, deviation %s exceeds maximum allowed"
+                  + " deviation %s",
               DECIMAL_FORMAT.format(referenceScore),
               DECIMAL_FORMAT.format(score),
               DECIMAL_FORMAT.format(deviation * 100) + "%",
@@ -74,7 +75,8 @@ public final class JMHAssert extends AbstractAssert<JMHAssert, RunResult> {
     if (score < minimumScore) {
       throwAssertionError(
           new BasicErrorMessageFactory(
-              "Expected reference score to be at least %s (with %s max deviation, i.e. %s), but got %s",
+              "Expected reference score to be at least %s (with %s max deviation, i.e. %s), but got"
+                  + " %s",
               DECIMAL_FORMAT.format(referenceScore),
               DECIMAL_FORMAT.format(maxDeviation * 100) + "%",
               DECIMAL_FORMAT.format(minimumScore),
@@ -83,4 +85,38 @@ public final class JMHAssert extends AbstractAssert<JMHAssert, RunResult> {
 
     return myself;
   }
+
+  /**
+   * Asserts that the given percentile of this benchmark's samples is at most the same percentile of
+   * a reference run, e.g. the same benchmark with different parameters. Useful for latency
+   * benchmarks, where a lower score is better, and where the absolute score depends too much on the
+   * machine to be compared against a fixed baseline.
+   *
+   * @param percentile the percentile to compare, from 0 (exclusive) to 100 (inclusive)
+   * @param reference the result of the reference run
+   * @param maxDeviation the maximum allowed deviation used to compute a real maximum score
+   * @return itself for chaining
+   */
+  @SuppressWarnings("UnusedReturnValue")
+  public JMHAssert hasPercentileAtMost(
+      final double percentile, final RunResult reference, final double maxDeviation) {
+    final double referenceScore =
+        reference.getPrimaryResult().getStatistics().getPercentile(percentile);
+    final double score = actual.getPrimaryResult().getStatistics().getPercentile(percentile);
+    final double maximumScore = referenceScore + referenceScore * maxDeviation;
+
+    if (score > maximumScore) {
+      throwAssertionError(
+          new BasicErrorMessageFactory(
+              "Expected p%s to be at most the reference's %s (with %s max deviation, i.e. %s), but"
+                  + " got %s",
+              DECIMAL_FORMAT.format(percentile),
+              DECIMAL_FORMAT.format(referenceScore),
+              DECIMAL_FORMAT.format(maxDeviation * 100) + "%",
+              DECIMAL_FORMAT.format(maximumScore),
+              DECIMAL_FORMAT.format(score)));
+    }
+
+    return myself;
+  }
 }
@@ -23,6 +23,7 @@ class FeatureFlagsTest {
     assertThat(sut.enableActorMetrics()).isFalse();
     assertThat(sut.enableMessageTTLCheckerAsync()).isFalse();
     assertThat(sut.enablePartitionScaling()).isFalse();
+    assertThat(sut.enableTimerWheel()).isFalse();
   }
 
   @Test
@@ -34,5 +35,6 @@ class FeatureFlagsTest {
     assertThat(sut.yieldingDueDateChecker()).isTrue();
     assertThat(sut.enableMessageTTLCheckerAsync()).isTrue();
     assertThat(sut.enablePartitionScaling()).isTrue();
+    assertThat(sut.enableTimerWheel()).isTrue();
   }
 }
@@ -150,6 +150,17 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
    */
   void deleteIfExists(KeyType key);
 
+  /**
+   * Deletes all key-value pairs with a key in the given range, in key order. This is cheaper than
+   * visiting and deleting each entry, as neither the keys nor the values are deserialized, and the
+   * existence of the keys is not checked.
+   *
+   * @param fromKey the first key of the range, inclusive
+   * @param toKey the end of the range, exclusive
+   * @return the number of deleted key-value pairs
+   */
+  long deleteRange(KeyType fromKey, KeyType toKey);
+
   /**
    * Checks for key existence in the column family.
    *
@@ -175,7 +186,9 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
 
   /**
    * Count the number of entries in the column family which have the same common prefix by iterating
-   * over all its entries. This is an expensive operation and should be used with care.
+   * over all its entries. This is an expensive operation and should be used with care, unless the
+   * column family was created via {@link ZeebeDb#createPrefixCountedColumnFamily}, in which case the
+   * count is a single lookup.
    *
    * @param prefix the prefix which should have the keys in common
    * @return the number of entries in the column family which have the same common prefix
@@ -17,4 +17,10 @@ public interface ColumnFamilyMetrics {
   CloseableSilently measureDeleteLatency();
 
   CloseableSilently measureIterateLatency();
+
+  /** Counts a read which was served by the transaction's read cache. */
+  void countCacheHit();
+
+  /** Counts a read which was not cached, and thus had to go through RocksDB. */
+  void countCacheMiss();
 }
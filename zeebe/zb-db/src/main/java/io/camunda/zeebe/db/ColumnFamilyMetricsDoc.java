@@ -53,6 +53,42 @@ public enum ColumnFamilyMetricsDoc implements ExtendedMeterDocumentation {
       return KEYS;
     }
 
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  },
+
+  /** Number of reads served or missed by the transaction read cache per column family */
+  TRANSACTION_READ_CACHE {
+    private static final KeyName[] KEYS =
+        new KeyName[] {
+          PartitionKeyNames.PARTITION,
+          ColumnFamilyMetricsKeyName.COLUMN_FAMILY,
+          ColumnFamilyMetricsKeyName.CACHE_RESULT
+        };
+
+    @Override
+    public String getName() {
+      return "zeebe.rocksdb.transaction.read.cache";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of reads served (hit) or missed (miss) by the transaction read cache per"
+          + " column family";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return KEYS;
+    }
+
     @Override
     public KeyName[] getAdditionalKeyNames() {
       return PartitionKeyNames.values();
@@ -77,6 +113,16 @@ public enum ColumnFamilyMetricsDoc implements ExtendedMeterDocumentation {
       public String asString() {
         return "operation";
       }
+    },
+    /**
+     * Whether a read was served by the transaction read cache, with value {@link
+     * io.camunda.zeebe.db.ColumnFamilyMetricsDoc.CacheResult}
+     */
+    CACHE_RESULT {
+      @Override
+      public String asString() {
+        return "result";
+      }
     }
   }
 
@@ -101,4 +147,19 @@ public enum ColumnFamilyMetricsDoc implements ExtendedMeterDocumentation {
       return name;
     }
   }
+
+  /** Result of looking up a read in the transaction read cache. */
+  public enum CacheResult {
+    HIT("hit"),
+    MISS("miss");
+    private final String name;
+
+    CacheResult(final String name) {
+      this.name = name;
+    }
+
+    public String getName() {
+      return name;
+    }
+  }
 }
@@ -34,4 +34,13 @@ public interface TransactionContext {
    * @return the transaction object
    */
   ZeebeDbTransaction getCurrentTransaction();
+
+  /**
+   * Registers a listener which is called whenever uncommitted changes are discarded, i.e. when the
+   * transaction is rolled back or rolled back to a save point. This allows to keep in-memory views
+   * of the state, like caches, consistent with the database.
+   *
+   * @param listener the listener to call after the changes were discarded
+   */
+  void addRollbackListener(Runnable listener);
 }
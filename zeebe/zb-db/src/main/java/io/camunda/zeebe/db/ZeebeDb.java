@@ -11,6 +11,7 @@ import io.camunda.zeebe.protocol.EnumValue;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.io.File;
 import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * The zeebe database, to store key value pairs in different column families. The column families
@@ -45,6 +46,35 @@ public interface ZeebeDb<ColumnFamilyType extends Enum<? extends EnumValue> & En
           KeyType keyInstance,
           ValueType valueInstance);
 
+  /**
+   * Creates a column family like {@link #createColumnFamily(Enum, TransactionContext, DbKey,
+   * DbValue)}, which additionally maintains the number of its entries per key prefix. This makes
+   * {@link ColumnFamily#countEqualPrefix(DbKey)} a single lookup instead of an iteration over all
+   * entries with that prefix, at the cost of updating a counter on every insert and delete.
+   *
+   * <p>The counts are only correct if every instance of the column family is created this way,
+   * ever since its first entry was written. Only prefixes returned by the given extractor can be
+   * counted. With preconditions enabled, every count is verified by iterating over the entries.
+   * Counting a prefix of another type than the ones returned by the extractor is rejected with an
+   * {@link IllegalArgumentException}, as it could never match a counted prefix.
+   *
+   * @param <KeyType> the key type of the column family
+   * @param <ValueType> the value type of the column family
+   * @param columnFamily the enum instance of the column family
+   * @param keyInstance this instance defines the type of the column family key type
+   * @param valueInstance this instance defines the type of the column family value type
+   * @param countedPrefix returns the prefix of the given key which is counted, e.g. {@link
+   *     io.camunda.zeebe.db.impl.DbCompositeKey#first()}
+   * @return the created column family instance
+   */
+  <KeyType extends DbKey, ValueType extends DbValue>
+      ColumnFamily<KeyType, ValueType> createPrefixCountedColumnFamily(
+          ColumnFamilyType columnFamily,
+          TransactionContext context,
+          KeyType keyInstance,
+          ValueType valueInstance,
+          Function<KeyType, DbKey> countedPrefix);
+
   /**
    * Creates a snapshot of the current database in the given directory.
    *
@@ -38,4 +38,40 @@ public interface ZeebeDbTransaction {
    * @throws Exception if the underlying database has a non recoverable exception thrown
    */
   void rollback() throws Exception;
+
+  /**
+   * Sets a save point, to which the transaction can later be rolled back via {@link
+   * #rollbackToSavePoint()}. Save points are cleared on commit or rollback.
+   *
+   * @throws ZeebeDbException if the underlying database has a recoverable exception thrown
+   * @throws Exception if the underlying database has a non recoverable exception thrown
+   */
+  void setSavePoint() throws Exception;
+
+  /**
+   * Rolls the transaction back to the latest save point, discarding all changes made after it but
+   * keeping the ones made before it. The save point is removed afterwards.
+   *
+   * @throws ZeebeDbException if the underlying database has a recoverable exception thrown
+   * @throws Exception if the underlying database has a non recoverable exception thrown
+   */
+  void rollbackToSavePoint() throws Exception;
+
+  /**
+   * Releases the latest save point without rolling back any changes, e.g. once the changes made
+   * after it are accepted and don't need to be discarded separately anymore.
+   *
+   * @throws ZeebeDbException if the underlying database has a recoverable exception thrown
+   * @throws Exception if the underlying database has a non recoverable exception thrown
+   */
+  void releaseSavePoint() throws Exception;
+
+  /**
+   * Returns the approximate size in bytes of the changes made in this transaction since the last
+   * commit or rollback. This can be used to bound the size of a transaction which groups many
+   * changes before committing them.
+   *
+   * @return the size in bytes of the uncommitted changes
+   */
+  long getUncommittedSize();
 }
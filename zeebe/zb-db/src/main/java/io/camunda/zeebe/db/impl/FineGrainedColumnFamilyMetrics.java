@@ -13,6 +13,7 @@ import io.camunda.zeebe.db.ColumnFamilyMetrics;
 import io.camunda.zeebe.protocol.EnumValue;
 import io.camunda.zeebe.util.CloseableSilently;
 import io.camunda.zeebe.util.micrometer.MicrometerUtil;
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import java.util.Objects;
@@ -23,6 +24,8 @@ public final class FineGrainedColumnFamilyMetrics implements ColumnFamilyMetrics
   private final Timer put;
   private final Timer delete;
   private final Timer iterate;
+  private final Counter cacheHits;
+  private final Counter cacheMisses;
   private final MeterRegistry registry;
 
   public <ColumnFamilyNames extends Enum<? extends EnumValue> & EnumValue>
@@ -34,6 +37,8 @@ public final class FineGrainedColumnFamilyMetrics implements ColumnFamilyMetrics
     put = createTimer(columnFamilyLabel, OperationType.PUT);
     delete = createTimer(columnFamilyLabel, OperationType.DELETE);
     iterate = createTimer(columnFamilyLabel, OperationType.ITERATE);
+    cacheHits = createCacheCounter(columnFamilyLabel, CacheResult.HIT);
+    cacheMisses = createCacheCounter(columnFamilyLabel, CacheResult.MISS);
   }
 
   @Override
@@ -56,6 +61,27 @@ public final class FineGrainedColumnFamilyMetrics implements ColumnFamilyMetrics
     return MicrometerUtil.timer(iterate, Timer.start(registry));
   }
 
+  @Override
+  public void countCacheHit() {
+    cacheHits.increment();
+  }
+
+  @Override
+  public void countCacheMiss() {
+    cacheMisses.increment();
+  }
+
+  private Counter createCacheCounter(final String columnFamily, final CacheResult result) {
+    return Counter.builder(TRANSACTION_READ_CACHE.getName())
+        .description(TRANSACTION_READ_CACHE.getDescription())
+        .tags(
+            ColumnFamilyMetricsKeyName.COLUMN_FAMILY.asString(),
+            columnFamily,
+            ColumnFamilyMetricsKeyName.CACHE_RESULT.asString(),
+            result.getName())
+        .register(registry);
+  }
+
   private Timer createTimer(final String columnFamily, final OperationType type) {
     return Timer.builder(LATENCY.getName())
         .description(LATENCY.getDescription())
@@ -0,0 +1,59 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb;
+
+import io.camunda.zeebe.protocol.EnumValue;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * A column family which is stored in its own physical RocksDB column family, instead of sharing the
+ * default one with all other column families. This allows tuning its memtables, filters and
+ * compaction for the way it is accessed, and keeps its compactions from rewriting unrelated data.
+ *
+ * <p>Keys keep the same format in a dedicated column family, i.e. they are still prefixed with the
+ * column family's value. This makes moving entries between the default and a dedicated column
+ * family a plain copy, which is what allows changing the layout of an existing database when
+ * opening it.
+ *
+ * @param name the name of the column family, used for logging only
+ * @param prefix the value of the column family, i.e. the prefix of all of its keys
+ * @param accessPattern how the column family is mostly accessed, which determines its options
+ */
+public record DedicatedColumnFamily(String name, int prefix, AccessPattern accessPattern) {
+
+  /**
+   * Physical column families are named after the prefix, and not the name, of the column family, so
+   * that renaming a column family does not change the layout of the database.
+   */
+  private static final String PHYSICAL_NAME_PREFIX = "zb-cf-";
+
+  public DedicatedColumnFamily {
+    Objects.requireNonNull(name, "must specify a name");
+    Objects.requireNonNull(accessPattern, "must specify an access pattern");
+  }
+
+  public static <ColumnFamilyType extends Enum<?> & EnumValue> DedicatedColumnFamily of(
+      final ColumnFamilyType columnFamily, final AccessPattern accessPattern) {
+    return new DedicatedColumnFamily(columnFamily.name(), columnFamily.getValue(), accessPattern);
+  }
+
+  /**
+   * @return the name of the physical RocksDB column family storing this column family
+   */
+  public byte[] physicalName() {
+    return (PHYSICAL_NAME_PREFIX + prefix).getBytes(StandardCharsets.UTF_8);
+  }
+
+  public enum AccessPattern {
+    /** Mostly read and written by full key, e.g. entities looked up by their key. */
+    POINT_LOOKUP,
+    /** Mostly iterated in key order, e.g. entries indexed by a due date or by a parent key. */
+    RANGE_SCAN
+  }
+}
@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 
 public final class RocksDbConfiguration {
@@ -29,6 +31,10 @@ public final class RocksDbConfiguration {
    * files will be copied. In addition, if there are multiple column families, log files will be
    * copied for the period covering the start and end of the checkpoint, in order to provide a
    * consistent snapshot across column families. <<<
+   *
+   * <p>When using {@link #setDedicatedColumnFamilies(List) dedicated column families}, all column
+   * families are flushed atomically, such that a checkpoint is consistent across them even without
+   * WAL.
    */
   public static final boolean DEFAULT_WAL_DISABLED = true;
 
@@ -43,6 +49,13 @@ public final class RocksDbConfiguration {
 
   public static final int DEFAULT_IO_RATE_BYTES_PER_SECOND = 0;
 
+  /**
+   * The number of values read within a transaction which are cached until it ends, such that
+   * reading the same key repeatedly does not have to go through RocksDB again. The cache is
+   * disabled if this is 0.
+   */
+  public static final int DEFAULT_TRANSACTION_READ_CACHE_SIZE = 0;
+
   private Properties columnFamilyOptions = new Properties();
   private boolean statisticsEnabled = DEFAULT_STATISTICS_ENABLED;
   private long memoryLimit = DEFAULT_MEMORY_LIMIT;
@@ -72,6 +85,10 @@ public final class RocksDbConfiguration {
    */
   private int ioRateBytesPerSecond = DEFAULT_IO_RATE_BYTES_PER_SECOND;
 
+  private List<DedicatedColumnFamily> dedicatedColumnFamilies = new ArrayList<>();
+
+  private int transactionReadCacheSize = DEFAULT_TRANSACTION_READ_CACHE_SIZE;
+
   public RocksDbConfiguration() {}
 
   public Properties getColumnFamilyOptions() {
@@ -155,4 +172,38 @@ public final class RocksDbConfiguration {
     this.sstPartitioningEnabled = sstPartitioningEnabled;
     return this;
   }
+
+  public List<DedicatedColumnFamily> getDedicatedColumnFamilies() {
+    return dedicatedColumnFamilies;
+  }
+
+  /**
+   * Sets the column families which are stored in their own physical RocksDB column family, with
+   * options tuned for their access pattern. All other column families share the default one.
+   *
+   * <p>The layout of an existing database is migrated when opening it, so this can be changed
+   * between restarts, and snapshots taken with any layout can be opened.
+   */
+  public RocksDbConfiguration setDedicatedColumnFamilies(
+      final List<DedicatedColumnFamily> dedicatedColumnFamilies) {
+    this.dedicatedColumnFamilies = dedicatedColumnFamilies;
+    return this;
+  }
+
+  public int getTransactionReadCacheSize() {
+    return transactionReadCacheSize;
+  }
+
+  /**
+   * Sets how many values read within a transaction are cached until it is committed or rolled back,
+   * or 0 to disable the cache. Values written or deleted within the transaction are invalidated
+   * immediately.
+   *
+   * <p>The cache assumes that a transaction is the only one modifying the keys it reads while it is
+   * open, which holds for the stream processor, as the single writer of its partition's state.
+   */
+  public RocksDbConfiguration setTransactionReadCacheSize(final int transactionReadCacheSize) {
+    this.transactionReadCacheSize = transactionReadCacheSize;
+    return this;
+  }
 }
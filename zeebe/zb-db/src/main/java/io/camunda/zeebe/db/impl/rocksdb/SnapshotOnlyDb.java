@@ -16,11 +16,17 @@ import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.protocol.EnumValue;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 import org.agrona.CloseHelper;
 import org.rocksdb.Checkpoint;
+import org.rocksdb.ColumnFamilyDescriptor;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.DBOptions;
 import org.rocksdb.Options;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
@@ -48,6 +54,17 @@ final class SnapshotOnlyDb<ColumnFamilyType extends Enum<? extends EnumValue> &
     throw unsupported("createColumnFamily");
   }
 
+  @Override
+  public <KeyType extends DbKey, ValueType extends DbValue>
+      ColumnFamily<KeyType, ValueType> createPrefixCountedColumnFamily(
+          final ColumnFamilyType columnFamily,
+          final TransactionContext context,
+          final KeyType keyInstance,
+          final ValueType valueInstance,
+          final Function<KeyType, DbKey> countedPrefix) {
+    throw unsupported("createPrefixCountedColumnFamily");
+  }
+
   @Override
   public void createSnapshot(final File snapshotDir) {
     try (final var checkpoint = Checkpoint.create(db)) {
@@ -92,8 +109,26 @@ final class SnapshotOnlyDb<ColumnFamilyType extends Enum<? extends EnumValue> &
       ZeebeDb<ColumnFamilyType> openDb(
           final Options options, final String path, final List<AutoCloseable> managedResources)
           throws RocksDBException {
-    final RocksDB db = RocksDB.openReadOnly(options, path);
+    final var columnFamilyNames = RocksDB.listColumnFamilies(options, path);
+    if (columnFamilyNames.size() <= 1) {
+      final RocksDB db = RocksDB.openReadOnly(options, path);
+      managedResources.add(db);
+      return new SnapshotOnlyDb<>(db, managedResources);
+    }
+
+    // with dedicated column families, all of them have to be opened to be part of the snapshot
+    final var dbOptions = new DBOptions(options);
+    managedResources.add(dbOptions);
+    final var cfOptions = new ColumnFamilyOptions(options);
+    managedResources.add(cfOptions);
+    final var descriptors =
+        columnFamilyNames.stream()
+            .map(name -> new ColumnFamilyDescriptor(name, cfOptions))
+            .toList();
+    final List<ColumnFamilyHandle> handles = new ArrayList<>();
+    final RocksDB db = RocksDB.openReadOnly(dbOptions, path, descriptors, handles);
     managedResources.add(db);
+    managedResources.addAll(handles);
 
     return new SnapshotOnlyDb<>(db, managedResources);
   }
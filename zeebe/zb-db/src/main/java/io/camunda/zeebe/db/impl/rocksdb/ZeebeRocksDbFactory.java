@@ -19,7 +19,9 @@ import java.io.File;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.function.Supplier;
@@ -42,11 +44,20 @@ import org.rocksdb.SstPartitionerFixedPrefixFactory;
 import org.rocksdb.Statistics;
 import org.rocksdb.StatsLevel;
 import org.rocksdb.TableFormatConfig;
+import org.rocksdb.WriteBufferManager;
 
 public final class ZeebeRocksDbFactory<
         ColumnFamilyType extends Enum<? extends EnumValue> & EnumValue>
     implements ZeebeDbFactory<ColumnFamilyType> {
 
+  // this is a current guess and candidate for further tuning
+  // values can be between 0 and 0.25 (anything higher gets clamped to 0.25), we randomly picked
+  // 0.15
+  // prefix seek must be fast, so we allocate some extra memory of a single memtable budget to
+  // create
+  // a filter for each memtable, allowing us to skip the prefixes if possible
+  private static final double MEMTABLE_FILTER_MEMORY_RATIO = 0.15;
+
   static {
     RocksDB.loadLibrary();
   }
@@ -108,15 +119,35 @@ public final class ZeebeRocksDbFactory<
   }
 
   private RocksDbOptions prepareOptions(final List<AutoCloseable> managedResources) {
+    // the block cache is shared by all column families, and has to be closed after them
+    final var blockCache = createBlockCache(managedResources, blockCacheCapacity());
     // column family options have to be closed as last
-    final var columnFamilyOptions = createColumnFamilyOptions(managedResources);
+    final var columnFamilyOptions = createColumnFamilyOptions(managedResources, blockCache);
     managedResources.add(columnFamilyOptions);
-    final var dbOptions = createDefaultDbOptions(managedResources);
+    final var dedicatedColumnFamilyOptions =
+        createDedicatedColumnFamilyOptions(managedResources, blockCache);
+    managedResources.addAll(dedicatedColumnFamilyOptions.values());
+    final var dbOptions = createDefaultDbOptions(managedResources, blockCache);
     managedResources.add(dbOptions);
-    return new RocksDbOptions(dbOptions, columnFamilyOptions);
+    return new RocksDbOptions(dbOptions, columnFamilyOptions, dedicatedColumnFamilyOptions);
+  }
+
+  /**
+   * With dedicated column families, each of them has its own memtables. To keep the total memory
+   * within the configured limit, the memtables of all column families are then charged to the block
+   * cache, which is therefore sized to the whole limit.
+   */
+  private long blockCacheCapacity() {
+    final var totalMemoryBudget = rocksDbConfiguration.getMemoryLimit();
+    return hasDedicatedColumnFamilies() ? totalMemoryBudget : totalMemoryBudget / 3;
+  }
+
+  private boolean hasDedicatedColumnFamilies() {
+    return !rocksDbConfiguration.getDedicatedColumnFamilies().isEmpty();
   }
 
-  private DBOptions createDefaultDbOptions(final List<AutoCloseable> closeables) {
+  private DBOptions createDefaultDbOptions(
+      final List<AutoCloseable> closeables, final LRUCache blockCache) {
     final var props = new Properties();
     props.put("file_checksum_gen_factory", "FileChecksumGenCrc32cFactory");
     //    Enables full file checksum
@@ -129,8 +160,8 @@ public final class ZeebeRocksDbFactory<
             .setMaxOpenFiles(rocksDbConfiguration.getMaxOpenFiles())
             // 1 flush, 1 compaction
             .setMaxBackgroundJobs(2)
-            // we only use the default CF
-            .setCreateMissingColumnFamilies(false)
+            // we only use the default CF, unless some column families are dedicated
+            .setCreateMissingColumnFamilies(hasDedicatedColumnFamilies())
             // may not be necessary when WAL is disabled, but nevertheless recommended to avoid
             // many small SST files
             .setAvoidFlushDuringRecovery(true)
@@ -149,6 +180,18 @@ public final class ZeebeRocksDbFactory<
       dbOptions.setRateLimiter(rateLimiter);
     }
 
+    if (hasDedicatedColumnFamilies()) {
+      final var totalMemoryBudget = rocksDbConfiguration.getMemoryLimit();
+      final var writeBufferManager =
+          new WriteBufferManager(totalMemoryBudget - totalMemoryBudget / 3, blockCache);
+      closeables.add(writeBufferManager);
+      dbOptions
+          .setWriteBufferManager(writeBufferManager)
+          // the WAL is usually disabled, so flushing all column families together is what keeps
+          // them consistent with each other, e.g. when taking a checkpoint
+          .setAtomicFlush(true);
+    }
+
     if (rocksDbConfiguration.isStatisticsEnabled()) {
       final var statistics = new Statistics();
       closeables.add(statistics);
@@ -168,6 +211,12 @@ public final class ZeebeRocksDbFactory<
    * @return Options which are used on all column families
    */
   ColumnFamilyOptions createColumnFamilyOptions(final List<AutoCloseable> closeables) {
+    return createColumnFamilyOptions(
+        closeables, createBlockCache(closeables, rocksDbConfiguration.getMemoryLimit() / 3));
+  }
+
+  private ColumnFamilyOptions createColumnFamilyOptions(
+      final List<AutoCloseable> closeables, final LRUCache blockCache) {
     final var userProvidedColumnFamilyOptions = rocksDbConfiguration.getColumnFamilyOptions();
     final var hasUserOptions = !userProvidedColumnFamilyOptions.isEmpty();
 
@@ -175,7 +224,78 @@ public final class ZeebeRocksDbFactory<
       return createFromUserOptions(userProvidedColumnFamilyOptions);
     }
 
-    return createDefaultColumnFamilyOptions(closeables);
+    return createDefaultColumnFamilyOptions(closeables, blockCache);
+  }
+
+  /**
+   * @return options for each dedicated column family, tuned for its access pattern, unless the user
+   *     provided their own column family options, which are then used for all column families
+   */
+  Map<DedicatedColumnFamily, ColumnFamilyOptions> createDedicatedColumnFamilyOptions(
+      final List<AutoCloseable> closeables, final LRUCache blockCache) {
+    final var userProvidedColumnFamilyOptions = rocksDbConfiguration.getColumnFamilyOptions();
+    final var hasUserOptions = !userProvidedColumnFamilyOptions.isEmpty();
+    final var dedicatedOptions = new LinkedHashMap<DedicatedColumnFamily, ColumnFamilyOptions>();
+
+    for (final var columnFamily : rocksDbConfiguration.getDedicatedColumnFamilies()) {
+      final var options =
+          hasUserOptions
+              ? createFromUserOptions(userProvidedColumnFamilyOptions)
+              : createDedicatedColumnFamilyOptions(closeables, blockCache, columnFamily);
+      dedicatedOptions.put(columnFamily, options);
+    }
+
+    return dedicatedOptions;
+  }
+
+  private ColumnFamilyOptions createDedicatedColumnFamilyOptions(
+      final List<AutoCloseable> closeables,
+      final LRUCache blockCache,
+      final DedicatedColumnFamily columnFamily) {
+    final var columnFamilyOptions = new ColumnFamilyOptions();
+    configureMemtablesAndCompaction(columnFamilyOptions);
+
+    // all keys of a dedicated column family share the same 8 byte prefix, so neither a prefix
+    // extractor nor SST partitioning by prefix is of any use here
+    return switch (columnFamily.accessPattern()) {
+      case POINT_LOOKUP -> {
+        final var filter = new BloomFilter(10, false);
+        closeables.add(filter);
+        yield columnFamilyOptions
+            // most reads are gets by full key, so the memtables get a whole key filter as well
+            .setMemtableWholeKeyFiltering(true)
+            .setMemtablePrefixBloomSizeRatio(MEMTABLE_FILTER_MEMORY_RATIO)
+            .setTableFormatConfig(
+                new BlockBasedTableConfig()
+                    .setBlockCache(blockCache)
+                    // smaller blocks mean less data read and cached per lookup
+                    .setBlockSize(16 * 1024L)
+                    .setFormatVersion(5)
+                    .setFilterPolicy(filter)
+                    .setWholeKeyFiltering(true)
+                    .setCacheIndexAndFilterBlocks(true)
+                    .setPinL0FilterAndIndexBlocksInCache(true)
+                    .setCacheIndexAndFilterBlocksWithHighPriority(true)
+                    .setIndexType(IndexType.kBinarySearch)
+                    // hash index within data blocks avoids binary search for point lookups
+                    .setDataBlockIndexType(DataBlockIndexType.kDataBlockBinaryAndHash)
+                    .setDataBlockHashTableUtilRatio(0.75));
+      }
+      case RANGE_SCAN ->
+          columnFamilyOptions.setTableFormatConfig(
+              new BlockBasedTableConfig()
+                  .setBlockCache(blockCache)
+                  // entries are read in order, so larger blocks mean fewer reads per scan
+                  .setBlockSize(64 * 1024L)
+                  .setFormatVersion(5)
+                  // scans always seek, which cannot make use of a filter, so we save the memory
+                  // by not configuring any filter policy
+                  .setWholeKeyFiltering(false)
+                  .setCacheIndexAndFilterBlocks(true)
+                  .setPinL0FilterAndIndexBlocksInCache(true)
+                  .setCacheIndexAndFilterBlocksWithHighPriority(true)
+                  .setIndexType(IndexType.kBinarySearch));
+    };
   }
 
   private ColumnFamilyOptions createFromUserOptions(
@@ -195,9 +315,26 @@ public final class ZeebeRocksDbFactory<
   }
 
   private ColumnFamilyOptions createDefaultColumnFamilyOptions(
-      final List<AutoCloseable> closeables) {
+      final List<AutoCloseable> closeables, final LRUCache blockCache) {
     final var columnFamilyOptions = new ColumnFamilyOptions();
+    configureMemtablesAndCompaction(columnFamilyOptions);
+
+    final var tableConfig = createTableFormatConfig(closeables, blockCache);
 
+    if (rocksDbConfiguration.isSstPartitioningEnabled()) {
+      columnFamilyOptions.setSstPartitionerFactory(
+          new SstPartitionerFixedPrefixFactory(Long.BYTES));
+    }
+
+    return columnFamilyOptions
+        // to extract our column family type (used as prefix) and seek faster
+        .useFixedLengthPrefixExtractor(Long.BYTES)
+        .setMemtablePrefixBloomSizeRatio(MEMTABLE_FILTER_MEMORY_RATIO)
+        // misc
+        .setTableFormatConfig(tableConfig);
+  }
+
+  private void configureMemtablesAndCompaction(final ColumnFamilyOptions columnFamilyOptions) {
     final var totalMemoryBudget = rocksDbConfiguration.getMemoryLimit();
     // recommended by RocksDB, but we could tweak it; keep in mind we're also caching the indexes
     // and filters into the block cache, so we don't need to account for more memory there
@@ -207,29 +344,12 @@ public final class ZeebeRocksDbFactory<
     // since prefix iteration is our bread n butter, we will build an additional filter for each
     // memtable which takes a bit of memory which must be accounted for from the memtable's memory
     final var maxConcurrentMemtableCount = rocksDbConfiguration.getMaxWriteBufferNumber();
-    // this is a current guess and candidate for further tuning
-    // values can be between 0 and 0.25 (anything higher gets clamped to 0.25), we randomly picked
-    // 0.15
-    // prefix seek must be fast, so we allocate some extra memory of a single memtable budget to
-    // create
-    // a filter for each memtable, allowing us to skip the prefixes if possible
-    final var memtablePrefixFilterMemory = 0.15;
     final var memtableMemory =
         Math.round(
             ((totalMemoryBudget - blockCacheMemory) / (double) maxConcurrentMemtableCount)
-                * (1 - memtablePrefixFilterMemory));
-
-    final var tableConfig = createTableFormatConfig(closeables, blockCacheMemory);
+                * (1 - MEMTABLE_FILTER_MEMORY_RATIO));
 
-    if (rocksDbConfiguration.isSstPartitioningEnabled()) {
-      columnFamilyOptions.setSstPartitionerFactory(
-          new SstPartitionerFixedPrefixFactory(Long.BYTES));
-    }
-
-    return columnFamilyOptions
-        // to extract our column family type (used as prefix) and seek faster
-        .useFixedLengthPrefixExtractor(Long.BYTES)
-        .setMemtablePrefixBloomSizeRatio(memtablePrefixFilterMemory)
+    columnFamilyOptions
         // memtables
         // merge at least 3 memtables per L0 file, otherwise all memtables are flushed as individual
         // files
@@ -270,18 +390,19 @@ public final class ZeebeRocksDbFactory<
         // individual file sizes
         // https://github.com/facebook/rocksdb/blob/fd0d35d390e212b617e90d7567102d3e5fd1c706/include/rocksdb/advanced_options.h#L417-L429
         .setTargetFileSizeBase(8 * 1024 * 1024L)
-        .setTargetFileSizeMultiplier(2)
-        // misc
-        .setTableFormatConfig(tableConfig);
+        .setTargetFileSizeMultiplier(2);
   }
 
-  private TableFormatConfig createTableFormatConfig(
-      final List<AutoCloseable> closeables, final long blockCacheMemory) {
+  private LRUCache createBlockCache(final List<AutoCloseable> closeables, final long capacity) {
     // you can use the perf context to check if we're often blocked on the block cache mutex, in
     // which case we want to increase the number of shards (shard count == 2^shardBits)
-    final var cache = new LRUCache(blockCacheMemory, 8, false, 0.15);
+    final var cache = new LRUCache(capacity, 8, false, 0.15);
     closeables.add(cache);
+    return cache;
+  }
 
+  private TableFormatConfig createTableFormatConfig(
+      final List<AutoCloseable> closeables, final LRUCache cache) {
     final var filter = new BloomFilter(10, false);
     closeables.add(filter);
 
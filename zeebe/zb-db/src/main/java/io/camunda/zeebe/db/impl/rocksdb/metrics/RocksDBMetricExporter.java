@@ -7,12 +7,12 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb.metrics;
 
+import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.util.micrometer.StatefulGauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.util.EnumMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
-import org.rocksdb.RocksDB;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -29,7 +29,7 @@ public final class RocksDBMetricExporter {
     this.registry = registry;
   }
 
-  public void exportMetrics(final RocksDB database) {
+  public void exportMetrics(final ZeebeDb<?> database) {
     final long startTime = System.nanoTime();
 
     for (final var metric : RocksDbMetricsDoc.values()) {
@@ -50,12 +50,9 @@ public final class RocksDBMetricExporter {
   }
 
   private void exportMetric(
-      final RocksDB database, final String propertyName, final StatefulGauge gauge) {
+      final ZeebeDb<?> database, final String propertyName, final StatefulGauge gauge) {
     try {
-      final var value = database.getProperty(propertyName);
-      if (value != null) {
-        gauge.set(Double.parseDouble(value));
-      }
+      database.getProperty(propertyName).ifPresent(value -> gauge.set(Double.parseDouble(value)));
     } catch (final Exception exception) {
       LOG.debug("Error occurred on exporting metric {}", propertyName, exception);
     }
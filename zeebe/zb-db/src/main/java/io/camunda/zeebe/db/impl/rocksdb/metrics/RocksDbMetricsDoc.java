@@ -10,6 +10,8 @@ package io.camunda.zeebe.db.impl.rocksdb.metrics;
 import io.camunda.zeebe.util.micrometer.MicrometerUtil.PartitionKeyNames;
 import io.micrometer.common.docs.KeyName;
 import io.micrometer.core.instrument.Meter.Type;
+import java.util.EnumSet;
+import java.util.Set;
 
 @SuppressWarnings("NullableProblems")
 public enum RocksDbMetricsDoc implements RocksDbMeterDoc {
@@ -315,6 +317,16 @@ public enum RocksDbMetricsDoc implements RocksDbMeterDoc {
   private static final String WRITE_METRICS_HELP =
       "Properties related to writes, flushes and compactions for RocksDb per column family and partition";
   private static final String WRITE_METRICS_PREFIX = "rocksdb.writes";
+  // reported for the whole database rather than per column family, e.g. for the shared block cache
+  private static final Set<RocksDbMetricsDoc> DATABASE_WIDE_METRICS =
+      EnumSet.of(
+          BLOCK_CACHE_USAGE,
+          BLOCK_CACHE_CAPACITY,
+          BLOCK_CACHE_PINNED_USAGE,
+          IS_WRITE_STOPPED,
+          ACTUAL_DELAYED_WRITE_RATE,
+          NUM_RUNNING_FLUSHES,
+          NUM_RUNNING_COMPACTIONS);
 
   protected String gaugeSuffix() {
     final var propertyName = propertyName();
@@ -324,6 +336,15 @@ public enum RocksDbMetricsDoc implements RocksDbMeterDoc {
     return suffix.replaceAll("-", ".");
   }
 
+  /**
+   * @return true if RocksDB reports the given property for the whole database, false if it is
+   *     reported per column family or unknown
+   */
+  public static boolean isDatabaseWide(final String propertyName) {
+    return DATABASE_WIDE_METRICS.stream()
+        .anyMatch(metric -> metric.propertyName().equals(propertyName));
+  }
+
   @Override
   public String getName() {
     return ZEEBE_NAMESPACE + "." + namespace() + "." + gaugeSuffix();
@@ -0,0 +1,158 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import io.camunda.zeebe.db.impl.ZeebeDbConstants;
+import io.camunda.zeebe.db.impl.rocksdb.DedicatedColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.Loggers;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.FlushOptions;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.Slice;
+import org.rocksdb.WriteBatch;
+import org.rocksdb.WriteOptions;
+import org.slf4j.Logger;
+
+/**
+ * Moves entries between the default and the dedicated physical column families when opening a
+ * database, such that its layout matches the configured {@link DedicatedColumnFamily dedicated
+ * column families}. This allows opening snapshots taken with any layout, and changing the layout
+ * between restarts.
+ *
+ * <p>Entries are moved in batches, each of which atomically writes the entries to their new
+ * location and removes them from the previous one. Moving is idempotent, so if the migration is
+ * interrupted, it is simply continued the next time the database is opened. The writes of the
+ * migration go to the WAL, even if it is otherwise disabled, and all column families are flushed
+ * afterwards, so a crash can never leave an entry in neither location.
+ */
+final class ColumnFamilyLayoutMigration {
+  private static final Logger LOG = Loggers.DB_LOGGER;
+  private static final int BATCH_SIZE = 10_000;
+
+  private final RocksDB db;
+  private final ColumnFamilyHandle defaultHandle;
+  private boolean hasMovedEntries;
+
+  ColumnFamilyLayoutMigration(final RocksDB db, final ColumnFamilyHandle defaultHandle) {
+    this.db = db;
+    this.defaultHandle = defaultHandle;
+  }
+
+  /**
+   * Moves all entries of the given column family which are still in the default physical column
+   * family to its dedicated one.
+   */
+  void moveToDedicated(
+      final DedicatedColumnFamily columnFamily, final ColumnFamilyHandle dedicatedHandle)
+      throws RocksDBException {
+    final byte[] lowerBound = prefixOf(columnFamily.prefix());
+    final byte[] upperBound = prefixOf(columnFamily.prefix() + 1L);
+
+    final long movedEntries = move(defaultHandle, dedicatedHandle, lowerBound, upperBound, true);
+    if (movedEntries > 0) {
+      LOG.info(
+          "Moved {} entries of column family {} to its dedicated column family",
+          movedEntries,
+          columnFamily.name());
+    }
+  }
+
+  /**
+   * Moves all entries of a physical column family which is not dedicated anymore back to the
+   * default one, and drops it afterwards.
+   */
+  void moveToDefault(final ColumnFamilyHandle retiredHandle) throws RocksDBException {
+    // the whole column family is dropped afterwards, so there is no need to delete its entries
+    final long movedEntries = move(retiredHandle, defaultHandle, null, null, false);
+    final var name = new String(retiredHandle.getName(), StandardCharsets.UTF_8);
+    // the entries must be durable before the column family is dropped
+    flush(List.of(defaultHandle));
+    db.dropColumnFamily(retiredHandle);
+    LOG.info(
+        "Moved {} entries of column family {}, which is not dedicated anymore, to the default one",
+        movedEntries,
+        name);
+  }
+
+  /**
+   * Flushes the given column families if any entries were moved, such that the migration does not
+   * have to be repeated after a restart.
+   */
+  void flushIfMoved(final List<ColumnFamilyHandle> handles) throws RocksDBException {
+    if (hasMovedEntries) {
+      flush(handles);
+    }
+  }
+
+  private long move(
+      final ColumnFamilyHandle source,
+      final ColumnFamilyHandle target,
+      final byte[] lowerBound,
+      final byte[] upperBound,
+      final boolean deleteFromSource)
+      throws RocksDBException {
+    long movedEntries = 0;
+
+    try (final var upperBoundSlice = upperBound != null ? new Slice(upperBound) : null;
+        final var readOptions = new ReadOptions().setTotalOrderSeek(true);
+        final var writeOptions = new WriteOptions();
+        final var batch = new WriteBatch()) {
+      if (upperBoundSlice != null) {
+        readOptions.setIterateUpperBound(upperBoundSlice);
+      }
+
+      try (final var iterator = db.newIterator(source, readOptions)) {
+        if (lowerBound != null) {
+          iterator.seek(lowerBound);
+        } else {
+          iterator.seekToFirst();
+        }
+
+        for (; iterator.isValid(); iterator.next()) {
+          final byte[] key = iterator.key();
+          batch.put(target, key, iterator.value());
+          if (deleteFromSource) {
+            batch.delete(source, key);
+          }
+          movedEntries++;
+
+          if (movedEntries % BATCH_SIZE == 0) {
+            db.write(writeOptions, batch);
+            batch.clear();
+          }
+        }
+        iterator.status();
+      }
+
+      if (batch.count() > 0) {
+        db.write(writeOptions, batch);
+      }
+    }
+
+    hasMovedEntries |= movedEntries > 0;
+    return movedEntries;
+  }
+
+  private void flush(final List<ColumnFamilyHandle> handles) throws RocksDBException {
+    try (final var flushOptions = new FlushOptions().setWaitForFlush(true)) {
+      db.flush(flushOptions, handles);
+    }
+  }
+
+  private static byte[] prefixOf(final long columnFamilyPrefix) {
+    return ByteBuffer.allocate(Long.BYTES)
+        .order(ZeebeDbConstants.ZB_DB_BYTE_ORDER)
+        .putLong(columnFamilyPrefix)
+        .array();
+  }
+}
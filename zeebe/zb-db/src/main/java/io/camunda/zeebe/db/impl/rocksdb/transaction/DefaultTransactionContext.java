@@ -55,6 +55,11 @@ public final class DefaultTransactionContext implements TransactionContext {
     return transaction;
   }
 
+  @Override
+  public void addRollbackListener(final Runnable listener) {
+    transaction.addRollbackListener(listener);
+  }
+
   private void runInNewTransaction(final TransactionOperation operations) throws Exception {
     try {
       transaction.resetTransaction();
@@ -56,9 +56,12 @@ public final class ForeignKeyChecker {
     final var keyBufferLength = Long.BYTES + foreignKey.getLength();
 
     switch (foreignKey.match()) {
-      case Full -> assertKeyExists(transaction, foreignKey, keyBuffer.byteArray(), keyBufferLength);
+      case Full ->
+          assertKeyExists(
+              transaction, foreignKey, columnFamilyValue, keyBuffer.byteArray(), keyBufferLength);
       case Prefix ->
-          assertPrefixExists(transaction, foreignKey, keyBuffer.byteArray(), keyBufferLength);
+          assertPrefixExists(
+              transaction, foreignKey, columnFamilyValue, keyBuffer.byteArray(), keyBufferLength);
       default ->
           throw new IllegalStateException("Unknown foreign key match type: " + foreignKey.match());
     }
@@ -67,12 +70,13 @@ public final class ForeignKeyChecker {
   private void assertKeyExists(
       final ZeebeTransaction transaction,
       final DbForeignKey<? extends DbKey> foreignKey,
+      final int columnFamilyValue,
       final byte[] key,
       final int keyLength)
       throws Exception {
     final var exists =
         transaction.get(
-                transactionDb.getDefaultNativeHandle(),
+                transactionDb.getColumnFamilyNativeHandle(columnFamilyValue),
                 transactionDb.getReadOptionsNativeHandle(),
                 key,
                 keyLength)
@@ -86,11 +90,13 @@ public final class ForeignKeyChecker {
   private void assertPrefixExists(
       final ZeebeTransaction transaction,
       final DbForeignKey<? extends DbKey> foreignKey,
+      final int columnFamilyValue,
       final byte[] prefix,
       final int prefixLength) {
     try (final var iterator =
         transaction.newIterator(
-            transactionDb.getPrefixReadOptions(), transactionDb.getDefaultHandle())) {
+            transactionDb.getPrefixReadOptions(),
+            transactionDb.getColumnFamilyHandle(columnFamilyValue))) {
 
       final ByteBuffer bufferView = ByteBuffer.wrap(prefix, 0, prefixLength);
       iterator.seek(bufferView);
@@ -0,0 +1,121 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import io.camunda.zeebe.db.DbKey;
+import io.camunda.zeebe.db.impl.ZeebeDbConstants;
+import java.util.function.Function;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Maintains the number of entries per key prefix of a column family, such that counting the
+ * entries with a given prefix is a single point lookup instead of an iteration.
+ *
+ * <p>The counts are stored in the same transaction as the entries themselves, so they are
+ * committed or rolled back together. They live in a reserved key space after all column families:
+ *
+ * <pre>
+ * | PREFIX_COUNTS_KEY_SPACE (8) | column family (8) | prefix | -> count (8)
+ * </pre>
+ *
+ * <p>Prefixes without entries have no count stored, so a count is only correct if the column
+ * family was counted ever since its first entry was written.
+ */
+final class PrefixCounter<KeyType extends DbKey> {
+
+  /** Reserved key space for the counts, sorted after the key space of every column family. */
+  static final long PREFIX_COUNTS_KEY_SPACE = Long.MAX_VALUE;
+
+  private final ZeebeTransactionDb<?> transactionDb;
+  private final long columnFamilyPrefix;
+  private final Function<KeyType, DbKey> prefixExtractor;
+  private final Class<? extends DbKey> prefixType;
+
+  private final ExpandableArrayBuffer keyBuffer = new ExpandableArrayBuffer();
+  private final UnsafeBuffer valueBuffer = new UnsafeBuffer(new byte[Long.BYTES]);
+  private final UnsafeBuffer valueView = new UnsafeBuffer(0, 0);
+  private int keyLength;
+
+  PrefixCounter(
+      final ZeebeTransactionDb<?> transactionDb,
+      final long columnFamilyPrefix,
+      final Function<KeyType, DbKey> prefixExtractor,
+      final KeyType keyInstance) {
+    this.transactionDb = transactionDb;
+    this.columnFamilyPrefix = columnFamilyPrefix;
+    this.prefixExtractor = prefixExtractor;
+    prefixType = prefixExtractor.apply(keyInstance).getClass();
+  }
+
+  /**
+   * @return the number of entries whose key starts with the given prefix
+   * @throws IllegalArgumentException if the prefix is not of the type returned by the prefix
+   *     extractor, as it could never match a counted prefix
+   */
+  long count(final ZeebeTransaction transaction, final DbKey prefix) throws Exception {
+    if (!prefixType.isInstance(prefix)) {
+      throw new IllegalArgumentException(
+          "Expected to count entries with a prefix of type %s, but got %s"
+              .formatted(prefixType.getSimpleName(), prefix));
+    }
+
+    writeKey(prefix);
+    return readCount(transaction);
+  }
+
+  /** Counts a new entry with the given key. */
+  void increment(final ZeebeTransaction transaction, final KeyType key) throws Exception {
+    add(transaction, key, 1);
+  }
+
+  /** Stops counting a removed entry with the given key. */
+  void decrement(final ZeebeTransaction transaction, final KeyType key) throws Exception {
+    add(transaction, key, -1);
+  }
+
+  private void add(final ZeebeTransaction transaction, final KeyType key, final long delta)
+      throws Exception {
+    writeKey(prefixExtractor.apply(key));
+    final long count = readCount(transaction) + delta;
+
+    if (count > 0) {
+      valueBuffer.putLong(0, count, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+      transaction.put(
+          transactionDb.getDefaultNativeHandle(),
+          keyBuffer.byteArray(),
+          keyLength,
+          valueBuffer.byteArray(),
+          Long.BYTES);
+    } else {
+      transaction.delete(transactionDb.getDefaultNativeHandle(), keyBuffer.byteArray(), keyLength);
+    }
+  }
+
+  private long readCount(final ZeebeTransaction transaction) throws Exception {
+    final byte[] value =
+        transaction.get(
+            transactionDb.getDefaultNativeHandle(),
+            transactionDb.getReadOptionsNativeHandle(),
+            keyBuffer.byteArray(),
+            keyLength);
+    if (value == null) {
+      return 0;
+    }
+
+    valueView.wrap(value);
+    return valueView.getLong(0, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+  }
+
+  private void writeKey(final DbKey prefix) {
+    keyBuffer.putLong(0, PREFIX_COUNTS_KEY_SPACE, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+    keyBuffer.putLong(Long.BYTES, columnFamilyPrefix, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+    prefix.write(keyBuffer, 2 * Long.BYTES);
+    keyLength = 2 * Long.BYTES + prefix.getLength();
+  }
+}
@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
+import io.camunda.zeebe.db.impl.rocksdb.DedicatedColumnFamily;
+import java.util.Map;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.DBOptions;
 
@@ -15,11 +17,20 @@ import org.rocksdb.DBOptions;
  * change these depending on its own configuration. As each of the parts must be individually
  * closed, this record allows easily passing both configurations around within Zeebe.
  *
- * <p>While each column family in RocksDB can be configured differently, Zeebe only uses a single
- * RocksDB column family. We therefore don't have to differentiate further than a single database
- * options and a single column family options.
+ * <p>While each column family in RocksDB can be configured differently, Zeebe uses a single RocksDB
+ * column family for all of its column families, unless some are configured to be {@link
+ * DedicatedColumnFamily dedicated}. These then each have their own column family options.
  *
  * @param dbOptions The database options used to open the RocksDB database
  * @param cfOptions The column family options used to open the RocksDB database
+ * @param dedicatedCfOptions The column family options of each dedicated column family
  */
-public record RocksDbOptions(DBOptions dbOptions, ColumnFamilyOptions cfOptions) {}
+public record RocksDbOptions(
+    DBOptions dbOptions,
+    ColumnFamilyOptions cfOptions,
+    Map<DedicatedColumnFamily, ColumnFamilyOptions> dedicatedCfOptions) {
+
+  public RocksDbOptions(final DBOptions dbOptions, final ColumnFamilyOptions cfOptions) {
+    this(dbOptions, cfOptions, Map.of());
+  }
+}
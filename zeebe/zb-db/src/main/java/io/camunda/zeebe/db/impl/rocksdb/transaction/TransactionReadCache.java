@@ -0,0 +1,117 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import java.util.Arrays;
+import org.agrona.BitUtil;
+import org.agrona.collections.Hashing;
+
+/**
+ * A small, direct mapped cache of the values read within a single transaction, keyed by column
+ * family handle and key. It serves repeated reads of the same key without going through the
+ * transaction's write batch and RocksDB's block cache.
+ *
+ * <p>Each key maps to exactly one slot, and a newer entry simply replaces an older one in the same
+ * slot. The cache keeps a reference to the value returned by RocksDB, and copies the key into a
+ * buffer owned by the slot, which is only reallocated if a longer key is stored in it. Absent keys
+ * are cached as well, as checking for existence is as common as reading.
+ *
+ * <p>Entries must be invalidated whenever their key is written, and the whole cache must be cleared
+ * whenever the transaction ends. Clearing is constant time, as it only moves to a new generation.
+ *
+ * <p>This class is not thread-safe, just like the transaction it belongs to.
+ */
+final class TransactionReadCache {
+  private static final int INITIAL_KEY_CAPACITY = 64;
+
+  private final int mask;
+  private final long[] columnFamilies;
+  private final byte[][] keys;
+  private final int[] keyLengths;
+  private final byte[][] values;
+  private final long[] generations;
+
+  /** Slots are only valid if they were written in the current generation, which starts at 1. */
+  private long generation = 1;
+
+  TransactionReadCache(final int capacity) {
+    final int slots = BitUtil.findNextPositivePowerOfTwo(capacity);
+    mask = slots - 1;
+    columnFamilies = new long[slots];
+    keys = new byte[slots][];
+    keyLengths = new int[slots];
+    values = new byte[slots][];
+    generations = new long[slots];
+  }
+
+  /**
+   * @return the slot of the cached entry for the given key, or -1 if it is not cached
+   */
+  int lookup(final long columnFamilyHandle, final byte[] key, final int keyLength) {
+    final int slot = slotOf(columnFamilyHandle, key, keyLength);
+    return matches(slot, columnFamilyHandle, key, keyLength) ? slot : -1;
+  }
+
+  /**
+   * @return the value cached in the given slot, which is null if the key does not exist
+   */
+  byte[] value(final int slot) {
+    return values[slot];
+  }
+
+  /**
+   * Caches the given value for the key, replacing whichever entry was in its slot before.
+   *
+   * @param value the value read for the key, or null if the key does not exist
+   */
+  void store(
+      final long columnFamilyHandle, final byte[] key, final int keyLength, final byte[] value) {
+    final int slot = slotOf(columnFamilyHandle, key, keyLength);
+    byte[] slotKey = keys[slot];
+    if (slotKey == null || slotKey.length < keyLength) {
+      slotKey = new byte[Math.max(keyLength, INITIAL_KEY_CAPACITY)];
+      keys[slot] = slotKey;
+    }
+
+    System.arraycopy(key, 0, slotKey, 0, keyLength);
+    keyLengths[slot] = keyLength;
+    columnFamilies[slot] = columnFamilyHandle;
+    values[slot] = value;
+    generations[slot] = generation;
+  }
+
+  /** Removes the cached entry for the given key, if there is any. */
+  void invalidate(final long columnFamilyHandle, final byte[] key, final int keyLength) {
+    final int slot = slotOf(columnFamilyHandle, key, keyLength);
+    if (matches(slot, columnFamilyHandle, key, keyLength)) {
+      generations[slot] = 0;
+      values[slot] = null;
+    }
+  }
+
+  /** Removes all cached entries. */
+  void clear() {
+    generation++;
+  }
+
+  private boolean matches(
+      final int slot, final long columnFamilyHandle, final byte[] key, final int keyLength) {
+    return generations[slot] == generation
+        && columnFamilies[slot] == columnFamilyHandle
+        && keyLengths[slot] == keyLength
+        && Arrays.equals(keys[slot], 0, keyLength, key, 0, keyLength);
+  }
+
+  private int slotOf(final long columnFamilyHandle, final byte[] key, final int keyLength) {
+    int hash = Long.hashCode(columnFamilyHandle);
+    for (int i = 0; i < keyLength; i++) {
+      hash = 31 * hash + key[i];
+    }
+    return Hashing.hash(hash, mask);
+  }
+}
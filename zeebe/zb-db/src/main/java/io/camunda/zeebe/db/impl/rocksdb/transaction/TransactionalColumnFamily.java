@@ -19,12 +19,15 @@ import io.camunda.zeebe.db.KeyValuePairVisitor;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbInconsistentException;
 import io.camunda.zeebe.protocol.EnumValue;
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import org.agrona.DirectBuffer;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksIterator;
 
@@ -56,6 +59,9 @@ class TransactionalColumnFamily<
   private final ColumnFamilyContext columnFamilyContext;
   private final ForeignKeyChecker foreignKeyChecker;
   private final ColumnFamilyMetrics metrics;
+  private final PrefixCounter<KeyType> prefixCounter;
+  private final ColumnFamilyHandle columnFamilyHandle;
+  private final long columnFamilyNativeHandle;
 
   TransactionalColumnFamily(
       final ZeebeTransactionDb<ColumnFamilyNames> transactionDb,
@@ -65,6 +71,30 @@ class TransactionalColumnFamily<
       final KeyType keyInstance,
       final ValueType valueInstance,
       final ColumnFamilyMetrics metrics) {
+    this(
+        transactionDb,
+        consistencyChecksSettings,
+        columnFamily,
+        context,
+        keyInstance,
+        valueInstance,
+        metrics,
+        null);
+  }
+
+  /**
+   * @param countedPrefix if not null, the number of entries per prefix returned by this function is
+   *     maintained on every write, such that {@link #countEqualPrefix(DbKey)} is a point lookup
+   */
+  TransactionalColumnFamily(
+      final ZeebeTransactionDb<ColumnFamilyNames> transactionDb,
+      final ConsistencyChecksSettings consistencyChecksSettings,
+      final ColumnFamilyNames columnFamily,
+      final TransactionContext context,
+      final KeyType keyInstance,
+      final ValueType valueInstance,
+      final ColumnFamilyMetrics metrics,
+      final Function<KeyType, DbKey> countedPrefix) {
     this.transactionDb = transactionDb;
     this.consistencyChecksSettings = consistencyChecksSettings;
     this.columnFamily = columnFamily;
@@ -73,7 +103,14 @@ class TransactionalColumnFamily<
     this.valueInstance = valueInstance;
     this.metrics = metrics;
     columnFamilyContext = new ColumnFamilyContext(columnFamily.getValue());
+    columnFamilyHandle = transactionDb.getColumnFamilyHandle(columnFamily.getValue());
+    columnFamilyNativeHandle = transactionDb.getColumnFamilyNativeHandle(columnFamily.getValue());
     foreignKeyChecker = new ForeignKeyChecker(transactionDb, consistencyChecksSettings);
+    prefixCounter =
+        countedPrefix != null
+            ? new PrefixCounter<>(
+                transactionDb, columnFamily.getValue(), countedPrefix, keyInstance)
+            : null;
   }
 
   @Override
@@ -86,12 +123,17 @@ class TransactionalColumnFamily<
 
             assertKeyDoesNotExist(transaction);
             assertForeignKeysExist(transaction, key, value);
+            // without preconditions, the key may already exist, in which case it's not a new entry
+            final boolean isNewEntry = prefixCounter != null && !keyExists(transaction);
             transaction.put(
-                transactionDb.getDefaultNativeHandle(),
+                columnFamilyNativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
                 value.getLength());
+            if (isNewEntry) {
+              prefixCounter.increment(transaction, key);
+            }
           });
     }
   }
@@ -106,7 +148,7 @@ class TransactionalColumnFamily<
             assertKeyExists(transaction);
             assertForeignKeysExist(transaction, key, value);
             transaction.put(
-                transactionDb.getDefaultNativeHandle(),
+                columnFamilyNativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
@@ -123,12 +165,16 @@ class TransactionalColumnFamily<
             columnFamilyContext.writeKey(key);
             columnFamilyContext.writeValue(value);
             assertForeignKeysExist(transaction, key, value);
+            final boolean isNewEntry = prefixCounter != null && !keyExists(transaction);
             transaction.put(
-                transactionDb.getDefaultNativeHandle(),
+                columnFamilyNativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
                 value.getLength());
+            if (isNewEntry) {
+              prefixCounter.increment(transaction, key);
+            }
           });
     }
   }
@@ -139,12 +185,7 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            final byte[] value =
-                transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
-                    transactionDb.getReadOptionsNativeHandle(),
-                    columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
+            final byte[] value = readValue(transaction);
             columnFamilyContext.wrapValueView(value);
           });
       final var valueBuffer = columnFamilyContext.getValueView();
@@ -225,10 +266,15 @@ class TransactionalColumnFamily<
           transaction -> {
             columnFamilyContext.writeKey(key);
             assertKeyExists(transaction);
+            // without preconditions, the key may not exist, in which case no entry is removed
+            final boolean isExistingEntry = prefixCounter != null && keyExists(transaction);
             transaction.delete(
-                transactionDb.getDefaultNativeHandle(),
+                columnFamilyNativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength());
+            if (isExistingEntry) {
+              prefixCounter.decrement(transaction, key);
+            }
           });
     }
   }
@@ -239,12 +285,53 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
+            final boolean isExistingEntry = prefixCounter != null && keyExists(transaction);
             transaction.delete(
-                transactionDb.getDefaultNativeHandle(),
+                columnFamilyNativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength());
+            if (isExistingEntry) {
+              prefixCounter.decrement(transaction, key);
+            }
+          });
+    }
+  }
+
+  /**
+   * RocksDB transactions don't support range deletions, as they can't be indexed in the
+   * transaction's write batch. Instead, the keys in the range are deleted one by one from a single
+   * iterator, which still saves the lookups and deserialization of deleting them individually.
+   */
+  @Override
+  public long deleteRange(final KeyType fromKey, final KeyType toKey) {
+    final var deleted = new AtomicLong();
+    try (final var timer = metrics.measureDeleteLatency()) {
+      ensureInOpenTransaction(
+          transaction -> {
+            final var endKey = columnFamilyContext.keyWithColumnFamily(toKey).array();
+            try (final RocksIterator iterator =
+                newIterator(context, transactionDb.getPrefixReadOptions())) {
+              for (iterator.seek(columnFamilyContext.keyWithColumnFamily(fromKey));
+                  iterator.isValid();
+                  iterator.next()) {
+                final byte[] keyBytes = iterator.key();
+                if (Arrays.compareUnsigned(keyBytes, endKey) >= 0) {
+                  break;
+                }
+
+                transaction.delete(columnFamilyNativeHandle, keyBytes, keyBytes.length);
+                if (prefixCounter != null) {
+                  columnFamilyContext.wrapKeyView(keyBytes);
+                  final var keyView = columnFamilyContext.getKeyView();
+                  keyInstance.wrap(keyView, 0, keyView.capacity());
+                  prefixCounter.decrement(transaction, keyInstance);
+                }
+                deleted.incrementAndGet();
+              }
+            }
           });
     }
+    return deleted.get();
   }
 
   @Override
@@ -253,12 +340,7 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            final byte[] value =
-                transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
-                    transactionDb.getReadOptionsNativeHandle(),
-                    columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
+            final byte[] value = readValue(transaction);
             columnFamilyContext.wrapValueView(value);
           });
       return !columnFamilyContext.isValueViewEmpty();
@@ -287,7 +369,17 @@ class TransactionalColumnFamily<
 
   @Override
   public long countEqualPrefix(final DbKey prefix) {
-    return countEachInPrefix(prefix);
+    if (prefixCounter == null) {
+      return countEachInPrefix(prefix);
+    }
+
+    final var count = new AtomicLong();
+    ensureInOpenTransaction(
+        transaction -> {
+          count.set(prefixCounter.count(transaction, prefix));
+          assertPrefixCountMatches(prefix, count.get());
+        });
+    return count.get();
   }
 
   private void assertForeignKeysExist(final ZeebeTransaction transaction, final Object... keys)
@@ -302,16 +394,62 @@ class TransactionalColumnFamily<
     }
   }
 
-  private void assertKeyDoesNotExist(final ZeebeTransaction transaction) throws Exception {
+  private void assertPrefixCountMatches(final DbKey prefix, final long count) {
     if (!consistencyChecksSettings.enablePreconditions()) {
       return;
     }
-    final var value =
+    final long actualCount = countEachInPrefix(prefix);
+    if (actualCount != count) {
+      throw new ZeebeDbInconsistentException(
+          "Expected %d entries with prefix %s in ColumnFamily %s, but counted %d"
+              .formatted(count, prefix, columnFamily, actualCount));
+    }
+  }
+
+  /**
+   * Reads the value of the key currently written to the column family context, going through the
+   * transaction's read cache if it is enabled.
+   *
+   * @return the value, or null if the key does not exist
+   */
+  private byte[] readValue(final ZeebeTransaction transaction) throws Exception {
+    final var keyBuffer = columnFamilyContext.getKeyBufferArray();
+    final var keyLength = columnFamilyContext.getKeyLength();
+    final var readCache = transaction.readCache();
+    if (readCache == null) {
+      return transaction.get(
+          columnFamilyNativeHandle,
+          transactionDb.getReadOptionsNativeHandle(),
+          keyBuffer,
+          keyLength);
+    }
+
+    final int slot = readCache.lookup(columnFamilyNativeHandle, keyBuffer, keyLength);
+    if (slot >= 0) {
+      metrics.countCacheHit();
+      return readCache.value(slot);
+    }
+
+    metrics.countCacheMiss();
+    final byte[] value =
         transaction.get(
-            transactionDb.getDefaultNativeHandle(),
+            columnFamilyNativeHandle,
             transactionDb.getReadOptionsNativeHandle(),
-            columnFamilyContext.getKeyBufferArray(),
-            columnFamilyContext.getKeyLength());
+            keyBuffer,
+            keyLength);
+    readCache.store(columnFamilyNativeHandle, keyBuffer, keyLength, value);
+    return value;
+  }
+
+  private boolean keyExists(final ZeebeTransaction transaction) throws Exception {
+    return readValue(transaction) != null;
+  }
+
+  private void assertKeyDoesNotExist(final ZeebeTransaction transaction) throws Exception {
+    if (!consistencyChecksSettings.enablePreconditions()) {
+      return;
+    }
+    final var value = readValue(transaction);
     if (value != null) {
       throw new ZeebeDbInconsistentException(
           "Key " + keyInstance + " in ColumnFamily " + columnFamily + " already exists");
@@ -322,12 +460,7 @@ class TransactionalColumnFamily<
     if (!consistencyChecksSettings.enablePreconditions()) {
       return;
     }
-    final var value =
-        transaction.get(
-            transactionDb.getDefaultNativeHandle(),
-            transactionDb.getReadOptionsNativeHandle(),
-            columnFamilyContext.getKeyBufferArray(),
-            columnFamilyContext.getKeyLength());
+    final var value = readValue(transaction);
     if (value == null) {
       throw new ZeebeDbInconsistentException(
           "Key " + keyInstance + " in ColumnFamily " + columnFamily + " does not exist");
@@ -346,7 +479,7 @@ class TransactionalColumnFamily<
 
   RocksIterator newIterator(final TransactionContext context, final ReadOptions options) {
     final var currentTransaction = (ZeebeTransaction) context.getCurrentTransaction();
-    return currentTransaction.newIterator(options, transactionDb.getDefaultHandle());
+    return currentTransaction.newIterator(options, columnFamilyHandle);
   }
 
   /**
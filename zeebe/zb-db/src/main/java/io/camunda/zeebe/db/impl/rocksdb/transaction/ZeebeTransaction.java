@@ -12,25 +12,43 @@ import static io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.isRoc
 import io.camunda.zeebe.db.TransactionOperation;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
+import java.util.ArrayList;
+import java.util.List;
 import org.agrona.LangUtil;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
 import org.rocksdb.Transaction;
+import org.rocksdb.WriteBatch;
+import org.rocksdb.WriteBatchWithIndex;
 
 public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
   private final long nativeHandle;
   private final TransactionRenovator transactionRenovator;
+  private final TransactionReadCache readCache;
+  private final List<Runnable> rollbackListeners = new ArrayList<>();
 
   private boolean inCurrentTransaction;
   private Transaction transaction;
+  // the write batch of the transaction is reused with it, so the wrappers are only created when
+  // the transaction is renewed, and not on every access
+  private WriteBatchWithIndex writeBatch;
+  private WriteBatch uncommittedChanges;
 
+  /**
+   * @param readCacheSize the number of reads cached for the duration of a transaction, or 0 to
+   *     disable the cache
+   */
   public ZeebeTransaction(
-      final Transaction transaction, final TransactionRenovator transactionRenovator) {
+      final Transaction transaction,
+      final TransactionRenovator transactionRenovator,
+      final int readCacheSize) {
     this.transactionRenovator = transactionRenovator;
     this.transaction = transaction;
+    readCache = readCacheSize > 0 ? new TransactionReadCache(readCacheSize) : null;
+    wrapWriteBatch();
     try {
       nativeHandle = RocksDbInternal.nativeHandle.getLong(transaction);
     } catch (final Exception ex) {
@@ -45,6 +63,7 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
       final byte[] value,
       final int valueLength)
       throws Exception {
+    invalidateCachedRead(columnFamilyHandle, key, keyLength);
     try {
       final int keyOffset = 0;
       final int valueOffset = 0;
@@ -82,6 +101,7 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
   public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
       throws Exception {
+    invalidateCachedRead(columnFamilyHandle, key, keyLength);
     try {
       RocksDbInternal.removeWithHandle.invokeExact(
           nativeHandle, key, keyLength, columnFamilyHandle, false);
@@ -94,9 +114,18 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     return transaction.getIterator(options, handle);
   }
 
+  /**
+   * @return the cache of the values read within the current transaction, or null if disabled
+   */
+  TransactionReadCache readCache() {
+    return readCache;
+  }
+
   void resetTransaction() {
     transaction = transactionRenovator.renewTransaction(transaction);
+    wrapWriteBatch();
     inCurrentTransaction = true;
+    clearCachedReads();
   }
 
   boolean isInCurrentTransaction() {
@@ -142,14 +171,96 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     }
   }
 
+  /**
+   * Save points are managed on the write batch of the transaction rather than on the transaction
+   * itself, as the transaction API doesn't allow to release a save point again. The write batch
+   * holds all uncommitted changes of the optimistic transaction and drops its save points on commit
+   * or rollback, so this is equivalent except that keys written after a save point stay tracked for
+   * conflict detection when rolling back to it.
+   */
+  @Override
+  public void setSavePoint() {
+    writeBatch.setSavePoint();
+  }
+
+  @Override
+  public void rollbackToSavePoint() throws RocksDBException {
+    try {
+      // the cache may hold values which were written after the save point
+      clearCachedReads();
+      writeBatch.rollbackToSavePoint();
+      notifyRollbackListeners();
+    } catch (final RocksDBException rdbex) {
+      final String errorMessage =
+          "Unexpected error occurred during RocksDB transaction rollback to save point.";
+      if (isRocksDbExceptionRecoverable(rdbex)) {
+        throw new ZeebeDbException(errorMessage, rdbex);
+      }
+      throw rdbex;
+    }
+  }
+
+  @Override
+  public void releaseSavePoint() throws RocksDBException {
+    try {
+      writeBatch.popSavePoint();
+    } catch (final RocksDBException rdbex) {
+      final String errorMessage = "Unexpected error occurred when releasing a RocksDB save point.";
+      if (isRocksDbExceptionRecoverable(rdbex)) {
+        throw new ZeebeDbException(errorMessage, rdbex);
+      }
+      throw rdbex;
+    }
+  }
+
+  @Override
+  public long getUncommittedSize() {
+    return uncommittedChanges.getDataSize();
+  }
+
   void commitInternal() throws RocksDBException {
     inCurrentTransaction = false;
+    clearCachedReads();
     transaction.commit();
   }
 
   void rollbackInternal() throws RocksDBException {
+    // after a commit there are no changes left to discard, so the listeners are not called
+    final boolean discardsChanges = inCurrentTransaction;
     inCurrentTransaction = false;
+    clearCachedReads();
     transaction.rollback();
+    if (discardsChanges) {
+      notifyRollbackListeners();
+    }
+  }
+
+  void addRollbackListener(final Runnable listener) {
+    rollbackListeners.add(listener);
+  }
+
+  private void notifyRollbackListeners() {
+    for (final Runnable listener : rollbackListeners) {
+      listener.run();
+    }
+  }
+
+  private void wrapWriteBatch() {
+    writeBatch = transaction.getWriteBatch();
+    uncommittedChanges = writeBatch.getWriteBatch();
+  }
+
+  private void invalidateCachedRead(
+      final long columnFamilyHandle, final byte[] key, final int keyLength) {
+    if (readCache != null) {
+      readCache.invalidate(columnFamilyHandle, key, keyLength);
+    }
+  }
+
+  private void clearCachedReads() {
+    if (readCache != null) {
+      readCache.clear();
+    }
   }
 
   @Override
@@ -9,6 +9,7 @@ package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
 import io.camunda.zeebe.db.AccessMetricsConfiguration;
 import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ColumnFamilyMetrics;
 import io.camunda.zeebe.db.ConsistencyChecksSettings;
 import io.camunda.zeebe.db.DbKey;
 import io.camunda.zeebe.db.DbValue;
@@ -18,23 +19,33 @@ import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.FineGrainedColumnFamilyMetrics;
 import io.camunda.zeebe.db.impl.NoopColumnFamilyMetrics;
+import io.camunda.zeebe.db.impl.rocksdb.DedicatedColumnFamily;
 import io.camunda.zeebe.db.impl.rocksdb.Loggers;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
 import io.camunda.zeebe.db.impl.rocksdb.metrics.RocksDBMetricExporter;
+import io.camunda.zeebe.db.impl.rocksdb.metrics.RocksDbMetricsDoc;
 import io.camunda.zeebe.protocol.EnumValue;
 import io.camunda.zeebe.util.micrometer.MicrometerUtil;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.collections.Long2LongHashMap;
 import org.rocksdb.Checkpoint;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.OptimisticTransactionDB;
+import org.rocksdb.Options;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
@@ -56,13 +67,17 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
   private final WriteOptions defaultWriteOptions;
   private final ColumnFamilyHandle defaultHandle;
   private final long defaultNativeHandle;
+  private final Int2ObjectHashMap<ColumnFamilyHandle> dedicatedHandles = new Int2ObjectHashMap<>();
+  private final Long2LongHashMap dedicatedNativeHandles;
   private final ConsistencyChecksSettings consistencyChecksSettings;
   private final AccessMetricsConfiguration accessMetricsConfiguration;
   private final MeterRegistry meterRegistry;
   private final RocksDBMetricExporter metricExporter;
+  private final int transactionReadCacheSize;
 
   protected ZeebeTransactionDb(
       final ColumnFamilyHandle defaultHandle,
+      final Map<Integer, ColumnFamilyHandle> dedicatedHandles,
       final OptimisticTransactionDB optimisticTransactionDB,
       final List<AutoCloseable> closables,
       final RocksDbConfiguration rocksDbConfiguration,
@@ -71,12 +86,20 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
       final MeterRegistry meterRegistry) {
     this.defaultHandle = defaultHandle;
     defaultNativeHandle = getNativeHandle(defaultHandle);
+    // column families without a dedicated handle are stored in the default one
+    dedicatedNativeHandles = new Long2LongHashMap(defaultNativeHandle);
+    dedicatedHandles.forEach(
+        (columnFamily, handle) -> {
+          this.dedicatedHandles.put(columnFamily.intValue(), handle);
+          dedicatedNativeHandles.put(columnFamily.intValue(), getNativeHandle(handle));
+        });
     this.optimisticTransactionDB = optimisticTransactionDB;
     this.closables = closables;
     this.consistencyChecksSettings = consistencyChecksSettings;
     this.accessMetricsConfiguration = accessMetricsConfiguration;
     this.meterRegistry = meterRegistry;
     metricExporter = new RocksDBMetricExporter(meterRegistry);
+    transactionReadCacheSize = rocksDbConfiguration.getTransactionReadCacheSize();
 
     prefixReadOptions =
         new ReadOptions()
@@ -103,28 +126,57 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
           final AccessMetricsConfiguration metrics,
           final Supplier<MeterRegistry> meterRegistryFactory)
           throws RocksDBException {
-    final var cfDescriptors =
-        Arrays.asList( // todo: could consider using List.of
-            new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, options.cfOptions()));
+    final var dedicatedColumnFamilies = List.copyOf(options.dedicatedCfOptions().keySet());
+    final var retiredColumnFamilies =
+        listRetiredColumnFamilies(options, path, dedicatedColumnFamilies);
+
+    final List<ColumnFamilyDescriptor> cfDescriptors = new ArrayList<>();
+    cfDescriptors.add(
+        new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, options.cfOptions()));
+    for (final var columnFamily : dedicatedColumnFamilies) {
+      cfDescriptors.add(
+          new ColumnFamilyDescriptor(
+              columnFamily.physicalName(), options.dedicatedCfOptions().get(columnFamily)));
+    }
+    for (final var name : retiredColumnFamilies) {
+      cfDescriptors.add(new ColumnFamilyDescriptor(name, options.cfOptions()));
+    }
+
     final List<ColumnFamilyHandle> cfHandles = new ArrayList<>();
     final OptimisticTransactionDB optimisticTransactionDB =
         OptimisticTransactionDB.open(options.dbOptions(), path, cfDescriptors, cfHandles);
     closables.add(optimisticTransactionDB);
+    // handles have to be closed before the database, even if the column family was dropped
+    closables.addAll(cfHandles);
 
-    if (cfHandles.size() != 1) {
+    if (cfHandles.size() != cfDescriptors.size()) {
       throw new IllegalStateException(
-          "Expected a handle for the default column family but found %d handles"
-              .formatted(cfHandles.size()));
+          "Expected a handle for each of the %d column families but found %d handles"
+              .formatted(cfDescriptors.size(), cfHandles.size()));
     }
 
     final ColumnFamilyHandle defaultColumnFamilyHandle = cfHandles.getFirst();
-    closables.add(defaultColumnFamilyHandle);
+    final Map<Integer, ColumnFamilyHandle> dedicatedHandles = new HashMap<>();
+    final var migration =
+        new ColumnFamilyLayoutMigration(optimisticTransactionDB, defaultColumnFamilyHandle);
+    for (int i = 0; i < dedicatedColumnFamilies.size(); i++) {
+      final var columnFamily = dedicatedColumnFamilies.get(i);
+      final var handle = cfHandles.get(1 + i);
+      migration.moveToDedicated(columnFamily, handle);
+      dedicatedHandles.put(columnFamily.prefix(), handle);
+    }
+    for (final var handle :
+        cfHandles.subList(1 + dedicatedColumnFamilies.size(), cfHandles.size())) {
+      migration.moveToDefault(handle);
+    }
+    migration.flushIfMoved(cfHandles.subList(0, 1 + dedicatedColumnFamilies.size()));
 
     final var meterRegistry = meterRegistryFactory.get();
     closables.add(() -> MicrometerUtil.close(meterRegistry));
 
     return new ZeebeTransactionDb<>(
         defaultColumnFamilyHandle,
+        dedicatedHandles,
         optimisticTransactionDB,
         closables,
         rocksDbConfiguration,
@@ -133,6 +185,35 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
         meterRegistry);
   }
 
+  /**
+   * @return the names of the physical column families of an existing database at the given path,
+   *     which are neither the default nor one of the dedicated column families
+   */
+  private static List<byte[]> listRetiredColumnFamilies(
+      final RocksDbOptions options,
+      final String path,
+      final List<DedicatedColumnFamily> dedicatedColumnFamilies)
+      throws RocksDBException {
+    if (!new File(path, "CURRENT").exists()) {
+      return List.of();
+    }
+
+    final List<byte[]> existingColumnFamilies;
+    try (final var listOptions = new Options(options.dbOptions(), options.cfOptions())) {
+      existingColumnFamilies = RocksDB.listColumnFamilies(listOptions, path);
+    }
+
+    final var knownNames =
+        dedicatedColumnFamilies.stream()
+            .map(DedicatedColumnFamily::physicalName)
+            .map(name -> new String(name, StandardCharsets.UTF_8))
+            .toList();
+    return existingColumnFamilies.stream()
+        .filter(name -> !Arrays.equals(name, RocksDB.DEFAULT_COLUMN_FAMILY))
+        .filter(name -> !knownNames.contains(new String(name, StandardCharsets.UTF_8)))
+        .toList();
+  }
+
   static long getNativeHandle(final RocksObject object) {
     try {
       return RocksDbInternal.nativeHandle.getLong(object);
@@ -158,6 +239,21 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     return defaultNativeHandle;
   }
 
+  /**
+   * @return the handle of the physical column family storing the given column family
+   */
+  protected ColumnFamilyHandle getColumnFamilyHandle(final int columnFamily) {
+    final var handle = dedicatedHandles.get(columnFamily);
+    return handle != null ? handle : defaultHandle;
+  }
+
+  /**
+   * @return the native handle of the physical column family storing the given column family
+   */
+  protected long getColumnFamilyNativeHandle(final int columnFamily) {
+    return dedicatedNativeHandles.get(columnFamily);
+  }
+
   @Override
   public <KeyType extends DbKey, ValueType extends DbValue>
       ColumnFamily<KeyType, ValueType> createColumnFamily(
@@ -165,11 +261,6 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
           final TransactionContext context,
           final KeyType keyInstance,
           final ValueType valueInstance) {
-    final var metrics =
-        switch (accessMetricsConfiguration.kind()) {
-          case NONE -> new NoopColumnFamilyMetrics();
-          case FINE -> new FineGrainedColumnFamilyMetrics(columnFamily, meterRegistry);
-        };
     return new TransactionalColumnFamily<>(
         this,
         consistencyChecksSettings,
@@ -177,7 +268,33 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
         context,
         keyInstance,
         valueInstance,
-        metrics);
+        createMetrics(columnFamily));
+  }
+
+  @Override
+  public <KeyType extends DbKey, ValueType extends DbValue>
+      ColumnFamily<KeyType, ValueType> createPrefixCountedColumnFamily(
+          final ColumnFamilyNames columnFamily,
+          final TransactionContext context,
+          final KeyType keyInstance,
+          final ValueType valueInstance,
+          final Function<KeyType, DbKey> countedPrefix) {
+    return new TransactionalColumnFamily<>(
+        this,
+        consistencyChecksSettings,
+        columnFamily,
+        context,
+        keyInstance,
+        valueInstance,
+        createMetrics(columnFamily),
+        Objects.requireNonNull(countedPrefix, "must specify a counted prefix"));
+  }
+
+  private ColumnFamilyMetrics createMetrics(final ColumnFamilyNames columnFamily) {
+    return switch (accessMetricsConfiguration.kind()) {
+      case NONE -> new NoopColumnFamilyMetrics();
+      case FINE -> new FineGrainedColumnFamilyMetrics(columnFamily, meterRegistry);
+    };
   }
 
   @Override
@@ -192,11 +309,23 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     }
   }
 
+  /**
+   * Returns the value of the given RocksDB property. As dedicated column families hold part of the
+   * data, integer properties of column families are summed up over all physical column families,
+   * while database wide properties, e.g. of the shared block cache, are only read once.
+   */
   @Override
   public Optional<String> getProperty(final String propertyName) {
     String propertyValue = null;
     try {
       propertyValue = optimisticTransactionDB.getProperty(defaultHandle, propertyName);
+      if (!dedicatedHandles.isEmpty() && !RocksDbMetricsDoc.isDatabaseWide(propertyName)) {
+        long sum = optimisticTransactionDB.getLongProperty(defaultHandle, propertyName);
+        for (final var handle : dedicatedHandles.values()) {
+          sum += optimisticTransactionDB.getLongProperty(handle, propertyName);
+        }
+        propertyValue = Long.toString(sum);
+      }
     } catch (final RocksDBException rde) {
       LOG.debug(rde.getMessage(), rde);
     }
@@ -206,7 +335,8 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
   @Override
   public TransactionContext createContext() {
     final Transaction transaction = optimisticTransactionDB.beginTransaction(defaultWriteOptions);
-    final ZeebeTransaction zeebeTransaction = new ZeebeTransaction(transaction, this);
+    final ZeebeTransaction zeebeTransaction =
+        new ZeebeTransaction(transaction, this, transactionReadCacheSize);
     closables.add(zeebeTransaction);
     return new DefaultTransactionContext(zeebeTransaction);
   }
@@ -225,7 +355,7 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
 
   @Override
   public void exportMetrics() {
-    metricExporter.exportMetrics(optimisticTransactionDB);
+    metricExporter.exportMetrics(this);
   }
 
   @Override
@@ -183,6 +183,29 @@ public final class ColumnFamilyTest {
     assertThat(zbLong.getValue()).isEqualTo(255);
   }
 
+  @Test
+  public void shouldDeleteRange() {
+    // given
+    upsertKeyValuePair(1, 10);
+    upsertKeyValuePair(2, 20);
+    upsertKeyValuePair(3, 30);
+    upsertKeyValuePair(4, 40);
+
+    // when
+    final var fromKey = new DbLong();
+    fromKey.wrapLong(2);
+    final var toKey = new DbLong();
+    toKey.wrapLong(4);
+    final long deleted = columnFamily.deleteRange(fromKey, toKey);
+
+    // then
+    assertThat(deleted).isEqualTo(2);
+
+    final List<Long> keys = new ArrayList<>();
+    columnFamily.forEach((key, value) -> keys.add(key.getValue()));
+    assertThat(keys).containsExactly(1L, 4L);
+  }
+
   @Test
   public void shouldUseForeachValue() {
     // given
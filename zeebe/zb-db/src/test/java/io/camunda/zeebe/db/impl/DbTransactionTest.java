@@ -19,6 +19,7 @@ import io.camunda.zeebe.protocol.EnumValue;
 import java.io.File;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import org.junit.Before;
 import org.junit.Rule;
@@ -235,6 +236,161 @@ public final class DbTransactionTest {
     assertThat(threeColumnFamily.exists(threeKey)).isFalse();
   }
 
+  @Test
+  public void shouldRollbackToSavePoint() throws Exception {
+    // given
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          oneKey.wrapLong(1);
+          oneValue.wrapLong(-1);
+          oneColumnFamily.insert(oneKey, oneValue);
+        });
+    transaction.setSavePoint();
+    transaction.run(
+        () -> {
+          twoKey.wrapLong(52000);
+          twoValue.wrapLong(192313);
+          twoColumnFamily.insert(twoKey, twoValue);
+          oneColumnFamily.deleteExisting(oneKey);
+        });
+
+    // when
+    transaction.rollbackToSavePoint();
+    transaction.commit();
+
+    // then
+    assertThat(oneColumnFamily.exists(oneKey)).isTrue();
+    assertThat(twoColumnFamily.exists(twoKey)).isFalse();
+  }
+
+  @Test
+  public void shouldRollbackToPreviousSavePointAfterRelease() throws Exception {
+    // given
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.setSavePoint();
+    transaction.run(
+        () -> {
+          oneKey.wrapLong(1);
+          oneValue.wrapLong(-1);
+          oneColumnFamily.insert(oneKey, oneValue);
+        });
+    transaction.setSavePoint();
+    transaction.run(
+        () -> {
+          twoKey.wrapLong(52000);
+          twoValue.wrapLong(192313);
+          twoColumnFamily.insert(twoKey, twoValue);
+        });
+
+    // when
+    transaction.releaseSavePoint();
+    transaction.rollbackToSavePoint();
+    transaction.commit();
+
+    // then
+    assertThat(oneColumnFamily.exists(oneKey)).isFalse();
+    assertThat(twoColumnFamily.exists(twoKey)).isFalse();
+    assertThatThrownBy(transactionContext.getCurrentTransaction()::releaseSavePoint)
+        .isInstanceOf(Exception.class);
+  }
+
+  @Test
+  public void shouldClearSavePointsOnCommit() throws Exception {
+    // given
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.setSavePoint();
+    transaction.run(
+        () -> {
+          oneKey.wrapLong(1);
+          oneValue.wrapLong(-1);
+          oneColumnFamily.insert(oneKey, oneValue);
+        });
+    transaction.commit();
+
+    // when
+    final ZeebeDbTransaction nextTransaction = transactionContext.getCurrentTransaction();
+
+    // then
+    assertThatThrownBy(nextTransaction::rollbackToSavePoint).isInstanceOf(Exception.class);
+    assertThat(oneColumnFamily.exists(oneKey)).isTrue();
+  }
+
+  @Test
+  public void shouldTrackUncommittedSizeUntilCommit() throws Exception {
+    // given
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    final var initialSize = transaction.getUncommittedSize();
+    transaction.run(
+        () -> {
+          oneKey.wrapLong(1);
+          oneValue.wrapLong(-1);
+          oneColumnFamily.insert(oneKey, oneValue);
+        });
+    final var sizeAfterInsert = transaction.getUncommittedSize();
+
+    // when
+    transaction.commit();
+
+    // then
+    assertThat(sizeAfterInsert).isGreaterThan(initialSize);
+    assertThat(transactionContext.getCurrentTransaction().getUncommittedSize())
+        .isEqualTo(initialSize);
+  }
+
+  @Test
+  public void shouldNotifyRollbackListenerOnRollback() throws Exception {
+    // given
+    final var rollbacks = new AtomicInteger();
+    transactionContext.addRollbackListener(rollbacks::incrementAndGet);
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          oneKey.wrapLong(1);
+          oneValue.wrapLong(-1);
+          oneColumnFamily.insert(oneKey, oneValue);
+        });
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(rollbacks).hasValue(1);
+  }
+
+  @Test
+  public void shouldNotifyRollbackListenerOnRollbackToSavePoint() throws Exception {
+    // given
+    final var rollbacks = new AtomicInteger();
+    transactionContext.addRollbackListener(rollbacks::incrementAndGet);
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.setSavePoint();
+
+    // when
+    transaction.rollbackToSavePoint();
+
+    // then
+    assertThat(rollbacks).hasValue(1);
+  }
+
+  @Test
+  public void shouldNotNotifyRollbackListenerOnCommit() {
+    // given
+    final var rollbacks = new AtomicInteger();
+    transactionContext.addRollbackListener(rollbacks::incrementAndGet);
+
+    // when
+    transactionContext.runInTransaction(
+        () -> {
+          oneKey.wrapLong(1);
+          oneValue.wrapLong(-1);
+          oneColumnFamily.insert(oneKey, oneValue);
+        });
+
+    // then
+    assertThat(rollbacks).hasValue(0);
+  }
+
   @Test
   public void shouldGetValueInTransaction() {
     // given
@@ -0,0 +1,226 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.ZeebeDbInconsistentException;
+import io.camunda.zeebe.db.impl.DbForeignKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.db.impl.rocksdb.DedicatedColumnFamily.AccessPattern;
+import io.camunda.zeebe.protocol.EnumValue;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
+
+final class DedicatedColumnFamilyTest {
+
+  private final DbLong key = new DbLong();
+  private final DbString value = new DbString();
+
+  private @TempDir File directory;
+
+  @Test
+  void shouldStoreDedicatedColumnFamilyInItsOwnColumnFamily() throws Exception {
+    // given
+    final var dedicated = DedicatedColumnFamily.of(ColumnFamilies.ONE, AccessPattern.POINT_LOOKUP);
+
+    // when
+    try (final var db = openDb(dedicated)) {
+      put(db, ColumnFamilies.ONE, 1, "one");
+      put(db, ColumnFamilies.TWO, 1, "two");
+
+      // then
+      assertThat(readAll(db, ColumnFamilies.ONE)).containsExactly(Map.entry(1L, "one"));
+      assertThat(readAll(db, ColumnFamilies.TWO)).containsExactly(Map.entry(1L, "two"));
+    }
+    assertThat(listColumnFamilies()).containsExactlyInAnyOrder("default", "zb-cf-1");
+  }
+
+  @Test
+  void shouldMoveExistingEntriesToDedicatedColumnFamily() throws Exception {
+    // given
+    try (final var db = openDb()) {
+      for (long i = 0; i < 100; i++) {
+        put(db, ColumnFamilies.ONE, i, "one-" + i);
+        put(db, ColumnFamilies.TWO, i, "two-" + i);
+      }
+    }
+
+    // when
+    try (final var db =
+        openDb(
+            DedicatedColumnFamily.of(ColumnFamilies.ONE, AccessPattern.RANGE_SCAN),
+            DedicatedColumnFamily.of(ColumnFamilies.TWO, AccessPattern.POINT_LOOKUP))) {
+
+      // then
+      assertThat(readAll(db, ColumnFamilies.ONE)).hasSize(100).containsEntry(42L, "one-42");
+      assertThat(readAll(db, ColumnFamilies.TWO)).hasSize(100).containsEntry(42L, "two-42");
+    }
+    assertThat(listColumnFamilies()).containsExactlyInAnyOrder("default", "zb-cf-1", "zb-cf-2");
+  }
+
+  @Test
+  void shouldMoveEntriesBackWhenColumnFamilyIsNoLongerDedicated() throws Exception {
+    // given
+    try (final var db =
+        openDb(DedicatedColumnFamily.of(ColumnFamilies.ONE, AccessPattern.POINT_LOOKUP))) {
+      put(db, ColumnFamilies.ONE, 1, "one");
+      put(db, ColumnFamilies.TWO, 1, "two");
+    }
+
+    // when
+    try (final var db = openDb()) {
+
+      // then
+      assertThat(readAll(db, ColumnFamilies.ONE)).containsExactly(Map.entry(1L, "one"));
+      assertThat(readAll(db, ColumnFamilies.TWO)).containsExactly(Map.entry(1L, "two"));
+    }
+    assertThat(listColumnFamilies()).containsExactly("default");
+  }
+
+  @Test
+  void shouldIncludeDedicatedColumnFamiliesInSnapshot(final @TempDir File snapshotParent)
+      throws Exception {
+    // given
+    final var dedicated = DedicatedColumnFamily.of(ColumnFamilies.ONE, AccessPattern.POINT_LOOKUP);
+    final var snapshotDirectory = new File(snapshotParent, "snapshot");
+    final var otherSnapshotDirectory = new File(snapshotParent, "other");
+    try (final var db = openDb(dedicated)) {
+      put(db, ColumnFamilies.ONE, 1, "one");
+      put(db, ColumnFamilies.TWO, 1, "two");
+      db.createSnapshot(snapshotDirectory);
+    }
+
+    // when
+    try (final var db = createFactory(dedicated).openSnapshotOnlyDb(snapshotDirectory)) {
+      db.createSnapshot(otherSnapshotDirectory);
+    }
+
+    // then
+    try (final var db = createFactory().createDb(otherSnapshotDirectory)) {
+      assertThat(readAll(db, ColumnFamilies.ONE)).containsExactly(Map.entry(1L, "one"));
+      assertThat(readAll(db, ColumnFamilies.TWO)).containsExactly(Map.entry(1L, "two"));
+    }
+  }
+
+  @Test
+  void shouldCheckForeignKeysInDedicatedColumnFamily() throws Exception {
+    // given
+    try (final var db =
+        openDb(DedicatedColumnFamily.of(ColumnFamilies.ONE, AccessPattern.POINT_LOOKUP))) {
+      put(db, ColumnFamilies.ONE, 1, "one");
+      final var foreignKey = new DbForeignKey<>(new DbLong(), ColumnFamilies.ONE);
+      final var referencing =
+          db.createColumnFamily(ColumnFamilies.TWO, db.createContext(), foreignKey, value);
+      value.wrapString("two");
+
+      // when
+      foreignKey.inner().wrapLong(1);
+      referencing.insert(foreignKey, value);
+
+      // then
+      foreignKey.inner().wrapLong(2);
+      assertThatThrownBy(() -> referencing.insert(foreignKey, value))
+          .isInstanceOf(ZeebeDbInconsistentException.class);
+    }
+  }
+
+  @Test
+  void shouldSumPropertiesOverDedicatedColumnFamilies() throws Exception {
+    // given - with dedicated column families, the shared block cache is sized to the memory limit
+    final var blockCacheCapacity = String.valueOf(new RocksDbConfiguration().getMemoryLimit());
+
+    // when
+    try (final var db =
+        openDb(DedicatedColumnFamily.of(ColumnFamilies.ONE, AccessPattern.POINT_LOOKUP))) {
+      for (long i = 0; i < 10; i++) {
+        put(db, ColumnFamilies.ONE, i, "one-" + i);
+      }
+      for (long i = 0; i < 5; i++) {
+        put(db, ColumnFamilies.TWO, i, "two-" + i);
+      }
+
+      // then
+      assertThat(db.getProperty("rocksdb.estimate-num-keys")).hasValue("15");
+      assertThat(db.getProperty("rocksdb.block-cache-capacity")).hasValue(blockCacheCapacity);
+    }
+  }
+
+  private ZeebeDb<ColumnFamilies> openDb(final DedicatedColumnFamily... dedicatedColumnFamilies) {
+    return createFactory(dedicatedColumnFamilies).createDb(directory);
+  }
+
+  private ZeebeRocksDbFactory<ColumnFamilies> createFactory(
+      final DedicatedColumnFamily... dedicatedColumnFamilies) {
+    return new ZeebeRocksDbFactory<>(
+        new RocksDbConfiguration().setDedicatedColumnFamilies(List.of(dedicatedColumnFamilies)),
+        new ConsistencyChecksSettings(true, true),
+        new AccessMetricsConfiguration(Kind.NONE, 1),
+        SimpleMeterRegistry::new);
+  }
+
+  private void put(
+      final ZeebeDb<ColumnFamilies> db,
+      final ColumnFamilies columnFamily,
+      final long key,
+      final String value) {
+    this.key.wrapLong(key);
+    this.value.wrapString(value);
+    columnFamily(db, columnFamily).upsert(this.key, this.value);
+  }
+
+  private Map<Long, String> readAll(
+      final ZeebeDb<ColumnFamilies> db, final ColumnFamilies columnFamily) {
+    final var entries = new HashMap<Long, String>();
+    columnFamily(db, columnFamily)
+        .forEach((key, value) -> entries.put(key.getValue(), value.toString()));
+    return entries;
+  }
+
+  private ColumnFamily<DbLong, DbString> columnFamily(
+      final ZeebeDb<ColumnFamilies> db, final ColumnFamilies columnFamily) {
+    return db.createColumnFamily(columnFamily, db.createContext(), key, value);
+  }
+
+  private List<String> listColumnFamilies() throws Exception {
+    final var names = new ArrayList<String>();
+    try (final var options = new Options()) {
+      for (final var name : RocksDB.listColumnFamilies(options, directory.getAbsolutePath())) {
+        names.add(new String(name, StandardCharsets.UTF_8));
+      }
+    }
+    return names;
+  }
+
+  private enum ColumnFamilies implements EnumValue {
+    DEFAULT,
+    ONE,
+    TWO;
+
+    @Override
+    public int getValue() {
+      return ordinal();
+    }
+  }
+}
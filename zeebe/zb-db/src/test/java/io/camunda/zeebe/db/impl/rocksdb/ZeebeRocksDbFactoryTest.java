@@ -231,5 +231,8 @@ final class ZeebeRocksDbFactoryTest {
     public ZeebeDbTransaction getCurrentTransaction() {
       return null;
     }
+
+    @Override
+    public void addRollbackListener(final Runnable listener) {}
   }
 }
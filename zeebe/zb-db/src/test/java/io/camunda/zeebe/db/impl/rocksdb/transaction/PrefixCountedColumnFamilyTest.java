@@ -0,0 +1,230 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.ZeebeDbInconsistentException;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbNil;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Path;
+import org.agrona.CloseHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.rocksdb.ReadOptions;
+
+final class PrefixCountedColumnFamilyTest {
+
+  private final DbLong firstKey = new DbLong();
+  private final DbLong secondKey = new DbLong();
+  private final DbCompositeKey<DbLong, DbLong> compositeKey =
+      new DbCompositeKey<>(firstKey, secondKey);
+
+  private @TempDir Path directory;
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private TransactionContext context;
+  private ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbNil> columnFamily;
+
+  @AfterEach
+  void afterEach() {
+    CloseHelper.quietClose(zeebeDb);
+  }
+
+  @Test
+  void shouldCountEntriesPerPrefix() {
+    // given
+    openDb(true);
+
+    // when
+    insert(1, 1);
+    insert(1, 2);
+    insert(1, 3);
+    insert(2, 1);
+    upsert(2, 1);
+    upsert(2, 2);
+
+    // then
+    assertThat(countEqualPrefix(1)).isEqualTo(3);
+    assertThat(countEqualPrefix(2)).isEqualTo(2);
+    assertThat(countEqualPrefix(3)).isZero();
+  }
+
+  @Test
+  void shouldNotCountDeletedEntries() {
+    // given
+    openDb(true);
+    insert(1, 1);
+    insert(1, 2);
+    insert(1, 3);
+
+    // when
+    delete(1, 1);
+    deleteIfExists(1, 2);
+    deleteIfExists(1, 4);
+
+    // then
+    assertThat(countEqualPrefix(1)).isOne();
+  }
+
+  @Test
+  void shouldNotCountReinsertedEntryWithoutPreconditions() {
+    // given
+    openDb(false);
+    insert(1, 1);
+
+    // when
+    insert(1, 1);
+
+    // then
+    assertThat(countEqualPrefix(1)).isOne();
+  }
+
+  @Test
+  void shouldNotCountDeletionOfMissingEntryWithoutPreconditions() {
+    // given
+    openDb(false);
+    insert(1, 1);
+    insert(1, 2);
+
+    // when
+    delete(1, 3);
+
+    // then
+    assertThat(countEqualPrefix(1)).isEqualTo(2);
+  }
+
+  @Test
+  void shouldRejectPrefixOfOtherType() {
+    // given
+    openDb(true);
+    insert(1, 1);
+
+    // when - then
+    assertThatThrownBy(() -> columnFamily.countEqualPrefix(compositeKey))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldRollbackCountsWithTransaction() {
+    // given
+    openDb(true);
+    insert(1, 1);
+
+    // when
+    assertThatThrownBy(
+            () ->
+                context.runInTransaction(
+                    () -> {
+                      insert(1, 2);
+                      delete(1, 1);
+                      throw new IllegalStateException("expected");
+                    }))
+        .isInstanceOf(IllegalStateException.class);
+
+    // then
+    assertThat(countEqualPrefix(1)).isOne();
+  }
+
+  @Test
+  void shouldCountWithoutIterating() {
+    // given
+    openDb(false);
+    for (int i = 0; i < 100; i++) {
+      insert(1, i);
+    }
+
+    // when
+    final long count = countEqualPrefix(1);
+
+    // then
+    assertThat(count).isEqualTo(100);
+    Mockito.verify((TransactionalColumnFamily<?, ?, ?>) columnFamily, Mockito.never())
+        .newIterator(Mockito.any(), Mockito.any(ReadOptions.class));
+  }
+
+  @Test
+  void shouldDetectInconsistentCountWithPreconditions() {
+    // given - entries written by a column family which does not count them
+    openDb(true);
+    final var uncountedColumnFamily =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, context, compositeKey, DbNil.INSTANCE);
+    firstKey.wrapLong(1);
+    secondKey.wrapLong(1);
+    uncountedColumnFamily.insert(compositeKey, DbNil.INSTANCE);
+
+    // when - then
+    firstKey.wrapLong(1);
+    assertThatThrownBy(() -> columnFamily.countEqualPrefix(firstKey))
+        .isInstanceOf(ZeebeDbInconsistentException.class);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void openDb(final boolean enablePreconditions) {
+    final var factory =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+            new RocksDbConfiguration(),
+            new ConsistencyChecksSettings(enablePreconditions, false),
+            new AccessMetricsConfiguration(Kind.NONE, 1),
+            SimpleMeterRegistry::new);
+    zeebeDb = factory.createDb(directory.toFile());
+    context = zeebeDb.createContext();
+    columnFamily =
+        Mockito.spy(
+            (TransactionalColumnFamily<DefaultColumnFamily, DbCompositeKey<DbLong, DbLong>, DbNil>)
+                zeebeDb.createPrefixCountedColumnFamily(
+                    DefaultColumnFamily.DEFAULT,
+                    context,
+                    compositeKey,
+                    DbNil.INSTANCE,
+                    DbCompositeKey::first));
+  }
+
+  private void insert(final long first, final long second) {
+    firstKey.wrapLong(first);
+    secondKey.wrapLong(second);
+    columnFamily.insert(compositeKey, DbNil.INSTANCE);
+  }
+
+  private void upsert(final long first, final long second) {
+    firstKey.wrapLong(first);
+    secondKey.wrapLong(second);
+    columnFamily.upsert(compositeKey, DbNil.INSTANCE);
+  }
+
+  private void delete(final long first, final long second) {
+    firstKey.wrapLong(first);
+    secondKey.wrapLong(second);
+    columnFamily.deleteExisting(compositeKey);
+  }
+
+  private void deleteIfExists(final long first, final long second) {
+    firstKey.wrapLong(first);
+    secondKey.wrapLong(second);
+    columnFamily.deleteIfExists(compositeKey);
+  }
+
+  private long countEqualPrefix(final long first) {
+    firstKey.wrapLong(first);
+    return columnFamily.countEqualPrefix(firstKey);
+  }
+}
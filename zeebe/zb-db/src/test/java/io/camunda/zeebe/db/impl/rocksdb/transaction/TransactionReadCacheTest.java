@@ -0,0 +1,172 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ColumnFamilyMetricsDoc;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Path;
+import org.agrona.CloseHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class TransactionReadCacheTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final DbLong key = new DbLong();
+  private final DbLong value = new DbLong();
+
+  private @TempDir Path directory;
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private TransactionContext context;
+  private ColumnFamily<DbLong, DbLong> columnFamily;
+
+  @BeforeEach
+  void beforeEach() {
+    final var factory =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+            new RocksDbConfiguration().setTransactionReadCacheSize(16),
+            new ConsistencyChecksSettings(true, true),
+            new AccessMetricsConfiguration(Kind.FINE, 1),
+            () -> meterRegistry);
+    zeebeDb = factory.createDb(directory.toFile());
+    context = zeebeDb.createContext();
+    columnFamily = zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
+  }
+
+  @AfterEach
+  void afterEach() {
+    CloseHelper.quietClose(zeebeDb);
+  }
+
+  @Test
+  void shouldServeRepeatedReadsFromCache() {
+    // given
+    upsert(1, 10);
+
+    // when
+    context.runInTransaction(
+        () -> {
+          assertThat(get(1)).isEqualTo(10);
+          assertThat(get(1)).isEqualTo(10);
+          assertThat(exists(1)).isTrue();
+        });
+
+    // then
+    assertThat(cacheCount("hit")).isEqualTo(2);
+    assertThat(cacheCount("miss")).isEqualTo(1);
+  }
+
+  @Test
+  void shouldCacheAbsentKeys() {
+    // when
+    context.runInTransaction(
+        () -> {
+          assertThat(exists(1)).isFalse();
+          assertThat(get(1)).isNull();
+        });
+
+    // then
+    assertThat(cacheCount("hit")).isEqualTo(1);
+    assertThat(cacheCount("miss")).isEqualTo(1);
+  }
+
+  @Test
+  void shouldReadOwnWrites() {
+    // given
+    upsert(1, 10);
+
+    // when
+    context.runInTransaction(
+        () -> {
+          assertThat(get(1)).isEqualTo(10);
+          upsert(1, 20);
+          assertThat(get(1)).isEqualTo(20);
+          key.wrapLong(1);
+          columnFamily.deleteExisting(key);
+          assertThat(get(1)).isNull();
+          assertThat(exists(1)).isFalse();
+        });
+
+    // then
+    assertThat(get(1)).isNull();
+  }
+
+  @Test
+  void shouldNotServeReadsOfRolledBackTransaction() {
+    // given
+    upsert(1, 10);
+
+    // when
+    assertThatThrownBy(
+            () ->
+                context.runInTransaction(
+                    () -> {
+                      upsert(1, 20);
+                      assertThat(get(1)).isEqualTo(20);
+                      throw new IllegalStateException("expected");
+                    }))
+        .isInstanceOf(IllegalStateException.class);
+
+    // then
+    assertThat(get(1)).isEqualTo(10);
+  }
+
+  @Test
+  void shouldNotServeReadsAcrossTransactions() {
+    // given
+    context.runInTransaction(() -> assertThat(get(1)).isNull());
+
+    // when
+    upsert(1, 10);
+
+    // then
+    context.runInTransaction(() -> assertThat(get(1)).isEqualTo(10));
+    assertThat(cacheCount("hit")).isZero();
+  }
+
+  private void upsert(final long key, final long value) {
+    this.key.wrapLong(key);
+    this.value.wrapLong(value);
+    columnFamily.upsert(this.key, this.value);
+  }
+
+  private Long get(final long key) {
+    this.key.wrapLong(key);
+    final var value = columnFamily.get(this.key);
+    return value == null ? null : value.getValue();
+  }
+
+  private boolean exists(final long key) {
+    this.key.wrapLong(key);
+    return columnFamily.exists(this.key);
+  }
+
+  private double cacheCount(final String result) {
+    final var counter =
+        meterRegistry
+            .find(ColumnFamilyMetricsDoc.TRANSACTION_READ_CACHE.getName())
+            .tag("result", result)
+            .counter();
+    return counter == null ? 0 : counter.count();
+  }
+}